@@ -1,11 +1,13 @@
 from fastapi import APIRouter, UploadFile, File
 from pydantic import BaseModel
-from typing import Optional, Dict, Any
+from typing import Optional, Dict, Any, List
 from app.services.receipt_service import ReceiptService
 from app.services.approval_recommendation_service import ApprovalRecommendationService
 from app.utils.image_util import resize_image
 import asyncio
 import logging
+import os
+import time
 
 logger = logging.getLogger(__name__)
 
@@ -13,11 +15,33 @@ router = APIRouter(prefix="/api/ai/receipt")
 service = ReceiptService()
 approval_service = ApprovalRecommendationService()
 
+# 배치 요청 한 번에 동시에 분석할 이미지 수 (Vision API 동시 호출 제한)
+BATCH_CONCURRENCY = int(os.getenv("RECEIPT_BATCH_CONCURRENCY", "4"))
+BATCH_MAX_FILES = int(os.getenv("RECEIPT_BATCH_MAX_FILES", "20"))
+
 # 승인 추천 요청 DTO
 class ApprovalRecommendationRequest(BaseModel):
     expense_data: Dict[str, Any]
     receipt_extraction: Optional[Dict[str, Any]] = None
 
+async def _extract_one(contents: bytes, filename: Optional[str]) -> Dict[str, Any]:
+    """이미지 한 장 분석 (단건/배치 공용)"""
+    # 이미지 크기 최적화 (API 비용 절감)
+    optimized_img = resize_image(contents)
+    logger.info(f"[Python API] 이미지 최적화 완료: filename={filename}, {len(contents)} -> {len(optimized_img)} bytes")
+
+    # 동기 함수를 비동기 컨텍스트에서 실행
+    result = await asyncio.to_thread(service.analyze, optimized_img)
+
+    if result.get("error"):
+        logger.error(f"[Python API] OCR 처리 중 오류: filename={filename}, error={result.get('error')}")
+    else:
+        logger.info(f"[Python API] OCR 결과: filename={filename}, merchant={result.get('extractedMerchant')}, "
+                   f"amount={result.get('extractedAmount')}, date={result.get('extractedDate')}, "
+                   f"category={result.get('extractedCategory')}")
+    return result
+
+
 @router.post("/extract")
 async def extract_receipt(file: UploadFile = File(...)):
     """영수증 이미지 업로드 및 분석 API"""
@@ -26,28 +50,50 @@ async def extract_receipt(file: UploadFile = File(...)):
     try:
         contents = await file.read()
         logger.info(f"[Python API] 파일 읽기 완료: {len(contents)} bytes")
-        
-        # 이미지 크기 최적화 (API 비용 절감)
-        optimized_img = resize_image(contents)
-        logger.info(f"[Python API] 이미지 최적화 완료: {len(optimized_img)} bytes")
-        
-        # 동기 함수를 비동기 컨텍스트에서 실행
-        logger.info("[Python API] OpenAI Vision API 호출 시작...")
-        result = await asyncio.to_thread(service.analyze, optimized_img)
-        
-        if result.get("error"):
-            logger.error(f"[Python API] OCR 처리 중 오류: {result.get('error')}")
-        else:
-            logger.info(f"[Python API] OCR 결과: merchant={result.get('extractedMerchant')}, "
-                       f"amount={result.get('extractedAmount')}, date={result.get('extractedDate')}, "
-                       f"category={result.get('extractedCategory')}")
-        
-        return result
+        return await _extract_one(contents, file.filename)
     except Exception as e:
         logger.error(f"[Python API] OCR 처리 중 예외 발생: {str(e)}", exc_info=True)
         return {"error": f"이미지 처리 중 오류 발생: {str(e)}"}
 
 
+@router.post("/extract/batch")
+async def extract_receipt_batch(files: List[UploadFile] = File(...)):
+    """
+    영수증 이미지 여러 장 분석 API (월말 일괄 업로드용)
+
+    요청 순서대로 results를 반환하며, 한 장이 실패해도 나머지는 계속 처리합니다.
+    실패한 항목은 error만 채워집니다.
+    """
+    if len(files) > BATCH_MAX_FILES:
+        return {"error": f"한 번에 최대 {BATCH_MAX_FILES}장까지 처리할 수 있습니다.", "results": []}
+
+    started = time.perf_counter()
+    logger.info(f"[Python API] 영수증 배치 OCR 요청 받음: {len(files)}장")
+    semaphore = asyncio.Semaphore(BATCH_CONCURRENCY)
+
+    async def run(index: int, file: UploadFile) -> Dict[str, Any]:
+        async with semaphore:
+            try:
+                contents = await file.read()
+                result = await _extract_one(contents, file.filename)
+            except Exception as e:
+                logger.error(f"[Python API] 배치 OCR 항목 실패: index={index}, error={str(e)}", exc_info=True)
+                result = {"error": f"이미지 처리 중 오류 발생: {str(e)}"}
+            return {"index": index, "filename": file.filename, **result}
+
+    results = await asyncio.gather(*(run(i, f) for i, f in enumerate(files)))
+
+    elapsed = time.perf_counter() - started
+    images_per_second = len(files) / elapsed if elapsed > 0 else 0.0
+    logger.info(f"[Python API] 영수증 배치 OCR 완료: {len(files)}장, {elapsed * 1000:.0f}ms, "
+                f"{images_per_second:.2f} images/s")
+    return {
+        "results": list(results),
+        "elapsedMs": int(elapsed * 1000),
+        "imagesPerSecond": round(images_per_second, 3),
+    }
+
+
 @router.post("/recommend-approval")
 async def recommend_approval(request: ApprovalRecommendationRequest):
     """
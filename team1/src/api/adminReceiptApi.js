@@ -19,8 +19,10 @@ export const getReceipt = async (id) => {
     return res.data;
 };
 
-export const getReceiptImage = async (id) => {
+// size: "thumb"(목록), "review"(검토 화면), "original"(기본값)
+export const getReceiptImage = async (id, size) => {
     const res = await jwtAxios.get(`${prefix}/${id}/image`, {
+        params: size ? { size } : undefined,
         responseType: "blob",
     });
     return res.data; // ✅ 수정: res 대신 res.data 반환 (blob 데이터만 반환)
@@ -54,9 +56,10 @@ export const adminReceiptApi = {
     getReceipt: (id) => {
         return jwtAxios.get(`${prefix}/${id}`);
     },
-    getReceiptImage: (id) => {
+    getReceiptImage: (id, size) => {
         return jwtAxios
             .get(`${prefix}/${id}/image`, {
+                params: size ? { size } : undefined,
                 responseType: "blob",
             })
             .then((res) => res.data); // ✅ 수정: res.data 반환
@@ -1,4 +1,7 @@
 import jwtAxios from "../util/jwtUtil";
+import {getAccessToken} from "../util/authToken";
+
+const API_BASE_URL = process.env.REACT_APP_API_BASE_URL || "http://localhost:8080/api";
 
 // 회의록 업로드
 export const uploadMeetingNote = async (file) => {
@@ -47,6 +50,66 @@ export const analyzeMeetingNote = async (id) => {
     return response.data;
 };
 
+// 회의록 스트리밍 분석 (SSE)
+// onToken(text): 생성 중인 텍스트 조각, onDraft(todo): 추출 중인 Todo(아직 저장 전),
+// onTodo(todo): 분석이 끝나 저장된 Todo(id 포함)
+// 완료되면 { success, todoCount } 반환
+export const analyzeMeetingNoteStream = async (id, {onToken, onDraft, onTodo, signal} = {}) => {
+    const token = getAccessToken();
+    const response = await fetch(`${API_BASE_URL}/meeting-notes/${id}/analyze/stream`, {
+        method: "POST",
+        headers: {
+            Accept: "text/event-stream",
+            ...(token ? {Authorization: `Bearer ${token}`} : {}),
+        },
+        signal,
+    });
+    if (!response.ok || !response.body) {
+        throw new Error(`분석에 실패했습니다. (HTTP ${response.status})`);
+    }
+
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder("utf-8");
+    let buffer = "";
+    let result = null;
+
+    // SSE 이벤트 하나 ("event: ..." / "data: ..." 줄, 빈 줄로 구분)
+    const handleEvent = (raw) => {
+        let event = "message";
+        const data = [];
+        raw.split("\n").forEach((line) => {
+            if (line.startsWith("event:")) event = line.slice(6).trim();
+            else if (line.startsWith("data:")) data.push(line.slice(5).replace(/^ /, ""));
+        });
+        if (data.length === 0) return;
+        const payload = JSON.parse(data.join("\n"));
+
+        if (event === "token") onToken?.(payload.text);
+        else if (event === "draft") onDraft?.(payload);
+        else if (event === "todo") onTodo?.(payload);
+        else if (event === "done") result = payload;
+        else if (event === "error") throw new Error(payload.message || "분석에 실패했습니다.");
+    };
+
+    while (true) {
+        const {value, done} = await reader.read();
+        if (done) break;
+        buffer += decoder.decode(value, {stream: true}).replace(/\r\n/g, "\n");
+
+        let boundary;
+        while ((boundary = buffer.indexOf("\n\n")) >= 0) {
+            handleEvent(buffer.slice(0, boundary));
+            buffer = buffer.slice(boundary + 2);
+        }
+    }
+    if (buffer.trim()) handleEvent(buffer);
+
+    if (!result) {
+        throw new Error("분석 응답이 중간에 끊겼습니다. 다시 시도해주세요.");
+    }
+    return result;
+};
+
 // 회의록 삭제
 export const deleteMeetingNote = async (id) => {
     const response = await jwtAxios.delete(`/meeting-notes/${id}`);
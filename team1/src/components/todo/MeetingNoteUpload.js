@@ -1,6 +1,6 @@
 import React, { useState, useRef } from "react";
 import { useDispatch } from "react-redux";
-import { uploadMeetingNote, analyzeMeetingNote } from "../../api/meetingNoteApi";
+import { uploadMeetingNote, analyzeMeetingNoteStream } from "../../api/meetingNoteApi";
 import { fetchTodos } from "../../slices/todoSlice";
 import "./MeetingNoteUpload.css";
 
@@ -11,6 +11,7 @@ export default function MeetingNoteUpload() {
     const [analyzing, setAnalyzing] = useState(false);
     const [uploadedNoteId, setUploadedNoteId] = useState(null);
     const [message, setMessage] = useState("");
+    const [streamedTodos, setStreamedTodos] = useState([]);
     const fileInputRef = useRef(null);
 
     // 파일 선택 핸들러
@@ -104,9 +105,13 @@ export default function MeetingNoteUpload() {
 
         setAnalyzing(true);
         setMessage("");
+        setStreamedTodos([]);
 
         try {
-            const response = await analyzeMeetingNote(uploadedNoteId);
+            // 생성되는 대로 Todo를 보여줌 (첫 결과까지 기다리는 시간 단축)
+            const response = await analyzeMeetingNoteStream(uploadedNoteId, {
+                onDraft: (todo) => setStreamedTodos((prev) => [...prev, todo]),
+            });
             setMessage(
                 `분석이 완료되었습니다! ${response.todoCount}개의 Todo가 생성되었습니다.`
             );
@@ -115,10 +120,11 @@ export default function MeetingNoteUpload() {
             setUploadedNoteId(null);
         } catch (error) {
             setMessage(
-                error.response?.data?.message || "분석에 실패했습니다. 다시 시도해주세요."
+                error.message || "분석에 실패했습니다. 다시 시도해주세요."
             );
         } finally {
             setAnalyzing(false);
+            setStreamedTodos([]);
         }
     };
 
@@ -197,6 +203,21 @@ export default function MeetingNoteUpload() {
                 </button>
             </div>
 
+            {analyzing && (
+                <div className="message success">
+                    {streamedTodos.length === 0
+                        ? "회의록을 분석하고 있습니다..."
+                        : `${streamedTodos.length}개의 Todo를 찾았습니다...`}
+                    {streamedTodos.length > 0 && (
+                        <ul>
+                            {streamedTodos.map((todo, index) => (
+                                <li key={index}>{todo.title}</li>
+                            ))}
+                        </ul>
+                    )}
+                </div>
+            )}
+
             {message && (
                 <div
                     className={`message ${message.includes("실패") || message.includes("지원하지")
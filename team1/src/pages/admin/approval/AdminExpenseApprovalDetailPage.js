@@ -88,7 +88,7 @@ const AdminExpenseApprovalDetailPage = () => {
     setReceiptImageError(null);
 
     try {
-      const blobData = await getReceiptImage(receiptId);
+      const blobData = await getReceiptImage(receiptId, "review");
       const url = URL.createObjectURL(blobData);
       setReceiptImage(url);
       setReceiptImageError(null);
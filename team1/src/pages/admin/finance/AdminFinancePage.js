@@ -3,6 +3,29 @@ import { useNavigate } from "react-router-dom";
 import { getReceipts, getReceiptImage, getReceiptExtraction, verifyReceipt } from "../../../api/adminReceiptApi";
 import "./AdminFinancePage.css";
 
+// 목록용 썸네일 (thumb 사본은 서버 메모리 캐시에서 바로 내려옴)
+const ReceiptThumb = ({ receiptId }) => {
+  const [src, setSrc] = useState(null);
+
+  useEffect(() => {
+    let url = null;
+    let cancelled = false;
+    getReceiptImage(receiptId, "thumb")
+      .then((blob) => {
+        if (cancelled) return;
+        url = URL.createObjectURL(blob);
+        setSrc(url);
+      })
+      .catch(() => setSrc(null));
+    return () => {
+      cancelled = true;
+      if (url) URL.revokeObjectURL(url);
+    };
+  }, [receiptId]);
+
+  return src ? <img src={src} alt="" className="receipt-thumb" /> : <span className="receipt-thumb empty" />;
+};
+
 const AdminFinancePage = () => {
   const navigate = useNavigate();
   const [receipts, setReceipts] = useState([]);
@@ -63,8 +86,7 @@ const AdminFinancePage = () => {
       // 영수증 이미지 로드 (영수증이 있는 경우만)
       if (receipt.id && receipt.fileUrl) {
         try {
-          const imageResponse = await getReceiptImage(receipt.id);
-          const blob = new Blob([imageResponse.data], { type: "image/jpeg" });
+          const blob = await getReceiptImage(receipt.id, "review");
           const url = URL.createObjectURL(blob);
           setReceiptImage(url);
           setReceiptImageError(null);
@@ -280,6 +302,7 @@ const AdminFinancePage = () => {
             <table className="receipt-table">
               <thead>
                 <tr>
+                  <th>영수증</th>
                   <th>전자결재 상태</th>
                   <th>지출 ID</th>
                   <th>업로드자</th>
@@ -294,6 +317,9 @@ const AdminFinancePage = () => {
                     onClick={() => handleReceiptClick(receipt)}
                     className={selectedReceipt?.id === receipt.id ? "selected" : ""}
                   >
+                    <td>
+                      {receipt.id && receipt.fileUrl ? <ReceiptThumb receiptId={receipt.id} /> : "-"}
+                    </td>
                     <td>
                       <span className={`status-badge ${getStatusClass(receipt.status || "SUBMITTED")}`}>
                         {getStatusLabel(receipt.status || "SUBMITTED")}
@@ -0,0 +1,158 @@
+package com.Team1_Back.accounting.cube;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 큐브 조회 vs SQL 집계 (AccountingServiceImpl 통계 경로)
+ *
+ * <p>bench.jdbc.url이 있으면 해당 DB의 승인 지출로 큐브를 적재하고 SQL 경로도 측정합니다.
+ * 없으면 합성 데이터로 큐브만 측정합니다. (SQL 벤치마크는 build.gradle에서 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExpenseCubeBenchmark {
+
+    private static final String DEPARTMENT_SQL =
+            "SELECT u.department_name, COUNT(e.id), COALESCE(SUM(e.amount), 0) " +
+            "FROM expense e JOIN users u ON e.user_id = u.id " +
+            "WHERE e.approval_status = 'APPROVED' AND u.department_name IS NOT NULL " +
+            "GROUP BY u.department_name";
+
+    private static final String MONTHLY_SQL =
+            "SELECT DATE_FORMAT(e.receipt_date, '%Y-%m'), COALESCE(SUM(e.amount), 0) " +
+            "FROM expense e " +
+            "WHERE e.approval_status = 'APPROVED' " +
+            "  AND e.receipt_date >= DATE_SUB(CURDATE(), INTERVAL 12 MONTH) " +
+            "GROUP BY DATE_FORMAT(e.receipt_date, '%Y-%m')";
+
+    private static final String LOAD_SQL =
+            "SELECT e.receipt_date, u.department_name, e.category, e.amount " +
+            "FROM expense e JOIN users u ON e.user_id = u.id " +
+            "WHERE e.approval_status = 'APPROVED'";
+
+    /** 합성 데이터 건수 (DB 미지정 시) */
+    @Param({"1000000"})
+    public int expenses;
+
+    private ExpenseCube cube;
+    private Connection connection;
+
+    private CubeQuery byDepartment;
+    private CubeQuery byDepartmentLastYear;
+    private CubeQuery monthlyTrend;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url", "");
+        cube = new ExpenseCube();
+
+        if (!url.isEmpty()) {
+            connection = DriverManager.getConnection(url,
+                    System.getProperty("bench.jdbc.user", ""),
+                    System.getProperty("bench.jdbc.password", ""));
+            try (PreparedStatement ps = connection.prepareStatement(LOAD_SQL);
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    java.sql.Date day = rs.getDate(1);
+                    cube.add(trim(rs.getString(2)), trim(rs.getString(3)),
+                            day != null ? day.toLocalDate() : null, 1, rs.getLong(4));
+                }
+            }
+        } else {
+            Random random = new Random(42);
+            LocalDate start = LocalDate.now().minusYears(5);
+            for (int i = 0; i < expenses; i++) {
+                cube.add("부서" + random.nextInt(30), "카테고리" + random.nextInt(12),
+                        start.plusDays(random.nextInt(365 * 5)), 1, 1_000 + random.nextInt(300_000));
+            }
+        }
+        cube.compact();
+
+        YearMonth now = YearMonth.now();
+        byDepartment = CubeQuery.builder()
+                .groupBy(EnumSet.of(ExpenseCube.Dimension.DEPARTMENT))
+                .build();
+        byDepartmentLastYear = CubeQuery.builder()
+                .groupBy(EnumSet.of(ExpenseCube.Dimension.DEPARTMENT))
+                .from(now.minusMonths(11))
+                .to(now)
+                .build();
+        monthlyTrend = CubeQuery.builder()
+                .groupBy(EnumSet.of(ExpenseCube.Dimension.MONTH))
+                .from(now.minusMonths(11))
+                .to(now)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public List<ExpenseCube.Cell> cubeDepartmentStatistics() {
+        return cube.query(byDepartment);
+    }
+
+    @Benchmark
+    public List<ExpenseCube.Cell> cubeDepartmentLastYear() {
+        return cube.query(byDepartmentLastYear);
+    }
+
+    @Benchmark
+    public List<ExpenseCube.Cell> cubeMonthlyTrend() {
+        return cube.query(monthlyTrend);
+    }
+
+    @Benchmark
+    public void sqlDepartmentStatistics(Blackhole blackhole) throws SQLException {
+        runSql(DEPARTMENT_SQL, blackhole);
+    }
+
+    @Benchmark
+    public void sqlMonthlyTrend(Blackhole blackhole) throws SQLException {
+        runSql(MONTHLY_SQL, blackhole);
+    }
+
+    private void runSql(String sql, Blackhole blackhole) throws SQLException {
+        if (connection == null) {
+            throw new IllegalStateException("SQL 경로 측정에는 -PbenchJdbcUrl 지정이 필요합니다.");
+        }
+        try (PreparedStatement ps = connection.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getString(1));
+                blackhole.consume(rs.getLong(2));
+            }
+        }
+    }
+
+    private static String trim(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
@@ -0,0 +1,33 @@
+package com.Team1_Back.accounting.cube;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * 분석 큐브 조회 조건
+ *
+ * <ul>
+ *   <li>groupBy - 남길 차원 (나머지는 합산)</li>
+ *   <li>departments / categories - 포함할 값 (비어 있으면 전체)</li>
+ *   <li>from / to - 월 범위 (양 끝 포함, null이면 제한 없음)</li>
+ * </ul>
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CubeQuery {
+
+    private Set<ExpenseCube.Dimension> groupBy;
+
+    private Set<String> departments;
+    private Set<String> categories;
+
+    private YearMonth from;
+    private YearMonth to;
+}
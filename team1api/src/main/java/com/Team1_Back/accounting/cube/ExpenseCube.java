@@ -0,0 +1,394 @@
+package com.Team1_Back.accounting.cube;
+
+import com.Team1_Back.util.LongLongHashMap;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 승인 지출 분석 큐브 (부서 × 카테고리 × 월)
+ *
+ * <p>셀(부서, 카테고리, 월)마다 건수/합계를 하나씩 두고, 열 단위 배열
+ * (차원 코드는 int[], 측정값은 long[])에 보관합니다. 부서/카테고리 문자열은
+ * 사전으로 int 코드화하며, 셀 위치는 (월, 부서, 카테고리) 키 → 행 번호 맵으로 찾습니다.
+ *
+ * <p>조회(slice/dice/roll-up)는 셀 배열을 한 번 훑으면서 필터와 그룹핑을 함께 처리하므로
+ * 원장 건수가 아니라 셀 수(부서 × 카테고리 × 월)에 비례합니다.
+ * 읽기/쓰기 잠금으로 보호되며, 조회는 여러 스레드에서 동시에 실행됩니다.
+ *
+ * @author Team1
+ */
+public class ExpenseCube {
+
+    public enum Dimension {
+        DEPARTMENT, CATEGORY, MONTH
+    }
+
+    /** 월 코드: 영수증 일자가 없는 지출 (기간 조회에서는 제외, 전체 기간 조회에는 포함) */
+    public static final int NO_MONTH = 0;
+
+    private static final int CODE_BITS = 20;
+    private static final int CODE_MASK = (1 << CODE_BITS) - 1;
+
+    /** 그룹 수가 이 이하이면 배열에 바로 누적 */
+    private static final long DENSE_GROUP_LIMIT = 1 << 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Dictionary departments = new Dictionary();
+    private final Dictionary categories = new Dictionary();
+    private final LongLongHashMap cellIndex;
+
+    private int[] deptCol;
+    private int[] categoryCol;
+    private int[] monthCol;
+    private long[] countCol;
+    private long[] amountCol;
+    private int cells;
+
+    // [0, sortedCells) 구간은 월 코드 오름차순 (기간 조회 시 이진 탐색으로 범위만 훑음)
+    private int sortedCells;
+
+    // 적재된 월 코드 범위 (NO_MONTH 제외)
+    private int minMonth = Integer.MAX_VALUE;
+    private int maxMonth = Integer.MIN_VALUE;
+
+    public ExpenseCube() {
+        this(1024);
+    }
+
+    public ExpenseCube(int expectedCells) {
+        int capacity = Math.max(16, expectedCells);
+        this.cellIndex = new LongLongHashMap(capacity);
+        this.deptCol = new int[capacity];
+        this.categoryCol = new int[capacity];
+        this.monthCol = new int[capacity];
+        this.countCol = new long[capacity];
+        this.amountCol = new long[capacity];
+    }
+
+    // ========== 적재 / 증감 ==========
+
+    /**
+     * 셀에 건수/금액 증감분을 더합니다. (적재 시 +1, 승인 취소 시 -1)
+     */
+    public void add(String department, String category, LocalDate day, long countDelta, long amountDelta) {
+        lock.writeLock().lock();
+        try {
+            int dept = departments.codeOf(department);
+            int cat = categories.codeOf(category);
+            int month = monthCode(day);
+
+            long key = cellKey(month, dept, cat);
+            long row = cellIndex.get(key, -1L);
+            if (row < 0) {
+                row = append(dept, cat, month);
+                cellIndex.put(key, row);
+            }
+            countCol[(int) row] += countDelta;
+            amountCol[(int) row] += amountDelta;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 셀을 월 코드 순으로 정렬합니다. (일괄 적재 직후 1회 호출, 이후 추가 셀은 뒤에 붙음)
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            Integer[] order = new Integer[cells];
+            for (int i = 0; i < cells; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt((Integer i) -> monthCol[i])
+                    .thenComparingInt(i -> deptCol[i])
+                    .thenComparingInt(i -> categoryCol[i]));
+
+            int[] dept = new int[deptCol.length];
+            int[] category = new int[categoryCol.length];
+            int[] month = new int[monthCol.length];
+            long[] count = new long[countCol.length];
+            long[] amount = new long[amountCol.length];
+            cellIndex.clear();
+
+            for (int row = 0; row < cells; row++) {
+                int from = order[row];
+                dept[row] = deptCol[from];
+                category[row] = categoryCol[from];
+                month[row] = monthCol[from];
+                count[row] = countCol[from];
+                amount[row] = amountCol[from];
+                cellIndex.put(cellKey(month[row], dept[row], category[row]), row);
+            }
+
+            deptCol = dept;
+            categoryCol = category;
+            monthCol = month;
+            countCol = count;
+            amountCol = amount;
+            sortedCells = cells;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int cellCount() {
+        lock.readLock().lock();
+        try {
+            return cells;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 필터(부서/카테고리/기간) 후 지정한 차원으로 그룹핑합니다.
+     * groupBy에 없는 차원은 합쳐지며(roll-up) 결과 행에서 null입니다.
+     *
+     * <p>그룹 번호는 (월, 부서, 카테고리) 혼합 진법으로 계산하고, 그룹 수가 작으면
+     * 배열에 바로 누적, 크면 해시맵으로 그룹 번호 → 누적 위치를 찾습니다.
+     *
+     * <p>정렬: 월 오름차순(그룹핑한 경우), 그다음 합계 내림차순
+     */
+    public List<Cell> query(CubeQuery query) {
+        Set<Dimension> groupBy = query.getGroupBy() != null ? query.getGroupBy() : EnumSet.noneOf(Dimension.class);
+        boolean byDept = groupBy.contains(Dimension.DEPARTMENT);
+        boolean byCategory = groupBy.contains(Dimension.CATEGORY);
+        boolean byMonth = groupBy.contains(Dimension.MONTH);
+
+        List<Cell> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            boolean[] deptMask = departments.mask(query.getDepartments());
+            boolean[] categoryMask = categories.mask(query.getCategories());
+            boolean periodFilter = query.getFrom() != null || query.getTo() != null;
+            int fromMonth = query.getFrom() != null ? monthCode(query.getFrom()) : NO_MONTH + 1;
+            int toMonth = query.getTo() != null ? monthCode(query.getTo()) : Integer.MAX_VALUE;
+
+            // 혼합 진법: slot = (월 슬롯 * 부서 수 + 부서) * 카테고리 수 + 카테고리 (묶지 않는 차원은 진법 1)
+            long deptRadix = byDept ? Math.max(1, departments.size()) : 1;
+            long categoryRadix = byCategory ? Math.max(1, categories.size()) : 1;
+            long monthRadix = byMonth ? monthSlots() : 1;
+            long slots = monthRadix * deptRadix * categoryRadix;
+
+            boolean dense = slots <= DENSE_GROUP_LIMIT;
+            int capacity = dense ? (int) slots : 64;
+            long[] groupCount = new long[capacity];
+            long[] groupAmount = new long[capacity];
+            long[] groupSlot = dense ? null : new long[capacity];
+            LongLongHashMap sparse = dense ? null : new LongLongHashMap(capacity);
+            int groupSize = 0;
+
+            // 정렬 구간은 기간에 해당하는 범위만, 그 뒤(정렬 후 추가된 셀)는 전부 훑음
+            int start = periodFilter ? lowerBound(fromMonth) : 0;
+            int end = periodFilter ? lowerBound(toMonth == Integer.MAX_VALUE ? toMonth : toMonth + 1) : sortedCells;
+
+            int[][] ranges = {{start, end}, {sortedCells, cells}};
+
+            for (int[] range : ranges) {
+                for (int i = range[0]; i < range[1]; i++) {
+                    if (countCol[i] == 0 && amountCol[i] == 0) {
+                        continue;
+                    }
+                    if (deptMask != null && !deptMask[deptCol[i]]) {
+                        continue;
+                    }
+                    if (categoryMask != null && !categoryMask[categoryCol[i]]) {
+                        continue;
+                    }
+                    int month = monthCol[i];
+                    if (periodFilter && (month < fromMonth || month > toMonth)) {
+                        continue;
+                    }
+
+                    long slot = ((byMonth ? monthSlot(month) : 0) * deptRadix
+                            + (byDept ? deptCol[i] : 0)) * categoryRadix
+                            + (byCategory ? categoryCol[i] : 0);
+
+                    int g;
+                    if (dense) {
+                        g = (int) slot;
+                    } else {
+                        long found = sparse.get(slot + 1, -1L);
+                        if (found < 0) {
+                            if (groupSize == groupCount.length) {
+                                int newLength = groupSize << 1;
+                                groupCount = Arrays.copyOf(groupCount, newLength);
+                                groupAmount = Arrays.copyOf(groupAmount, newLength);
+                                groupSlot = Arrays.copyOf(groupSlot, newLength);
+                            }
+                            found = groupSize++;
+                            sparse.put(slot + 1, found);
+                            groupSlot[(int) found] = slot;
+                        }
+                        g = (int) found;
+                    }
+                    groupCount[g] += countCol[i];
+                    groupAmount[g] += amountCol[i];
+                }
+            }
+
+            int groups = dense ? capacity : groupSize;
+            for (int g = 0; g < groups; g++) {
+                if (groupCount[g] == 0 && groupAmount[g] == 0) {
+                    continue;
+                }
+                long slot = dense ? g : groupSlot[g];
+                int category = (int) (slot % categoryRadix);
+                int dept = (int) ((slot / categoryRadix) % deptRadix);
+                int monthSlot = (int) (slot / categoryRadix / deptRadix);
+
+                result.add(new Cell(
+                        byDept ? departments.valueOf(dept) : null,
+                        byCategory ? categories.valueOf(category) : null,
+                        byMonth ? yearMonthOf(monthOfSlot(monthSlot)) : null,
+                        groupCount[g],
+                        groupAmount[g]));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Cell> order = Comparator.comparingLong(Cell::amount).reversed();
+        if (byMonth) {
+            order = Comparator.comparing(Cell::month, Comparator.nullsFirst(Comparator.naturalOrder())).thenComparing(order);
+        }
+        result.sort(order);
+        return result;
+    }
+
+    /**
+     * 조회 결과 한 행 (그룹핑하지 않은 차원은 null, 월이 없는 지출의 월도 null)
+     */
+    public record Cell(String department, String category, YearMonth month, long count, long amount) {
+    }
+
+    // ========== 내부 ==========
+
+    private int append(int dept, int cat, int month) {
+        if (cells == deptCol.length) {
+            int newLength = cells << 1;
+            deptCol = Arrays.copyOf(deptCol, newLength);
+            categoryCol = Arrays.copyOf(categoryCol, newLength);
+            monthCol = Arrays.copyOf(monthCol, newLength);
+            countCol = Arrays.copyOf(countCol, newLength);
+            amountCol = Arrays.copyOf(amountCol, newLength);
+        }
+        if (month != NO_MONTH) {
+            minMonth = Math.min(minMonth, month);
+            maxMonth = Math.max(maxMonth, month);
+        }
+        deptCol[cells] = dept;
+        categoryCol[cells] = cat;
+        monthCol[cells] = month;
+        return cells++;
+    }
+
+    // 정렬 구간에서 월 코드가 month 이상인 첫 위치
+    private int lowerBound(int month) {
+        int lo = 0;
+        int hi = sortedCells;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (monthCol[mid] < month) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // 월 슬롯: 0 = NO_MONTH, 1.. = 적재된 최소 월부터
+    private long monthSlots() {
+        return minMonth <= maxMonth ? maxMonth - minMonth + 2 : 1;
+    }
+
+    private long monthSlot(int month) {
+        return month == NO_MONTH ? 0 : month - minMonth + 1;
+    }
+
+    private int monthOfSlot(int slot) {
+        return slot == 0 ? NO_MONTH : minMonth + slot - 1;
+    }
+
+    // LongLongHashMap은 키 0을 쓸 수 없으므로 +1
+    private static long cellKey(int month, int dept, int cat) {
+        return (((long) month << (CODE_BITS * 2)) | ((long) dept << CODE_BITS) | cat) + 1;
+    }
+
+    static int monthCode(LocalDate day) {
+        return day != null ? monthCode(YearMonth.from(day)) : NO_MONTH;
+    }
+
+    static int monthCode(YearMonth ym) {
+        return ym.getYear() * 12 + ym.getMonthValue();
+    }
+
+    private static YearMonth yearMonthOf(int code) {
+        if (code == NO_MONTH) {
+            return null;
+        }
+        return YearMonth.of((code - 1) / 12, (code - 1) % 12 + 1);
+    }
+
+    /**
+     * 차원 값 사전 (문자열 ↔ int 코드, null은 ""로 저장)
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int codeOf(String value) {
+            String v = value != null ? value : "";
+            Integer code = codes.get(v);
+            if (code == null) {
+                if (values.size() >= CODE_MASK) {
+                    throw new IllegalStateException("too many dimension values");
+                }
+                code = values.size();
+                codes.put(v, code);
+                values.add(v);
+            }
+            return code;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        String valueOf(int code) {
+            return values.get(code);
+        }
+
+        // 필터 값 → 코드별 포함 여부 (null이면 필터 없음)
+        boolean[] mask(Collection<String> filter) {
+            if (filter == null || filter.isEmpty()) {
+                return null;
+            }
+            boolean[] mask = new boolean[values.size()];
+            for (String value : filter) {
+                Integer code = codes.get(value != null ? value : "");
+                if (code != null) {
+                    mask[code] = true;
+                }
+            }
+            return mask;
+        }
+    }
+}
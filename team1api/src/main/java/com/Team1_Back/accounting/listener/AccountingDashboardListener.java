@@ -0,0 +1,28 @@
+package com.Team1_Back.accounting.listener;
+
+import com.Team1_Back.service.AccountingDashboardSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회계 대시보드 스냅샷 무효화 리스너
+ *
+ * <p>커밋된 변경만 반영하도록 AFTER_COMMIT 시점에 스냅샷을 dirty로 표시합니다.
+ * 실제 재계산은 스냅샷 서비스가 짧은 주기로 모아서(coalesce) 한 번만 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountingDashboardListener {
+
+    private final AccountingDashboardSnapshotService snapshotService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChanged(AccountingDataChangedEvent event) {
+        log.debug("[DASHBOARD] invalidated by {}", event.getSource());
+        snapshotService.markDirty();
+    }
+}
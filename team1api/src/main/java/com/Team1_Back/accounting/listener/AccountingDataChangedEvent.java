@@ -0,0 +1,16 @@
+package com.Team1_Back.accounting.listener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회계 통계에 영향을 주는 데이터 변경 이벤트
+ * (지출 상신/승인/반려/보완요청/수정/삭제 등)
+ */
+@Getter
+@AllArgsConstructor
+public class AccountingDataChangedEvent {
+
+    /** 변경 원인 (로그용, 예: "EXPENSE_SUBMIT", "APPROVAL_ACTION") */
+    private final String source;
+}
@@ -0,0 +1,179 @@
+package com.Team1_Back.ai;
+
+import com.Team1_Back.dto.AiBulkheadStatsDTO;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 백엔드 하나의 동시 호출 제한 (세마포어 벌크헤드)
+ *
+ * <p>OkHttp 인터셉터로 붙어 요청을 보내기 전에 허가를 받고 응답 본문을 닫을 때 반납합니다.
+ * (응답을 닫지 않으면 허가가 돌아오지 않으므로 호출 측은 반드시 응답을 닫아야 합니다.)
+ * 허가가 없으면 maxWaitMs까지 기다리고, 대기 중인 호출이 maxQueue를 넘거나 시간이 지나면
+ * {@link BulkheadFullException}(503)으로 바로 실패합니다.
+ *
+ * @author Team1
+ */
+public class AiBulkhead implements Interceptor {
+
+    private final String backend;
+    private final AiClientProperties.Bulkhead config;
+    private final Semaphore permits;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder callNanos = new LongAdder();
+
+    public AiBulkhead(String backend, AiClientProperties.Bulkhead config) {
+        this.backend = backend;
+        this.config = config;
+        this.permits = new Semaphore(Math.max(1, config.getMaxConcurrent()), true);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        acquire();
+        Permit permit = new Permit(System.nanoTime());
+
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        ResponseBody body = response.body();
+        if (body == null) {
+            permit.release();
+            return response;
+        }
+        // 응답 본문을 다 읽고 닫을 때 반납 (스트리밍 응답도 끝날 때까지 호출 중으로 집계)
+        return response.newBuilder().body(new ReleasingBody(body, permit)).build();
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            calls.increment();
+            return;
+        }
+        if (config.getMaxWaitMs() <= 0) {
+            rejected.increment();
+            throw new BulkheadFullException(backend);
+        }
+        if (waiting.incrementAndGet() > config.getMaxQueue()) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new BulkheadFullException(backend);
+        }
+
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(config.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw new BulkheadFullException(backend);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        long waited = System.nanoTime() - started;
+        waitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        if (!acquired) {
+            rejected.increment();
+            throw new BulkheadFullException(backend);
+        }
+        calls.increment();
+    }
+
+    public String backend() {
+        return backend;
+    }
+
+    public AiBulkheadStatsDTO stats() {
+        long total = calls.sum();
+        return new AiBulkheadStatsDTO(
+                backend,
+                config.getMaxConcurrent(),
+                config.getMaxQueue(),
+                config.getMaxWaitMs(),
+                config.getMaxConcurrent() - permits.availablePermits(),
+                waiting.get(),
+                total,
+                rejected.sum(),
+                total > 0 ? waitNanos.sum() / 1_000_000.0 / total : 0.0,
+                maxWaitNanos.get() / 1_000_000.0,
+                total > 0 ? callNanos.sum() / 1_000_000.0 / total : 0.0);
+    }
+
+    // 허가 1개 (여러 번 닫혀도 한 번만 반납)
+    private final class Permit {
+
+        private final long started;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(long started) {
+            this.started = started;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                callNanos.add(System.nanoTime() - started);
+                permits.release();
+            }
+        }
+    }
+
+    private static final class ReleasingBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        ReleasingBody(ResponseBody delegate, Permit permit) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        permit.release();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
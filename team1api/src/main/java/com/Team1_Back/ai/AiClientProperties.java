@@ -0,0 +1,73 @@
+package com.Team1_Back.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AI 백엔드(Ollama, 영수증 OCR, OpenAI, Gemini) 공용 HTTP 클라이언트 설정
+ *
+ * <p>커넥션 풀은 모든 백엔드가 공유하고, 동시 호출 수 제한(벌크헤드)은 백엔드별로 둡니다.
+ * 백엔드 하나가 느려져도 그 백엔드의 동시 호출 수만큼만 스레드가 묶입니다.
+ *
+ * @author Team1
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "com.mallapi.ai.client")
+public class AiClientProperties {
+
+    public static final String OLLAMA = "ollama";
+    public static final String RECEIPT_OCR = "receipt-ocr";
+    public static final String OPENAI = "openai";
+    public static final String GEMINI = "gemini";
+
+    /** 연결 타임아웃 (밀리초) */
+    private int connectTimeoutMs = 5000;
+
+    /** 쓰기 타임아웃 (밀리초) */
+    private int writeTimeoutMs = 30000;
+
+    /** 풀에 유지할 유휴 커넥션 수 */
+    private int maxIdleConnections = 20;
+
+    /** 유휴 커넥션 유지 시간 (밀리초) */
+    private long keepAliveMs = 300000;
+
+    /** 백엔드별 벌크헤드 (설정하지 않은 값은 기본값) */
+    private Map<String, Bulkhead> bulkheads = new LinkedHashMap<>(Map.of(
+            OLLAMA, new Bulkhead(4, 16, 2000),
+            RECEIPT_OCR, new Bulkhead(4, 64, 30000),   // OCR 워커 전용이라 대기 허용
+            OPENAI, new Bulkhead(8, 32, 2000),
+            GEMINI, new Bulkhead(8, 32, 2000)));
+
+    public Bulkhead bulkhead(String backend) {
+        return bulkheads.getOrDefault(backend, new Bulkhead());
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /** 동시 호출 수 */
+        private int maxConcurrent = 4;
+
+        /** 대기할 수 있는 호출 수 (넘으면 바로 거절) */
+        private int maxQueue = 16;
+
+        /** 최대 대기 시간 (밀리초, 0이면 대기 없이 거절) */
+        private long maxWaitMs = 2000;
+
+        public Bulkhead() {
+        }
+
+        public Bulkhead(int maxConcurrent, int maxQueue, long maxWaitMs) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.Team1_Back.ai;
+
+import com.Team1_Back.dto.AiBulkheadStatsDTO;
+import okhttp3.OkHttpClient;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 백엔드별 HTTP 클라이언트 (공용 커넥션 풀 + 백엔드별 벌크헤드)
+ *
+ * <p>백엔드별 클라이언트는 공용 클라이언트의 newBuilder()로 만들어 커넥션 풀과 디스패처를 공유하고,
+ * 읽기 타임아웃과 벌크헤드 인터셉터만 따로 둡니다.
+ *
+ * @author Team1
+ */
+public class AiHttpClients {
+
+    private final OkHttpClient shared;
+    private final AiClientProperties props;
+    private final Map<String, AiBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public AiHttpClients(OkHttpClient shared, AiClientProperties props) {
+        this.shared = shared;
+        this.props = props;
+    }
+
+    /**
+     * 백엔드용 OkHttpClient
+     *
+     * @param backend     백엔드 이름 ({@link AiClientProperties#OLLAMA} 등)
+     * @param readTimeout 응답 대기 제한 (백엔드별 기존 설정)
+     */
+    public OkHttpClient client(String backend, Duration readTimeout) {
+        return shared.newBuilder()
+                .readTimeout(readTimeout)
+                .addInterceptor(bulkhead(backend))
+                .build();
+    }
+
+    /**
+     * 백엔드용 RestClient 요청 팩토리
+     */
+    public ClientHttpRequestFactory requestFactory(String backend, Duration readTimeout) {
+        return new OkHttpClientRequestFactory(client(backend, readTimeout));
+    }
+
+    public AiBulkhead bulkhead(String backend) {
+        return bulkheads.computeIfAbsent(backend, name -> new AiBulkhead(name, props.bulkhead(name)));
+    }
+
+    public List<AiBulkheadStatsDTO> snapshot() {
+        return bulkheads.values().stream()
+                .map(AiBulkhead::stats)
+                .sorted((a, b) -> a.backend().compareTo(b.backend()))
+                .toList();
+    }
+}
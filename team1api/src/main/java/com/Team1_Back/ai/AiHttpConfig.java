@@ -0,0 +1,35 @@
+package com.Team1_Back.ai;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 백엔드 공용 HTTP 클라이언트 설정
+ *
+ * @author Team1
+ */
+@Configuration
+@EnableConfigurationProperties({AiClientProperties.class, LlmRouterProperties.class})
+public class AiHttpConfig {
+
+    @Bean(destroyMethod = "")
+    public OkHttpClient aiHttpClient(AiClientProperties props) {
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(props.getMaxIdleConnections(), props.getKeepAliveMs(), TimeUnit.MILLISECONDS))
+                .connectTimeout(Duration.ofMillis(props.getConnectTimeoutMs()))
+                .writeTimeout(Duration.ofMillis(props.getWriteTimeoutMs()))
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
+    @Bean
+    public AiHttpClients aiHttpClients(OkHttpClient aiHttpClient, AiClientProperties props) {
+        return new AiHttpClients(aiHttpClient, props);
+    }
+}
@@ -0,0 +1,95 @@
+package com.Team1_Back.ai;
+
+import com.Team1_Back.dto.AiStreamStatsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 스트리밍 호출 지표 (첫 토큰까지 시간, 모델 로드 시간, 초당 토큰)
+ *
+ * @author Team1
+ */
+@Component
+@RequiredArgsConstructor
+public class AiStreamMetrics {
+
+    // 이보다 오래 걸린 모델 로드는 콜드 로드로 집계
+    private static final long COLD_LOAD_NANOS = 1_000_000_000L;
+
+    private final OllamaProperties props;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder streams = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder firstTokens = new LongAdder();
+    private final LongAdder firstTokenNanos = new LongAdder();
+    private final LongAccumulator maxFirstTokenNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder streamNanos = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder coldLoads = new LongAdder();
+    private final LongAdder tokens = new LongAdder();
+
+    public void started() {
+        active.incrementAndGet();
+    }
+
+    public void firstToken(long nanos) {
+        firstTokens.increment();
+        firstTokenNanos.add(nanos);
+        maxFirstTokenNanos.accumulate(nanos);
+    }
+
+    /**
+     * 스트림 종료 (성공)
+     *
+     * @param nanos      전체 시간
+     * @param loadNanos  Ollama load_duration (없으면 null)
+     * @param evalTokens 생성한 토큰 수 (없으면 null)
+     */
+    public void completed(long nanos, Long loadNanos, Integer evalTokens) {
+        active.decrementAndGet();
+        streams.increment();
+        streamNanos.add(nanos);
+        if (loadNanos != null) {
+            loads.increment();
+            this.loadNanos.add(loadNanos);
+            if (loadNanos >= COLD_LOAD_NANOS) {
+                coldLoads.increment();
+            }
+        }
+        if (evalTokens != null) {
+            tokens.add(evalTokens);
+        }
+    }
+
+    /** 스트림 종료 (실패 또는 클라이언트 연결 끊김) */
+    public void failed(boolean clientGone) {
+        active.decrementAndGet();
+        (clientGone ? cancelled : failed).increment();
+    }
+
+    public AiStreamStatsDTO snapshot() {
+        long count = streams.sum();
+        long first = firstTokens.sum();
+        long loadCount = loads.sum();
+        long totalNanos = streamNanos.sum();
+        return new AiStreamStatsDTO(
+                props.getKeepAlive(),
+                active.get(),
+                count,
+                failed.sum(),
+                cancelled.sum(),
+                first > 0 ? firstTokenNanos.sum() / 1_000_000.0 / first : 0.0,
+                maxFirstTokenNanos.get() / 1_000_000.0,
+                count > 0 ? totalNanos / 1_000_000.0 / count : 0.0,
+                loadCount > 0 ? loadNanos.sum() / 1_000_000.0 / loadCount : 0.0,
+                coldLoads.sum(),
+                totalNanos > 0 ? tokens.sum() / (totalNanos / 1_000_000_000.0) : 0.0);
+    }
+}
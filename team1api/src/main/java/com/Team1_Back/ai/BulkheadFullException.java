@@ -0,0 +1,29 @@
+package com.Team1_Back.ai;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * AI 백엔드 동시 호출 한도 초과 (503 + Retry-After)
+ */
+public class BulkheadFullException extends ResponseStatusException {
+
+    private final String backend;
+
+    public BulkheadFullException(String backend) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "AI 서버가 혼잡합니다. 잠시 후 다시 시도해 주세요. (" + backend + ")");
+        this.backend = backend;
+    }
+
+    public String getBackend() {
+        return backend;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return headers;
+    }
+}
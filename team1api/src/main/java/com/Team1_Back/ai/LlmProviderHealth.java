@@ -0,0 +1,254 @@
+package com.Team1_Back.ai;
+
+import com.Team1_Back.dto.LlmRouterStatsDTO;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LLM 공급자 하나의 최근 지연/오류 구간과 서킷 브레이커
+ *
+ * <p>최근 windowSize개 호출의 지연과 결과를 링 버퍼에 두고 p50/p95와 오류율을 계산합니다.
+ * 헤지에서 져서 취소된 호출은 실제 지연을 모르므로(그 시간 이상 걸렸다는 것만 앎) 성공 백분위에는 넣지 않고,
+ * 라우팅 순위를 매길 때 하한값으로만 씁니다.
+ *
+ * <p>연속 실패가 쌓이거나 구간 오류율이 기준을 넘으면 OPEN이 되어 openMs 동안 호출을 받지 않고,
+ * 그 뒤 시험 호출 1건(HALF_OPEN)이 성공하면 CLOSED로 돌아갑니다.
+ *
+ * @author Team1
+ */
+public class LlmProviderHealth {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    // 링 버퍼 표본 종류
+    private static final byte OK = 0;
+    private static final byte FAILED = 1;
+    private static final byte CENSORED = 2;
+
+    private final String name;
+    private final LlmRouterProperties props;
+
+    // 최근 호출 (링 버퍼, this로 보호)
+    private final long[] latencyNanos;
+    private final byte[] kinds;
+    private int next;
+    private int size;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int consecutiveFailures;
+    private boolean probeInFlight;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder busy = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    public LlmProviderHealth(String name, LlmRouterProperties props) {
+        this.name = name;
+        this.props = props;
+        int window = Math.max(1, props.getWindowSize());
+        this.latencyNanos = new long[window];
+        this.kinds = new byte[window];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 호출해도 되는지 (OPEN이면 false, 차단 시간이 지났으면 시험 호출 1건만 허용)
+     */
+    public synchronized boolean tryAcquire(long now) {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now - openedAt < props.getCircuitBreaker().getOpenMs() * 1_000_000L) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess(long nanos) {
+        calls.increment();
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            // 복구: 차단 전 실패 기록으로 바로 다시 열리지 않도록 구간을 비움
+            state = State.CLOSED;
+            probeInFlight = false;
+            size = 0;
+            next = 0;
+        }
+        record(nanos, OK);
+    }
+
+    /**
+     * 실패 (오류 응답, 호출 제한 시간 초과, 라우터 전체 제한 시간 초과)
+     */
+    public synchronized void onFailure(long nanos, long now) {
+        calls.increment();
+        failures.increment();
+        consecutiveFailures++;
+        record(nanos, FAILED);
+
+        LlmRouterProperties.CircuitBreaker cb = props.getCircuitBreaker();
+        if (state == State.HALF_OPEN) {
+            open(now);
+        } else if (state == State.CLOSED
+                && (consecutiveFailures >= cb.getConsecutiveFailures()
+                || (completed() >= cb.getMinCalls() && errorRate() >= cb.getFailureRateThreshold()))) {
+            open(now);
+        }
+    }
+
+    /**
+     * 헤지에서 져서 취소된 호출: 그때까지 걸린 시간은 실제 지연의 하한값이므로 순위용으로만 남김
+     */
+    public synchronized void onCensored(long nanos) {
+        cancelled.increment();
+        releaseProbe();
+        record(nanos, CENSORED);
+    }
+
+    /**
+     * 실제로 호출하지 않고 취소됨
+     */
+    public synchronized void onAbandoned() {
+        releaseProbe();
+    }
+
+    /**
+     * 벌크헤드가 가득 차 호출하지 못함 (공급자 장애가 아니므로 브레이커에 반영하지 않음)
+     */
+    public synchronized void onBusy() {
+        busy.increment();
+        releaseProbe();
+    }
+
+    public void onWin() {
+        wins.increment();
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 라우팅 순위용 지연 (성공 p50과 취소된 호출 하한값의 중앙값 중 큰 값, 성공 표본이 부족하면 -1)
+     *
+     * <p>헤지에서 계속 지는 공급자는 성공 표본이 예전 값에 머물러 있으므로 하한값으로 순위를 낮춥니다.
+     */
+    public synchronized long rankingNanos() {
+        long p50 = percentile(OK, 0.50, props.getMinSamples());
+        if (p50 < 0) {
+            return -1;
+        }
+        long censored = percentile(CENSORED, 0.50, 1);
+        return Math.max(p50, censored);
+    }
+
+    /**
+     * 헤지 요청을 보낼 때까지 기다릴 시간 (이 공급자의 성공 p95, 표본이 부족하면 기본값)
+     */
+    public synchronized long hedgeDelayMs() {
+        LlmRouterProperties.Hedge hedge = props.getHedge();
+        long p95 = percentile(OK, 0.95, props.getMinSamples());
+        if (p95 < 0) {
+            return hedge.getDefaultDelayMs();
+        }
+        return Math.max(hedge.getMinDelayMs(), p95 / 1_000_000L);
+    }
+
+    public synchronized LlmRouterStatsDTO.Provider stats(boolean enabled) {
+        long p50 = percentile(OK, 0.50, props.getMinSamples());
+        long p95 = percentile(OK, 0.95, props.getMinSamples());
+        return new LlmRouterStatsDTO.Provider(
+                name,
+                enabled,
+                state.name(),
+                calls.sum(),
+                failures.sum(),
+                wins.sum(),
+                cancelled.sum(),
+                busy.sum(),
+                opened.sum(),
+                errorRate(),
+                p50 >= 0 ? p50 / 1_000_000.0 : 0.0,
+                p95 >= 0 ? p95 / 1_000_000.0 : 0.0);
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        openedAt = now;
+        probeInFlight = false;
+        opened.increment();
+    }
+
+    private void releaseProbe() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    private void record(long nanos, byte kind) {
+        latencyNanos[next] = nanos;
+        kinds[next] = kind;
+        next = (next + 1) % latencyNanos.length;
+        size = Math.min(size + 1, latencyNanos.length);
+    }
+
+    // 끝까지 결과가 나온 호출 수 (성공 + 실패)
+    private int completed() {
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] != CENSORED) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    private double errorRate() {
+        int completed = 0;
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == FAILED) {
+                failed++;
+            }
+            if (kinds[i] != CENSORED) {
+                completed++;
+            }
+        }
+        return completed > 0 ? (double) failed / completed : 0.0;
+    }
+
+    // 한 종류 표본의 백분위 (표본이 minSamples보다 적으면 -1)
+    private long percentile(byte kind, double q, int minSamples) {
+        long[] samples = new long[size];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == kind) {
+                samples[n++] = latencyNanos[i];
+            }
+        }
+        if (n == 0 || n < minSamples) {
+            return -1;
+        }
+        Arrays.sort(samples, 0, n);
+        int index = (int) Math.ceil(q * n) - 1;
+        return samples[Math.max(0, Math.min(n - 1, index))];
+    }
+}
@@ -1,16 +1,372 @@
 package com.Team1_Back.ai;
-import com.Team1_Back.client.OpenAiLlmClient;
+
+import com.Team1_Back.client.LlmCancelHandle;
+import com.Team1_Back.client.LlmClient;
 import com.Team1_Back.dto.LlmResult;
-import lombok.RequiredArgsConstructor;
+import com.Team1_Back.dto.LlmRouterStatsDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * LLM 공급자 라우터 (OpenAI, Gemini, Ollama)
+ *
+ * <ul>
+ *   <li>라우팅: 서킷이 닫힌 공급자 중 최근 p50 지연이 가장 짧은 곳으로 보냅니다. (표본이 부족하면 설정 순서)</li>
+ *   <li>헤징: 첫 공급자가 자신의 p95를 넘기도록 응답하지 않으면 다음 공급자에 같은 요청을 보내고 먼저 온 응답을 씁니다.
+ *       헤지 요청은 토큰 버킷으로 요청의 hedge.maxRatio 비율(순간 최대 hedge.maxBurst건)까지만 보냅니다.</li>
+ *   <li>대체: 공급자가 실패하거나 attemptTimeoutMs 안에 응답하지 않으면 다음 공급자로 넘어갑니다.</li>
+ *   <li>취소: 진 호출과 시간 초과된 호출은 HTTP 호출 자체를 끊습니다. ({@link LlmCancelHandle})</li>
+ *   <li>서킷 브레이커: 실패가 쌓인 공급자는 일정 시간 호출하지 않습니다. ({@link LlmProviderHealth})</li>
+ * </ul>
+ *
+ * @author Team1
+ */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class LlmRouter {
 
-    private final OpenAiLlmClient openai;
+    private final LlmRouterProperties props;
+    private final Map<String, Provider> providers = new LinkedHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private final Object hedgeLock = new Object();
+    private double hedgeTokens;
+
+    public LlmRouter(List<LlmClient> clients, LlmRouterProperties props) {
+        this.props = props;
+
+        // order에 있는 공급자만, order 순서대로
+        List<String> order = props.getOrder();
+        clients.stream()
+                .filter(client -> order.contains(client.name()))
+                .sorted(Comparator.comparingInt(client -> order.indexOf(client.name())))
+                .forEach(client -> providers.put(client.name(),
+                        new Provider(client, new LlmProviderHealth(client.name(), props), order.indexOf(client.name()))));
+        log.info("[LLM] router providers={}", providers.keySet());
+
+        int workers = Math.max(2, props.getWorkers());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers * 2),
+                r -> {
+                    Thread t = new Thread(r, "llm-router-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 
     public LlmResult ask(String prompt) {
-        return openai.ask(prompt);
+        requests.increment();
+        depositHedgeToken();
+
+        List<Provider> candidates = rank();
+        if (candidates.isEmpty()) {
+            failed.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "사용할 수 있는 AI 서버가 없습니다.");
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(props.getTimeoutMs());
+        long attemptTimeout = TimeUnit.MILLISECONDS.toNanos(Math.min(props.getAttemptTimeoutMs(), props.getTimeoutMs()));
+        BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        List<Attempt> inFlight = new ArrayList<>();
+        Iterator<Provider> next = candidates.iterator();
+        RuntimeException lastError = null;
+        boolean hedged = false;
+        boolean timedOut = false;
+
+        try {
+            Attempt first = launch(next, prompt, outcomes, attemptTimeout, false);
+            if (first != null) {
+                inFlight.add(first);
+            }
+
+            while (!inFlight.isEmpty()) {
+                long now = System.nanoTime();
+                if (now >= deadline) {
+                    timedOut = true;
+                    break;
+                }
+
+                // 공급자별 호출 제한을 넘긴 시도는 실패로 기록하고 끊은 뒤 다음 공급자로
+                for (Iterator<Attempt> it = inFlight.iterator(); it.hasNext(); ) {
+                    Attempt attempt = it.next();
+                    if (now >= attempt.deadline) {
+                        it.remove();
+                        if (attempt.abandon(true)) {
+                            lastError = new RuntimeException(attempt.provider.name() + " 응답 시간 초과");
+                            log.warn("[LLM] {} timed out after {}ms", attempt.provider.name(),
+                                    TimeUnit.NANOSECONDS.toMillis(attemptTimeout));
+                        }
+                    }
+                }
+                if (inFlight.isEmpty()) {
+                    Attempt fallback = launch(next, prompt, outcomes, attemptTimeout, false);
+                    if (fallback == null) {
+                        break;
+                    }
+                    inFlight.add(fallback);
+                }
+
+                // 다음에 깰 시점: 전체 제한, 각 시도의 제한, 헤지 시점(첫 공급자의 p95) 중 가장 이른 것
+                long wakeAt = deadline;
+                for (Attempt attempt : inFlight) {
+                    wakeAt = Math.min(wakeAt, attempt.deadline);
+                }
+                boolean canHedge = !hedged && inFlight.size() == 1 && next.hasNext() && hedgeTokenAvailable();
+                long hedgeAt = Long.MAX_VALUE;
+                if (canHedge) {
+                    Attempt primary = inFlight.get(0);
+                    hedgeAt = primary.startedAt + TimeUnit.MILLISECONDS.toNanos(primary.provider.health.hedgeDelayMs());
+                    wakeAt = Math.min(wakeAt, hedgeAt);
+                }
+
+                Outcome outcome = outcomes.poll(Math.max(0, wakeAt - now), TimeUnit.NANOSECONDS);
+                if (outcome == null) {
+                    if (canHedge && System.nanoTime() >= hedgeAt && takeHedgeToken()) {
+                        hedged = true;
+                        Attempt hedge = launch(next, prompt, outcomes, attemptTimeout, true);
+                        if (hedge != null) {
+                            hedges.increment();
+                            log.info("[LLM] hedge: {} slow, also asking {}",
+                                    inFlight.get(0).provider.name(), hedge.provider.name());
+                            inFlight.add(hedge);
+                        }
+                    }
+                    continue;
+                }
+
+                // 시간 초과로 이미 포기한 시도의 결과가 늦게 도착할 수도 있음 (성공이면 그대로 사용)
+                inFlight.remove(outcome.attempt());
+                if (outcome.result() != null) {
+                    outcome.attempt().provider.health.onWin();
+                    if (outcome.attempt().hedge) {
+                        hedgeWins.increment();
+                    }
+                    return outcome.result();
+                }
+
+                lastError = outcome.error();
+                log.warn("[LLM] {} failed: {}", outcome.attempt().provider.name(), lastError.getMessage());
+                if (inFlight.isEmpty()) {
+                    // 대체 공급자
+                    Attempt fallback = launch(next, prompt, outcomes, attemptTimeout, false);
+                    if (fallback != null) {
+                        inFlight.add(fallback);
+                    }
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastError = new RuntimeException("AI 호출이 중단되었습니다.", e);
+        } finally {
+            // 남은 호출 끊기: 전체 제한 시간 초과면 실패, 헤지에서 진 쪽이면 취소로 기록
+            for (Attempt attempt : inFlight) {
+                attempt.abandon(timedOut);
+            }
+        }
+
+        failed.increment();
+        if (timedOut) {
+            throw new RuntimeException("AI 응답 시간이 초과되었습니다.");
+        }
+        if (lastError == null) {
+            // 모두 차단(OPEN)되었거나 작업 큐가 가득 참
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "AI 서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (lastError instanceof BulkheadFullException) {
+            throw lastError; // 503
+        }
+        throw new RuntimeException("LLM 호출 실패", lastError);
+    }
+
+    public LlmRouterStatsDTO snapshot() {
+        return new LlmRouterStatsDTO(
+                requests.sum(),
+                hedges.sum(),
+                hedgeWins.sum(),
+                failed.sum(),
+                providers.values().stream()
+                        .map(p -> p.health.stats(p.client.isEnabled()))
+                        .toList());
+    }
+
+    // 사용 가능한 공급자를 p50 지연 순으로 (표본이 부족한 공급자는 뒤로, 같으면 설정 순서)
+    private List<Provider> rank() {
+        return providers.values().stream()
+                .filter(p -> p.client.isEnabled())
+                .sorted(Comparator
+                        .comparingLong((Provider p) -> {
+                            long p50 = p.health.rankingNanos();
+                            return p50 >= 0 ? p50 : Long.MAX_VALUE;
+                        })
+                        .thenComparingInt(p -> p.order))
+                .toList();
+    }
+
+    // 헤지 토큰 버킷: 요청마다 maxRatio만큼 쌓이고 maxBurst까지만 모임 (평소 한가했어도 느려진 순간 헤지가 몰리지 않도록)
+    private void depositHedgeToken() {
+        LlmRouterProperties.Hedge hedge = props.getHedge();
+        synchronized (hedgeLock) {
+            hedgeTokens = Math.min(Math.max(1, hedge.getMaxBurst()), hedgeTokens + hedge.getMaxRatio());
+        }
+    }
+
+    private boolean hedgeTokenAvailable() {
+        if (!props.getHedge().isEnabled()) {
+            return false;
+        }
+        synchronized (hedgeLock) {
+            return hedgeTokens >= 1.0;
+        }
+    }
+
+    private boolean takeHedgeToken() {
+        synchronized (hedgeLock) {
+            if (hedgeTokens < 1.0) {
+                return false;
+            }
+            hedgeTokens -= 1.0;
+            return true;
+        }
+    }
+
+    // 다음으로 호출할 수 있는 공급자에 요청 (서킷이 열렸거나 작업 큐가 가득 차면 건너뜀)
+    private Attempt launch(Iterator<Provider> next, String prompt, BlockingQueue<Outcome> outcomes,
+                           long attemptTimeout, boolean hedge) {
+        while (next.hasNext()) {
+            Provider provider = next.next();
+            if (!provider.health.tryAcquire(System.nanoTime())) {
+                continue;
+            }
+            Attempt attempt = new Attempt(provider, prompt, outcomes, attemptTimeout, hedge);
+            try {
+                attempt.future = executor.submit(attempt);
+                return attempt;
+            } catch (RejectedExecutionException e) {
+                provider.health.onBusy();
+            }
+        }
+        return null;
+    }
+
+    private record Provider(LlmClient client, LlmProviderHealth health, int order) {
+
+        String name() {
+            return client.name();
+        }
+    }
+
+    private record Outcome(Attempt attempt, LlmResult result, RuntimeException error) {
+    }
+
+    // 공급자 호출 1건 (먼저 끝난 쪽 - 작업 스레드의 결과 또는 라우터의 포기 - 만 공급자 상태에 기록)
+    private static final class Attempt implements Runnable {
+
+        private final Provider provider;
+        private final String prompt;
+        private final BlockingQueue<Outcome> outcomes;
+        private final boolean hedge;
+        private final long startedAt = System.nanoTime();
+        private final long deadline;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final AtomicBoolean settled = new AtomicBoolean(false);
+        private final LlmCancelHandle handle = new LlmCancelHandle();
+        private volatile Future<?> future;
+
+        private Attempt(Provider provider, String prompt, BlockingQueue<Outcome> outcomes, long timeoutNanos, boolean hedge) {
+            this.provider = provider;
+            this.prompt = prompt;
+            this.outcomes = outcomes;
+            this.deadline = startedAt + timeoutNanos;
+            this.hedge = hedge;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return; // 시작 전에 포기됨
+            }
+            LlmProviderHealth health = provider.health;
+            try {
+                LlmResult result = provider.client.ask(prompt, handle);
+                if (settled.compareAndSet(false, true)) {
+                    health.onSuccess(System.nanoTime() - startedAt);
+                }
+                outcomes.add(new Outcome(this, result, null));
+            } catch (BulkheadFullException e) {
+                if (settled.compareAndSet(false, true)) {
+                    health.onBusy();
+                }
+                outcomes.add(new Outcome(this, null, e));
+            } catch (RuntimeException e) {
+                long now = System.nanoTime();
+                if (settled.compareAndSet(false, true)) {
+                    health.onFailure(now - startedAt, now);
+                }
+                outcomes.add(new Outcome(this, null, e));
+            }
+        }
+
+        /**
+         * 라우터가 결과를 더 기다리지 않음: 상태를 기록하고 HTTP 호출을 끊습니다.
+         *
+         * @param failure true면 시간 초과 실패, false면 헤지에서 진 호출 (지연 하한값만 기록)
+         * @return 이미 결과가 나와 기록된 경우 false
+         */
+        private boolean abandon(boolean failure) {
+            if (!settled.compareAndSet(false, true)) {
+                return false;
+            }
+            long now = System.nanoTime();
+            if (started.compareAndSet(false, true)) {
+                // 작업 큐에서 대기만 함: 호출하지 않았으므로 시험 호출 자리만 반납
+                provider.health.onAbandoned();
+            } else if (failure) {
+                provider.health.onFailure(now - startedAt, now);
+            } else {
+                provider.health.onCensored(now - startedAt);
+            }
+            handle.cancel();
+            Future<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+            return true;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.Team1_Back.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LLM 라우터 설정 (공급자 순서, 헤징, 서킷 브레이커)
+ *
+ * @author Team1
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "com.mallapi.ai.router")
+public class LlmRouterProperties {
+
+    /** 사용할 공급자와 지연 통계가 없을 때의 우선순위 (목록에 없는 공급자는 쓰지 않음) */
+    private List<String> order = new ArrayList<>(List.of(
+            AiClientProperties.OPENAI, AiClientProperties.GEMINI, AiClientProperties.OLLAMA));
+
+    /** 공급자별로 유지할 최근 호출 수 (지연 백분위/오류율 계산 구간) */
+    private int windowSize = 100;
+
+    /** 지연 통계를 믿고 쓰기 시작할 최소 성공 표본 수 */
+    private int minSamples = 5;
+
+    /** 전체 호출 제한 (밀리초) */
+    private long timeoutMs = 60000;
+
+    /**
+     * 공급자 한 곳의 호출 제한 (밀리초, 넘으면 실패로 기록하고 호출을 끊은 뒤 다음 공급자로)
+     * 전체 제한 안에 대체 호출이 들어갈 수 있도록 timeoutMs보다 짧게 둡니다.
+     */
+    private long attemptTimeoutMs = 25000;
+
+    /** 라우터 작업 스레드 수 (헤징 중에는 요청 하나가 2개를 씀) */
+    private int workers = 16;
+
+    private Hedge hedge = new Hedge();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        private boolean enabled = true;
+
+        /** 첫 공급자의 p95가 이보다 짧아도 최소 이만큼은 기다림 (밀리초) */
+        private long minDelayMs = 200;
+
+        /** 표본이 부족할 때 헤지 요청을 보낼 시점 (밀리초) */
+        private long defaultDelayMs = 3000;
+
+        /** 요청당 쌓이는 헤지 토큰 (헤지 1건 = 토큰 1개, 장기적으로 요청의 이 비율까지만 헤지) */
+        private double maxRatio = 0.1;
+
+        /** 모아 둘 수 있는 헤지 토큰 상한 (오래 한가했어도 갑자기 느려졌을 때 연달아 헤지할 수 있는 수) */
+        private int maxBurst = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /** 구간 오류율이 이 이상이면 차단 */
+        private double failureRateThreshold = 0.5;
+
+        /** 오류율 판단에 필요한 최소 호출 수 */
+        private int minCalls = 10;
+
+        /** 연속 실패가 이 수에 도달하면 바로 차단 */
+        private int consecutiveFailures = 5;
+
+        /** 차단 유지 시간 (밀리초, 지나면 시험 호출 1건 허용) */
+        private long openMs = 30000;
+    }
+}
@@ -0,0 +1,197 @@
+package com.Team1_Back.ai;
+
+import okhttp3.Headers;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSink;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OkHttp 기반 RestClient 요청 팩토리
+ *
+ * <p>AI 백엔드의 RestClient가 공용 커넥션 풀과 벌크헤드 인터셉터를 쓰도록 OkHttpClient에 연결합니다.
+ * 요청 본문은 메모리에 모으지 않고 전송 시점에 바로 씁니다. (multipart 파일 스트리밍 유지)
+ *
+ * @author Team1
+ */
+public class OkHttpClientRequestFactory implements ClientHttpRequestFactory {
+
+    // OkHttp가 직접 계산하는 헤더
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(), HttpHeaders.HOST.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(), HttpHeaders.CONNECTION.toLowerCase());
+
+    private final OkHttpClient client;
+
+    public OkHttpClientRequestFactory(OkHttpClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new OkHttpRequest(client, uri, httpMethod);
+    }
+
+    private static final class OkHttpRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+        private final OkHttpClient client;
+        private final URI uri;
+        private final HttpMethod method;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+        private Body body;
+        private ByteArrayOutputStream bufferedBody;
+
+        OkHttpRequest(OkHttpClient client, URI uri, HttpMethod method) {
+            this.client = client;
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public void setBody(Body body) {
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            if (bufferedBody == null) {
+                bufferedBody = new ByteArrayOutputStream(1024);
+            }
+            return bufferedBody;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            okhttp3.MediaType contentType = headers.getContentType() != null
+                    ? okhttp3.MediaType.parse(headers.getContentType().toString())
+                    : null;
+
+            RequestBody requestBody = null;
+            if (body != null) {
+                long contentLength = headers.getContentLength();
+                Body streaming = body;
+                requestBody = new RequestBody() {
+                    @Override
+                    public okhttp3.MediaType contentType() {
+                        return contentType;
+                    }
+
+                    @Override
+                    public long contentLength() {
+                        return contentLength;
+                    }
+
+                    @Override
+                    public boolean isOneShot() {
+                        return !streaming.repeatable();
+                    }
+
+                    @Override
+                    public void writeTo(BufferedSink sink) throws IOException {
+                        streaming.writeTo(sink.outputStream());
+                    }
+                };
+            } else if (bufferedBody != null) {
+                requestBody = RequestBody.create(bufferedBody.toByteArray(), contentType);
+            } else if (method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH) {
+                requestBody = RequestBody.create(new byte[0], contentType);
+            }
+
+            Headers.Builder okHeaders = new Headers.Builder();
+            headers.forEach((name, values) -> {
+                if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                    values.forEach(value -> okHeaders.add(name, value));
+                }
+            });
+
+            Request request = new Request.Builder()
+                    .url(uri.toURL())
+                    .headers(okHeaders.build())
+                    .method(method.name(), requestBody)
+                    .build();
+            return new OkHttpResponse(client.newCall(request).execute());
+        }
+    }
+
+    private static final class OkHttpResponse implements ClientHttpResponse {
+
+        private final Response response;
+        private HttpHeaders headers;
+
+        OkHttpResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(response.code());
+        }
+
+        @Override
+        public String getStatusText() {
+            return response.message();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            if (headers == null) {
+                HttpHeaders result = new HttpHeaders();
+                for (String name : response.headers().names()) {
+                    List<String> values = response.headers(name);
+                    result.put(name, values);
+                }
+                headers = result;
+            }
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return response.body() != null ? response.body().byteStream() : InputStream.nullInputStream();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
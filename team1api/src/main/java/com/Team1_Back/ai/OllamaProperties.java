@@ -11,4 +11,10 @@ public class OllamaProperties {
     private String baseUrl;
     private String model;
     private Integer timeoutMs;
+
+    // 마지막 호출 후 모델을 메모리에 올려 둘 시간 (Ollama keep_alive, 예: "30m", "-1"은 계속 유지)
+    private String keepAlive = "30m";
+
+    // 기동 시 모델을 미리 올려 첫 호출의 콜드 로드를 피함
+    private boolean preload = true;
 }
@@ -18,13 +18,27 @@ import java.time.Duration;
 public class ReceiptAiConfig {
 
     @Bean
-    public RestClient receiptAiRestClient(ReceiptAiProperties props) {
+    public RestClient receiptAiRestClient(ReceiptAiProperties props, AiHttpClients aiHttpClients) {
+        int timeoutMs = props.getTimeoutMs() != null ? props.getTimeoutMs() : 60000;
+
+        // 공용 커넥션 풀 + receipt-ocr 벌크헤드
+        // RestClient 인터셉터를 두면 요청 바디 전체를 메모리에 버퍼링하므로 두지 않음 (벌크헤드는 OkHttp 인터셉터, 영수증 파일은 디스크에서 바로 스트리밍 전송)
+        return RestClient.builder()
+                .baseUrl(props.getBaseUrl())
+                .requestFactory(aiHttpClients.requestFactory(AiClientProperties.RECEIPT_OCR, Duration.ofMillis(timeoutMs)))
+                .build();
+    }
+
+    /**
+     * 배치 OCR용 (같은 커넥션 풀/벌크헤드, 읽기 타임아웃만 배치 기준)
+     */
+    @Bean
+    public RestClient receiptAiBatchRestClient(ReceiptAiProperties props, AiHttpClients aiHttpClients) {
+        int timeoutMs = props.getBatchTimeoutMs() != null ? props.getBatchTimeoutMs() : 240000;
+
         return RestClient.builder()
                 .baseUrl(props.getBaseUrl())
-                .requestInterceptor((request, body, execution) -> {
-                    // 타임아웃 설정이 필요하면 여기서 추가
-                    return execution.execute(request, body);
-                })
+                .requestFactory(aiHttpClients.requestFactory(AiClientProperties.RECEIPT_OCR, Duration.ofMillis(timeoutMs)))
                 .build();
     }
 }
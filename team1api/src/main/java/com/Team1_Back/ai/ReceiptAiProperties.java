@@ -26,5 +26,18 @@ public class ReceiptAiProperties {
      * 기본값: 60000 (60초)
      */
     private Integer timeoutMs = 60000;
-}
 
+    /**
+     * 배치 요청(/api/ai/receipt/extract/batch) 타임아웃 (밀리초)
+     * 여러 장을 모두 처리한 뒤 한 번에 응답하므로 한 장 기준보다 길게 둠
+     * OCR 작업 점유 시간(com.mallapi.receipt.ocr.lease-ms)보다는 짧아야 함
+     * 기본값: 240000 (240초)
+     */
+    private Integer batchTimeoutMs = 240000;
+
+    /**
+     * Python AI 서비스가 사용하는 모델 식별자 (OCR 결과 캐시 키에 포함)
+     * 모델을 바꾸면 같이 바꿔야 이전 모델의 캐시 결과를 재사용하지 않음
+     */
+    private String model = "default";
+}
@@ -1,12 +1,19 @@
 package com.Team1_Back.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OllamaGenerateRequestDTO {
     private String model;
     private String prompt;
     private boolean stream = false;
-}
\ No newline at end of file
+
+    // 호출 후 모델을 메모리에 유지할 시간 (null이면 Ollama 기본값 5분)
+    @JsonProperty("keep_alive")
+    private String keepAlive;
+}
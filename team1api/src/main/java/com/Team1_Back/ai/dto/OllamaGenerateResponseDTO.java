@@ -1,5 +1,7 @@
 package com.Team1_Back.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.annotations.SerializedName;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,4 +11,13 @@ public class OllamaGenerateResponseDTO {
     private String response;
     private Boolean done;
     private String error;
-}
\ No newline at end of file
+
+    // 마지막(done=true) 응답에만 옴: 모델 로드 시간(ns, 콜드 로드면 큼), 생성한 토큰 수
+    @JsonProperty("load_duration")
+    @SerializedName("load_duration")
+    private Long loadDuration;
+
+    @JsonProperty("eval_count")
+    @SerializedName("eval_count")
+    private Integer evalCount;
+}
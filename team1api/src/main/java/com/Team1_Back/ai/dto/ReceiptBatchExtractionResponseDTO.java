@@ -0,0 +1,29 @@
+package com.Team1_Back.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Python AI 서비스 배치 OCR(/api/ai/receipt/extract/batch) 응답 DTO
+ *
+ * <p>results는 요청한 파일 순서(index)대로 오며, 실패한 항목은 error만 채워집니다.
+ *
+ * @author Team1
+ */
+@Data
+public class ReceiptBatchExtractionResponseDTO {
+
+    @JsonProperty("results")
+    private List<ReceiptExtractionResponseDTO> results;
+
+    @JsonProperty("elapsedMs")
+    private Long elapsedMs;
+
+    @JsonProperty("imagesPerSecond")
+    private Double imagesPerSecond;
+
+    @JsonProperty("error")
+    private String error; // 요청 전체 실패 시 메시지
+}
@@ -40,5 +40,8 @@ public class ReceiptExtractionResponseDTO {
 
     @JsonProperty("error")
     private String error; // 에러 발생 시 메시지
+
+    @JsonProperty("index")
+    private Integer index; // 배치 요청에서의 순서 (단건 요청은 null)
 }
 
@@ -3,10 +3,27 @@ package com.Team1_Back.ai.service;
 import com.Team1_Back.dto.TodoDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface AiService {
     String generate(String prompt);
 
     // 회의록 파일을 분석하여 Todo 목록을 추출
     List<TodoDTO> analyzeMeetingNote(String fileContent);
+
+    // 스트리밍 생성: 토큰이 도착하는 대로 onToken 호출, 끝나면 전체 텍스트와 첫 토큰까지 시간 반환
+    StreamResult generateStream(String prompt, Consumer<String> onToken);
+
+    // 회의록 스트리밍 분석: 토큰은 onToken으로, Todo(저장 전)는 JSON 객체가 완성되는 대로 onDraft로 전달
+    List<TodoDTO> analyzeMeetingNoteStream(String fileContent, Consumer<String> onToken, Consumer<TodoDTO> onDraft);
+
+    /**
+     * 스트리밍 생성 결과
+     *
+     * @param text               전체 응답
+     * @param timeToFirstTokenMs 요청부터 첫 토큰까지 (토큰이 없으면 -1)
+     * @param totalMs            전체 시간
+     */
+    record StreamResult(String text, long timeToFirstTokenMs, long totalMs) {
+    }
 }
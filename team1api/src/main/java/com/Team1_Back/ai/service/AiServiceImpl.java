@@ -1,22 +1,33 @@
 package com.Team1_Back.ai.service;
 
+import com.Team1_Back.ai.AiStreamMetrics;
+import com.Team1_Back.ai.BulkheadFullException;
 import com.Team1_Back.ai.OllamaProperties;
 import com.Team1_Back.ai.dto.OllamaGenerateRequestDTO;
 import com.Team1_Back.ai.dto.OllamaGenerateResponseDTO;
 import com.Team1_Back.dto.TodoDTO;
+import com.Team1_Back.util.JsonObjectStreamParser;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +36,32 @@ public class AiServiceImpl implements AiService {
 
     private final RestClient ollamaRestClient;
     private final OllamaProperties props;
+    private final AiStreamMetrics streamMetrics;
     private final Gson gson = new Gson();
 
+    /**
+     * 기동 후 빈 프롬프트로 모델을 미리 올립니다. (keep_alive 동안 유지되어 첫 호출의 콜드 로드를 피함)
+     * 모델 로드가 수십 초 걸릴 수 있어 applicationTaskExecutor에서 실행합니다. (@Async)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadModel() {
+        if (!props.isPreload() || props.getModel() == null) {
+            return;
+        }
+        try {
+            OllamaGenerateRequestDTO req = request("", false);
+            ollamaRestClient.post()
+                    .uri("/api/generate")
+                    .body(req)
+                    .retrieve()
+                    .toBodilessEntity();
+            log.info("[AI] model preloaded: model={}, keepAlive={}", props.getModel(), props.getKeepAlive());
+        } catch (Exception e) {
+            log.warn("[AI] model preload failed: {}", e.getMessage());
+        }
+    }
+
     @Override
     public String generate(String prompt) {
 
@@ -34,10 +69,7 @@ public class AiServiceImpl implements AiService {
             throw new IllegalArgumentException("prompt is blank");
         }
 
-        OllamaGenerateRequestDTO req = new OllamaGenerateRequestDTO();
-        req.setModel(props.getModel());
-        req.setPrompt(prompt);
-        req.setStream(false); // ★ 중요
+        OllamaGenerateRequestDTO req = request(prompt, false); // ★ 중요: 한 번에 받음
 
         try {
             OllamaGenerateResponseDTO res = ollamaRestClient.post()
@@ -58,6 +90,8 @@ public class AiServiceImpl implements AiService {
 
             return res.getResponse();
 
+        } catch (BulkheadFullException e) {
+            throw e; // 503으로 응답
         } catch (Exception e) {
             log.error("[AI] Ollama call failed", e);
             throw new RuntimeException("AI generate failed", e);
@@ -86,12 +120,150 @@ public class AiServiceImpl implements AiService {
 
             return todos;
 
+        } catch (BulkheadFullException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[AI] 회의록 분석 실패", e);
             throw new RuntimeException("회의록 분석에 실패했습니다: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public StreamResult generateStream(String prompt, Consumer<String> onToken) {
+
+        if (prompt == null || prompt.isBlank()) {
+            throw new IllegalArgumentException("prompt is blank");
+        }
+
+        OllamaGenerateRequestDTO req = request(prompt, true);
+        long started = System.nanoTime();
+        boolean[] completed = {false};
+        streamMetrics.started();
+
+        try {
+            // NDJSON(한 줄에 JSON 하나)을 도착하는 대로 읽음 (응답 본문을 닫으면 벌크헤드 자리도 반납됨)
+            return ollamaRestClient.post()
+                    .uri("/api/generate")
+                    .body(req)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new RuntimeException("ollama error: HTTP " + response.getStatusCode().value());
+                        }
+
+                        StringBuilder text = new StringBuilder();
+                        long firstToken = -1;
+                        Long loadNanos = null;
+                        Integer evalCount = null;
+
+                        try (BufferedReader reader = new BufferedReader(
+                                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                            String line;
+                            while ((line = reader.readLine()) != null) {
+                                if (line.isBlank()) {
+                                    continue;
+                                }
+                                OllamaGenerateResponseDTO chunk = gson.fromJson(line, OllamaGenerateResponseDTO.class);
+                                if (chunk.getError() != null && !chunk.getError().isBlank()) {
+                                    throw new RuntimeException("ollama error: " + chunk.getError());
+                                }
+                                String token = chunk.getResponse();
+                                if (token != null && !token.isEmpty()) {
+                                    if (firstToken < 0) {
+                                        firstToken = System.nanoTime() - started;
+                                        streamMetrics.firstToken(firstToken);
+                                    }
+                                    text.append(token);
+                                    onToken.accept(token);
+                                }
+                                if (Boolean.TRUE.equals(chunk.getDone())) {
+                                    loadNanos = chunk.getLoadDuration();
+                                    evalCount = chunk.getEvalCount();
+                                    break;
+                                }
+                            }
+                        }
+
+                        long total = System.nanoTime() - started;
+                        streamMetrics.completed(total, loadNanos, evalCount);
+                        completed[0] = true;
+                        log.info("[AI] stream done: ttft={}ms, total={}ms, load={}ms, tokens={}",
+                                firstToken >= 0 ? firstToken / 1_000_000 : -1, total / 1_000_000,
+                                loadNanos != null ? loadNanos / 1_000_000 : null, evalCount);
+                        return new StreamResult(text.toString(),
+                                firstToken >= 0 ? firstToken / 1_000_000 : -1, total / 1_000_000);
+                    });
+
+        } catch (BulkheadFullException e) {
+            streamMetrics.failed(false);
+            throw e; // 503으로 응답
+        } catch (UncheckedIOException e) {
+            // onToken에서 클라이언트 연결이 끊긴 경우: 응답 본문을 닫아 Ollama 생성도 중단됨
+            if (!completed[0]) {
+                streamMetrics.failed(true);
+            }
+            throw e;
+        } catch (Exception e) {
+            if (!completed[0]) {
+                streamMetrics.failed(false);
+            }
+            log.error("[AI] Ollama stream failed", e);
+            throw new RuntimeException("AI generate failed", e);
+        }
+    }
+
+    @Override
+    public List<TodoDTO> analyzeMeetingNoteStream(String fileContent, Consumer<String> onToken, Consumer<TodoDTO> onDraft) {
+        if (fileContent == null || fileContent.isBlank()) {
+            throw new IllegalArgumentException("회의록 내용이 비어있습니다.");
+        }
+
+        String prompt = createMeetingNoteAnalysisPrompt(fileContent);
+        log.info("[AI] 회의록 스트리밍 분석 시작");
+
+        // todos 배열의 원소 객체가 닫히는 대로 Todo로 변환해 전달
+        List<TodoDTO> todos = new ArrayList<>();
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        JsonObjectStreamParser parser = new JsonObjectStreamParser(json -> {
+            try {
+                TodoDTO todo = toTodo(gson.fromJson(json, JsonObject.class), dateFormatter);
+                if (todo != null) {
+                    todos.add(todo);
+                    onDraft.accept(todo);
+                }
+            } catch (UncheckedIOException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("[AI] Todo 객체 파싱 실패, 건너뜀: {}", e.getMessage());
+            }
+        });
+
+        StreamResult result = generateStream(prompt, token -> {
+            onToken.accept(token);
+            parser.feed(token);
+        });
+
+        // 배열 형태가 아니어서 하나도 못 꺼낸 경우 전체 응답으로 한 번 더 파싱
+        if (parser.emitted() == 0) {
+            List<TodoDTO> parsed = parseTodoListFromJson(result.text());
+            parsed.forEach(onDraft);
+            todos.addAll(parsed);
+        }
+
+        log.info("[AI] 회의록 스트리밍 분석 완료: {}개, 첫 토큰 {}ms, 전체 {}ms",
+                todos.size(), result.timeToFirstTokenMs(), result.totalMs());
+        return todos;
+    }
+
+    // Ollama 생성 요청 (모델 유지 시간 포함)
+    private OllamaGenerateRequestDTO request(String prompt, boolean stream) {
+        OllamaGenerateRequestDTO req = new OllamaGenerateRequestDTO();
+        req.setModel(props.getModel());
+        req.setPrompt(prompt);
+        req.setStream(stream);
+        req.setKeepAlive(props.getKeepAlive());
+        return req;
+    }
+
     // 회의록 분석을 위한 프롬프트를 생성
     private String createMeetingNoteAnalysisPrompt(String fileContent) {
         LocalDate today = LocalDate.now();
@@ -190,18 +362,8 @@ public class AiServiceImpl implements AiService {
             DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
             for (JsonElement element : todosArray) {
-                JsonObject todoObj = element.getAsJsonObject();
-
-                TodoDTO todo = TodoDTO.builder()
-                        .title(getStringValue(todoObj, "title", ""))
-                        .content(getStringValue(todoObj, "content", ""))
-                        .dueDate(parseDate(getStringValue(todoObj, "dueDate", null), dateFormatter))
-                        .priority(getStringValue(todoObj, "priority", "MEDIUM").toUpperCase())
-                        .status(getStringValue(todoObj, "status", "TODO").toUpperCase())
-                        .build();
-
-                // 유효성 검증
-                if (todo.getTitle() != null && !todo.getTitle().isBlank()) {
+                TodoDTO todo = toTodo(element.getAsJsonObject(), dateFormatter);
+                if (todo != null) {
                     todos.add(todo);
                 }
             }
@@ -214,6 +376,20 @@ public class AiServiceImpl implements AiService {
         return todos;
     }
 
+    // Todo JSON 객체 하나를 TodoDTO로 변환 (제목이 없으면 null)
+    private TodoDTO toTodo(JsonObject todoObj, DateTimeFormatter dateFormatter) {
+        TodoDTO todo = TodoDTO.builder()
+                .title(getStringValue(todoObj, "title", ""))
+                .content(getStringValue(todoObj, "content", ""))
+                .dueDate(parseDate(getStringValue(todoObj, "dueDate", null), dateFormatter))
+                .priority(getStringValue(todoObj, "priority", "MEDIUM").toUpperCase())
+                .status(getStringValue(todoObj, "status", "TODO").toUpperCase())
+                .build();
+
+        // 유효성 검증
+        return todo.getTitle() != null && !todo.getTitle().isBlank() ? todo : null;
+    }
+
     // 응답에서 JSON 부분만 추출합니다 (마크다운 코드 블록 제거)
     private String extractJsonFromResponse(String response) {
         String trimmed = response.trim();
@@ -0,0 +1,141 @@
+package com.Team1_Back.ai.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LLM 스트리밍 응답을 SSE로 중계
+ *
+ * <p>요청 스레드는 SseEmitter를 돌려주고 바로 반환되며, 생성은 전용 스레드에서 진행됩니다.
+ * 이벤트: token(토큰 조각), todo(완성된 Todo), done(최종 결과), error(실패 메시지)
+ *
+ * <p>클라이언트 연결이 끊기면 Sink.send가 UncheckedIOException을 던지고,
+ * 이것이 Ollama 응답 본문을 닫아 생성도 중단됩니다. (벌크헤드 자리 반납)
+ *
+ * @author Team1
+ */
+@Service
+@Slf4j
+public class AiSseService {
+
+    // 동시에 중계할 스트림 수 (Ollama 벌크헤드보다 크게 잡을 필요 없음)
+    @Value("${com.mallapi.ai.stream.workers:4}")
+    private int workers;
+
+    @Value("${com.mallapi.ai.stream.queue:16}")
+    private int queueCapacity;
+
+    @Value("${com.mallapi.ai.stream.timeout-ms:180000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                Math.max(1, workers), Math.max(1, workers),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "ai-sse-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 이벤트 전송 (클라이언트가 떠났으면 UncheckedIOException)
+     */
+    public interface Sink {
+        void send(String event, Object data);
+    }
+
+    /**
+     * 스트리밍 작업 (반환값은 done 이벤트로 전송)
+     */
+    @FunctionalInterface
+    public interface Task {
+        Object run(Sink sink) throws Exception;
+    }
+
+    /**
+     * 작업을 전용 스레드에서 실행하고 이벤트를 흘려보낼 SseEmitter를 반환합니다.
+     *
+     * @throws ResponseStatusException 대기열이 가득 찬 경우 (503)
+     */
+    public SseEmitter run(Task task) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+
+        Sink sink = (event, data) -> {
+            if (closed.get()) {
+                throw new UncheckedIOException(new IOException("client disconnected"));
+            }
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data));
+            } catch (IOException e) {
+                closed.set(true);
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        try {
+            executor.execute(() -> relay(task, sink, emitter));
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "AI 서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return emitter;
+    }
+
+    private void relay(Task task, Sink sink, SseEmitter emitter) {
+        try {
+            Object result = task.run(sink);
+            sink.send("done", result != null ? result : Map.of());
+            emitter.complete();
+
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 먼저 끊음
+            log.debug("[AI] stream client gone: {}", e.getMessage());
+            emitter.complete();
+
+        } catch (Exception e) {
+            String message = e instanceof ResponseStatusException rse && rse.getReason() != null
+                    ? rse.getReason()
+                    : e.getMessage();
+            log.warn("[AI] stream failed: {}", message);
+            try {
+                sink.send("error", Map.of("message", message != null ? message : "AI 응답 생성에 실패했습니다."));
+                emitter.complete();
+            } catch (UncheckedIOException gone) {
+                emitter.complete();
+            }
+        }
+    }
+}
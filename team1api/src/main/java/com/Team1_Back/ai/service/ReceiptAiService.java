@@ -3,6 +3,9 @@ package com.Team1_Back.ai.service;
 import com.Team1_Back.dto.ReceiptExtractionDTO;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * ✅ 새로 생성: 영수증 OCR 통합 - 영수증 AI 추출 서비스 인터페이스
  * Python AI 서비스를 호출하여 영수증 이미지에서 정보를 추출합니다.
@@ -19,5 +22,31 @@ public interface ReceiptAiService {
      * @throws RuntimeException AI 서비스 호출 실패 시
      */
     ReceiptExtractionDTO extractReceipt(MultipartFile imageFile);
-}
 
+    /**
+     * 저장된 영수증 파일을 분석합니다. (비동기 OCR 워커용, 파일을 메모리에 올리지 않고 스트리밍 전송)
+     *
+     * @param file     저장된 이미지 경로
+     * @param filename 전송할 파일명
+     * @return 추출된 영수증 정보
+     * @throws RuntimeException AI 서비스 호출 실패 시
+     */
+    ReceiptExtractionDTO extractReceipt(Path file, String filename);
+
+    /**
+     * 저장된 영수증 파일 여러 장을 한 번의 multipart 요청으로 분석합니다. (월말 일괄 업로드용)
+     *
+     * <p>한 장이 실패해도 나머지 결과는 돌려주며, 실패한 항목은 {@link BatchItem#error()}가 채워집니다.
+     *
+     * @param files 저장된 이미지 경로 (결과는 같은 순서)
+     * @return 파일별 추출 결과
+     * @throws RuntimeException 요청 전체가 실패한 경우
+     */
+    List<BatchItem> extractReceipts(List<Path> files);
+
+    /**
+     * 배치 추출 결과 한 건 (extraction 또는 error 중 하나)
+     */
+    record BatchItem(ReceiptExtractionDTO extraction, String error) {
+    }
+}
@@ -1,11 +1,15 @@
 package com.Team1_Back.ai.service;
 
+import com.Team1_Back.ai.BulkheadFullException;
 import com.Team1_Back.ai.ReceiptAiProperties;
+import com.Team1_Back.ai.dto.ReceiptBatchExtractionResponseDTO;
 import com.Team1_Back.ai.dto.ReceiptExtractionResponseDTO;
 import com.Team1_Back.dto.ReceiptExtractionDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -13,9 +17,12 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * ✅ 새로 생성: 영수증 OCR 통합 - 영수증 AI 추출 서비스 구현체
@@ -27,6 +34,7 @@ import java.time.format.DateTimeParseException;
 public class ReceiptAiServiceImpl implements ReceiptAiService {
 
     private final RestClient receiptAiRestClient;
+    private final RestClient receiptAiBatchRestClient;
     private final ReceiptAiProperties props;
 
     @Override
@@ -35,20 +43,117 @@ public class ReceiptAiServiceImpl implements ReceiptAiService {
             log.info("[ReceiptAI] extractReceipt 메서드 호출됨: filename={}, size={} bytes", 
                      imageFile.getOriginalFilename(), imageFile.getSize());
             
-            // MultipartFile을 MultiValueMap으로 변환
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            ByteArrayResource resource = new ByteArrayResource(imageFile.getBytes()) {
+            // 업로드 스트림을 그대로 전송 (getBytes()로 파일 전체를 힙에 복사하지 않음)
+            InputStreamResource resource = new InputStreamResource(imageFile.getInputStream()) {
                 @Override
                 public String getFilename() {
                     return imageFile.getOriginalFilename() != null 
                         ? imageFile.getOriginalFilename() 
                         : "receipt.jpg";
                 }
+
+                @Override
+                public long contentLength() {
+                    return imageFile.getSize();
+                }
             };
+            return extract(resource, imageFile.getSize());
+
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[ReceiptAI] 영수증 파일 읽기 실패: error={}", e.getMessage(), e);
+            throw new RuntimeException("영수증 AI 추출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public ReceiptExtractionDTO extractReceipt(Path file, String filename) {
+        FileSystemResource resource = new FileSystemResource(file) {
+            @Override
+            public String getFilename() {
+                return filename != null ? filename : "receipt.jpg";
+            }
+        };
+        try {
+            log.info("[ReceiptAI] extractReceipt(저장 파일) 호출됨: file={}", file);
+            return extract(resource, resource.contentLength());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[ReceiptAI] 영수증 파일 읽기 실패: file={}, error={}", file, e.getMessage(), e);
+            throw new RuntimeException("영수증 AI 추출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<BatchItem> extractReceipts(List<Path> files) {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        try {
+            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+            long size = 0;
+            for (Path file : files) {
+                // 파일마다 스트리밍 전송 (요청 전체를 메모리에 올리지 않음)
+                FileSystemResource resource = new FileSystemResource(file);
+                size += resource.contentLength();
+                body.add("files", resource);
+            }
+            log.info("[ReceiptAI] 배치 OCR 호출 시작: files={}, bodySize={} bytes", files.size(), size);
+
+            // 여러 장을 모두 처리한 뒤 응답하므로 배치용 타임아웃 클라이언트 사용
+            ReceiptBatchExtractionResponseDTO response = receiptAiBatchRestClient.post()
+                    .uri("/api/ai/receipt/extract/batch")
+                    .contentType(MediaType.MULTIPART_FORM_DATA)
+                    .body(body)
+                    .retrieve()
+                    .body(ReceiptBatchExtractionResponseDTO.class);
+
+            if (response == null || response.getResults() == null) {
+                throw new RuntimeException("AI 서비스 응답이 null입니다.");
+            }
+            if (response.getError() != null && !response.getError().isBlank()) {
+                throw new RuntimeException("AI 서비스 에러: " + response.getError());
+            }
+            log.info("[ReceiptAI] 배치 OCR 응답 받음: files={}, elapsedMs={}, imagesPerSecond={}",
+                     files.size(), response.getElapsedMs(), response.getImagesPerSecond());
+
+            // index 기준으로 요청 순서에 맞춤 (응답에 없는 항목은 실패 처리)
+            List<BatchItem> items = new ArrayList<>(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                items.add(new BatchItem(null, "AI 서비스 응답에 결과가 없습니다."));
+            }
+            List<ReceiptExtractionResponseDTO> results = response.getResults();
+            for (int i = 0; i < results.size(); i++) {
+                ReceiptExtractionResponseDTO result = results.get(i);
+                int index = result.getIndex() != null ? result.getIndex() : i;
+                if (index < 0 || index >= files.size()) {
+                    continue;
+                }
+                items.set(index, result.getError() != null && !result.getError().isBlank()
+                        ? new BatchItem(null, "AI 서비스 에러: " + result.getError())
+                        : new BatchItem(convertToDTO(result), null));
+            }
+            return items;
+
+        } catch (BulkheadFullException e) {
+            throw e; // OCR 워커가 백오프 후 재시도
+        } catch (Exception e) {
+            log.error("[ReceiptAI] 배치 OCR 호출 실패: files={}, error={}, message={}",
+                     files.size(), e.getClass().getSimpleName(), e.getMessage(), e);
+            throw new RuntimeException("영수증 AI 배치 추출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // multipart 요청으로 Python AI 서비스 호출
+    private ReceiptExtractionDTO extract(AbstractResource resource, long size) {
+        try {
+            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
             body.add("file", resource);
             
             log.info("[ReceiptAI] 요청 바디 준비 완료: filename={}, bodySize={} bytes", 
-                     resource.getFilename(), imageFile.getSize());
+                     resource.getFilename(), size);
 
             // Python AI 서비스 호출
             String fullUrl = props.getBaseUrl() + "/api/ai/receipt/extract";
@@ -87,6 +192,8 @@ public class ReceiptAiServiceImpl implements ReceiptAiService {
             
             return result;
 
+        } catch (BulkheadFullException e) {
+            throw e; // OCR 워커가 백오프 후 재시도
         } catch (Exception e) {
             log.error("[ReceiptAI] Python AI 서비스 호출 실패: error={}, message={}", 
                      e.getClass().getSimpleName(), e.getMessage(), e);
@@ -0,0 +1,36 @@
+package com.Team1_Back.client;
+
+/**
+ * 진행 중인 LLM 호출 취소 핸들
+ *
+ * <p>공급자 클라이언트가 실제 HTTP 호출의 취소 동작(OkHttp Call.cancel)을 등록하면,
+ * 라우터가 헤지에서 진 호출이나 시간 초과된 호출을 cancel()로 바로 끊습니다.
+ * (스레드 인터럽트로는 블로킹 소켓 읽기가 풀리지 않아 벌크헤드 자리와 작업 스레드가 읽기 타임아웃까지 묶임)
+ */
+public final class LlmCancelHandle {
+
+    private volatile Runnable action;
+    private volatile boolean cancelled;
+
+    /**
+     * 취소 동작 등록 (이미 취소됐으면 바로 실행)
+     */
+    public void onCancel(Runnable action) {
+        this.action = action;
+        if (cancelled) {
+            action.run();
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+        Runnable a = action;
+        if (a != null) {
+            a.run();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
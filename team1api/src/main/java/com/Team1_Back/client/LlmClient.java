@@ -5,7 +5,21 @@ import com.Team1_Back.dto.LlmResult;
 
 
 public interface LlmClient {
+
+    // 라우터 설정(order)과 통계에서 쓰는 이름 (openai, gemini, ollama)
+    String name();
+
     LlmResult ask(String prompt);
+
+    // 취소 가능한 호출 (handle.cancel()로 진행 중인 HTTP 호출을 끊을 수 있는 공급자는 재정의)
+    default LlmResult ask(String prompt, LlmCancelHandle handle) {
+        return ask(prompt);
+    }
+
+    // API 키 등 호출에 필요한 설정이 있는지 (없으면 라우팅 대상에서 제외)
+    default boolean isEnabled() {
+        return true;
+    }
 }
 
 
@@ -0,0 +1,39 @@
+package com.Team1_Back.client;
+
+import com.Team1_Back.dto.LlmResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LLM 응답 텍스트에서 {"summary", "messageIds"} JSON을 꺼내는 공통 파서 (공급자마다 같은 형식)
+ */
+final class LlmResultParser {
+
+    private LlmResultParser() {
+    }
+
+    static LlmResult parse(ObjectMapper mapper, String text) throws Exception {
+        // ```json 제거
+        String cleaned = text
+                .replaceAll("(?s)```json\\s*", "")
+                .replaceAll("(?s)```\\s*", "")
+                .trim();
+
+        // 혹시 JSON 앞뒤로 텍스트 섞이면, 첫 { ~ 마지막 }만 잘라서 파싱
+        int s = cleaned.indexOf('{');
+        int e = cleaned.lastIndexOf('}');
+        if (s >= 0 && e > s) cleaned = cleaned.substring(s, e + 1);
+
+        JsonNode node = mapper.readTree(cleaned);
+
+        String summary = node.path("summary").asText("");
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode idNode : node.path("messageIds")) {
+            ids.add(idNode.asLong());
+        }
+        return new LlmResult(summary, ids);
+    }
+}
@@ -0,0 +1,43 @@
+package com.Team1_Back.client;
+
+import com.Team1_Back.ai.AiClientProperties;
+import com.Team1_Back.ai.BulkheadFullException;
+import com.Team1_Back.ai.OllamaProperties;
+import com.Team1_Back.ai.service.AiService;
+import com.Team1_Back.dto.LlmResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 로컬 Ollama 모델 (외부 API 장애 시 대체 경로)
+@Component
+@RequiredArgsConstructor
+public class OllamaLlmClient implements LlmClient {
+
+    private final AiService aiService;
+    private final OllamaProperties props;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public String name() {
+        return AiClientProperties.OLLAMA;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return props.getModel() != null && !props.getModel().isBlank();
+    }
+
+    @Override
+    public LlmResult ask(String prompt) {
+        try {
+            String text = aiService.generate(prompt);
+            return LlmResultParser.parse(mapper, text);
+
+        } catch (BulkheadFullException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Ollama 호출 실패", e);
+        }
+    }
+}
@@ -1,19 +1,20 @@
 package com.Team1_Back.client;
 
+import com.Team1_Back.ai.AiClientProperties;
+import com.Team1_Back.ai.AiHttpClients;
+import com.Team1_Back.ai.BulkheadFullException;
 import com.Team1_Back.dto.LlmResult;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
 
 @Component
-public class OpenAiLlmClient {
+public class OpenAiLlmClient implements LlmClient {
 
-    @Value("${openai.api.key}")
+    @Value("${openai.api.key:}")
     private String apiKey;
 
     @Value("${openai.model:gpt-4.1-nano}")
@@ -21,10 +22,32 @@ public class OpenAiLlmClient {
 
     private static final String API_URL = "https://api.openai.com/v1/chat/completions";
 
-    private final OkHttpClient client = new OkHttpClient();
+    private final OkHttpClient client;
     private final ObjectMapper mapper = new ObjectMapper();
 
+    // 공용 커넥션 풀 + openai 벌크헤드 (혼잡하면 BulkheadFullException → 503)
+    public OpenAiLlmClient(AiHttpClients aiHttpClients,
+                           @Value("${openai.timeout-ms:60000}") long timeoutMs) {
+        this.client = aiHttpClients.client(AiClientProperties.OPENAI, Duration.ofMillis(timeoutMs));
+    }
+
+    @Override
+    public String name() {
+        return AiClientProperties.OPENAI;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return apiKey != null && !apiKey.isBlank();
+    }
+
+    @Override
     public LlmResult ask(String prompt) {
+        return ask(prompt, new LlmCancelHandle());
+    }
+
+    @Override
+    public LlmResult ask(String prompt, LlmCancelHandle handle) {
         try {
             String bodyJson = """
             {
@@ -53,7 +76,11 @@ public class OpenAiLlmClient {
                     .post(RequestBody.create(bodyJson, MediaType.parse("application/json")))
                     .build();
 
-            try (Response response = client.newCall(request).execute()) {
+            // 취소되면 소켓을 바로 닫음 (응답을 닫으며 벌크헤드 자리도 반납)
+            Call call = client.newCall(request);
+            handle.onCancel(call::cancel);
+
+            try (Response response = call.execute()) {
                 String raw = response.body() != null ? response.body().string() : "";
 
                 if (!response.isSuccessful()) {
@@ -66,33 +93,13 @@ public class OpenAiLlmClient {
                         .path("content")
                         .asText();
 
-                return parseJson(text);
+                return LlmResultParser.parse(mapper, text);
             }
 
+        } catch (BulkheadFullException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("OpenAI 호출 실패", e);
         }
     }
-
-    private LlmResult parseJson(String text) throws Exception {
-        // ```json 제거
-        String cleaned = text
-                .replaceAll("(?s)```json\\s*", "")
-                .replaceAll("(?s)```\\s*", "")
-                .trim();
-
-        int s = cleaned.indexOf('{');
-        int e = cleaned.lastIndexOf('}');
-        if (s >= 0 && e > s) cleaned = cleaned.substring(s, e + 1);
-
-        JsonNode node = mapper.readTree(cleaned);
-
-        String summary = node.path("summary").asText("");
-        List<Long> ids = new ArrayList<>();
-        for (JsonNode idNode : node.path("messageIds")) {
-            ids.add(idNode.asLong());
-        }
-
-        return new LlmResult(summary, ids);
-    }
 }
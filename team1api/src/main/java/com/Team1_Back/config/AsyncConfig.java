@@ -0,0 +1,15 @@
+package com.Team1_Back.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 처리 설정
+ *
+ * <p>@Async 메서드는 Spring Boot 기본 applicationTaskExecutor에서 실행됩니다.
+ * (spring.task.execution.pool.* 프로퍼티로 크기 조정)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,151 @@
+package com.Team1_Back.config;
+
+import com.Team1_Back.datasource.AnalyticalQuery;
+import com.Team1_Back.datasource.AnalyticalWorkloadInterceptor;
+import com.Team1_Back.datasource.PoolMetricsRegistry;
+import com.Team1_Back.datasource.QueryTimeoutDataSource;
+import com.Team1_Back.datasource.ReadYourWritesTracker;
+import com.Team1_Back.datasource.ReplicaProperties;
+import com.Team1_Back.datasource.ReplicaRoutingDataSource;
+import com.Team1_Back.datasource.WorkloadRoutingDataSource;
+import com.Team1_Back.datasource.WriteTrackingDataSource;
+import com.Team1_Back.util.SecurityUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 대화형/분석용 커넥션 풀 분리 + 읽기 전용 트랜잭션 복제본 라우팅
+ *
+ * <p>같은 DB(spring.datasource.*)에 풀을 두 개 만들고, {@link AnalyticalQuery}가 붙은 진입점은
+ * 작고 타임아웃이 있는 분석용 풀을 쓰게 합니다. 월말 리포트/내보내기가 몰려도 채팅·지출 요청이
+ * 커넥션을 기다리지 않도록 하기 위함입니다.
+ *
+ * <ul>
+ *   <li>대화형: spring.datasource.hikari.* (기존 설정 그대로)</li>
+ *   <li>분석용: com.mallapi.datasource.analytical.hikari.* (기본 최대 4개)
+ *       + 쿼리 타임아웃 com.mallapi.datasource.analytical.query-timeout-seconds (기본 120초)</li>
+ * </ul>
+ *
+ * <p>애플리케이션이 쓰는 DataSource는 {@link LazyConnectionDataSourceProxy}로, 첫 SQL 실행 시점에 커넥션을 얻습니다.
+ * 그때 트랜잭션이 readOnly면 {@link ReplicaRoutingDataSource}(복제본, com.mallapi.datasource.replica.*),
+ * 아니면 주 DB로 갑니다. 주 DB 쓰기 트랜잭션이 커밋되면 그 사용자의 읽기는 잠시 주 DB로 고정됩니다.
+ * Spring Data 리포지토리 메서드는 트랜잭션 밖에서도 readOnly라 복제본으로 가므로, 변경을 받아 다시 계산하는
+ * 캐시/적재(대시보드 스냅샷, 분석 큐브, 예산 원장, 중복 필터)는 {@link ReplicaRoutingDataSource#onPrimary}로 주 DB에서 읽습니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+
+    public static final String INTERACTIVE_POOL = "interactive";
+    public static final String ANALYTICAL_POOL = "analytical";
+
+    @Bean
+    public static PoolMetricsRegistry poolMetricsRegistry() {
+        return new PoolMetricsRegistry();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource interactiveDataSource(DataSourceProperties properties, PoolMetricsRegistry poolMetricsRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(INTERACTIVE_POOL);
+        dataSource.setMetricsTrackerFactory(poolMetricsRegistry);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("com.mallapi.datasource.analytical.hikari")
+    public HikariDataSource analyticalDataSource(DataSourceProperties properties, PoolMetricsRegistry poolMetricsRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ANALYTICAL_POOL);
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setMinimumIdle(1);
+        // 풀이 다 차면 화면 요청과 경쟁하지 않고 여기서 기다리다 실패
+        dataSource.setConnectionTimeout(60_000);
+        dataSource.setMetricsTrackerFactory(poolMetricsRegistry);
+        return dataSource;
+    }
+
+    /**
+     * 주 DB (작업 구분별 풀)
+     */
+    @Bean
+    public WorkloadRoutingDataSource primaryDataSource(
+            @Qualifier("interactiveDataSource") HikariDataSource interactiveDataSource,
+            @Qualifier("analyticalDataSource") HikariDataSource analyticalDataSource,
+            @Value("${com.mallapi.datasource.analytical.query-timeout-seconds:120}") int analyticalQueryTimeoutSeconds) {
+        return new WorkloadRoutingDataSource(
+                interactiveDataSource,
+                new QueryTimeoutDataSource(analyticalDataSource, analyticalQueryTimeoutSeconds));
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties,
+                                                       ObjectProvider<StringRedisTemplate> redisTemplate) {
+        return new ReadYourWritesTracker(SecurityUtil::currentUserId, redisTemplate.getIfAvailable(),
+                replicaProperties.getStickyMs());
+    }
+
+    /**
+     * 읽기 전용 트랜잭션용 (복제본이 없으면 주 DB)
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(
+            @Qualifier("primaryDataSource") WorkloadRoutingDataSource primaryDataSource,
+            ReplicaProperties replicaProperties,
+            ReadYourWritesTracker readYourWritesTracker,
+            PoolMetricsRegistry poolMetricsRegistry,
+            @Value("${com.mallapi.datasource.analytical.query-timeout-seconds:120}") int analyticalQueryTimeoutSeconds) {
+        return new ReplicaRoutingDataSource(
+                primaryDataSource,
+                ReplicaRoutingDataSource.createReplicas(replicaProperties, poolMetricsRegistry),
+                readYourWritesTracker,
+                replicaProperties.getMaxLagMs(),
+                analyticalQueryTimeoutSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") WorkloadRoutingDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") ReplicaRoutingDataSource replicaDataSource,
+            ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primaryDataSource, readYourWritesTracker));
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    /**
+     * {@link AnalyticalQuery} 타입/메서드에 작업 구분을 설정하는 어드바이저
+     * (트랜잭션 어드바이저보다 먼저 실행되어야 트랜잭션 커넥션이 분석용 풀에서 나옴)
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor analyticalWorkloadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(AnalyticalQuery.class, true))
+                .union(new AnnotationMatchingPointcut(null, AnalyticalQuery.class, true));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new AnalyticalWorkloadInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,16 @@
+package com.Team1_Back.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * <p>@Scheduled 작업(리포트 저장소 정리, OCR 조회, 중복 검사 적재 등)을 활성화합니다.
+ * 리포트 예약 실행(ReportScheduler)은 이 설정 전에는 돌지 않던 작업이므로
+ * com.mallapi.report.schedule.enabled=true일 때만 등록됩니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
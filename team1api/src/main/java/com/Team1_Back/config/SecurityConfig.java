@@ -63,8 +63,11 @@ public class SecurityConfig {
                 "Cache-Control",
                 "X-User-Id",
                 "X-Role",
-                "X-Dept"));
-        apiConfig.setExposedHeaders(List.of("Content-Disposition"));
+                "X-Dept",
+                "Range",
+                "If-Range",
+                "If-None-Match"));
+        apiConfig.setExposedHeaders(List.of("Content-Disposition", "ETag", "Content-Range", "Accept-Ranges"));
         apiConfig.setAllowCredentials(false); // ✅ 그대로 유지
 
         //  2) SockJS(WebSocket) 전용 정책 - 여기만 credentials 허용
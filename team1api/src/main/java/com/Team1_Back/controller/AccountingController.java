@@ -235,4 +235,46 @@ public class AccountingController {
         log.info("월별 지출 추이 조회 요청 - userId: " + userId + ", status: " + status);
         return accountingService.getMonthlyExpenseTrend(status);
     }
-}
\ No newline at end of file
+
+    /**
+     * 승인 지출 분석 큐브를 조회합니다 (관리자 전용).
+     *
+     * <p>
+     * 부서 × 카테고리 × 월 단위로 미리 집계된 메모리 큐브에서
+     * 임의의 필터/그룹핑 조합을 계산합니다.
+     * 예) ?groupBy=department,month&from=2025-01&to=2025-06&category=식비
+     *
+     * @param groupBy     남길 차원 (department, category, month)
+     * @param departments 포함할 부서 (선택, 여러 개 가능)
+     * @param categories  포함할 카테고리 (선택, 여러 개 가능)
+     * @param from        시작 월 yyyy-MM (선택)
+     * @param to          종료 월 yyyy-MM (선택)
+     * @param principal   인증된 사용자 정보
+     * @return 그룹별 건수/합계 목록
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @GetMapping("/cube")
+    public List<Map<String, Object>> getCube(
+            @RequestParam(value = "groupBy", required = false) List<String> groupBy,
+            @RequestParam(value = "department", required = false) List<String> departments,
+            @RequestParam(value = "category", required = false) List<String> categories,
+            @RequestParam(value = "from", required = false) String from,
+            @RequestParam(value = "to", required = false) String to,
+            @AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        Long userId = principal.getId();
+
+        // 관리자 권한 체크
+        if (!userService.isAdmin(userId)) {
+            log.warn("관리자 권한이 없습니다. userId: " + userId);
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        log.info("분석 큐브 조회 요청 - userId: " + userId + ", groupBy: " + groupBy);
+        return accountingService.getCube(groupBy, departments, categories, from, to);
+    }
+}
@@ -1,15 +1,27 @@
 package com.Team1_Back.controller;
 
+import com.Team1_Back.dto.BulkVerificationResultDTO;
+import com.Team1_Back.dto.DuplicateDetectionStatsDTO;
+import com.Team1_Back.dto.ImageNormalizationStatsDTO;
+import com.Team1_Back.dto.ImageVariantStatsDTO;
+import com.Team1_Back.dto.OcrCacheStatsDTO;
 import com.Team1_Back.dto.PageRequestDTO;
 import com.Team1_Back.dto.PageResponseDTO;
 import com.Team1_Back.dto.ReceiptDTO;
+import com.Team1_Back.dto.ReceiptOcrStatsDTO;
 import com.Team1_Back.dto.ReceiptVerificationDTO;
 import com.Team1_Back.dto.UserDTO;
 import com.Team1_Back.service.AdminReceiptService;
+import com.Team1_Back.service.ReceiptDuplicateService;
+import com.Team1_Back.service.ReceiptOcrCache;
+import com.Team1_Back.service.ReceiptOcrService;
 import com.Team1_Back.service.UserService;
+import com.Team1_Back.util.ReceiptImageNormalizer;
+import com.Team1_Back.util.ReceiptImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,7 +29,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 관리자용 영수증 관리 REST API 컨트롤러
@@ -35,6 +50,11 @@ import java.util.Map;
 public class AdminReceiptController {
 
     private final AdminReceiptService adminReceiptService;
+    private final ReceiptDuplicateService receiptDuplicateService;
+    private final ReceiptOcrService receiptOcrService;
+    private final ReceiptOcrCache receiptOcrCache;
+    private final ReceiptImageNormalizer receiptImageNormalizer;
+    private final ReceiptImageVariants receiptImageVariants;
     private final UserService userService;
 
     /**
@@ -105,7 +125,13 @@ public class AdminReceiptController {
     /**
      * 영수증 이미지를 조회합니다 (관리자 전용).
      * 
+     * <p>size로 목록 썸네일(thumb), 검토 화면(review), 원본(original, 기본값)을 고를 수 있습니다.
+     * 영수증 파일은 업로드 후 바뀌지 않으므로 ETag와 함께 오래 캐시하도록 내려주며,
+     * If-None-Match(ETag 목록 또는 *)가 맞으면 파일을 열지 않고 304를 반환합니다.
+     * 
      * @param id 조회할 영수증 ID
+     * @param size 이미지 크기 (thumb, review, original)
+     * @param ifNoneMatch 브라우저가 가진 ETag
      * @param principal 인증된 사용자 정보
      * @return 영수증 이미지 리소스
      * @throws RuntimeException 관리자 권한이 없는 경우
@@ -113,6 +139,8 @@ public class AdminReceiptController {
     @GetMapping("/{id}/image")
     public ResponseEntity<Resource> getImage(
             @PathVariable(name="id") Long id,
+            @RequestParam(value = "size", required = false) String size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal UserDTO principal) {
         
         if (principal == null) {
@@ -127,11 +155,25 @@ public class AdminReceiptController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
         
-        Resource resource = adminReceiptService.getImage(id);
+        ReceiptImageVariants.Image image = adminReceiptService.getImage(id, size, ifNoneMatch);
+        // 인증된 응답이므로 private (공유 캐시에는 저장 안 함)
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+        if (image.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(image.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        // 사본을 만들지 못해 원본(PNG, HEIC 등)을 내려주는 경우도 있으므로 확장자는 MIME 타입 기준
+        MediaType mediaType = MediaType.parseMediaType(image.mimeType());
         return ResponseEntity.ok()
-                .contentType(MediaType.IMAGE_JPEG)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+                .contentType(mediaType)
+                .eTag(image.etag())
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "inline; filename=\"receipt-" + id + "." + extensionOf(mediaType) + "\"")
+                .body(image.resource());
     }
 
     /**
@@ -230,5 +272,210 @@ public class AdminReceiptController {
         adminReceiptService.verify(null, verificationDTO, adminId);
         return Map.of("RESULT", "SUCCESS");
     }
-}
 
+    /**
+     * 지출 내역 여러 건을 한 번에 검증합니다 (관리자 전용).
+     *
+     * <p>건별 검증 정보(expenseId, action, 검증 값, 사유) 목록을 받아 한 트랜잭션에서 처리하고,
+     * 건별 성공/실패 결과를 요청 순서대로 반환합니다.
+     *
+     * @param decisions 건별 검증 정보 목록
+     * @param principal 인증된 사용자 정보
+     * @return 일괄 검증 결과
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @PutMapping("/verify/bulk")
+    public BulkVerificationResultDTO verifyBulk(
+            @RequestBody List<ReceiptVerificationDTO> decisions,
+            @AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        Long adminId = principal.getId();
+
+        // 관리자 권한 체크
+        if (!userService.isAdmin(adminId)) {
+            log.warn("관리자 권한이 없습니다. userId: " + adminId);
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        return adminReceiptService.verifyBulk(decisions, adminId);
+    }
+
+    /**
+     * 영수증 중복 검사 지표를 조회합니다 (관리자 전용).
+     *
+     * <p>블룸 필터 크기/이론 오탐률과 실제 검사 건수, 관측 오탐률, 내용 중복 의심 건수를 반환합니다.
+     *
+     * @param principal 인증된 사용자 정보
+     * @return 중복 검사 지표
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @GetMapping("/duplicate-stats")
+    public DuplicateDetectionStatsDTO getDuplicateStats(@AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        Long adminId = principal.getId();
+
+        // 관리자 권한 체크
+        if (!userService.isAdmin(adminId)) {
+            log.warn("관리자 권한이 없습니다. userId: " + adminId);
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        return receiptDuplicateService.getStats();
+    }
+
+    /**
+     * OCR이 최종 실패(FAILED)한 영수증을 다시 처리 대기열에 넣습니다 (관리자 전용).
+     *
+     * <p>영수증 ID를 주면 그중 FAILED인 것만, 생략하면 FAILED 전체를 재등록합니다.
+     *
+     * @param receiptIds 재등록할 영수증 ID 목록 (선택)
+     * @param principal 인증된 사용자 정보
+     * @return 재등록 건수 ({"requeued": n})
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @PostMapping("/ocr/requeue")
+    public Map<String, Integer> requeueFailedOcr(
+            @RequestBody(required = false) List<Long> receiptIds,
+            @AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        Long adminId = principal.getId();
+
+        // 관리자 권한 체크
+        if (!userService.isAdmin(adminId)) {
+            log.warn("관리자 권한이 없습니다. userId: " + adminId);
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        return Map.of("requeued", receiptOcrService.requeueFailed(receiptIds));
+    }
+
+    /**
+     * 영수증 OCR 결과 캐시 지표를 조회합니다 (관리자 전용).
+     *
+     * <p>메모리/Redis 적중 수와 적중률을 반환합니다. 적중한 만큼 AI 호출이 생략됩니다.
+     *
+     * @param principal 인증된 사용자 정보
+     * @return OCR 캐시 지표
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @GetMapping("/ocr/cache-stats")
+    public OcrCacheStatsDTO getOcrCacheStats(@AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        Long adminId = principal.getId();
+
+        // 관리자 권한 체크
+        if (!userService.isAdmin(adminId)) {
+            log.warn("관리자 권한이 없습니다. userId: " + adminId);
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        return receiptOcrCache.getStats();
+    }
+
+    /**
+     * 영수증 OCR 워커 지표를 조회합니다 (관리자 전용).
+     *
+     * <p>대기/처리 중 작업 수와 AI 호출 평균 시간, 평균 전송 바이트를 반환합니다.
+     *
+     * @param principal 인증된 사용자 정보
+     * @return OCR 워커 지표
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @GetMapping("/ocr/stats")
+    public ReceiptOcrStatsDTO getOcrStats(@AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        Long adminId = principal.getId();
+
+        // 관리자 권한 체크
+        if (!userService.isAdmin(adminId)) {
+            log.warn("관리자 권한이 없습니다. userId: " + adminId);
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        return receiptOcrService.getStats();
+    }
+
+    /**
+     * 영수증 이미지 정규화 지표를 조회합니다 (관리자 전용).
+     *
+     * <p>정규화 전후 저장 바이트와 절감 비율, 평균 처리 시간을 반환합니다.
+     *
+     * @param principal 인증된 사용자 정보
+     * @return 이미지 정규화 지표
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @GetMapping("/image-stats")
+    public ImageNormalizationStatsDTO getImageStats(@AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        Long adminId = principal.getId();
+
+        // 관리자 권한 체크
+        if (!userService.isAdmin(adminId)) {
+            log.warn("관리자 권한이 없습니다. userId: " + adminId);
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        return receiptImageNormalizer.getStats();
+    }
+
+    /**
+     * 관리자 검토용 이미지 사본 지표를 조회합니다 (관리자 전용).
+     *
+     * <p>썸네일 메모리 캐시 사용량/적중률, 새로 만든 사본 수와 평균 생성 시간을 반환합니다.
+     *
+     * @param principal 인증된 사용자 정보
+     * @return 이미지 사본 지표
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @GetMapping("/image-variant-stats")
+    public ImageVariantStatsDTO getImageVariantStats(@AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        Long adminId = principal.getId();
+
+        // 관리자 권한 체크
+        if (!userService.isAdmin(adminId)) {
+            log.warn("관리자 권한이 없습니다. userId: " + adminId);
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        return receiptImageVariants.getStats();
+    }
+
+    // image/jpeg → jpg, image/png → png, image/heic → heic, image/svg+xml → svg
+    private static String extensionOf(MediaType mediaType) {
+        String subtype = mediaType.getSubtype().toLowerCase(Locale.ROOT);
+        int plus = subtype.indexOf('+');
+        if (plus > 0) {
+            subtype = subtype.substring(0, plus);
+        }
+        return subtype.equals("jpeg") ? "jpg" : subtype;
+    }
+}
@@ -2,11 +2,14 @@ package com.Team1_Back.controller;
 
 import com.Team1_Back.ai.dto.AiGenerateRequestDTO;
 import com.Team1_Back.ai.service.AiService;
+import com.Team1_Back.ai.service.AiSseService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -16,6 +19,7 @@ import java.util.Map;
 public class AiController {
 
     private final AiService aiService;
+    private final AiSseService aiSseService;
 
     @PostMapping("/generate")
     public Map<String, Object> generate(@RequestBody AiGenerateRequestDTO req) {
@@ -25,4 +29,23 @@ public class AiController {
                 "result", result
         );
     }
+
+    // 토큰을 생성되는 대로 SSE로 전달 (token 이벤트 반복 후 done)
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter generateStream(@RequestBody AiGenerateRequestDTO req) {
+        String prompt = req.getPrompt();
+        if (prompt == null || prompt.isBlank()) {
+            throw new IllegalArgumentException("prompt is blank");
+        }
+        return aiSseService.run(sink -> {
+            AiService.StreamResult result = aiService.generateStream(prompt,
+                    token -> sink.send("token", Map.of("text", token)));
+            return Map.of(
+                    "ok", true,
+                    "result", result.text(),
+                    "timeToFirstTokenMs", result.timeToFirstTokenMs(),
+                    "totalMs", result.totalMs()
+            );
+        });
+    }
 }
\ No newline at end of file
@@ -7,8 +7,10 @@ import com.Team1_Back.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -183,5 +185,45 @@ public class ApprovalRequestController {
         return approvalService.getList(userId, isAdmin, pageRequestDTO, "EXPENSE", status, startDate, endDate);
     }
 
-}
+    /**
+     * 관리자 결재함을 커서 방식으로 이어서 조회합니다. ("더 보기")
+     * 
+     * <p>응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회합니다.
+     * 
+     * @param cursor 이전 응답의 nextCursor (처음이면 생략)
+     * @param size 조회 건수 (기본 20, 최대 100)
+     * @param requestType 요청 유형 (선택)
+     * @param status 승인 상태 (선택)
+     * @param startDate 조회 시작 날짜 (ISO DATE 형식, 선택)
+     * @param endDate 조회 종료 날짜 (ISO DATE 형식, 선택)
+     * @param principal 인증된 사용자 정보
+     * @return 승인 요청 목록과 다음 커서
+     * @throws RuntimeException 관리자 권한이 없는 경우
+     */
+    @GetMapping("/inbox")
+    public SliceResponseDTO<ApprovalRequestDTO> getInbox(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "requestType", required = false) String requestType,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
 
+        if (!userService.isAdmin(principal.getId())) {
+            log.warn("관리자 권한이 없습니다. userId: " + principal.getId());
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        try {
+            return approvalService.getInbox(cursor, size, requestType, status, startDate, endDate);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
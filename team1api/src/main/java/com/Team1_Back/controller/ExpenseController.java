@@ -1,17 +1,21 @@
 package com.Team1_Back.controller;
 
+import com.Team1_Back.dto.BudgetCheckDTO;
 import com.Team1_Back.dto.ExpenseDTO;
 import com.Team1_Back.dto.ExpenseSubmitDTO;
 import com.Team1_Back.dto.PageRequestDTO;
 import com.Team1_Back.dto.PageResponseDTO;
+import com.Team1_Back.dto.SliceResponseDTO;
 import com.Team1_Back.dto.UserDTO;
 import com.Team1_Back.service.ExpenseService;
 import com.Team1_Back.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.Map;
@@ -72,6 +76,40 @@ public class ExpenseController {
         return expenseService.getList(userId, pageRequestDTO, status, startDate, endDate);
     }
 
+    /**
+     * 지출 내역을 커서 방식으로 이어서 조회합니다. ("더 보기")
+     * 
+     * <p>응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회합니다.
+     * 전체 건수를 세지 않으므로 깊은 페이지도 첫 페이지와 같은 속도로 조회됩니다.
+     * 
+     * @param cursor 이전 응답의 nextCursor (처음이면 생략)
+     * @param size 조회 건수 (기본 15, 최대 100)
+     * @param status 필터링할 승인 상태 (선택)
+     * @param startDate 조회 시작 날짜 (ISO DATE 형식, 선택)
+     * @param endDate 조회 종료 날짜 (ISO DATE 형식, 선택)
+     * @param principal 인증된 사용자 정보
+     * @return 지출 내역 목록과 다음 커서
+     */
+    @GetMapping("/list/more")
+    public SliceResponseDTO<ExpenseDTO> getListMore(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "15") int size,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserDTO principal) {
+
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+        try {
+            return expenseService.getListByCursor(principal.getId(), cursor, size, status, startDate, endDate);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     /**
      * 특정 지출 내역의 상세 정보를 조회합니다.
      * 
@@ -165,6 +203,25 @@ public class ExpenseController {
         return Map.of("RESULT", "SUCCESS");
     }
 
+    /**
+     * 제출 전 해당 월 잔여 예산을 확인합니다.
+     * 
+     * <p>예산 원장(메모리)에서 바로 계산하며, 초과 여부만 알려주고 제출을 막지는 않습니다.
+     * 
+     * @param id 제출할 지출 내역 ID
+     * @param principal 인증된 사용자 정보
+     * @return 예산 한도, 누계, 잔여 예산, 초과 여부
+     */
+    @GetMapping("/{id}/budget-check")
+    public BudgetCheckDTO checkBudget(
+            @PathVariable(name="id") Long id,
+            @AuthenticationPrincipal UserDTO principal) {
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+        return expenseService.checkBudget(id, principal.getId());
+    }
+
     /**
      * 지출 내역을 승인 요청 상태로 제출합니다.
      * 
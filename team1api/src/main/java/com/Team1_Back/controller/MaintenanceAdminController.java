@@ -0,0 +1,73 @@
+package com.Team1_Back.controller;
+
+import com.Team1_Back.report.storage.ReportStorageManager;
+import com.Team1_Back.scheduler.ReportStorageLifecycleJob;
+import com.Team1_Back.service.BudgetLedgerService;
+import com.Team1_Back.service.ExpenseRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 운영 작업 즉시 실행 (집계 재생성, 리포트 저장소 정리)
+ *
+ * <p>평소에는 상태 변경 시점/스케줄러가 처리하며, 데이터 보정이나 점검 때 수동으로 호출합니다.
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class MaintenanceAdminController {
+
+    private final ExpenseRollupService expenseRollupService;
+    private final BudgetLedgerService budgetLedgerService;
+    private final ReportStorageLifecycleJob reportStorageLifecycleJob;
+
+    /**
+     * 일별 지출 롤업 재생성 (기간 미지정 시 전체)
+     */
+    @PostMapping("/rollup/backfill")
+    public Map<String, Object> backfillRollup(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+
+        int rows = (start != null && end != null)
+                ? expenseRollupService.backfill(start, end)
+                : expenseRollupService.backfillAll();
+        return Map.of("rows", rows);
+    }
+
+    /**
+     * 예산 원장 누계 재계산 (년월 미지정 시 이번 달/지난 달)
+     */
+    @PostMapping("/budget/rebuild")
+    public Map<String, Object> rebuildBudgetLedger(@RequestParam(required = false) String yearMonth) {
+        if (yearMonth == null || yearMonth.isBlank()) {
+            budgetLedgerService.reconcile();
+            return Map.of("yearMonth", "recent");
+        }
+        if (!yearMonth.matches("\\d{4}-\\d{2}")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "yearMonth must be YYYY-MM");
+        }
+        return Map.of("yearMonth", yearMonth, "rows", budgetLedgerService.rebuild(yearMonth));
+    }
+
+    /**
+     * 리포트 저장소 수명주기(압축/만료) 즉시 실행
+     */
+    @PostMapping("/reports/storage/lifecycle")
+    public ReportStorageManager.LifecycleResult runStorageLifecycle() {
+        ReportStorageManager.LifecycleResult result = reportStorageLifecycleJob.runNow();
+        if (result == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Lifecycle already running or failed");
+        }
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.Team1_Back.controller;
 
+import com.Team1_Back.dto.ReceiptBatchUploadResultDTO;
 import com.Team1_Back.dto.ReceiptDTO;
 import com.Team1_Back.dto.ReceiptExtractionDTO;
 import com.Team1_Back.dto.UserDTO;
@@ -14,6 +15,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -57,6 +59,30 @@ public class ReceiptController {
         return Map.of("result", dto.getId());
     }
 
+    /**
+     * 영수증 이미지 여러 장을 한 번에 업로드합니다.
+     * 
+     * <p>월말 정산처럼 여러 지출 내역의 영수증을 한 번에 올릴 때 사용합니다.
+     * expenseIds와 files는 같은 순서로 짝지어지며, 실패한 항목은 결과에 사유가 담기고 나머지는 저장됩니다.
+     * AI 분석은 여러 장을 묶어 처리되며 결과는 영수증별로 알림으로 전달됩니다.
+     * 
+     * @param expenseIds 영수증을 첨부할 지출 내역 ID 목록
+     * @param files 업로드할 영수증 이미지 파일 목록
+     * @param principal 인증된 사용자 정보
+     * @return 항목별 업로드 결과
+     */
+    @PostMapping("/upload/batch")
+    public ReceiptBatchUploadResultDTO uploadBatch(
+            @RequestParam("expenseIds") List<Long> expenseIds,
+            @RequestParam("files") List<MultipartFile> files,
+            @AuthenticationPrincipal UserDTO principal) {
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+        Long userId = principal.getId();
+        return receiptService.uploadBatch(expenseIds, userId, files);
+    }
+
     /**
      * 특정 영수증의 상세 정보를 조회합니다.
      * 
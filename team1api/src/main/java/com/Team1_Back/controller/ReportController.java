@@ -4,9 +4,11 @@ import com.Team1_Back.dto.*;
 import com.Team1_Back.security.ReportPrincipal;
 import com.Team1_Back.domain.enums.OutputFormat;
 import com.Team1_Back.service.ReportService;
+import com.Team1_Back.util.FileTransferUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,7 +17,13 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 public class ReportController {
 
     private final ReportService reportService;
+    private final FileTransferUtil fileTransferUtil;
 
     private ReportPrincipal toReportPrincipal(UserDTO user) {
         if (user == null) return null;
@@ -59,14 +68,17 @@ public class ReportController {
         );
     }
 
-    // 2. 리포트 기준 최신 파일 다운로드
+    // 2. 리포트 기준 최신 파일 다운로드 (ETag / Range 지원)
     @GetMapping("/{reportId}/download")
-    public ResponseEntity<Resource> download(
+    public void download(
             @AuthenticationPrincipal UserDTO principal,   //  변경
-            @PathVariable Long reportId
-    ) {
+            @PathVariable Long reportId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
         if (principal == null) {
-            return ResponseEntity.status(401).build();
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
         }
 
         ReportPrincipal rp = toReportPrincipal(principal);
@@ -80,11 +92,20 @@ public class ReportController {
                 .encode(d.fileName(), StandardCharsets.UTF_8)
                 .replace("+", "%20");
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename*=UTF-8''" + encoded)
-                .body(d.resource());
+        var result = fileTransferUtil.transfer(
+                request,
+                response,
+                d.file().path(),
+                d.file().gzipped(),
+                d.file().size(),
+                d.checksum(),
+                contentType,
+                "attachment; filename*=UTF-8''" + encoded
+        );
+
+        if (result.startedFromBeginning()) {
+            reportService.recordDownload(d, rp.userId());
+        }
     }
 
     // 3. 리포트에 딸린 파일 목록
@@ -112,6 +133,66 @@ public class ReportController {
 
     }
 
+    // 6. 부서별 일괄 생성 (관리자)
+    @PostMapping("/batches")
+    public ResponseEntity<ReportBatchResponseDTO> generateBatch(
+            @AuthenticationPrincipal UserDTO principal,
+            @RequestBody @Valid ReportBatchRequestDTO req
+    ) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(reportService.generateBatch(toReportPrincipal(principal), req));
+    }
+
+    // 7. 배치 상태 조회
+    @GetMapping("/batches/{batchId}")
+    public ResponseEntity<ReportBatchResponseDTO> batch(
+            @AuthenticationPrincipal UserDTO principal,
+            @PathVariable String batchId
+    ) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(reportService.getBatch(toReportPrincipal(principal), batchId));
+    }
+
+    // 8. 배치 ZIP 번들 다운로드 (READY 파일만 포함)
+    @GetMapping("/batches/{batchId}/download")
+    public void downloadBatch(
+            @AuthenticationPrincipal UserDTO principal,
+            @PathVariable String batchId,
+            HttpServletResponse response
+    ) throws IOException {
+        if (principal == null) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        ReportPrincipal rp = toReportPrincipal(principal);
+        List<ReportService.DownloadResult> files = reportService.batchFiles(rp, batchId);
+
+        String zipName = "Report_batch_" + batchId + ".zip";
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + zipName + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        // PDF/XLSX는 이미 압축된 포맷이라 STORED에 가까운 빠른 레벨 사용
+        try (ZipOutputStream zip = new ZipOutputStream(response.getOutputStream(), StandardCharsets.UTF_8)) {
+            zip.setLevel(Deflater.BEST_SPEED);
+            for (ReportService.DownloadResult f : files) {
+                zip.putNextEntry(new ZipEntry(f.fileName()));
+                try (InputStream in = f.file().open()) {
+                    in.transferTo(zip);
+                }
+                zip.closeEntry();
+            }
+        }
+
+        files.forEach(f -> reportService.recordDownload(f, rp.userId()));
+    }
+
     // 5. 디버그
     @GetMapping("/debug/me")
     public Object me(@AuthenticationPrincipal Object principal) {
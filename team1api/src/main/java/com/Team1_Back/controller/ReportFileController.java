@@ -4,16 +4,17 @@ import com.Team1_Back.dto.ReportFileDownloadLogsResponseDTO;
 import com.Team1_Back.domain.enums.OutputFormat;
 import com.Team1_Back.service.ReportService;
 import com.Team1_Back.security.ReportPrincipal;
+import com.Team1_Back.util.FileTransferUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 @RestController
 @RequiredArgsConstructor
@@ -21,13 +22,18 @@ import java.nio.charset.StandardCharsets;
 public class ReportFileController {
 
     private final ReportService reportService;
+    private final FileTransferUtil fileTransferUtil;
 
     // 1. 파일 단건 다운로드 (fileId 기준)
+    // - ETag(checksum) + If-None-Match → 304
+    // - Range / If-Range → 206 (이어받기)
     @GetMapping("/{fileId}/download")
-    public ResponseEntity<org.springframework.core.io.Resource> downloadByFileId(
+    public void downloadByFileId(
             @PathVariable Long fileId,
-            @AuthenticationPrincipal ReportPrincipal principal
-    ) {
+            @AuthenticationPrincipal ReportPrincipal principal,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
         var r = reportService.downloadFileById(principal, fileId);
 
         String contentType = (r.format() == OutputFormat.PDF)
@@ -38,11 +44,21 @@ public class ReportFileController {
                 .encode(r.fileName(), StandardCharsets.UTF_8)
                 .replace("+", "%20");
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename*=UTF-8''" + encoded)
-                .body(r.resource());
+        var result = fileTransferUtil.transfer(
+                request,
+                response,
+                r.file().path(),
+                r.file().gzipped(),
+                r.file().size(),
+                r.checksum(),
+                contentType,
+                "attachment; filename*=UTF-8''" + encoded
+        );
+
+        // 304 / 이어받기(중간 구간) 요청은 다운로드 로그에 남기지 않음
+        if (result.startedFromBeginning()) {
+            reportService.recordDownload(r, principal.userId());
+        }
     }
 
     // 2. 파일 다운로드 로그
@@ -0,0 +1,75 @@
+package com.Team1_Back.controller;
+
+import com.Team1_Back.ai.AiHttpClients;
+import com.Team1_Back.ai.AiStreamMetrics;
+import com.Team1_Back.ai.LlmRouter;
+import com.Team1_Back.datasource.PoolMetricsRegistry;
+import com.Team1_Back.datasource.ReplicaRoutingDataSource;
+import com.Team1_Back.dto.AiBulkheadStatsDTO;
+import com.Team1_Back.dto.AiStreamStatsDTO;
+import com.Team1_Back.dto.ConnectionPoolStatsDTO;
+import com.Team1_Back.dto.LlmRouterStatsDTO;
+import com.Team1_Back.dto.ReplicaRoutingStatsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 운영 지표 조회 (DB 커넥션 풀, 복제본 라우팅, AI 호출)
+ *
+ * <p>모두 이 노드 기준의 메모리 지표이며 조회만 합니다.
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class SystemAdminController {
+
+    private final PoolMetricsRegistry poolMetricsRegistry;
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final AiHttpClients aiHttpClients;
+    private final AiStreamMetrics aiStreamMetrics;
+    private final LlmRouter llmRouter;
+
+    /**
+     * 커넥션 풀별 상태/대기 시간 지표 (대화형, 분석용)
+     */
+    @GetMapping("/datasource/pools")
+    public List<ConnectionPoolStatsDTO> connectionPools() {
+        return poolMetricsRegistry.snapshot();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 복제본 라우팅 현황 (복제본별 지연/사용 가능 여부, 주 DB로 보낸 읽기 수)
+     */
+    @GetMapping("/datasource/replicas")
+    public ReplicaRoutingStatsDTO replicas() {
+        return replicaRoutingDataSource.stats();
+    }
+
+    /**
+     * AI 백엔드별 벌크헤드 현황 (호출 중/대기 중 게이지, 대기 시간, 거절 수)
+     */
+    @GetMapping("/ai/bulkheads")
+    public List<AiBulkheadStatsDTO> aiBulkheads() {
+        return aiHttpClients.snapshot();
+    }
+
+    /**
+     * AI 스트리밍 현황 (첫 토큰까지 시간, 모델 로드 시간/콜드 로드 수, 초당 토큰)
+     */
+    @GetMapping("/ai/streams")
+    public AiStreamStatsDTO aiStreams() {
+        return aiStreamMetrics.snapshot();
+    }
+
+    /**
+     * LLM 공급자별 지연(p50/p95), 오류율, 서킷 상태와 헤지 현황
+     */
+    @GetMapping("/ai/llm-providers")
+    public LlmRouterStatsDTO llmProviders() {
+        return llmRouter.snapshot();
+    }
+}
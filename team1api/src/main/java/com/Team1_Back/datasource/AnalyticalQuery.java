@@ -0,0 +1,23 @@
+package com.Team1_Back.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 분석용(리포트/엑셀 내보내기/집계/전체 적재) 커넥션 풀에서 실행할 메서드 또는 타입
+ *
+ * <p>트랜잭션보다 먼저 적용되므로 트랜잭션 시작 메서드(서비스 진입점)에 붙여야 효과가 있습니다.
+ * 이미 대화형 트랜잭션이 열린 안에서 호출되면 그 트랜잭션의 커넥션을 그대로 씁니다.
+ *
+ * @see WorkloadRoutingDataSource
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface AnalyticalQuery {
+}
@@ -0,0 +1,33 @@
+package com.Team1_Back.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link AnalyticalQuery} 메서드 실행 동안 작업 구분을 ANALYTICAL로 설정합니다.
+ *
+ * <p>트랜잭션 인터셉터보다 먼저 실행되도록 가장 높은 우선순위로 등록합니다. (DataSourceConfig)
+ */
+@Slf4j
+public class AnalyticalWorkloadInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (WorkloadRoutingDataSource.current() == Workload.ANALYTICAL) {
+            return invocation.proceed();
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 이미 커넥션이 묶인 트랜잭션 안 → 그 커넥션을 계속 사용 (새 트랜잭션만 분석용 풀)
+            log.debug("[POOL] {} joined an interactive transaction", invocation.getMethod().getName());
+        }
+
+        Workload previous = WorkloadRoutingDataSource.enter(Workload.ANALYTICAL);
+        try {
+            return invocation.proceed();
+        } finally {
+            WorkloadRoutingDataSource.restore(previous);
+        }
+    }
+}
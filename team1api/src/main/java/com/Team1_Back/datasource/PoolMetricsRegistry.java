@@ -0,0 +1,122 @@
+package com.Team1_Back.datasource;
+
+import com.Team1_Back.dto.ConnectionPoolStatsDTO;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 풀별 커넥션 대기 시간/사용 시간/타임아웃 지표 (Hikari 지표 훅)
+ *
+ * <p>대기 시간은 구간별 건수로도 모아 p99를 근사합니다. (구간 상한값으로 보고)
+ *
+ * @author Team1
+ */
+public class PoolMetricsRegistry implements MetricsTrackerFactory {
+
+    /** 대기 시간 구간 상한 (ms), 마지막 구간은 그 이상 */
+    private static final long[] WAIT_BUCKETS_MS = {1, 5, 10, 50, 100, 500, 1_000, 5_000, 30_000};
+
+    private final Map<String, PoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        PoolMetrics metrics = new PoolMetrics(poolName, poolStats);
+        pools.put(poolName, metrics);
+        return metrics;
+    }
+
+    public List<ConnectionPoolStatsDTO> snapshot() {
+        List<ConnectionPoolStatsDTO> result = new ArrayList<>();
+        pools.values().forEach(pool -> result.add(pool.snapshot()));
+        result.sort((a, b) -> a.pool().compareTo(b.pool()));
+        return result;
+    }
+
+    private static final class PoolMetrics implements IMetricsTracker {
+        private final String poolName;
+        private final PoolStats poolStats;
+
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLongArray waitBuckets = new AtomicLongArray(WAIT_BUCKETS_MS.length + 1);
+        private final LongAdder usages = new LongAdder();
+        private final LongAdder usageMillis = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        private PoolMetrics(String poolName, PoolStats poolStats) {
+            this.poolName = poolName;
+            this.poolStats = poolStats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquisitions.increment();
+            waitNanos.add(elapsedAcquiredNanos);
+            maxWaitNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+
+            long millis = TimeUnit.NANOSECONDS.toMillis(elapsedAcquiredNanos);
+            int bucket = 0;
+            while (bucket < WAIT_BUCKETS_MS.length && millis >= WAIT_BUCKETS_MS[bucket]) {
+                bucket++;
+            }
+            waitBuckets.incrementAndGet(bucket);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usages.increment();
+            usageMillis.add(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+
+        private ConnectionPoolStatsDTO snapshot() {
+            long count = acquisitions.sum();
+            long used = usages.sum();
+            return new ConnectionPoolStatsDTO(
+                    poolName,
+                    poolStats.getTotalConnections(),
+                    poolStats.getActiveConnections(),
+                    poolStats.getIdleConnections(),
+                    poolStats.getPendingThreads(),
+                    poolStats.getMaxConnections(),
+                    count,
+                    count > 0 ? waitNanos.sum() / 1_000_000.0 / count : 0.0,
+                    maxWaitNanos.get() / 1_000_000.0,
+                    p99WaitMillis(count),
+                    timeouts.sum(),
+                    used > 0 ? (double) usageMillis.sum() / used : 0.0);
+        }
+
+        private long p99WaitMillis(long count) {
+            if (count == 0) {
+                return 0L;
+            }
+            long rank = (long) Math.ceil(count * 0.99);
+            long seen = 0;
+            for (int i = 0; i < waitBuckets.length(); i++) {
+                seen += waitBuckets.get(i);
+                if (seen >= rank) {
+                    return i < WAIT_BUCKETS_MS.length
+                            ? WAIT_BUCKETS_MS[i]
+                            : TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+                }
+            }
+            return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+        }
+    }
+}
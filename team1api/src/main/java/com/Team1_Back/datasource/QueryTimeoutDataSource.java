@@ -0,0 +1,74 @@
+package com.Team1_Back.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 이 DataSource에서 만든 모든 Statement에 기본 쿼리 타임아웃을 적용합니다.
+ *
+ * <p>이미 타임아웃이 지정된 Statement(@Transactional(timeout), JdbcTemplate 설정 등)는 그대로 둡니다.
+ * 타임아웃이 지나면 드라이버가 서버에 KILL QUERY를 보내 실행 중인 쿼리를 취소하고
+ * SQLTimeoutException(스프링에서는 QueryTimeoutException)을 던지며, 커넥션은 풀로 돌아갑니다.
+ *
+ * @author Team1
+ */
+public class QueryTimeoutDataSource extends DelegatingDataSource {
+
+    private final int timeoutSeconds;
+
+    public QueryTimeoutDataSource(DataSource target, int timeoutSeconds) {
+        super(target);
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withTimeout(obtainTargetDataSource().getConnection(), timeoutSeconds);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withTimeout(obtainTargetDataSource().getConnection(username, password), timeoutSeconds);
+    }
+
+    /**
+     * 커넥션이 만드는 Statement에 기본 쿼리 타임아웃을 적용하는 프록시 (0 이하면 그대로 반환)
+     */
+    static Connection withTimeout(Connection target, int timeoutSeconds) {
+        if (timeoutSeconds <= 0) {
+            return target;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "QueryTimeout(" + timeoutSeconds + "s) " + target;
+                        default:
+                            break;
+                    }
+
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (result instanceof Statement statement && statement.getQueryTimeout() == 0) {
+                        statement.setQueryTimeout(timeoutSeconds);
+                    }
+                    return result;
+                });
+    }
+}
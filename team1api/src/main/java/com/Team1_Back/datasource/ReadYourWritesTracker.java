@@ -0,0 +1,98 @@
+package com.Team1_Back.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자가 직접 쓴 직후 일정 시간 동안 그 사용자의 읽기를 주 DB로 보내기 위한 기록 (read-your-writes)
+ *
+ * <p>같은 노드는 메모리 맵으로, 다른 노드로 간 다음 요청은 Redis 키(TTL)로 판단합니다.
+ * Redis를 쓸 수 없으면 안전한 쪽(주 DB)으로 판단합니다.
+ *
+ * @author Team1
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "db:rw:";
+
+    private final Supplier<Long> currentUserId;
+    private final StringRedisTemplate redisTemplate;
+    private final long stickyMs;
+
+    // 사용자 ID → 고정 만료 시각 (epoch ms)
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    /**
+     * @param currentUserId 현재 요청 사용자 ID (없으면 null)
+     * @param redisTemplate 노드 간 공유용 (null이면 노드 내에서만 판단)
+     * @param stickyMs      쓰기 후 주 DB 고정 시간
+     */
+    public ReadYourWritesTracker(Supplier<Long> currentUserId, StringRedisTemplate redisTemplate, long stickyMs) {
+        this.currentUserId = currentUserId;
+        this.redisTemplate = redisTemplate;
+        this.stickyMs = stickyMs;
+    }
+
+    public Long currentUserId() {
+        try {
+            return currentUserId.get();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 사용자의 쓰기 커밋을 기록합니다.
+     */
+    public void markWrite(Long userId) {
+        if (userId == null || stickyMs <= 0) {
+            return;
+        }
+        stickyUntil.put(userId, System.currentTimeMillis() + stickyMs);
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", Duration.ofMillis(stickyMs));
+            } catch (Exception e) {
+                log.debug("[REPLICA] sticky mark failed: {}", e.getMessage());
+            }
+        }
+        // 만료 항목 정리 (맵이 사용자 수 이상으로 커지지 않게)
+        if (stickyUntil.size() > 10_000) {
+            long now = System.currentTimeMillis();
+            stickyUntil.values().removeIf(until -> until < now);
+        }
+    }
+
+    /**
+     * 현재 사용자가 최근에 쓴 적이 있어 주 DB에서 읽어야 하는지
+     */
+    public boolean isSticky() {
+        Long userId = currentUserId();
+        if (userId == null || stickyMs <= 0) {
+            return false;
+        }
+
+        Long until = stickyUntil.get(userId);
+        if (until != null) {
+            if (until >= System.currentTimeMillis()) {
+                return true;
+            }
+            stickyUntil.remove(userId, until);
+        }
+
+        if (redisTemplate == null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (Exception e) {
+            return true;
+        }
+    }
+}
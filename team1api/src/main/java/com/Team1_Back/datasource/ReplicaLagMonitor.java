@@ -0,0 +1,72 @@
+package com.Team1_Back.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 복제 지연 측정
+ *
+ * <p>주 DB의 replica_heartbeat 한 행에 현재 시각(ms)을 주기적으로 기록하고, 각 복제본에서 같은 행을 읽어
+ * (현재 시각 - 기록 시각)을 지연으로 봅니다. 복제 방식(MariaDB/MySQL 바이너리 로그 등)과 무관하게 동작하며,
+ * 여러 노드가 같은 행을 갱신해도 가장 최근 값만 의미가 있으므로 문제 없습니다. (노드 간 시계는 NTP로 맞춰져 있다고 가정)
+ * 테이블은 {@link com.Team1_Back.domain.ReplicaHeartbeat} 엔티티로 스키마에 포함됩니다.
+ *
+ * @author Team1
+ */
+@Component
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primary;
+    private final ReplicaRoutingDataSource routing;
+
+    public ReplicaLagMonitor(@Qualifier("interactiveDataSource") DataSource primary, ReplicaRoutingDataSource routing) {
+        this.primary = new JdbcTemplate(primary);
+        this.routing = routing;
+    }
+
+    /**
+     * 하트비트 기록 후 복제본별 지연을 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${com.mallapi.datasource.replica.heartbeat-ms:1000}")
+    public void tick() {
+        if (routing.replicas().isEmpty()) {
+            return;
+        }
+        try {
+            beat(System.currentTimeMillis());
+        } catch (Exception e) {
+            // 주 DB 기록 실패 → 복제본 지연이 커져 자연히 주 DB로 읽게 됨
+            log.warn("[REPLICA] heartbeat write failed: {}", e.getMessage());
+        }
+        check(System.currentTimeMillis());
+    }
+
+    void beat(long nowMs) {
+        if (primary.update("UPDATE replica_heartbeat SET beat_ms = ? WHERE id = 1", nowMs) == 0) {
+            primary.update("INSERT INTO replica_heartbeat (id, beat_ms) VALUES (1, ?)", nowMs);
+        }
+    }
+
+    void check(long nowMs) {
+        for (ReplicaRoutingDataSource.Replica replica : routing.replicas()) {
+            try {
+                JdbcTemplate jdbc = new JdbcTemplate(replica.dataSource());
+                jdbc.setQueryTimeout(2);
+                Long beat = jdbc.query("SELECT beat_ms FROM replica_heartbeat WHERE id = 1",
+                        rs -> rs.next() ? rs.getLong(1) : null);
+                replica.update(beat != null ? Math.max(0L, nowMs - beat) : Long.MAX_VALUE);
+            } catch (Exception e) {
+                if (replica.isUp()) {
+                    log.warn("[REPLICA] {} lag check failed: {}", replica.name(), e.getMessage());
+                }
+                replica.markDown();
+            }
+        }
+    }
+}
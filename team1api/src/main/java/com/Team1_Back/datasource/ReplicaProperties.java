@@ -0,0 +1,46 @@
+package com.Team1_Back.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 설정 (com.mallapi.datasource.replica.*)
+ *
+ * <pre>
+ * com.mallapi.datasource.replica.nodes[0].name=replica1
+ * com.mallapi.datasource.replica.nodes[0].url=jdbc:mariadb://replica1:3306/team1
+ * com.mallapi.datasource.replica.nodes[0].username=...
+ * com.mallapi.datasource.replica.nodes[0].password=...
+ * </pre>
+ *
+ * <p>nodes가 비어 있으면 읽기 전용 트랜잭션도 주 DB를 사용합니다. (기존 동작)
+ */
+@Data
+@ConfigurationProperties("com.mallapi.datasource.replica")
+public class ReplicaProperties {
+
+    private List<Node> nodes = new ArrayList<>();
+
+    /** 복제본별 최대 커넥션 수 */
+    private int maximumPoolSize = 8;
+
+    /** 이 이상 지연된 복제본은 읽기에서 제외 (ms) */
+    private long maxLagMs = 3_000;
+
+    /** 본인 쓰기 커밋 후 주 DB에서 읽는 시간 (ms) */
+    private long stickyMs = 5_000;
+
+    /** 하트비트 기록/지연 측정 주기 (ms) */
+    private long heartbeatMs = 1_000;
+
+    @Data
+    public static class Node {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,213 @@
+package com.Team1_Back.datasource;
+
+import com.Team1_Back.dto.ReplicaRoutingStatsDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource ({@code LazyConnectionDataSourceProxy}의 readOnlyDataSource)
+ *
+ * <p>지연이 기준 이하인 복제본을 돌아가며 사용하고, 다음 경우에는 주 DB(작업 구분 라우팅)를 사용합니다.
+ * <ul>
+ *   <li>복제본이 없거나 모두 지연/장애</li>
+ *   <li>현재 사용자가 방금 쓴 경우 ({@link ReadYourWritesTracker})</li>
+ *   <li>{@link #onPrimary}로 주 DB를 지정한 경우 (커밋 직후 상태를 담아야 하는 캐시/적재)</li>
+ *   <li>복제본 커넥션 획득 실패 (해당 복제본은 다음 지연 측정까지 제외)</li>
+ * </ul>
+ * 분석용 작업({@link AnalyticalQuery})이 복제본에서 실행되면 분석용 쿼리 타임아웃을 똑같이 적용합니다.
+ *
+ * @author Team1
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final long maxLagMs;
+    private final int analyticalTimeoutSeconds;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, ReadYourWritesTracker tracker,
+                                    long maxLagMs, int analyticalTimeoutSeconds) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.tracker = tracker;
+        this.maxLagMs = maxLagMs;
+        this.analyticalTimeoutSeconds = analyticalTimeoutSeconds;
+    }
+
+    /**
+     * 설정값으로 복제본별 Hikari 풀(읽기 전용)을 만듭니다.
+     */
+    public static List<Replica> createReplicas(ReplicaProperties properties, MetricsTrackerFactory metricsTrackerFactory) {
+        List<Replica> result = new ArrayList<>();
+        for (int i = 0; i < properties.getNodes().size(); i++) {
+            ReplicaProperties.Node node = properties.getNodes().get(i);
+            String name = node.getName() != null ? node.getName() : "replica" + (i + 1);
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + name);
+            dataSource.setJdbcUrl(node.getUrl());
+            dataSource.setUsername(node.getUsername());
+            dataSource.setPassword(node.getPassword());
+            dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // 복제본이 죽었을 때 오래 기다리지 않고 주 DB로 넘어가도록 짧게
+            dataSource.setConnectionTimeout(2_000);
+            // 기동 시 복제본이 없어도 애플리케이션은 떠야 함 (지연 측정에서 제외 처리)
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+            result.add(new Replica(name, dataSource));
+        }
+        return result;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이라도 주 DB에서 읽도록 실행합니다.
+     *
+     * <p>변경 이벤트를 받아 다시 계산하는 캐시는 복제본 지연만큼 오래된 값을 담게 되므로 이 안에서 읽습니다.
+     * 커넥션을 얻는 시점에 판단하므로 트랜잭션도 이 안에서 시작해야 합니다.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                PRIMARY.set(previous);
+            } else {
+                PRIMARY.remove();
+            }
+        }
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty()) {
+            fallbackReads.increment();
+            return primary.getConnection();
+        }
+        if (PRIMARY.get() != null) {
+            pinnedReads.increment();
+            return primary.getConnection();
+        }
+        if (tracker.isSticky()) {
+            stickyReads.increment();
+            return primary.getConnection();
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isUsable(maxLagMs)) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.reads.increment();
+                replicaReads.increment();
+                return WorkloadRoutingDataSource.current() == Workload.ANALYTICAL
+                        ? QueryTimeoutDataSource.withTimeout(connection, analyticalTimeoutSeconds)
+                        : connection;
+            } catch (SQLException e) {
+                replica.markDown();
+                log.warn("[REPLICA] {} connection failed, excluded until next lag check: {}", replica.name, e.getMessage());
+            }
+        }
+
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica routing uses pool credentials");
+    }
+
+    public ReplicaRoutingStatsDTO stats() {
+        List<ReplicaRoutingStatsDTO.Node> nodes = new ArrayList<>();
+        for (Replica replica : replicas) {
+            nodes.add(new ReplicaRoutingStatsDTO.Node(
+                    replica.name, replica.isUsable(maxLagMs), replica.up, replica.lagMs, replica.reads.sum()));
+        }
+        return new ReplicaRoutingStatsDTO(maxLagMs, replicaReads.sum(), stickyReads.sum(), pinnedReads.sum(),
+                fallbackReads.sum(), nodes);
+    }
+
+    @Override
+    public void destroy() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+
+    /**
+     * 복제본 하나 (지연/상태는 ReplicaLagMonitor가 갱신)
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder reads = new LongAdder();
+        private volatile boolean up;
+        private volatile long lagMs = Long.MAX_VALUE;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public void update(long lagMs) {
+            this.lagMs = lagMs;
+            this.up = true;
+        }
+
+        public void markDown() {
+            this.up = false;
+        }
+
+        public boolean isUp() {
+            return up;
+        }
+
+        boolean isUsable(long maxLagMs) {
+            return up && lagMs <= maxLagMs;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.Team1_Back.datasource;
+
+/**
+ * 커넥션 풀 구분
+ */
+public enum Workload {
+    /** 채팅, 지출 입력/결재 등 화면 요청 (기본) */
+    INTERACTIVE,
+    /** 리포트 생성, 엑셀 내보내기, 회계 집계, 전체 적재 */
+    ANALYTICAL
+}
@@ -0,0 +1,64 @@
+package com.Team1_Back.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 {@link Workload}에 따라 대화형/분석용 풀로 커넥션을 나눠 주는 DataSource
+ *
+ * <p>커넥션을 얻는 시점(트랜잭션 시작 또는 트랜잭션 밖 첫 조회)의 값으로 결정되므로,
+ * 작업 구분은 {@link AnalyticalQuery} 또는 {@link #run}으로 트랜잭션보다 먼저 설정합니다.
+ *
+ * @author Team1
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public WorkloadRoutingDataSource(DataSource interactive, DataSource analytical) {
+        setTargetDataSources(Map.of(
+                Workload.INTERACTIVE, interactive,
+                Workload.ANALYTICAL, analytical));
+        setDefaultTargetDataSource(interactive);
+        afterPropertiesSet();
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.INTERACTIVE;
+    }
+
+    /**
+     * 지정한 작업 구분으로 실행하고 이전 값으로 되돌립니다. (프로그래밍 방식 진입점용)
+     */
+    public static <T> T run(Workload workload, Supplier<T> action) {
+        Workload previous = enter(workload);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(Workload previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return current();
+    }
+}
@@ -0,0 +1,64 @@
+package com.Team1_Back.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 쓰기 트랜잭션이 주 DB 커넥션을 얻으면 커밋 후 그 사용자를 {@link ReadYourWritesTracker}에 기록합니다.
+ *
+ * <p>{@code LazyConnectionDataSourceProxy} 뒤에 두므로 실제로 SQL을 실행한 쓰기 트랜잭션만 기록됩니다.
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+
+    public WriteTrackingDataSource(DataSource target, ReadYourWritesTracker tracker) {
+        super(target);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = obtainTargetDataSource().getConnection();
+        track();
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        track();
+        return connection;
+    }
+
+    private void track() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || TransactionSynchronizationManager.hasResource(tracker)) {
+            return;
+        }
+        Long userId = tracker.currentUserId();
+        if (userId == null) {
+            return;
+        }
+
+        // 트랜잭션당 한 번만 등록
+        TransactionSynchronizationManager.bindResource(tracker, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.markWrite(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(tracker);
+            }
+        });
+    }
+}
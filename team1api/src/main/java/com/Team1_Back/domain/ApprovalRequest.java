@@ -15,7 +15,10 @@ import lombok.*;
 @Table(name = "approval_request", indexes = {
     @Index(name = "idx_request_type_ref", columnList = "request_type, ref_id"),
     @Index(name = "idx_approver_status", columnList = "approver_id, status_snapshot"),
-    @Index(name = "idx_status_updated", columnList = "status_snapshot, updated_at")
+    @Index(name = "idx_status_updated", columnList = "status_snapshot, updated_at"),
+    @Index(name = "idx_type_status_created", columnList = "request_type, status_snapshot, created_at"),
+    @Index(name = "idx_requester_created", columnList = "requester_id, created_at"),
+    @Index(name = "idx_created_at", columnList = "created_at")
 })
 @Builder
 @Getter
@@ -16,6 +16,7 @@ import java.time.LocalDate;
 @Entity
 @Table(name = "expense", indexes = {
     @Index(name = "idx_user_receipt_date", columnList = "user_id, receipt_date"),
+    @Index(name = "idx_user_created_at", columnList = "user_id, created_at"),
     @Index(name = "idx_approval_status_updated", columnList = "approval_status, updated_at")
 })
 @Builder
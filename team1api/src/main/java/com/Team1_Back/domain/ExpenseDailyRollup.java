@@ -0,0 +1,65 @@
+package com.Team1_Back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 승인 지출 집계(롤업) 엔티티
+ *
+ * <p>승인(APPROVED)된 지출만 (영수증 일자, 사용자, 부서, 카테고리) 단위로 건수/합계를 누적합니다.
+ * 승인/반려/수정 시점에 {@code ExpenseRollupService}가 증감분을 반영하며,
+ * 리포트 집계와 회계통계 월간 합계는 원장(expense) 대신 이 테이블을 읽습니다.
+ *
+ * <p>부서/카테고리가 없는 경우 빈 문자열("")로 저장합니다. (유니크 키에 NULL이 섞이지 않도록)
+ *
+ * @author Team1
+ */
+@Entity
+@Table(name = "expense_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_rollup_day_user_dept_category",
+                columnNames = {"rollup_day", "user_id", "department_name", "category"}),
+        indexes = {
+                @Index(name = "idx_rollup_dept_day", columnList = "department_name, rollup_day"),
+                @Index(name = "idx_rollup_user_day", columnList = "user_id, rollup_day")
+        })
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ExpenseDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 영수증 일자 (expense.receipt_date) */
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate rollupDay;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 승인 시점의 부서명 (TRIM 적용)
+     * 부서 이동이 반영되지 않으므로 리포트의 부서별 집계는 이 컬럼 대신 users의 현재 부서로 user_id를 골라 합산합니다.
+     */
+    @Column(name = "department_name", length = 100, nullable = false)
+    private String departmentName;
+
+    @Column(name = "category", length = 50, nullable = false)
+    private String category;
+
+    @Column(name = "expense_count", nullable = false)
+    private Long expenseCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
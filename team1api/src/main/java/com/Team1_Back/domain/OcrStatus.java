@@ -0,0 +1,11 @@
+package com.Team1_Back.domain;
+
+/**
+ * 영수증 OCR(AI 추출) 처리 상태
+ */
+public enum OcrStatus {
+    PENDING,    // 대기 (최초 또는 재시도 대기)
+    PROCESSING, // 처리 중 (워커가 점유)
+    DONE,       // 추출 완료
+    FAILED      // 재시도 소진 (관리자 재등록 필요)
+}
@@ -3,6 +3,8 @@ package com.Team1_Back.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 영수증 업로드 엔티티
  * 
@@ -14,7 +16,8 @@ import lombok.*;
 @Entity
 @Table(name = "receipt_upload", indexes = {
     @Index(name = "idx_expense_id", columnList = "expense_id"),
-    @Index(name = "idx_file_hash", columnList = "file_hash")
+    @Index(name = "idx_file_hash", columnList = "file_hash"),
+    @Index(name = "idx_ocr_status_next", columnList = "ocr_status, ocr_next_attempt_at")
 })
 @Builder
 @Getter
@@ -37,16 +40,37 @@ public class ReceiptUpload extends BaseEntity {
     @JoinColumn(name = "uploaded_by", nullable = false)
     private User uploadedBy;
 
-    /** 영수증 이미지 파일 URL */
+    /** 영수증 이미지 파일 URL (정규화한 이미지) */
     @Column(name = "file_url", length = 255, nullable = false)
     private String fileUrl;
 
-    /** 파일 해시값 (중복 검사용) */
+    /** 정규화 전 원본 이미지 경로 (원본 보관 시, 정규화하지 않았으면 null) */
+    @Column(name = "original_url", length = 255)
+    private String originalUrl;
+
+    /** 파일 해시값 (중복 검사용, 정규화 전 원본 기준) */
     @Column(name = "file_hash", length = 64)
     private String fileHash;
 
     /** 파일 MIME 타입 (예: image/jpeg) */
     @Column(name = "mime_type", length = 50)
     private String mimeType;
+
+    /** OCR 처리 상태 (비동기 처리 도입 이전 행은 null) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ocr_status", length = 20)
+    private OcrStatus ocrStatus;
+
+    /** OCR 시도 횟수 */
+    @Column(name = "ocr_attempts")
+    private Integer ocrAttempts;
+
+    /** 다음 OCR 시도 시각 (PROCESSING이면 점유 만료 시각) */
+    @Column(name = "ocr_next_attempt_at")
+    private LocalDateTime ocrNextAttemptAt;
+
+    /** 마지막 OCR 실패 사유 */
+    @Column(name = "ocr_last_error", length = 500)
+    private String ocrLastError;
 }
 
@@ -0,0 +1,28 @@
+package com.Team1_Back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 복제 지연 측정용 하트비트 (id = 1 한 행)
+ *
+ * <p>{@code ReplicaLagMonitor}가 주 DB에 현재 시각(ms)을 기록하고, 복제본에서는 복제된 값을 읽습니다.
+ * 테이블은 다른 엔티티와 같이 스키마에서 만들어지며 복제본에는 복제로 전달됩니다.
+ *
+ * @author Team1
+ */
+@Entity
+@Table(name = "replica_heartbeat")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReplicaHeartbeat {
+
+    @Id
+    private Integer id;
+
+    /** 마지막 기록 시각 (epoch ms) */
+    @Column(name = "beat_ms", nullable = false)
+    private Long beatMs;
+}
@@ -1,5 +1,6 @@
 package com.Team1_Back.domain;
 
+import com.Team1_Back.domain.enums.StorageTier;
 import com.Team1_Back.report.entity.ReportJob;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -11,6 +12,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name="report_file", indexes = {
         @Index(name="idx_report_file_job", columnList="report_job_id")
+}, uniqueConstraints = {
+        // 같은 작업 안에서만 중복 제거 (내용이 같은 다른 부서/작업의 파일도 각자 행을 가짐)
+        @UniqueConstraint(name="uk_report_file_job_checksum", columnNames={"report_job_id", "checksum"})
 })
 public class ReportFile {
 
@@ -35,9 +39,25 @@ public class ReportFile {
     @Column(name="file_size", nullable=false)
     private Long fileSize;
 
-    @Column(name="checksum", nullable=false, length=64, unique=true)
+    @Column(name="checksum", nullable=false, length=64)
     private String checksum;
 
     @Column(name="created_at", updatable=false, insertable=false)
     private LocalDateTime createdAt;
+
+    // 저장 티어 (null이면 HOT으로 간주 - 기존 행 호환)
+    @Enumerated(EnumType.STRING)
+    @Column(name="storage_tier", length=10)
+    private StorageTier storageTier;
+
+    // 디스크상 실제 크기 (압축 시 gz 크기, fileSize는 원본 크기 유지)
+    @Column(name="stored_size")
+    private Long storedSize;
+
+    @Column(name="last_downloaded_at")
+    private LocalDateTime lastDownloadedAt;
+
+    public boolean isCompressed() {
+        return storageTier == StorageTier.GZIP;
+    }
 }
@@ -7,6 +7,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,7 +24,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        indexes = @Index(name = "idx_users_department_name", columnList = "department_name"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -57,6 +61,7 @@ public class User {
     @Column(name = "address_detail", length = 255)
     private String addressDetail;
 
+    // 앞뒤 공백 없이 저장 (부서별 집계가 컬럼을 그대로 비교하도록, normalizeDepartmentName)
     @Column(name = "department_name", length = 100)
     private String departmentName;
 
@@ -120,6 +125,15 @@ public class User {
         this.failedLoginCount = 0;
     }
 
+    // 저장 전에 부서명 앞뒤 공백을 제거한다.
+    @PrePersist
+    @PreUpdate
+    public void normalizeDepartmentName() {
+        if (this.departmentName != null) {
+            this.departmentName = this.departmentName.trim();
+        }
+    }
+
     // 관리자 권한 여부를 확인합니다.
     public boolean isAdmin() {
         return Role.ADMIN.equals(this.role);
@@ -2,6 +2,7 @@ package com.Team1_Back.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 사용자별 월간 예산 엔티티
@@ -42,6 +43,16 @@ public class UserBudgetMonthly extends BaseEntity {
     @Column(name = "monthly_limit", nullable = false)
     private Integer monthlyLimit;
 
+    /**
+     * 해당 월 승인 지출 누계 (예산 원장)
+     *
+     * <p>승인/승인 금액 수정 시 증감분으로 갱신됩니다. (BudgetLedgerService)
+     */
+    @Column(name = "spent_amount", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long spentAmount = 0L;
+
     /** 메모 */
     @Column(name = "note", length = 255)
     private String note;
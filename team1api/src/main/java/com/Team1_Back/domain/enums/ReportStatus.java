@@ -4,5 +4,6 @@ package com.Team1_Back.domain.enums;
 public enum ReportStatus {
     GENERATING,
     READY,
-    FAILED
+    FAILED,
+    EXPIRED     // 보관 기간 만료로 파일이 삭제됨
 }
@@ -0,0 +1,11 @@
+package com.Team1_Back.domain.enums;
+
+/**
+ * 리포트 파일 저장 티어
+ * HOT  : 원본 그대로 저장 (즉시 전송)
+ * GZIP : 장기간 다운로드가 없어 gzip 압축 보관 (다운로드 시 복원)
+ */
+public enum StorageTier {
+    HOT,
+    GZIP
+}
@@ -0,0 +1,21 @@
+package com.Team1_Back.dto;
+
+/**
+ * AI 백엔드별 벌크헤드 지표 (노드별)
+ *
+ * <p>inFlight/waiting은 현재 값(게이지), 나머지는 기동 후 누적입니다.
+ */
+public record AiBulkheadStatsDTO(
+        String backend,
+        int maxConcurrent,
+        int maxQueue,
+        long maxWaitMs,
+        int inFlight,
+        int waiting,
+        long calls,
+        long rejected,
+        double avgQueueWaitMs,
+        double maxQueueWaitMs,
+        double avgCallMs
+) {
+}
@@ -0,0 +1,22 @@
+package com.Team1_Back.dto;
+
+/**
+ * AI 스트리밍 응답 지표 (노드별, 기동 후 누적)
+ *
+ * <p>timeToFirstToken은 요청 시작부터 첫 토큰 도착까지, avgLoadMs는 Ollama가 알려준 모델 로드 시간입니다.
+ * avgLoadMs가 크면 호출 사이에 모델이 내려갔다는 뜻이므로 ollama.keep-alive를 늘립니다.
+ */
+public record AiStreamStatsDTO(
+        String keepAlive,
+        int active,
+        long streams,
+        long failed,
+        long cancelled,
+        double avgTimeToFirstTokenMs,
+        double maxTimeToFirstTokenMs,
+        double avgStreamMs,
+        double avgLoadMs,
+        long coldLoads,
+        double tokensPerSecond
+) {
+}
@@ -0,0 +1,33 @@
+package com.Team1_Back.dto;
+
+import com.Team1_Back.domain.ApprovalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 결재 요청 검색 조건 (null인 조건은 적용하지 않음)
+ *
+ * <p>기간(createdFrom/createdTo)은 상신일(created_at) 기준이며 양 끝을 포함합니다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApprovalSearchCondition {
+
+    /** 요청자 ID (일반 사용자 조회 시 본인으로 고정) */
+    private Long requesterId;
+
+    /** 요청 유형 (EXPENSE 등) */
+    private String requestType;
+
+    private ApprovalStatus status;
+
+    private LocalDate createdFrom;
+
+    private LocalDate createdTo;
+}
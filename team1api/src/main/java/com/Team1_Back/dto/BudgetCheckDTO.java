@@ -0,0 +1,16 @@
+package com.Team1_Back.dto;
+
+/**
+ * 상신 전 잔여 예산 확인 결과
+ *
+ * <p>해당 월 예산이 없으면 monthlyLimit/remaining은 null, exceeds는 false입니다.
+ */
+public record BudgetCheckDTO(
+        String yearMonth,
+        Long monthlyLimit,
+        long spent,
+        Long remaining,
+        long requestedAmount,
+        boolean exceeds
+) {
+}
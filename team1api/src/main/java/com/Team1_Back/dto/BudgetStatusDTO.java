@@ -0,0 +1,16 @@
+package com.Team1_Back.dto;
+
+/**
+ * 사용자별 월간 예산 집행 현황 (예산 원장 기준)
+ */
+public record BudgetStatusDTO(
+        Long userId,
+        String name,
+        String department,
+        String yearMonth,
+        long monthlyLimit,
+        long spent,
+        long remaining,
+        double executionRate
+) {
+}
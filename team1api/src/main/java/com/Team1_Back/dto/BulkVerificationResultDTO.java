@@ -0,0 +1,39 @@
+package com.Team1_Back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 영수증 일괄 검증 결과 (요청 순서대로 건별 결과)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkVerificationResultDTO {
+
+    private int requested;
+    private int succeeded;
+    private int failed;
+
+    // 처리 시간 (ms)
+    private long elapsedMs;
+
+    private List<Item> results;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        private Long expenseId;
+        private String action;
+        private boolean success;
+        private String status;   // 처리 후 상태 (실패 시 null)
+        private String message;  // 실패 사유
+    }
+}
@@ -0,0 +1,22 @@
+package com.Team1_Back.dto;
+
+/**
+ * 커넥션 풀 상태와 누적 지표
+ *
+ * <p>p99WaitMs는 대기 시간 구간 상한값 기준 근사치입니다.
+ */
+public record ConnectionPoolStatsDTO(
+        String pool,
+        int totalConnections,
+        int activeConnections,
+        int idleConnections,
+        int pendingThreads,
+        int maxConnections,
+        long acquisitions,
+        double avgWaitMs,
+        double maxWaitMs,
+        long p99WaitMs,
+        long timeouts,
+        double avgUsageMs
+) {
+}
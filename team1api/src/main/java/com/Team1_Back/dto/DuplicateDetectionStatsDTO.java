@@ -0,0 +1,24 @@
+package com.Team1_Back.dto;
+
+/**
+ * 영수증 중복 검사 지표
+ *
+ * <p>observedFalsePositiveRate = 필터 오탐 / (필터 오탐 + 필터 음성) 입니다.
+ * 필터 음성은 실제로 없는 값이 확실하므로, 실제로 없던 값 중 필터가 있다고 답한 비율이 됩니다.
+ */
+public record DuplicateDetectionStatsDTO(
+        boolean ready,
+        long indexedFiles,
+        long filterBits,
+        int hashCount,
+        double expectedFalsePositiveRate,
+        long checks,
+        long filterNegatives,
+        long filterPositives,
+        long confirmedDuplicates,
+        long falsePositives,
+        double observedFalsePositiveRate,
+        int indexedContents,
+        long contentFlags
+) {
+}
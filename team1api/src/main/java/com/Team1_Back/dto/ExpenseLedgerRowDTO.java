@@ -0,0 +1,20 @@
+package com.Team1_Back.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 리포트 상세 원장(지출 1건) 행
+ *
+ * <p>엔티티 대신 JPQL 생성자 표현식으로 바로 조회하여
+ * 대량 스트리밍 시 영속성 컨텍스트가 커지지 않도록 합니다.
+ */
+public record ExpenseLedgerRowDTO(
+        Long id,
+        LocalDate receiptDate,
+        String writerName,
+        String departmentName,
+        String merchant,
+        String category,
+        Integer amount
+) {
+}
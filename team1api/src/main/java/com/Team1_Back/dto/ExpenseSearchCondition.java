@@ -0,0 +1,39 @@
+package com.Team1_Back.dto;
+
+import com.Team1_Back.domain.ApprovalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 지출 내역 검색 조건 (null인 조건은 적용하지 않음)
+ *
+ * <p>기간(createdFrom/createdTo)은 상신일(createdAt) 기준이며 양 끝을 포함합니다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExpenseSearchCondition {
+
+    /** 작성자 ID (본인 목록 조회 시 필수) */
+    private Long writerId;
+
+    private ApprovalStatus status;
+
+    private LocalDate createdFrom;
+
+    private LocalDate createdTo;
+
+    private String category;
+
+    /** 가맹점명 부분 일치 */
+    private String merchant;
+
+    private Integer minAmount;
+
+    private Integer maxAmount;
+}
@@ -0,0 +1,21 @@
+package com.Team1_Back.dto;
+
+/**
+ * 영수증 이미지 정규화 지표
+ *
+ * <p>savedRatio = 1 - (정규화 후 바이트 / 원본 바이트) 이며, 정규화한 이미지만 집계합니다.
+ */
+public record ImageNormalizationStatsDTO(
+        boolean enabled,
+        int maxLongEdge,
+        boolean grayscale,
+        float quality,
+        long normalized,
+        long skipped,
+        long failed,
+        long originalBytes,
+        long normalizedBytes,
+        double savedRatio,
+        double avgNormalizeMs
+) {
+}
@@ -0,0 +1,21 @@
+package com.Team1_Back.dto;
+
+/**
+ * 관리자 검토용 영수증 이미지 사본 지표 (노드별)
+ *
+ * <p>cacheHitRate = 메모리 캐시 적중 / (메모리 캐시 적중 + 디스크 사본 + 새로 만든 사본) 입니다.
+ */
+public record ImageVariantStatsDTO(
+        int thumbLongEdge,
+        int reviewLongEdge,
+        int cacheEntries,
+        long cacheBytes,
+        long cacheCapacityBytes,
+        long cacheHits,
+        long diskHits,
+        long generated,
+        long failed,
+        double avgGenerateMs,
+        double cacheHitRate
+) {
+}
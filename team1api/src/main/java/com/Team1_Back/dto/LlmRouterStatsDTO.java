@@ -0,0 +1,41 @@
+package com.Team1_Back.dto;
+
+import java.util.List;
+
+/**
+ * LLM 라우터 지표 (노드별)
+ *
+ * <p>errorRate/p50Ms/p95Ms는 최근 구간 기준(성공한 호출만), 나머지는 기동 후 누적입니다.
+ */
+public record LlmRouterStatsDTO(
+        long requests,
+        long hedges,
+        long hedgeWins,
+        long failed,
+        List<Provider> providers
+) {
+
+    /**
+     * 공급자별 상태
+     *
+     * @param state     서킷 브레이커 상태 (CLOSED, OPEN, HALF_OPEN)
+     * @param wins      이 공급자의 응답이 채택된 수
+     * @param cancelled 헤지에서 져서 취소된 수
+     * @param busy      벌크헤드/작업 큐가 가득 차서 건너뛴 수
+     */
+    public record Provider(
+            String name,
+            boolean enabled,
+            String state,
+            long calls,
+            long failures,
+            long wins,
+            long cancelled,
+            long busy,
+            long opened,
+            double errorRate,
+            double p50Ms,
+            double p95Ms
+    ) {
+    }
+}
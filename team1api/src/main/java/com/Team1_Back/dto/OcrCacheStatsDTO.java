@@ -0,0 +1,18 @@
+package com.Team1_Back.dto;
+
+/**
+ * 영수증 OCR 결과 캐시 지표
+ *
+ * <p>hitRate = (localHits + redisHits) / (localHits + redisHits + misses) 입니다.
+ */
+public record OcrCacheStatsDTO(
+        String model,
+        int localEntries,
+        int localCapacity,
+        long localHits,
+        long redisHits,
+        long misses,
+        long puts,
+        double hitRate
+) {
+}
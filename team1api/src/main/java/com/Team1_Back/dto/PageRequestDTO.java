@@ -26,6 +26,9 @@ public class PageRequestDTO {
     private Boolean isLocked;
     private Boolean isActive;
 
+    // 전체 건수 계산 방식 (EXACT, CACHED, HAS_NEXT, ESTIMATED / 없으면 화면별 기본값)
+    private String countMode;
+
     public Pageable getPageable(String... props) {
         if (props == null || props.length == 0) {
             return PageRequest.of(page - 1, size);
@@ -29,6 +29,9 @@ public class PageResponseDTO<E> {
 
     private List<String> departments;
 
+    // 전체 건수 계산 방식 (EXACT, CACHED, HAS_NEXT, ESTIMATED / null이면 EXACT)
+    private String countMode;
+
     public static <E> PageResponseDTO<E> of(
             List<E> content,
             PageRequestDTO request,
@@ -63,6 +66,52 @@ public class PageResponseDTO<E> {
                 .build();
     }
 
+    /**
+     * 전체 건수 없이 다음 페이지 존재 여부만 아는 경우 (COUNT 생략)
+     * totalElements/totalPages는 -1, pageNumList는 현재 페이지까지
+     */
+    public static <E> PageResponseDTO<E> ofHasNext(
+            List<E> content,
+            PageRequestDTO request,
+            boolean hasNext
+    ) {
+
+        int page = request.getPage();
+        int start = (int) (Math.ceil(page / 10.0)) * 10 - 9;
+
+        return PageResponseDTO.<E>builder()
+                .content(content)
+                .page(page)
+                .size(request.getSize())
+                .totalElements(-1)
+                .totalPages(-1)
+                .hasPrev(page > 1)
+                .hasNext(hasNext)
+                .pageNumList(IntStream.rangeClosed(start, page).boxed().collect(Collectors.toList()))
+                .prevPage(page > 1 ? page - 1 : null)
+                .nextPage(hasNext ? page + 1 : null)
+                .countMode("HAS_NEXT")
+                .build();
+    }
+
+    /** 페이지 정보는 그대로 두고 content만 교체 (엔티티 → DTO 변환 후) */
+    public <R> PageResponseDTO<R> withContent(List<R> newContent) {
+        return PageResponseDTO.<R>builder()
+                .content(newContent)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .hasPrev(hasPrev)
+                .hasNext(hasNext)
+                .pageNumList(pageNumList)
+                .prevPage(prevPage)
+                .nextPage(nextPage)
+                .departments(departments)
+                .countMode(countMode)
+                .build();
+    }
+
     /** Spring Data JPA Page<T> 기반 */
     public static <E> PageResponseDTO<E> from(org.springframework.data.domain.Page<E> page) {
         return PageResponseDTO.<E>builder()
@@ -0,0 +1,26 @@
+package com.Team1_Back.dto;
+
+import java.util.List;
+
+/**
+ * 영수증 일괄 업로드 결과
+ *
+ * <p>항목은 요청 순서대로이며, 저장에 실패한 항목은 error만 채워집니다.
+ * OCR 결과는 업로드와 같이 /user/queue/receipts 알림으로 영수증별로 전달됩니다.
+ */
+public record ReceiptBatchUploadResultDTO(
+        int requested,
+        int accepted,
+        List<Item> items
+) {
+
+    public record Item(
+            int index,
+            Long expenseId,
+            Long receiptId,
+            Long duplicateOfReceiptId,
+            String duplicateReason,
+            String error
+    ) {
+    }
+}
@@ -33,6 +33,11 @@ public class ReceiptDTO {
 
     private LocalDateTime updatedAt;
 
+    // OCR 처리 상태
+    private String ocrStatus; // PENDING, PROCESSING, DONE, FAILED (비동기 처리 이전 영수증은 null)
+
+    private String ocrError;
+
     // AI 추출 결과
     private Long extractionId;
 
@@ -73,5 +78,10 @@ public class ReceiptDTO {
 
     // 지출 상태 (Expense의 상태)
     private String status; // DRAFT, SUBMITTED, APPROVED, REJECTED, REQUEST_MORE_INFO
+
+    // 업로드 시 중복 검사 결과 (업로드 응답에만 채움)
+    private Long duplicateOfReceiptId;
+
+    private String duplicateReason; // SAME_FILE(차단 해제 시). SAME_CONTENT(가맹점/금액/일자 동일)는 OCR 완료 알림으로 전달
 }
 
@@ -34,5 +34,8 @@ public class ReceiptExtractionDTO {
     private String extractedJson;
 
     private LocalDateTime createdAt;
+
+    // 같은 이미지(파일 해시)의 이전 추출 결과를 재사용했는지 (modelName에도 " (cached)" 표시)
+    private Boolean cached;
 }
 
@@ -0,0 +1,26 @@
+package com.Team1_Back.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 영수증 OCR 처리 결과 알림 (/user/queue/receipts)
+ *
+ * <p>status는 DONE 또는 FAILED이며, DONE일 때만 추출 값과 중복 의심 정보가 채워집니다.
+ * cached는 같은 이미지의 이전 추출 결과를 재사용(AI 호출 없음)했는지입니다.
+ */
+public record ReceiptOcrEventDTO(
+        String type,
+        Long receiptId,
+        Long expenseId,
+        String status,
+        int attempts,
+        boolean cached,
+        String merchant,
+        Integer amount,
+        LocalDate date,
+        String category,
+        Long duplicateOfReceiptId,
+        String duplicateReason,
+        String error
+) {
+}
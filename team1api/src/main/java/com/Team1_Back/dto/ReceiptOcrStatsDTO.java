@@ -0,0 +1,27 @@
+package com.Team1_Back.dto;
+
+/**
+ * 영수증 OCR 워커 지표 (노드별)
+ *
+ * <p>AI 호출 평균 시간과 평균 전송 바이트로 이미지 정규화 전후의 OCR 지연을 비교합니다.
+ * aiCalls/avgAiMs는 한 장씩 보낸 요청만, batch* 항목은 배치 요청만 집계합니다.
+ * batchImagesPerSecond = 배치로 보낸 이미지 수 / 배치 요청 시간 합계 입니다.
+ */
+public record ReceiptOcrStatsDTO(
+        int workers,
+        int queued,
+        int active,
+        long aiCalls,
+        double avgAiMs,
+        double avgBytesSent,
+        long done,
+        long retried,
+        long failed,
+        int batchSize,
+        long batches,
+        long batchImages,
+        double avgImagesPerBatch,
+        double avgBatchMs,
+        double batchImagesPerSecond
+) {
+}
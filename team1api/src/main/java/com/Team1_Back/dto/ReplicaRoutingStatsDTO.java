@@ -0,0 +1,21 @@
+package com.Team1_Back.dto;
+
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션 라우팅 지표
+ *
+ * <p>stickyReads는 본인 쓰기 직후라 주 DB로 보낸 읽기, pinnedReads는 캐시/적재처럼 주 DB로 지정된 읽기,
+ * fallbackReads는 쓸 수 있는 복제본이 없어 주 DB로 보낸 읽기입니다.
+ */
+public record ReplicaRoutingStatsDTO(
+        long maxLagMs,
+        long replicaReads,
+        long stickyReads,
+        long pinnedReads,
+        long fallbackReads,
+        List<Node> replicas
+) {
+    public record Node(String name, boolean usable, boolean up, long lagMs, long reads) {
+    }
+}
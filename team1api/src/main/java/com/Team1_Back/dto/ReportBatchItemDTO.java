@@ -0,0 +1,10 @@
+package com.Team1_Back.dto;
+
+public record ReportBatchItemDTO(
+        Long reportId,
+        String department,
+        String status,
+        String fileName,
+        Integer approvedCount,
+        Long approvedTotal
+) {}
@@ -0,0 +1,23 @@
+package com.Team1_Back.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 부서별 리포트 일괄 생성 요청 ("모든 부서, 기간 P, 타입 T")
+ */
+@Getter
+@Setter
+public class ReportBatchRequestDTO {
+
+    @NotBlank
+    private String reportTypeId;        // 예: DEPT_SUMMARY_PDF, DEPT_DETAIL_EXCEL
+
+    @NotBlank
+    private String period;              // "2025-03"
+
+    private List<String> departments;   // 비어 있으면 전체 부서
+}
@@ -0,0 +1,9 @@
+package com.Team1_Back.dto;
+
+
+public record ReportBatchResponseDTO(
+        String batchId,
+        String reportTypeId,
+        String period,
+        java.util.List<ReportBatchItemDTO> items
+) {}
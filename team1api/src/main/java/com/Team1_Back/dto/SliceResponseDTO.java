@@ -0,0 +1,29 @@
+package com.Team1_Back.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 "더 보기" 응답
+ *
+ * <p>전체 건수를 세지 않으며, 다음 요청 시 nextCursor를 그대로 넘기면 이어서 조회합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SliceResponseDTO<E> {
+
+    private List<E> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    /** 다음 페이지 커서 (마지막이면 null) */
+    private String nextCursor;
+}
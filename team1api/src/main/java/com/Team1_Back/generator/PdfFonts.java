@@ -0,0 +1,105 @@
+package com.Team1_Back.generator;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.BaseFont;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * PDF 리포트용 폰트/스타일 캐시
+ *
+ * <p>BaseFont 로딩(TTF 파싱)은 비용이 커서 애플리케이션 기동 시 한 번만 수행하고,
+ * 모든 PDF 생성에서 같은 {@link Font} 인스턴스를 재사용합니다.
+ *
+ * <p>한글 출력을 위해 유니코드 TTF를 IDENTITY_H + 임베딩(서브셋)으로 로드합니다.
+ * 폰트 경로는 {@code com.mallapi.report.pdf.font-path}로 지정하며
+ * ({@code classpath:} 접두사 지원), 없으면 OS 기본 한글 폰트를 찾고
+ * 그래도 없으면 Helvetica로 대체합니다. (이 경우 한글은 표시되지 않음)
+ */
+@Component
+@Slf4j
+@Getter
+public class PdfFonts {
+
+    private static final List<String> SYSTEM_FONT_PATHS = List.of(
+            "/usr/share/fonts/truetype/nanum/NanumGothic.ttf",
+            "/usr/share/fonts/nanum/NanumGothic.ttf",
+            "/System/Library/Fonts/Supplemental/AppleGothic.ttf",
+            "C:/Windows/Fonts/malgun.ttf"
+    );
+
+    private static final Color HEADER_GRAY = new Color(0xEE, 0xEE, 0xEE);
+
+    private final BaseFont baseFont;
+    private final boolean unicode;
+
+    private final Font title;
+    private final Font subtitle;
+    private final Font body;
+    private final Font tableHeader;
+    private final Font tableCell;
+    private final Font footer;
+
+    public PdfFonts(@Value("${com.mallapi.report.pdf.font-path:}") String fontPath) {
+        BaseFont loaded = loadUnicodeFont(fontPath);
+        this.unicode = loaded != null;
+        this.baseFont = unicode ? loaded : helvetica();
+
+        this.title = new Font(baseFont, 16, Font.BOLD);
+        this.subtitle = new Font(baseFont, 10, Font.ITALIC);
+        this.body = new Font(baseFont, 11);
+        this.tableHeader = new Font(baseFont, 9, Font.BOLD);
+        this.tableCell = new Font(baseFont, 8);
+        this.footer = new Font(baseFont, 8, Font.NORMAL, Color.GRAY);
+    }
+
+    public Color getHeaderBackground() {
+        return HEADER_GRAY;
+    }
+
+    private BaseFont loadUnicodeFont(String fontPath) {
+        try {
+            if (fontPath != null && !fontPath.isBlank()) {
+                if (fontPath.startsWith("classpath:")) {
+                    String location = fontPath.substring("classpath:".length());
+                    try (InputStream in = new ClassPathResource(location).getInputStream()) {
+                        byte[] ttf = in.readAllBytes();
+                        return BaseFont.createFont(location, BaseFont.IDENTITY_H, BaseFont.EMBEDDED,
+                                true, ttf, null);
+                    }
+                }
+                return BaseFont.createFont(fontPath, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+            }
+
+            for (String candidate : SYSTEM_FONT_PATHS) {
+                Path p = Paths.get(candidate);
+                if (Files.isReadable(p)) {
+                    return BaseFont.createFont(candidate, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[PDF] font load failed - path={}, error={}", fontPath, e.getMessage());
+        }
+
+        log.warn("[PDF] Korean font not found. Falling back to Helvetica (set com.mallapi.report.pdf.font-path)");
+        return null;
+    }
+
+    private BaseFont helvetica() {
+        try {
+            return BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load Helvetica", e);
+        }
+    }
+}
@@ -1,22 +1,44 @@
 package com.Team1_Back.generator;
 
 import com.Team1_Back.domain.enums.DataScope;
+import com.Team1_Back.dto.ExpenseLedgerRowDTO;
 import com.Team1_Back.report.entity.ReportJob;
 import com.lowagie.text.Document;
-import com.lowagie.text.Font;
+import com.lowagie.text.Element;
 import com.lowagie.text.PageSize;
 import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfPageEventHelper;
 import com.lowagie.text.pdf.PdfWriter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.NumberFormat;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 @Component
+@RequiredArgsConstructor
 public class PdfReportGenerator {
 
+    // 이 행 수마다 표를 문서에 내보내고 메모리에서 비움 (완성된 페이지는 즉시 파일로 기록됨)
+    private static final int FLUSH_ROWS = 200;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] LEDGER_HEADERS = {"Date", "Employee", "Department", "Merchant", "Category", "Amount"};
+    private static final float[] LEDGER_WIDTHS = {12f, 14f, 16f, 28f, 14f, 16f};
+
+    private final PdfFonts fonts;
+
     private String displayScope(DataScope scope) {
         if (scope == null) return "";
         return switch (scope) {
@@ -26,44 +48,127 @@ public class PdfReportGenerator {
         };
     }
 
-    private String moneyKrw(Long v) {
+    private String moneyKrw(Long v, NumberFormat nf) {
         long n = (v == null) ? 0L : v;
-        return "₩" + NumberFormat.getNumberInstance(Locale.KOREA).format(n);
+        return "₩" + nf.format(n);
     }
 
     public void generate(Path outputFile, ReportJob job) throws Exception {
+        generate(outputFile, job, null);
+    }
+
+    /**
+     * 요약 + (있으면) 상세 원장 표를 출력합니다.
+     *
+     * @param rows 상세 원장 행 스트림 (null이면 요약만 출력). 호출 측에서 닫아야 합니다.
+     * @return 생성된 페이지 수
+     */
+    public int generate(Path outputFile, ReportJob job, Stream<ExpenseLedgerRowDTO> rows) throws Exception {
+        NumberFormat nf = NumberFormat.getNumberInstance(Locale.KOREA);
         Document doc = new Document(PageSize.A4, 48, 48, 56, 56);
-        PdfWriter.getInstance(doc, new FileOutputStream(outputFile.toFile()));
-        doc.open();
 
-        Paragraph title = new Paragraph("Report Summary", new Font(Font.HELVETICA, 16, Font.BOLD));
-        doc.add(title);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputFile), BUFFER_SIZE)) {
+            PdfWriter writer = PdfWriter.getInstance(doc, out);
+            writer.setFullCompression();
+            writer.setPageEvent(new PageNumberFooter());
+            doc.open();
 
-        doc.add(new Paragraph("Confidential", new Font(Font.HELVETICA, 10, Font.ITALIC)));
-        doc.add(new Paragraph(" "));
+            Paragraph title = new Paragraph("Report Summary", fonts.getTitle());
+            doc.add(title);
 
-        doc.add(kv("Report Type", job.getReportTypeId()));
-        doc.add(kv("Report ID", String.valueOf(job.getId())));
-        doc.add(kv("Dept(snapshot)", job.getDepartmentSnapshot()));
-        doc.add(kv("Scope", displayScopeWithDept(job)));
+            doc.add(new Paragraph("Confidential", fonts.getSubtitle()));
+            doc.add(new Paragraph(" "));
 
-        doc.add(kv("Period", job.getPeriod()));
+            doc.add(kv("Report Type", job.getReportTypeId()));
+            doc.add(kv("Report ID", String.valueOf(job.getId())));
+            doc.add(kv("Dept(snapshot)", job.getDepartmentSnapshot()));
+            doc.add(kv("Scope", displayScopeWithDept(job)));
 
-        doc.add(kv("Category", job.getCategoryJson()));
-        doc.add(kv("Requested By", String.valueOf(job.getRequestedBy())));
+            doc.add(kv("Period", job.getPeriod()));
+
+            doc.add(kv("Category", job.getCategoryJson()));
+            doc.add(kv("Requested By", String.valueOf(job.getRequestedBy())));
+
+            doc.add(new Paragraph(" "));
+
+            // ✅ EXPENSE 승인합계용 값(없으면 0/0)
+            doc.add(new Paragraph("• Records Included : " + (job.getApprovedCount() == null ? 0 : job.getApprovedCount()), fonts.getBody()));
+            doc.add(new Paragraph("• Total Amount     : " + moneyKrw(job.getApprovedTotal(), nf), fonts.getBody()));
+
+            if (rows != null) {
+                writeLedger(doc, rows.iterator(), nf);
+            }
 
+            int pages = writer.getPageNumber();
+            doc.close();
+            return pages;
+        }
+    }
+
+    /**
+     * 상세 원장 표를 스트리밍으로 출력합니다.
+     * 표를 미완성(LargeElement) 상태로 두고 FLUSH_ROWS마다 문서에 추가하면
+     * 이미 출력된 행은 표에서 제거되어 메모리 사용량이 행 수와 무관하게 유지됩니다.
+     */
+    private void writeLedger(Document doc, Iterator<ExpenseLedgerRowDTO> it, NumberFormat nf) throws Exception {
+        doc.newPage();
+        doc.add(new Paragraph("Expense Ledger", fonts.getTitle()));
         doc.add(new Paragraph(" "));
 
-        // ✅ EXPENSE 승인합계용 값(없으면 0/0)
-        doc.add(new Paragraph("• Records Included : " + (job.getApprovedCount() == null ? 0 : job.getApprovedCount())));
-        doc.add(new Paragraph("• Total Amount     : " + moneyKrw(job.getApprovedTotal())));
+        PdfPTable table = new PdfPTable(LEDGER_WIDTHS);
+        table.setWidthPercentage(100);
+        table.setHeaderRows(1);
+        table.setComplete(false);
+
+        PdfPCell cell = table.getDefaultCell();
+        cell.setPadding(3);
+        cell.setBorderWidth(0.5f);
+
+        cell.setBackgroundColor(fonts.getHeaderBackground());
+        for (String h : LEDGER_HEADERS) {
+            table.addCell(new Phrase(h, fonts.getTableHeader()));
+        }
+        cell.setBackgroundColor(null);
+
+        long count = 0;
+        long total = 0;
+
+        while (it.hasNext()) {
+            ExpenseLedgerRowDTO r = it.next();
+            long amount = r.amount() == null ? 0L : r.amount();
+
+            cell.setHorizontalAlignment(Element.ALIGN_LEFT);
+            table.addCell(new Phrase(r.receiptDate() == null ? "-" : r.receiptDate().toString(), fonts.getTableCell()));
+            table.addCell(new Phrase(nvl(r.writerName()), fonts.getTableCell()));
+            table.addCell(new Phrase(nvl(r.departmentName()), fonts.getTableCell()));
+            table.addCell(new Phrase(nvl(r.merchant()), fonts.getTableCell()));
+            table.addCell(new Phrase(nvl(r.category()), fonts.getTableCell()));
+            cell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+            table.addCell(new Phrase(nf.format(amount), fonts.getTableCell()));
+
+            count++;
+            total += amount;
+
+            if (count % FLUSH_ROWS == 0) {
+                doc.add(table);
+            }
+        }
 
-        doc.close();
+        table.setComplete(true);
+        doc.add(table);
+
+        doc.add(new Paragraph(" "));
+        doc.add(new Paragraph("• Ledger Rows  : " + nf.format(count), fonts.getBody()));
+        doc.add(new Paragraph("• Ledger Total : " + moneyKrw(total, nf), fonts.getBody()));
     }
 
     private Paragraph kv(String k, String v) {
         String val = (v == null || v.isBlank()) ? "-" : v;
-        return new Paragraph(k + " : " + val, new Font(Font.HELVETICA, 11));
+        return new Paragraph(k + " : " + val, fonts.getBody());
+    }
+
+    private String nvl(String v) {
+        return (v == null || v.isBlank()) ? "-" : v;
     }
 
     private String displayScopeWithDept(ReportJob job) {
@@ -80,5 +185,22 @@ public class PdfReportGenerator {
         };
     }
 
-}
+    /**
+     * 페이지 하단 번호 (Page N)
+     */
+    private class PageNumberFooter extends PdfPageEventHelper {
+        @Override
+        public void onEndPage(PdfWriter writer, Document document) {
+            Rectangle page = document.getPageSize();
+            ColumnText.showTextAligned(
+                    writer.getDirectContent(),
+                    Element.ALIGN_CENTER,
+                    new Phrase("Page " + writer.getPageNumber(), fonts.getFooter()),
+                    (page.getLeft() + page.getRight()) / 2,
+                    page.getBottom() + 28,
+                    0
+            );
+        }
+    }
 
+}
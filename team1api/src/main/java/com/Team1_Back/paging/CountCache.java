@@ -0,0 +1,120 @@
+package com.Team1_Back.paging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 COUNT 결과 캐시 (Redis, 노드 간 공유)
+ *
+ * <p>키: count:{scope}:{version}:{필터 시그니처 해시}
+ * 쓰기 시 scope 버전만 올리면 이전 키는 모두 무시되고 TTL로 정리됩니다.
+ * Redis 장애 시에는 정확한 COUNT로 대체합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CountCache {
+
+    /** 무효화 범위 */
+    public static final String EXPENSE = "expense";
+    public static final String APPROVAL = "approval";
+    public static final String USER = "user";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${com.mallapi.paging.count-ttl-seconds:30}")
+    private long ttlSeconds;
+
+    /**
+     * 캐시된 COUNT (없으면 counter 실행 후 저장)
+     */
+    public long get(String scope, String signature, LongSupplier counter) {
+        String key;
+        try {
+            key = "count:" + scope + ":" + version(scope) + ":"
+                    + DigestUtils.md5DigestAsHex(signature.getBytes(StandardCharsets.UTF_8));
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.debug("[COUNT] cache read failed ({}): {}", scope, e.getMessage());
+            return counter.getAsLong();
+        }
+
+        long count = counter.getAsLong();
+        try {
+            redisTemplate.opsForValue().set(key, Long.toString(count), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.debug("[COUNT] cache write failed ({}): {}", scope, e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * scope 무효화 (트랜잭션 중이면 커밋 후)
+     */
+    public void invalidate(String... scopes) {
+        Runnable bump = () -> {
+            for (String scope : scopes) {
+                try {
+                    redisTemplate.opsForValue().increment(versionKey(scope));
+                } catch (Exception e) {
+                    log.debug("[COUNT] invalidate failed ({}): {}", scope, e.getMessage());
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+
+    /**
+     * 테이블 전체 행 수 추정치 (InnoDB 통계, 필터 없는 관리자 목록용)
+     *
+     * <p>통계가 없으면 fallback을 사용합니다.
+     */
+    public long estimateTableRows(String table, LongSupplier fallback) {
+        try {
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT TABLE_ROWS FROM information_schema.TABLES " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                    Long.class, table);
+            if (rows != null && rows > 0) {
+                return rows;
+            }
+        } catch (Exception e) {
+            log.debug("[COUNT] estimate failed ({}): {}", table, e.getMessage());
+        }
+        return fallback.getAsLong();
+    }
+
+    private String version(String scope) {
+        String v = redisTemplate.opsForValue().get(versionKey(scope));
+        return v != null ? v : "0";
+    }
+
+    private String versionKey(String scope) {
+        return "count:" + scope + ":ver";
+    }
+}
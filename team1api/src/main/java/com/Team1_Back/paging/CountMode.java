@@ -0,0 +1,30 @@
+package com.Team1_Back.paging;
+
+/**
+ * 페이지 목록의 전체 건수 계산 방식
+ *
+ * <ul>
+ *   <li>EXACT - 매 요청 COUNT(*)</li>
+ *   <li>CACHED - 필터 조합별 COUNT 결과를 짧게 캐시, 쓰기 시 무효화</li>
+ *   <li>HAS_NEXT - size+1건만 읽어 다음 페이지 존재 여부만 판단 (COUNT 없음)</li>
+ *   <li>ESTIMATED - 필터가 없으면 테이블 통계 추정치, 있으면 CACHED</li>
+ * </ul>
+ */
+public enum CountMode {
+
+    EXACT, CACHED, HAS_NEXT, ESTIMATED;
+
+    /**
+     * 요청 파라미터 값으로 변환 (없거나 잘못된 값이면 기본값)
+     */
+    public static CountMode from(String value, CountMode defaultMode) {
+        if (value == null || value.isBlank()) {
+            return defaultMode;
+        }
+        try {
+            return CountMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultMode;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.Team1_Back.paging;
+
+import com.Team1_Back.dto.PageRequestDTO;
+import com.Team1_Back.dto.PageResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 목록 조회 + 전체 건수 계산 전략 적용
+ *
+ * <p>데이터 조회(offset/limit)와 COUNT를 분리해서 받고, {@link CountMode}에 따라
+ * COUNT를 생략/캐시/추정합니다. 결과만으로 전체 건수를 알 수 있는 경우
+ * (첫 페이지가 덜 찼거나 마지막 페이지)에는 어떤 모드든 COUNT를 실행하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PagedQueryExecutor {
+
+    private final CountCache countCache;
+
+    /**
+     * 페이지 단위 데이터 조회
+     */
+    @FunctionalInterface
+    public interface Fetcher<E> {
+        List<E> fetch(long offset, int limit);
+    }
+
+    /**
+     * 목록 조회 요청 (scope/signature는 CACHED, table은 ESTIMATED에서 사용)
+     *
+     * @param scope 캐시 무효화 범위 ({@link CountCache#EXPENSE} 등)
+     * @param signature 필터 조합을 구분하는 문자열 (같은 필터 → 같은 값)
+     * @param table 추정치를 읽을 테이블 (필터가 없을 때만 지정, 아니면 null)
+     */
+    public record Query<E>(String scope,
+                           String signature,
+                           String table,
+                           Fetcher<E> fetcher,
+                           LongSupplier counter) {
+    }
+
+    public <E> PageResponseDTO<E> execute(PageRequestDTO request, CountMode mode, Query<E> query) {
+        int size = request.getSize();
+        long offset = request.getOffset();
+
+        if (mode == CountMode.HAS_NEXT) {
+            List<E> rows = query.fetcher().fetch(offset, size + 1);
+            boolean hasNext = rows.size() > size;
+            return PageResponseDTO.ofHasNext(hasNext ? rows.subList(0, size) : rows, request, hasNext);
+        }
+
+        List<E> content = query.fetcher().fetch(offset, size);
+
+        // 결과로 전체 건수를 알 수 있으면 COUNT 생략
+        if (content.size() < size && (offset == 0 || !content.isEmpty())) {
+            return withMode(PageResponseDTO.of(content, request, offset + content.size()), mode);
+        }
+
+        long total = switch (mode) {
+            case EXACT -> query.counter().getAsLong();
+            case ESTIMATED -> query.table() != null
+                    ? countCache.estimateTableRows(query.table(), () -> cached(query))
+                    : cached(query);
+            default -> cached(query);
+        };
+
+        // 추정치가 실제보다 작게 나와도 현재 페이지까지는 보이도록 보정
+        total = Math.max(total, offset + content.size());
+        return withMode(PageResponseDTO.of(content, request, total), mode);
+    }
+
+    private long cached(Query<?> query) {
+        return countCache.get(query.scope(), query.signature(), query.counter());
+    }
+
+    private <E> PageResponseDTO<E> withMode(PageResponseDTO<E> response, CountMode mode) {
+        response.setCountMode(mode.name());
+        return response;
+    }
+}
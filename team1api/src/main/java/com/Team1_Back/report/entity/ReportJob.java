@@ -18,7 +18,8 @@ import java.time.YearMonth;
         indexes = {
                 @Index(name = "idx_report_job_requested_by", columnList = "requested_by"),
                 @Index(name = "idx_report_job_status", columnList = "status"),
-                @Index(name = "idx_report_job_created_at", columnList = "created_at")
+                @Index(name = "idx_report_job_created_at", columnList = "created_at"),
+                @Index(name = "idx_report_job_batch_id", columnList = "batch_id")
         })
 public class ReportJob {
 
@@ -73,6 +74,10 @@ public class ReportJob {
     private LocalDateTime updatedAt;
 
 
+    // 부서별 일괄 생성 시 같은 배치에 속한 작업들을 묶는 ID (단건 생성은 null)
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
     @Column(name = "period_start")
     private LocalDate periodStart;
 
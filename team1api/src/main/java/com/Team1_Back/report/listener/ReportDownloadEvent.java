@@ -0,0 +1,16 @@
+package com.Team1_Back.report.listener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리포트 파일 다운로드 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ReportDownloadEvent {
+
+    private final Long reportFileId;
+    private final Long reportJobId;
+    private final Long downloadedBy;
+}
@@ -0,0 +1,52 @@
+package com.Team1_Back.report.listener;
+
+import com.Team1_Back.domain.ReportDownloadLog;
+import com.Team1_Back.report.storage.ReportStorageManager;
+import com.Team1_Back.repository.ReportDownloadLogRepository;
+import com.Team1_Back.repository.ReportFileRepository;
+import com.Team1_Back.repository.ReportJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리포트 다운로드 로그 리스너
+ *
+ * <p>다운로드 응답 전송과 분리하여 별도 스레드/트랜잭션에서 report_download_log를 저장합니다.
+ * 로그 저장 실패는 다운로드 자체에 영향을 주지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportDownloadLogListener {
+
+    private final ReportDownloadLogRepository reportDownloadLogRepository;
+    private final ReportFileRepository reportFileRepository;
+    private final ReportJobRepository reportJobRepository;
+    private final ReportStorageManager reportStorageManager;
+
+    @Async
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleDownload(ReportDownloadEvent event) {
+        try {
+            ReportDownloadLog downloadLog = new ReportDownloadLog();
+            downloadLog.setReportFile(reportFileRepository.getReferenceById(event.getReportFileId()));
+            if (event.getReportJobId() != null) {
+                downloadLog.setReportJob(reportJobRepository.getReferenceById(event.getReportJobId()));
+            }
+            downloadLog.setDownloadedBy(event.getDownloadedBy());
+            reportDownloadLogRepository.saveAndFlush(downloadLog);
+
+            // 마지막 다운로드 시각 갱신 (압축 대상 판단)
+            reportStorageManager.onDownloaded(event.getReportFileId());
+        } catch (Exception e) {
+            log.warn("[REPORT] 다운로드 로그 저장 실패 (무시) - fileId={}, userId={}, error={}",
+                    event.getReportFileId(), event.getDownloadedBy(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.Team1_Back.report.storage;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 리포트 저장소 수명주기 설정
+ */
+@Configuration
+@EnableConfigurationProperties(ReportStorageProperties.class)
+public class ReportStorageConfig {
+}
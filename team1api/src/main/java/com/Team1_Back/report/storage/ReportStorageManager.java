@@ -0,0 +1,299 @@
+package com.Team1_Back.report.storage;
+
+import com.Team1_Back.domain.ReportFile;
+import com.Team1_Back.domain.enums.ReportStatus;
+import com.Team1_Back.domain.enums.StorageTier;
+import com.Team1_Back.repository.ReportDownloadLogRepository;
+import com.Team1_Back.repository.ReportFileRepository;
+import com.Team1_Back.repository.ReportJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 리포트 파일 저장소 수명주기 관리
+ *
+ * <ul>
+ *   <li>압축: 마지막 다운로드(없으면 생성일) 후 N일 지난 HOT 파일을 gzip으로 보관</li>
+ *   <li>전송: GZIP 파일은 다운로드 시 스트림으로 풀어서 전송 (디스크에 복원하지 않고 GZIP 티어 유지)</li>
+ *   <li>만료: 리포트 타입별 보관 기간이 지난 파일/다운로드 로그 삭제, 파일이 없는 작업은 EXPIRED</li>
+ * </ul>
+ *
+ * <p>ETag로 쓰는 checksum과 file_size는 항상 원본 기준이라 압축 여부와 무관하게 동일합니다.
+ * 배치 작업은 파일 단위로 짧은 트랜잭션을 사용하고, 건마다 pauseMs만큼 쉬어 I/O를 완화합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReportStorageManager {
+
+    private static final String GZ_EXT = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ReportFileRepository reportFileRepository;
+    private final ReportDownloadLogRepository reportDownloadLogRepository;
+    private final ReportJobRepository reportJobRepository;
+    private final ReportStorageProperties props;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 수명주기 1회 실행 결과
+     */
+    public record LifecycleResult(int compressed, int purged, int logsDeleted, long reclaimedBytes) {
+    }
+
+    // =========================
+    // 다운로드 경로
+    // =========================
+
+    /**
+     * 전송할 로컬 파일
+     *
+     * @param path    디스크상 파일 (gzipped면 .gz 보관본)
+     * @param gzipped 전송 시 풀어서 보내야 하는지
+     * @param size    원본 크기 (Content-Length/Range 기준)
+     */
+    public record ReadableFile(Path path, boolean gzipped, long size) {
+
+        /**
+         * 원본 내용 스트림 (GZIP 보관본은 읽으면서 풂)
+         */
+        public InputStream open() throws IOException {
+            InputStream in = Files.newInputStream(path);
+            return gzipped ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        }
+    }
+
+    /**
+     * 전송할 파일을 확인합니다. (디스크 확인만 하며, GZIP 티어 파일은 전송 시점에 스트림으로 풂)
+     *
+     * <p>압축 해제를 여기서(다운로드 조회 트랜잭션 안에서) 하지 않으므로 큰 보관본도 DB 커넥션을 오래 잡지 않습니다.
+     */
+    public ReadableFile resolveReadable(ReportFile rf) {
+        Path stored = Paths.get(rf.getFileUrl());
+
+        try {
+            if (!Files.isReadable(stored)) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File missing");
+            if (!rf.isCompressed()) return new ReadableFile(stored, false, Files.size(stored));
+
+            return new ReadableFile(stored, true, rf.getFileSize());
+        } catch (IOException e) {
+            log.error("[STORAGE] stat failed - fileId={}, path={}", rf.getId(), stored, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Download error");
+        }
+    }
+
+    /**
+     * 다운로드 완료 후 호출: 마지막 다운로드 시각 갱신
+     */
+    @Transactional
+    public void onDownloaded(Long fileId) {
+        reportFileRepository.findById(fileId)
+                .ifPresent(rf -> rf.setLastDownloadedAt(LocalDateTime.now()));
+    }
+
+    // =========================
+    // 배치
+    // =========================
+
+    /**
+     * 압축 → 만료 삭제 → 다운로드 로그 정리를 순서대로 수행합니다.
+     */
+    public LifecycleResult runLifecycle() {
+        if (!props.isEnabled()) return new LifecycleResult(0, 0, 0, 0L);
+
+        long reclaimed = 0L;
+        int compressed = 0;
+        int purged = 0;
+
+        // 1) 압축
+        LocalDateTime compressCutoff = LocalDateTime.now().minusDays(props.getCompressAfterDays());
+        List<ReportFile> candidates = reportFileRepository.findCompressCandidates(
+                compressCutoff, PageRequest.of(0, props.getBatchSize()));
+
+        for (ReportFile rf : candidates) {
+            try {
+                long saved = compress(rf);
+                if (saved > 0) {
+                    compressed++;
+                    reclaimed += saved;
+                }
+            } catch (Exception e) {
+                log.warn("[STORAGE] compress failed - fileId={}, error={}", rf.getId(), e.getMessage());
+            }
+            if (!pause()) break;
+        }
+
+        // 2) 보관 기간 만료
+        Map<String, Integer> perType = props.getRetentionDays();
+        for (Map.Entry<String, Integer> e : perType.entrySet()) {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(e.getValue());
+            List<ReportFile> expired = reportFileRepository.findExpiredByType(
+                    e.getKey(), cutoff, PageRequest.of(0, props.getBatchSize()));
+            for (ReportFile rf : expired) {
+                reclaimed += purgeQuietly(rf);
+                purged++;
+                if (!pause()) break;
+            }
+        }
+
+        // NOT IN () 방지용 - reportTypeId가 빈 문자열인 작업은 없음
+        Collection<String> excluded = perType.isEmpty() ? List.of("") : perType.keySet();
+        LocalDateTime defaultCutoff = LocalDateTime.now().minusDays(props.getDefaultRetentionDays());
+        List<ReportFile> expired = reportFileRepository.findExpiredExcludingTypes(
+                excluded, defaultCutoff, PageRequest.of(0, props.getBatchSize()));
+        for (ReportFile rf : expired) {
+            reclaimed += purgeQuietly(rf);
+            purged++;
+            if (!pause()) break;
+        }
+
+        // 3) 다운로드 로그
+        LocalDateTime logCutoff = LocalDateTime.now().minusDays(props.getDownloadLogRetentionDays());
+        int limit = props.getBatchSize() * 10;
+        int logsDeleted = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(
+                    st -> reportDownloadLogRepository.deleteOlderThan(logCutoff, limit));
+            int n = deleted == null ? 0 : deleted;
+            logsDeleted += n;
+            if (n < limit || !pause()) break;
+        }
+
+        LifecycleResult result = new LifecycleResult(compressed, purged, logsDeleted, reclaimed);
+        log.info("[STORAGE] lifecycle done - compressed={}, purged={}, logsDeleted={}, reclaimedBytes={}",
+                compressed, purged, logsDeleted, reclaimed);
+        return result;
+    }
+
+    /**
+     * HOT 파일 1건을 gzip으로 압축합니다.
+     *
+     * @return 절약된 바이트 수 (압축 효과가 없으면 0)
+     */
+    private long compress(ReportFile rf) throws IOException {
+        Path src = Paths.get(rf.getFileUrl());
+        if (!Files.isReadable(src)) {
+            log.warn("[STORAGE] source missing - fileId={}, path={}", rf.getId(), src);
+            return 0L;
+        }
+
+        Path gz = src.resolveSibling(src.getFileName() + GZ_EXT);
+        Path tmp = src.resolveSibling(src.getFileName() + GZ_EXT + ".tmp");
+
+        try (InputStream in = Files.newInputStream(src);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp), BUFFER_SIZE)) {
+            in.transferTo(out);
+        }
+
+        long originalSize = Files.size(src);
+        long compressedSize = Files.size(tmp);
+
+        // XLSX처럼 이미 압축된 포맷은 이득이 거의 없음 → HOT 유지, storedSize 기록으로 재시도 방지
+        if (compressedSize >= originalSize * 0.9) {
+            Files.deleteIfExists(tmp);
+            transactionTemplate.executeWithoutResult(st ->
+                    reportFileRepository.findById(rf.getId()).ifPresent(f -> f.setStoredSize(originalSize)));
+            return 0L;
+        }
+
+        Files.move(tmp, gz, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        try {
+            transactionTemplate.executeWithoutResult(st -> {
+                ReportFile f = reportFileRepository.findById(rf.getId()).orElseThrow();
+                f.setStorageTier(StorageTier.GZIP);
+                f.setFileUrl(gz.toString());
+                f.setStoredSize(compressedSize);
+            });
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(gz);
+            throw e;
+        }
+
+        Files.deleteIfExists(src);
+        return originalSize - compressedSize;
+    }
+
+    private long purgeQuietly(ReportFile rf) {
+        try {
+            return purge(rf);
+        } catch (Exception e) {
+            log.warn("[STORAGE] purge failed - fileId={}, error={}", rf.getId(), e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 만료된 파일 1건과 다운로드 로그를 삭제합니다.
+     *
+     * @return 삭제된 디스크 바이트 수
+     */
+    private long purge(ReportFile rf) throws IOException {
+        Long jobId = rf.getReportJob().getId();
+        Path stored = Paths.get(rf.getFileUrl());
+
+        transactionTemplate.executeWithoutResult(st -> {
+            reportDownloadLogRepository.deleteByReportFileId(rf.getId());
+            reportFileRepository.deleteById(rf.getId());
+
+            if (!reportFileRepository.existsByReportJob_Id(jobId)) {
+                reportJobRepository.findById(jobId).ifPresent(job -> {
+                    job.setStatus(ReportStatus.EXPIRED);
+                    job.setFilePath(null);
+                    job.setUpdatedAt(LocalDateTime.now());
+                });
+            }
+        });
+
+        long bytes = deleteIfExists(stored);
+
+        // 작업별 디렉터리가 비었으면 정리
+        Path dir = stored.getParent();
+        if (dir != null) {
+            try (var entries = Files.list(dir)) {
+                if (entries.findAny().isEmpty()) Files.deleteIfExists(dir);
+            } catch (IOException ignore) {
+                // 디렉터리 정리 실패는 무시
+            }
+        }
+        return bytes;
+    }
+
+    private long deleteIfExists(Path path) throws IOException {
+        if (!Files.exists(path)) return 0L;
+        long size = Files.size(path);
+        Files.delete(path);
+        return size;
+    }
+
+    private boolean pause() {
+        if (props.getPauseMs() <= 0) return true;
+        try {
+            Thread.sleep(props.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.Team1_Back.report.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 리포트 저장소 수명주기(압축/보관 기간) 설정 프로퍼티
+ *
+ * <pre>
+ * com.mallapi.report.lifecycle.compress-after-days=7
+ * com.mallapi.report.lifecycle.default-retention-days=180
+ * com.mallapi.report.lifecycle.retention-days.PERSONAL_SUMMARY_PDF=30
+ * </pre>
+ *
+ * @author Team1
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "com.mallapi.report.lifecycle")
+public class ReportStorageProperties {
+
+    /** 수명주기 작업 사용 여부 */
+    private boolean enabled = true;
+
+    /** 마지막 다운로드(없으면 생성일) 이후 N일이 지나면 gzip 압축 */
+    private int compressAfterDays = 7;
+
+    /** 리포트 타입별 설정이 없을 때의 보관 기간(일) */
+    private int defaultRetentionDays = 180;
+
+    /** 리포트 타입별 보관 기간(일) - key: reportTypeId */
+    private Map<String, Integer> retentionDays = new HashMap<>();
+
+    /** report_download_log 보관 기간(일) */
+    private int downloadLogRetentionDays = 365;
+
+    /** 1회 실행 시 단계별 최대 처리 건수 */
+    private int batchSize = 100;
+
+    /** 파일 1건 처리 후 대기 시간(ms) - 디스크 I/O 완화용 */
+    private long pauseMs = 200;
+}
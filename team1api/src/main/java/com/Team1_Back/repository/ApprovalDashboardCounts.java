@@ -0,0 +1,12 @@
+package com.Team1_Back.repository;
+
+/**
+ * 회계 대시보드용 결재 건수 집계 (1회 쿼리)
+ */
+public interface ApprovalDashboardCounts {
+    Long getTotalPending();
+    Long getTodaySubmitted();
+    Long getTodayApproved();
+    Long getTodayRejected();
+    Long getTodayRequestMoreInfo();
+}
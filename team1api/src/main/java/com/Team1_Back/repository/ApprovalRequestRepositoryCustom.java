@@ -0,0 +1,18 @@
+package com.Team1_Back.repository;
+
+import com.Team1_Back.dto.ApprovalRequestDTO;
+import com.Team1_Back.dto.ApprovalSearchCondition;
+
+import java.util.List;
+
+public interface ApprovalRequestRepositoryCustom {
+
+    // 결재 요청 검색 - 데이터만 (COUNT 전략을 호출 측에서 정할 때 사용)
+    List<ApprovalRequestDTO> fetch(ApprovalSearchCondition condition, long offset, int limit);
+
+    // 결재 요청 검색 - 전체 개수만 (조인 없음)
+    long count(ApprovalSearchCondition condition);
+
+    // 결재 요청 검색 (동적 조건 + 커서 방식, 관리자 결재함 "더 보기"용)
+    List<ApprovalRequestDTO> searchAfter(ApprovalSearchCondition condition, KeysetCursor cursor, int limit);
+}
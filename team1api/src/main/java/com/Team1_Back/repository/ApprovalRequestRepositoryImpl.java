@@ -0,0 +1,138 @@
+package com.Team1_Back.repository;
+
+import com.Team1_Back.domain.QApprovalRequest;
+import com.Team1_Back.domain.QUser;
+import com.Team1_Back.dto.ApprovalRequestDTO;
+import com.Team1_Back.dto.ApprovalSearchCondition;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 결재 요청 동적 검색
+ *
+ * <p>권장 인덱스 (ApprovalRequest @Table에 선언):
+ * <ul>
+ *   <li>(request_type, status_snapshot, created_at) - 관리자 유형/상태 필터 + 기간 + 정렬</li>
+ *   <li>(requester_id, created_at) - 내 결재 요청 목록</li>
+ *   <li>(created_at) - 필터 없는 관리자 목록 정렬/커서</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApprovalRequestRepositoryImpl implements ApprovalRequestRepositoryCustom {
+
+    private static final QApprovalRequest request = QApprovalRequest.approvalRequest;
+    private static final QUser requester = new QUser("requester");
+    private static final QUser approver = new QUser("approver");
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ApprovalRequestDTO> fetch(ApprovalSearchCondition condition, long offset, int limit) {
+
+        // 요청자/결재자 이름까지 한 번에
+        return selectRows()
+                .where(conditions(condition))
+                .orderBy(request.createdAt.desc(), request.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public long count(ApprovalSearchCondition condition) {
+        Long total = queryFactory
+                .select(request.count())
+                .from(request)
+                .where(conditions(condition))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public List<ApprovalRequestDTO> searchAfter(ApprovalSearchCondition condition, KeysetCursor cursor, int limit) {
+
+        BooleanBuilder where = conditions(condition);
+
+        // (created_at, id) < (cursor.createdAt, cursor.id)
+        if (cursor != null) {
+            where.and(request.createdAt.lt(cursor.createdAt())
+                    .or(request.createdAt.eq(cursor.createdAt()).and(request.id.lt(cursor.id()))));
+        }
+
+        return selectRows()
+                .where(where)
+                .orderBy(request.createdAt.desc(), request.id.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    private JPAQuery<Tuple> selectRows() {
+        return queryFactory
+                .select(request.id,
+                        request.requestType,
+                        request.refId,
+                        requester.id,
+                        requester.name,
+                        approver.id,
+                        approver.name,
+                        request.statusSnapshot,
+                        request.createdAt,
+                        request.updatedAt)
+                .from(request)
+                .join(request.requester, requester)
+                .leftJoin(request.approver, approver);
+    }
+
+    private ApprovalRequestDTO toDTO(Tuple row) {
+        return ApprovalRequestDTO.builder()
+                .id(row.get(request.id))
+                .requestType(row.get(request.requestType))
+                .refId(row.get(request.refId))
+                .requesterId(row.get(requester.id))
+                .requesterName(row.get(requester.name))
+                .approverId(row.get(approver.id))
+                .approverName(row.get(approver.name))
+                .statusSnapshot(row.get(request.statusSnapshot) != null ? row.get(request.statusSnapshot).name() : null)
+                .createdAt(row.get(request.createdAt))
+                .updatedAt(row.get(request.updatedAt))
+                .build();
+    }
+
+    // 동적 조건 (날짜는 [시작일 00:00, 종료일+1 00:00) 범위 비교 → 인덱스 사용 가능)
+    private BooleanBuilder conditions(ApprovalSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (condition == null) {
+            return builder;
+        }
+
+        if (condition.getRequesterId() != null) {
+            builder.and(request.requester.id.eq(condition.getRequesterId()));
+        }
+        if (condition.getRequestType() != null && !condition.getRequestType().isEmpty()) {
+            builder.and(request.requestType.eq(condition.getRequestType()));
+        }
+        if (condition.getStatus() != null) {
+            builder.and(request.statusSnapshot.eq(condition.getStatus()));
+        }
+        if (condition.getCreatedFrom() != null) {
+            builder.and(request.createdAt.goe(condition.getCreatedFrom().atStartOfDay()));
+        }
+        if (condition.getCreatedTo() != null) {
+            builder.and(request.createdAt.lt(condition.getCreatedTo().plusDays(1).atStartOfDay()));
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,120 @@
+package com.Team1_Back.repository;
+
+import com.Team1_Back.domain.ExpenseDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ExpenseDailyRollupRepository extends JpaRepository<ExpenseDailyRollup, Long> {
+
+    // 증감분 반영 (없으면 생성, 있으면 누적)
+    @Modifying
+    @Query(value = """
+        INSERT INTO expense_daily_rollup
+            (rollup_day, user_id, department_name, category, expense_count, total_amount, updated_at)
+        VALUES (:day, :userId, :dept, :category, :cnt, :amount, NOW())
+        ON DUPLICATE KEY UPDATE
+            expense_count = expense_count + VALUES(expense_count),
+            total_amount  = total_amount + VALUES(total_amount),
+            updated_at    = NOW()
+        """, nativeQuery = true)
+    int upsertDelta(@Param("day") LocalDate day,
+                    @Param("userId") Long userId,
+                    @Param("dept") String dept,
+                    @Param("category") String category,
+                    @Param("cnt") long cnt,
+                    @Param("amount") long amount);
+
+    // 반영 후 건수가 0이 된 행 정리
+    @Modifying
+    @Query(value = """
+        DELETE FROM expense_daily_rollup
+        WHERE rollup_day = :day
+          AND user_id = :userId
+          AND department_name = :dept
+          AND category = :category
+          AND expense_count <= 0
+        """, nativeQuery = true)
+    int deleteIfEmpty(@Param("day") LocalDate day,
+                      @Param("userId") Long userId,
+                      @Param("dept") String dept,
+                      @Param("category") String category);
+
+    // ===== 백필 =====
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM expense_daily_rollup
+        WHERE rollup_day >= :start
+          AND rollup_day <= :end
+        """, nativeQuery = true)
+    int deleteRange(@Param("start") LocalDate start,
+                    @Param("end") LocalDate end);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO expense_daily_rollup
+            (rollup_day, user_id, department_name, category, expense_count, total_amount, updated_at)
+        SELECT e.receipt_date,
+               e.user_id,
+               COALESCE(TRIM(u.department_name), ''),
+               COALESCE(e.category, ''),
+               COUNT(*),
+               COALESCE(SUM(e.amount), 0),
+               NOW()
+        FROM expense e
+        JOIN users u ON u.id = e.user_id
+        WHERE e.approval_status = 'APPROVED'
+          AND e.receipt_date >= :start
+          AND e.receipt_date <= :end
+        GROUP BY e.receipt_date, e.user_id, COALESCE(TRIM(u.department_name), ''), COALESCE(e.category, '')
+        """, nativeQuery = true)
+    int insertFromLedger(@Param("start") LocalDate start,
+                         @Param("end") LocalDate end);
+
+    // 롤업 행이 하나라도 있는지 (COUNT 전체 스캔 대신 한 행만 확인)
+    boolean existsByIdIsNotNull();
+
+    @Query(value = "SELECT MIN(e.receipt_date) FROM expense e WHERE e.approval_status = 'APPROVED'", nativeQuery = true)
+    LocalDate findMinApprovedReceiptDate();
+
+    @Query(value = "SELECT MAX(e.receipt_date) FROM expense e WHERE e.approval_status = 'APPROVED'", nativeQuery = true)
+    LocalDate findMaxApprovedReceiptDate();
+
+    // ===== 조회 =====
+
+    @Query(value = """
+        SELECT COALESCE(SUM(r.total_amount), 0)
+        FROM expense_daily_rollup r
+        WHERE r.rollup_day >= :start
+          AND r.rollup_day <= :end
+        """, nativeQuery = true)
+    Long sumApprovedAmount(@Param("start") LocalDate start,
+                           @Param("end") LocalDate end);
+
+    // 분석 큐브 적재용 (영수증 일자, 작성자의 현재 부서, 카테고리, 건수, 합계)
+    // 원장 대신 롤업을 읽고, 부서는 리포트와 같이 users의 현재 값으로 묶음
+    @Query("SELECT r.rollupDay, u.departmentName, r.category, SUM(r.expenseCount), SUM(r.totalAmount) " +
+            "FROM ExpenseDailyRollup r JOIN User u ON u.id = r.userId " +
+            "GROUP BY r.rollupDay, u.departmentName, r.category")
+    List<Object[]> findCubeCells();
+
+    // 분석 큐브 적재용: 읽기 시점 고정 (InnoDB REPEATABLE READ는 트랜잭션의 첫 읽기에서 스냅숏을 잡음)
+    @Query(value = "SELECT 1 FROM expense_daily_rollup LIMIT 1", nativeQuery = true)
+    Integer openReadView();
+
+    // 월별 승인 지출 합계 (yearMonth, totalAmount)
+    @Query(value = """
+        SELECT DATE_FORMAT(r.rollup_day, '%Y-%m') AS yearMonth,
+               COALESCE(SUM(r.total_amount), 0) AS totalAmount
+        FROM expense_daily_rollup r
+        WHERE r.rollup_day >= :start
+        GROUP BY DATE_FORMAT(r.rollup_day, '%Y-%m')
+        ORDER BY yearMonth ASC
+        """, nativeQuery = true)
+    List<Object[]> findMonthlyTotalsSince(@Param("start") LocalDate start);
+}
@@ -2,18 +2,24 @@ package com.Team1_Back.repository;
 
 import com.Team1_Back.domain.ApprovalStatus;
 import com.Team1_Back.domain.Expense;
+import com.Team1_Back.dto.ExpenseLedgerRowDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, ExpenseRepositoryCustom {
 
     // 사용자별 지출 내역 조회 (페이징)
     @EntityGraph(attributePaths = { "writer" })
@@ -27,6 +33,7 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
             Pageable pageable);
 
     // 사용자별 + 기간별 지출 내역 조회 (상신일 기준: createdAt)
+    // 목록 화면은 ExpenseRepositoryCustom.fetch/count 사용 (범위 비교로 인덱스 사용)
     @EntityGraph(attributePaths = { "writer" })
     @Query("SELECT e FROM Expense e WHERE e.writer.id = :userId " +
             "AND DATE(e.createdAt) BETWEEN :startDate AND :endDate")
@@ -36,58 +43,6 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
             @Param("endDate") LocalDate endDate,
             Pageable pageable);
 
-    // 사용자별 + 상태별 + 기간별 지출 내역 조회 (상신일 기준: createdAt)
-    @EntityGraph(attributePaths = { "writer" })
-    @Query("SELECT e FROM Expense e WHERE e.writer.id = :userId " +
-            "AND e.status = :status " +
-            "AND DATE(e.createdAt) BETWEEN :startDate AND :endDate")
-    Page<Expense> findByUserIdAndStatusAndDateRange(
-            @Param("userId") Long userId,
-            @Param("status") ApprovalStatus status,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            Pageable pageable);
-
-    // 사용자별 + 기간별 지출 내역 조회 - 시작일만 (상신일 기준: createdAt)
-    @EntityGraph(attributePaths = { "writer" })
-    @Query("SELECT e FROM Expense e WHERE e.writer.id = :userId " +
-            "AND DATE(e.createdAt) >= :startDate")
-    Page<Expense> findByUserIdAndStartDate(
-            @Param("userId") Long userId,
-            @Param("startDate") LocalDate startDate,
-            Pageable pageable);
-
-    // 사용자별 + 기간별 지출 내역 조회 - 종료일만 (상신일 기준: createdAt)
-    @EntityGraph(attributePaths = { "writer" })
-    @Query("SELECT e FROM Expense e WHERE e.writer.id = :userId " +
-            "AND DATE(e.createdAt) <= :endDate")
-    Page<Expense> findByUserIdAndEndDate(
-            @Param("userId") Long userId,
-            @Param("endDate") LocalDate endDate,
-            Pageable pageable);
-
-    // 사용자별 + 상태별 + 시작일만 (상신일 기준: createdAt)
-    @EntityGraph(attributePaths = { "writer" })
-    @Query("SELECT e FROM Expense e WHERE e.writer.id = :userId " +
-            "AND e.status = :status " +
-            "AND DATE(e.createdAt) >= :startDate")
-    Page<Expense> findByUserIdAndStatusAndStartDate(
-            @Param("userId") Long userId,
-            @Param("status") ApprovalStatus status,
-            @Param("startDate") LocalDate startDate,
-            Pageable pageable);
-
-    // 사용자별 + 상태별 + 종료일만 (상신일 기준: createdAt)
-    @EntityGraph(attributePaths = { "writer" })
-    @Query("SELECT e FROM Expense e WHERE e.writer.id = :userId " +
-            "AND e.status = :status " +
-            "AND DATE(e.createdAt) <= :endDate")
-    Page<Expense> findByUserIdAndStatusAndEndDate(
-            @Param("userId") Long userId,
-            @Param("status") ApprovalStatus status,
-            @Param("endDate") LocalDate endDate,
-            Pageable pageable);
-
     // 사용자 ID와 지출 ID로 조회 (권한 확인용)
     @EntityGraph(attributePaths = { "writer" })
     @Query("SELECT e FROM Expense e WHERE e.id = :id AND e.writer.id = :writerId")
@@ -98,14 +53,16 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     @Query("SELECT e FROM Expense e WHERE e.id = :id")
     Optional<Expense> findByIdWithWriter(@Param("id") Long id);
 
+    // ID 목록으로 조회 (writer 정보 포함, 결재 목록의 지출 정보 일괄 로딩용)
+    @EntityGraph(attributePaths = { "writer" })
+    @Query("SELECT e FROM Expense e WHERE e.id IN :ids")
+    List<Expense> findAllWithWriterByIdIn(@Param("ids") Collection<Long> ids);
+
     // 상태별 전체 조회 (관리자용)
     @EntityGraph(attributePaths = { "writer" })
     Page<Expense> findByStatus(ApprovalStatus status, Pageable pageable);
 
-    // 전체 조회 (관리자용, DRAFT 제외용)
-    @EntityGraph(attributePaths = { "writer" })
-    @Query("SELECT e FROM Expense e WHERE e.status != com.Team1_Back.domain.ApprovalStatus.DRAFT")
-    Page<Expense> findAllSubmitted(Pageable pageable);
+    // 관리자 영수증 목록(DRAFT 제외)은 ExpenseRepositoryCustom.fetchSubmitted / countSubmitted 사용
 
     // 부서별 지출 집계 (mallapi 패턴: native query 사용)
     @Query(value = "SELECT u.department_name as departmentName, " +
@@ -128,30 +85,6 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
             "GROUP BY e.category", nativeQuery = true)
     List<Object[]> findCategoryStatistics(@Param("status") String status);
 
-    // 오늘의 미결재 건수 조회
-    @Query(value = "SELECT COUNT(*) " +
-            "FROM expense e " +
-            "WHERE e.approval_status = 'SUBMITTED' " +
-            "  AND DATE(e.created_at) = CURDATE()", nativeQuery = true)
-    Long countTodayPending();
-
-    // 이번 달 총 지출액 조회
-    @Query(value = "SELECT COALESCE(SUM(e.amount), 0) " +
-            "FROM expense e " +
-            "WHERE e.approval_status = :status " +
-            "  AND YEAR(e.receipt_date) = YEAR(CURDATE()) " +
-            "  AND MONTH(e.receipt_date) = MONTH(CURDATE())", nativeQuery = true)
-    Long sumMonthlyTotalExpense(@Param("status") String status);
-
-    // 특정 년월의 총 지출액 조회 (전월 대비 계산용)
-    @Query(value = "SELECT COALESCE(SUM(e.amount), 0) " +
-            "FROM expense e " +
-            "WHERE e.approval_status = :status " +
-            "  AND DATE_FORMAT(e.receipt_date, '%Y-%m') = :yearMonth", nativeQuery = true)
-    Long sumMonthlyTotalExpenseByYearMonth(
-            @Param("yearMonth") String yearMonth,
-            @Param("status") String status);
-
     // 리포트용: 기간별 + 스코프별 지출 내역 조회 (페이징 없이 전체 조회)
     @EntityGraph(attributePaths = { "writer" })
     @Query("SELECT e FROM Expense e WHERE " +
@@ -183,6 +116,46 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    // 리포트 상세 원장 스트리밍 (PDF 대량 출력용, 트랜잭션 안에서 사용 후 close 필수)
+    // fetchSize: MariaDB 드라이버는 fetchSize > 0이면 커서 스트리밍, MySQL 드라이버는 useCursorFetch=true 필요
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.Team1_Back.dto.ExpenseLedgerRowDTO(" +
+            "e.id, e.receiptDate, w.name, w.departmentName, e.merchant, e.category, e.amount) " +
+            "FROM Expense e JOIN e.writer w " +
+            "WHERE e.receiptDate BETWEEN :startDate AND :endDate " +
+            "AND e.status = com.Team1_Back.domain.ApprovalStatus.APPROVED " +
+            "ORDER BY e.receiptDate ASC, e.id ASC")
+    Stream<ExpenseLedgerRowDTO> streamLedgerByDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.Team1_Back.dto.ExpenseLedgerRowDTO(" +
+            "e.id, e.receiptDate, w.name, w.departmentName, e.merchant, e.category, e.amount) " +
+            "FROM Expense e JOIN e.writer w " +
+            "WHERE w.id = :userId " +
+            "AND e.receiptDate BETWEEN :startDate AND :endDate " +
+            "AND e.status = com.Team1_Back.domain.ApprovalStatus.APPROVED " +
+            "ORDER BY e.receiptDate ASC, e.id ASC")
+    Stream<ExpenseLedgerRowDTO> streamLedgerByUserId(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // 부서명은 저장 시 trim됨 → 요약 집계(ReportQueryRepository.approvedSumByDept)와 같이 TRIM 없이 비교 (인덱스 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.Team1_Back.dto.ExpenseLedgerRowDTO(" +
+            "e.id, e.receiptDate, w.name, w.departmentName, e.merchant, e.category, e.amount) " +
+            "FROM Expense e JOIN e.writer w " +
+            "WHERE w.departmentName = :departmentName " +
+            "AND e.receiptDate BETWEEN :startDate AND :endDate " +
+            "AND e.status = com.Team1_Back.domain.ApprovalStatus.APPROVED " +
+            "ORDER BY e.receiptDate ASC, e.id ASC")
+    Stream<ExpenseLedgerRowDTO> streamLedgerByDepartment(
+            @Param("departmentName") String departmentName,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     // 한해찬 추가
     // 월별 지출 조회
     @Query(value = "SELECT DATE_FORMAT(e.receipt_date, '%Y-%m') as yearMonth, " +
@@ -0,0 +1,26 @@
+package com.Team1_Back.repository;
+
+import com.Team1_Back.domain.ApprovalStatus;
+import com.Team1_Back.domain.Expense;
+import com.Team1_Back.dto.ExpenseDTO;
+import com.Team1_Back.dto.ExpenseSearchCondition;
+
+import java.util.List;
+
+public interface ExpenseRepositoryCustom {
+
+    // 지출 내역 검색 - 데이터만 (COUNT 전략을 호출 측에서 정할 때 사용)
+    List<ExpenseDTO> fetch(ExpenseSearchCondition condition, long offset, int limit);
+
+    // 지출 내역 검색 - 전체 개수만
+    long count(ExpenseSearchCondition condition);
+
+    // 관리자 영수증 목록 - 제출된 지출 (status가 null이면 DRAFT 제외 전체, 작성자 fetch join)
+    List<Expense> fetchSubmitted(ApprovalStatus status, long offset, int limit);
+
+    // 관리자 영수증 목록 - 전체 개수만
+    long countSubmitted(ApprovalStatus status);
+
+    // 지출 내역 검색 (동적 조건 + 커서 방식, cursor가 null이면 처음부터)
+    List<ExpenseDTO> searchAfter(ExpenseSearchCondition condition, KeysetCursor cursor, int limit);
+}
@@ -0,0 +1,186 @@
+package com.Team1_Back.repository;
+
+import com.Team1_Back.domain.ApprovalStatus;
+import com.Team1_Back.domain.Expense;
+import com.Team1_Back.domain.QExpense;
+import com.Team1_Back.domain.QReceiptUpload;
+import com.Team1_Back.domain.QUser;
+import com.Team1_Back.dto.ExpenseDTO;
+import com.Team1_Back.dto.ExpenseSearchCondition;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ExpenseRepositoryImpl implements ExpenseRepositoryCustom {
+
+    private static final QExpense expense = QExpense.expense;
+    private static final QUser writer = QUser.user;
+    private static final QReceiptUpload receipt = QReceiptUpload.receiptUpload;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ExpenseDTO> fetch(ExpenseSearchCondition condition, long offset, int limit) {
+
+        // 필요한 컬럼만, 영수증은 LEFT JOIN으로 함께
+        return selectRows()
+                .where(conditions(condition))
+                .orderBy(expense.createdAt.desc(), expense.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public long count(ExpenseSearchCondition condition) {
+        Long total = queryFactory
+                .select(expense.count())
+                .from(expense)
+                .where(conditions(condition))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public List<Expense> fetchSubmitted(ApprovalStatus status, long offset, int limit) {
+        return queryFactory
+                .selectFrom(expense)
+                .join(expense.writer, writer).fetchJoin()
+                .where(submittedStatus(status))
+                .orderBy(expense.createdAt.desc(), expense.updatedAt.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countSubmitted(ApprovalStatus status) {
+        Long total = queryFactory
+                .select(expense.count())
+                .from(expense)
+                .where(submittedStatus(status))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public List<ExpenseDTO> searchAfter(ExpenseSearchCondition condition, KeysetCursor cursor, int limit) {
+
+        BooleanBuilder where = conditions(condition);
+
+        // (createdAt, id) < (cursor.createdAt, cursor.id)
+        if (cursor != null) {
+            where.and(expense.createdAt.lt(cursor.createdAt())
+                    .or(expense.createdAt.eq(cursor.createdAt()).and(expense.id.lt(cursor.id()))));
+        }
+
+        return selectRows()
+                .where(where)
+                .orderBy(expense.createdAt.desc(), expense.id.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    private JPAQuery<Tuple> selectRows() {
+        Expression<?>[] columns = {
+                expense.id,
+                writer.id,
+                writer.name,
+                expense.receiptDate,
+                expense.merchant,
+                expense.amount,
+                expense.category,
+                expense.status,
+                expense.description,
+                expense.receiptImageUrl,
+                expense.createdAt,
+                expense.updatedAt,
+                receipt.id,
+                receipt.fileUrl
+        };
+
+        return queryFactory
+                .select(columns)
+                .from(expense)
+                .join(expense.writer, writer)
+                .leftJoin(receipt).on(receipt.expense.eq(expense));
+    }
+
+    private ExpenseDTO toDTO(Tuple row) {
+        Long receiptId = row.get(receipt.id);
+
+        return ExpenseDTO.builder()
+                .id(row.get(expense.id))
+                .userId(row.get(writer.id))
+                .userName(row.get(writer.name))
+                .receiptDate(row.get(expense.receiptDate))
+                .merchant(row.get(expense.merchant))
+                .amount(row.get(expense.amount))
+                .category(row.get(expense.category))
+                .status(row.get(expense.status) != null ? row.get(expense.status).name() : null)
+                .description(row.get(expense.description))
+                .receiptImageUrl(row.get(expense.receiptImageUrl))
+                .createdAt(row.get(expense.createdAt))
+                .updatedAt(row.get(expense.updatedAt))
+                .receiptId(receiptId)
+                .receiptFileUrl(row.get(receipt.fileUrl))
+                .hasReceipt(receiptId != null)
+                .build();
+    }
+
+    // 동적 조건 (날짜는 [시작일 00:00, 종료일+1 00:00) 범위 비교 → 인덱스 사용 가능)
+    private BooleanBuilder conditions(ExpenseSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (condition == null) {
+            return builder;
+        }
+
+        builder.and(writerEq(condition.getWriterId()));
+
+        if (condition.getStatus() != null) {
+            builder.and(expense.status.eq(condition.getStatus()));
+        }
+        if (condition.getCreatedFrom() != null) {
+            builder.and(expense.createdAt.goe(condition.getCreatedFrom().atStartOfDay()));
+        }
+        if (condition.getCreatedTo() != null) {
+            builder.and(expense.createdAt.lt(condition.getCreatedTo().plusDays(1).atStartOfDay()));
+        }
+        if (condition.getCategory() != null && !condition.getCategory().isEmpty()) {
+            builder.and(expense.category.eq(condition.getCategory()));
+        }
+        if (condition.getMerchant() != null && !condition.getMerchant().isEmpty()) {
+            builder.and(expense.merchant.contains(condition.getMerchant()));
+        }
+        if (condition.getMinAmount() != null) {
+            builder.and(expense.amount.goe(condition.getMinAmount()));
+        }
+        if (condition.getMaxAmount() != null) {
+            builder.and(expense.amount.loe(condition.getMaxAmount()));
+        }
+        return builder;
+    }
+
+    private BooleanExpression submittedStatus(ApprovalStatus status) {
+        return status != null ? expense.status.eq(status) : expense.status.ne(ApprovalStatus.DRAFT);
+    }
+
+    private BooleanExpression writerEq(Long writerId) {
+        return writerId != null ? expense.writer.id.eq(writerId) : null;
+    }
+}
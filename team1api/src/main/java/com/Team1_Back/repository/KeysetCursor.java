@@ -0,0 +1,38 @@
+package com.Team1_Back.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * keyset(seek) 페이지 커서 (마지막 행의 생성일시 + id)
+ *
+ * <p>정렬이 (created_at desc, id desc)인 목록에서
+ * "(created_at, id) &lt; (커서)" 조건으로 다음 페이지를 읽을 때 사용합니다.
+ * 클라이언트에는 URL-safe Base64 문자열로 전달합니다.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서를 해석합니다.
+     *
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우 (컨트롤러에서 400으로 변환)
+     */
+    public static KeysetCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + value, e);
+        }
+    }
+}
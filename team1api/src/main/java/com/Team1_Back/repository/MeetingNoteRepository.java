@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -23,6 +24,11 @@ public interface MeetingNoteRepository extends JpaRepository<MeetingNote, Long>
     @Query("SELECT mn FROM MeetingNote mn WHERE mn.user.id = :userId AND mn.analyzed = false ORDER BY mn.uploadDate DESC")
     List<MeetingNote> findUnanalyzedByUserId(@Param("userId") Long userId);
 
+    // 분석 완료 표시 (조건부 갱신이라 동시에 분석한 요청 중 하나만 성공)
+    @Modifying
+    @Query("UPDATE MeetingNote mn SET mn.analyzed = true WHERE mn.id = :id AND mn.analyzed = false")
+    int markAnalyzed(@Param("id") Long id);
+
     // 파일명으로 회의록 조회( 중복 체크용)
     Optional<MeetingNote> findByFileName(String fileName);
 
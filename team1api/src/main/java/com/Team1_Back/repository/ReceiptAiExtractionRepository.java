@@ -1,13 +1,30 @@
 package com.Team1_Back.repository;
 
 import com.Team1_Back.domain.ReceiptAiExtraction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReceiptAiExtractionRepository extends JpaRepository<ReceiptAiExtraction, Long> {
 
     // 영수증 ID로 AI 추출 결과 조회
     Optional<ReceiptAiExtraction> findByReceiptId(Long receiptId);
+
+    // 영수증 ID 목록으로 AI 추출 결과 일괄 조회 (목록 화면 N+1 방지)
+    @Query("SELECT x FROM ReceiptAiExtraction x WHERE x.receipt.id IN :receiptIds")
+    List<ReceiptAiExtraction> findAllByReceiptIdIn(@Param("receiptIds") Collection<Long> receiptIds);
+
+    // 유사 영수증 색인 적재용 (id, receipt_id, 가맹점, 금액, 일자) - afterId보다 큰 행을 id 순으로 한 묶음씩 (증분/분할 적재)
+    @Query("SELECT x.id, x.receipt.id, x.extractedMerchant, x.extractedAmount, x.extractedDate " +
+            "FROM ReceiptAiExtraction x " +
+            "WHERE x.id > :afterId " +
+            "  AND x.extractedMerchant IS NOT NULL AND x.extractedAmount IS NOT NULL AND x.extractedDate IS NOT NULL " +
+            "ORDER BY x.id")
+    List<Object[]> findDuplicateKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
 
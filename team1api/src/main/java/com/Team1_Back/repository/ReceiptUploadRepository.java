@@ -1,13 +1,18 @@
 package com.Team1_Back.repository;
 
+import com.Team1_Back.domain.OcrStatus;
 import com.Team1_Back.domain.ReceiptUpload;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReceiptUploadRepository extends JpaRepository<ReceiptUpload, Long> {
@@ -17,12 +22,84 @@ public interface ReceiptUploadRepository extends JpaRepository<ReceiptUpload, Lo
     @Query("SELECT r FROM ReceiptUpload r WHERE r.expense.id = :expenseId")
     Optional<ReceiptUpload> findByExpenseId(@Param("expenseId") Long expenseId);
 
+    // 지출 ID 목록으로 영수증 일괄 조회 (목록 화면 N+1 방지, expense/uploadedBy는 로딩하지 않음)
+    @Query("SELECT r FROM ReceiptUpload r WHERE r.expense.id IN :expenseIds")
+    List<ReceiptUpload> findAllByExpenseIdIn(@Param("expenseIds") Collection<Long> expenseIds);
+
     // 파일 해시로 중복 확인
     Optional<ReceiptUpload> findByFileHash(String fileHash);
 
+    // 다른 지출에 올라간 같은 파일의 영수증 ID (교체 업로드 중인 자기 지출 제외, 없으면 null)
+    @Query("SELECT MIN(r.id) FROM ReceiptUpload r WHERE r.fileHash = :fileHash AND r.expense.id <> :expenseId")
+    Long findIdByFileHashOnOtherExpense(@Param("fileHash") String fileHash, @Param("expenseId") Long expenseId);
+
+    // 중복 검사 블룸 필터 적재용 (id, file_hash) - afterId보다 큰 행을 id 순으로 한 묶음씩 (증분/분할 적재)
+    @Query("SELECT r.id, r.fileHash FROM ReceiptUpload r WHERE r.id > :afterId AND r.fileHash IS NOT NULL ORDER BY r.id")
+    List<Object[]> findFileHashesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     // 모든 영수증 조회 (관리자용) - expense와 uploadedBy 함께 로드
     @EntityGraph(attributePaths = {"expense", "uploadedBy"})
     @Query("SELECT r FROM ReceiptUpload r")
     Page<ReceiptUpload> findAllWithRelations(Pageable pageable);
-}
 
+    // ===== OCR 작업 큐 (receipt_upload.ocr_*) =====
+
+    // 처리할 OCR 작업 ID (대기 중이면서 시도 시각이 지났거나, 처리 중인데 점유가 만료된 것)
+    @Query("SELECT r.id FROM ReceiptUpload r " +
+            "WHERE r.ocrStatus IN (com.Team1_Back.domain.OcrStatus.PENDING, com.Team1_Back.domain.OcrStatus.PROCESSING) " +
+            "  AND r.ocrNextAttemptAt <= :now " +
+            "ORDER BY r.ocrNextAttemptAt")
+    List<Long> findOcrDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // OCR 작업 점유 (조건부 갱신이라 여러 노드/워커 중 하나만 성공)
+    @Modifying
+    @Query("UPDATE ReceiptUpload r " +
+            "SET r.ocrStatus = com.Team1_Back.domain.OcrStatus.PROCESSING, " +
+            "    r.ocrAttempts = COALESCE(r.ocrAttempts, 0) + 1, " +
+            "    r.ocrNextAttemptAt = :leaseUntil " +
+            "WHERE r.id = :id " +
+            "  AND r.ocrStatus IN (com.Team1_Back.domain.OcrStatus.PENDING, com.Team1_Back.domain.OcrStatus.PROCESSING) " +
+            "  AND r.ocrNextAttemptAt <= :now")
+    int claimOcr(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ReceiptUpload r " +
+            "SET r.ocrStatus = :status, r.ocrNextAttemptAt = :nextAttemptAt, r.ocrLastError = :error " +
+            "WHERE r.id = :id")
+    int updateOcrStatus(@Param("id") Long id,
+                        @Param("status") OcrStatus status,
+                        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                        @Param("error") String error);
+
+    // 비동기 OCR 도입 이전 행(ocr_status NULL) 중 추출 결과가 있는 것은 완료로 표시
+    @Modifying
+    @Query("UPDATE ReceiptUpload r " +
+            "SET r.ocrStatus = com.Team1_Back.domain.OcrStatus.DONE " +
+            "WHERE r.ocrStatus IS NULL " +
+            "  AND EXISTS (SELECT x.id FROM ReceiptAiExtraction x WHERE x.receipt = r)")
+    int markLegacyOcrDone();
+
+    // 나머지 이전 행(추출 결과 없음)은 대기 상태로 등록
+    @Modifying
+    @Query("UPDATE ReceiptUpload r " +
+            "SET r.ocrStatus = com.Team1_Back.domain.OcrStatus.PENDING, r.ocrAttempts = 0, " +
+            "    r.ocrNextAttemptAt = :now, r.ocrLastError = NULL " +
+            "WHERE r.ocrStatus IS NULL")
+    int queueLegacyOcr(@Param("now") LocalDateTime now);
+
+    // 실패한 OCR 작업 전체 재등록
+    @Modifying
+    @Query("UPDATE ReceiptUpload r " +
+            "SET r.ocrStatus = com.Team1_Back.domain.OcrStatus.PENDING, r.ocrAttempts = 0, " +
+            "    r.ocrNextAttemptAt = :now, r.ocrLastError = NULL " +
+            "WHERE r.ocrStatus = com.Team1_Back.domain.OcrStatus.FAILED")
+    int requeueFailedOcr(@Param("now") LocalDateTime now);
+
+    // 실패한 OCR 작업 중 지정한 영수증만 재등록
+    @Modifying
+    @Query("UPDATE ReceiptUpload r " +
+            "SET r.ocrStatus = com.Team1_Back.domain.OcrStatus.PENDING, r.ocrAttempts = 0, " +
+            "    r.ocrNextAttemptAt = :now, r.ocrLastError = NULL " +
+            "WHERE r.ocrStatus = com.Team1_Back.domain.OcrStatus.FAILED AND r.id IN :ids")
+    int requeueFailedOcrByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,225 @@
+package com.Team1_Back.repository;
+
+import com.Team1_Back.domain.ApprovalStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 일괄 검증용 JDBC 조회/배치 쓰기
+ *
+ * <p>JPA 엔티티를 거치지 않고 필요한 컬럼만 IN 조회로 읽고, 변경분은 JDBC 배치로 씁니다.
+ * 호출 측(JPA) 트랜잭션의 커넥션을 그대로 사용하므로 함께 커밋/롤백됩니다.
+ * (MySQL 드라이버는 rewriteBatchedStatements=true일 때 다건 INSERT/UPDATE로 묶어 전송)
+ *
+ * <p>JDBC로 쓴 행은 영속성 컨텍스트에 반영되지 않으므로 같은 트랜잭션에서 해당 엔티티를 다시 읽지 않습니다.
+ * 롤업/예산 누계 증감도 키별로 합친 뒤 여기서 배치로 씁니다. (ExpenseRollupService, BudgetLedgerService)
+ *
+ * @author Team1
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReceiptVerificationBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 검증 대상 지출 (작성자 부서, 결재 요청 ID 포함)
+     */
+    public record Target(Long expenseId,
+                         ApprovalStatus status,
+                         String merchant,
+                         Integer amount,
+                         String category,
+                         LocalDate receiptDate,
+                         Long writerId,
+                         String departmentName,
+                         Long approvalRequestId) {
+    }
+
+    /**
+     * 지출 1건에 대한 검증 결과 쓰기
+     */
+    public record Write(Long expenseId,
+                        Long approvalRequestId,
+                        ApprovalStatus status,
+                        String merchant,
+                        Integer amount,
+                        String category,
+                        String action,
+                        String reason,
+                        String verifiedMerchant,
+                        Integer verifiedAmount,
+                        String verifiedCategory) {
+    }
+
+    /**
+     * 롤업 행 1개에 대한 증감 (일자, 사용자, 부서, 카테고리)
+     */
+    public record RollupDelta(LocalDate day,
+                              Long userId,
+                              String department,
+                              String category,
+                              long count,
+                              long amount) {
+    }
+
+    /**
+     * 사용자별 월 예산 누계 증감
+     */
+    public record SpentDelta(Long userId, String yearMonth, long delta) {
+    }
+
+    /**
+     * 지출 + 작성자 + 결재 요청을 한 번에 조회 (키: 지출 ID)
+     */
+    public Map<Long, Target> findTargets(Collection<Long> expenseIds) {
+        Map<Long, Target> targets = new LinkedHashMap<>();
+        if (expenseIds.isEmpty()) {
+            return targets;
+        }
+
+        String sql = "SELECT e.id, e.approval_status, e.merchant, e.amount, e.category, e.receipt_date, " +
+                "       e.user_id, u.department_name, ar.id AS approval_request_id " +
+                "FROM expense e " +
+                "JOIN users u ON u.id = e.user_id " +
+                "LEFT JOIN approval_request ar ON ar.request_type = 'EXPENSE' AND ar.ref_id = e.id " +
+                "WHERE e.id IN (:ids)";
+
+        namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("ids", expenseIds), rs -> {
+            long expenseId = rs.getLong("id");
+            // 결재 요청이 여러 건이면 첫 건만 사용 (단건 검증의 findByRequestTypeAndRefId와 동일하게 1건 가정)
+            if (targets.containsKey(expenseId)) {
+                return;
+            }
+            Date receiptDate = rs.getDate("receipt_date");
+            long approvalRequestId = rs.getLong("approval_request_id");
+            boolean hasApprovalRequest = !rs.wasNull();
+
+            targets.put(expenseId, new Target(
+                    expenseId,
+                    ApprovalStatus.valueOf(rs.getString("approval_status")),
+                    rs.getString("merchant"),
+                    rs.getInt("amount"),
+                    rs.getString("category"),
+                    receiptDate != null ? receiptDate.toLocalDate() : null,
+                    rs.getLong("user_id"),
+                    rs.getString("department_name"),
+                    hasApprovalRequest ? approvalRequestId : null));
+        });
+        return targets;
+    }
+
+    /**
+     * 지출 상태 갱신 → 결재 요청 스냅샷 동기화 → 처리 이력 → 검증 결과(삭제 후 생성) 순서로 배치 반영
+     */
+    public void writeAll(List<Write> writes, Long adminId, LocalDateTime now) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        Timestamp ts = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE expense SET approval_status = ?, merchant = ?, amount = ?, category = ?, updated_at = ? " +
+                "WHERE id = ?",
+                writes.stream()
+                        .map(w -> new Object[]{w.status().name(), w.merchant(), w.amount(), w.category(), ts, w.expenseId()})
+                        .toList());
+
+        List<Write> withRequest = writes.stream()
+                .filter(w -> w.approvalRequestId() != null)
+                .toList();
+
+        if (!withRequest.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE approval_request SET status_snapshot = ?, updated_at = ? WHERE id = ?",
+                    withRequest.stream()
+                            .map(w -> new Object[]{w.status().name(), ts, w.approvalRequestId()})
+                            .toList());
+
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO approval_action_log (approval_request_id, actor_id, action, message, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)",
+                    withRequest.stream()
+                            .map(w -> new Object[]{w.approvalRequestId(), adminId, w.action(), w.reason(), ts, ts})
+                            .toList());
+        }
+
+        namedParameterJdbcTemplate.update(
+                "DELETE FROM receipt_verification WHERE expense_id IN (:ids)",
+                new MapSqlParameterSource("ids", writes.stream().map(Write::expenseId).toList()));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO receipt_verification " +
+                "(expense_id, verified_by, verified_merchant, verified_amount, verified_category, reason, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                writes.stream()
+                        .map(w -> new Object[]{w.expenseId(), adminId, w.verifiedMerchant(), w.verifiedAmount(),
+                                w.verifiedCategory(), w.reason(), ts, ts})
+                        .toList());
+    }
+
+    /**
+     * 롤업 증감 배치 반영 (없으면 생성, 있으면 누적) 후 건수가 0이 된 행 정리
+     */
+    public void applyRollupDeltas(List<RollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO expense_daily_rollup " +
+                "(rollup_day, user_id, department_name, category, expense_count, total_amount, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, NOW()) " +
+                "ON DUPLICATE KEY UPDATE " +
+                "expense_count = expense_count + VALUES(expense_count), " +
+                "total_amount = total_amount + VALUES(total_amount), " +
+                "updated_at = NOW()",
+                deltas.stream()
+                        .map(d -> new Object[]{Date.valueOf(d.day()), d.userId(), d.department(), d.category(),
+                                d.count(), d.amount()})
+                        .toList());
+
+        List<RollupDelta> decreased = deltas.stream()
+                .filter(d -> d.count() < 0)
+                .toList();
+
+        if (!decreased.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "DELETE FROM expense_daily_rollup " +
+                    "WHERE rollup_day = ? AND user_id = ? AND department_name = ? AND category = ? " +
+                    "AND expense_count <= 0",
+                    decreased.stream()
+                            .map(d -> new Object[]{Date.valueOf(d.day()), d.userId(), d.department(), d.category()})
+                            .toList());
+        }
+    }
+
+    /**
+     * 예산 누계 증감 배치 반영 (예산 행이 없는 사용자/월은 반영되지 않음)
+     */
+    public void addSpentAmounts(List<SpentDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE user_budget_monthly SET spent_amount = spent_amount + ? " +
+                "WHERE user_id = ? AND `year_month` = ?",
+                deltas.stream()
+                        .map(d -> new Object[]{d.delta(), d.userId(), d.yearMonth()})
+                        .toList());
+    }
+}
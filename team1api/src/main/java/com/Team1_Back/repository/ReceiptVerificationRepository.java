@@ -1,13 +1,23 @@
 package com.Team1_Back.repository;
 
 import com.Team1_Back.domain.ReceiptVerification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReceiptVerificationRepository extends JpaRepository<ReceiptVerification, Long> {
 
     // 지출 ID로 검증 결과 조회
     Optional<ReceiptVerification> findByExpenseId(Long expenseId);
+
+    // 지출 ID 목록으로 검증 결과 일괄 조회 (목록 화면 N+1 방지, 검증자 함께 로드)
+    @EntityGraph(attributePaths = {"verifiedBy"})
+    @Query("SELECT v FROM ReceiptVerification v WHERE v.expense.id IN :expenseIds")
+    List<ReceiptVerification> findAllByExpenseIdIn(@Param("expenseIds") Collection<Long> expenseIds);
 }
 
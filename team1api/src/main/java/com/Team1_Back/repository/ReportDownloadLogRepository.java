@@ -2,7 +2,11 @@ package com.Team1_Back.repository;
 
 import com.Team1_Back.domain.ReportDownloadLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReportDownloadLogRepository extends JpaRepository<ReportDownloadLog, Long> {
@@ -14,4 +18,14 @@ public interface ReportDownloadLogRepository extends JpaRepository<ReportDownloa
 
     // fileId 기준 조회도 필요하면
     List<ReportDownloadLog> findByReportFile_IdOrderByIdDesc(Long reportFileId);
+
+    // 파일 삭제(보관 만료) 시 함께 정리
+    @Modifying
+    @Query("DELETE FROM ReportDownloadLog l WHERE l.reportFile.id = :reportFileId")
+    int deleteByReportFileId(@Param("reportFileId") Long reportFileId);
+
+    // 오래된 다운로드 로그 정리
+    @Modifying
+    @Query(value = "DELETE FROM report_download_log WHERE downloaded_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
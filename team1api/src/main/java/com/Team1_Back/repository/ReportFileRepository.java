@@ -1,19 +1,59 @@
 package com.Team1_Back.repository;
 
 import com.Team1_Back.domain.ReportFile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ReportFileRepository extends JpaRepository<ReportFile, Long> {
 
-    Optional<ReportFile> findByChecksum(String checksum);
+    // 같은 작업에 이미 등록된 같은 내용의 파일
+    Optional<ReportFile> findByReportJob_IdAndChecksum(Long reportJobId, String checksum);
 
     // 최신 1개
     Optional<ReportFile> findTopByReportJob_IdOrderByIdDesc(Long reportJobId);
 
     // 목록
     List<ReportFile> findByReportJob_IdOrderByCreatedAtDesc(Long reportJobId);
-}
 
+    boolean existsByReportJob_Id(Long reportJobId);
+
+    // ===== 저장소 수명주기 =====
+
+    // 압축 대상: HOT 티어 + 미검사(storedSize null) + 마지막 다운로드(없으면 생성일)가 cutoff 이전
+    @Query("SELECT f FROM ReportFile f " +
+            "WHERE (f.storageTier IS NULL OR f.storageTier = com.Team1_Back.domain.enums.StorageTier.HOT) " +
+            "AND f.storedSize IS NULL " +
+            "AND COALESCE(f.lastDownloadedAt, f.createdAt) < :cutoff " +
+            "ORDER BY f.id ASC")
+    List<ReportFile> findCompressCandidates(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 보관 기간 만료 대상 (특정 리포트 타입)
+    @Query("SELECT f FROM ReportFile f JOIN FETCH f.reportJob j " +
+            "WHERE j.reportTypeId = :reportTypeId " +
+            "AND f.createdAt < :cutoff " +
+            "ORDER BY f.id ASC")
+    List<ReportFile> findExpiredByType(@Param("reportTypeId") String reportTypeId,
+                                       @Param("cutoff") LocalDateTime cutoff,
+                                       Pageable pageable);
+
+    // 보관 기간 만료 대상 (개별 설정이 없는 리포트 타입)
+    @Query("SELECT f FROM ReportFile f JOIN FETCH f.reportJob j " +
+            "WHERE j.reportTypeId NOT IN :excludedTypes " +
+            "AND f.createdAt < :cutoff " +
+            "ORDER BY f.id ASC")
+    List<ReportFile> findExpiredExcludingTypes(@Param("excludedTypes") Collection<String> excludedTypes,
+                                               @Param("cutoff") LocalDateTime cutoff,
+                                               Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ReportFile f SET f.lastDownloadedAt = :at WHERE f.id = :id")
+    int updateLastDownloadedAt(@Param("id") Long id, @Param("at") LocalDateTime at);
+}
@@ -23,4 +23,7 @@ public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
     )
     List<String> findDistinctDepartmentNames();
 
+    // 배치에 속한 부서별 작업 목록
+    List<ReportJob> findByBatchIdOrderByDepartmentSnapshotAsc(String batchId);
+
 }
@@ -2,9 +2,11 @@ package com.Team1_Back.repository;
 
 import com.Team1_Back.domain.UserBudgetMonthly;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +17,8 @@ import java.util.Optional;
  * 
  * <p>사용 위치:
  * <ul>
- *   <li>AccountingServiceImpl.getSummary() - 예산 집행률 계산, 예산 초과 인원 수 조회</li>
- *   <li>AccountingServiceImpl.getOverBudgetList() - 예산 초과 인원 리스트 조회</li>
+ *   <li>BudgetLedgerService - 예산 원장(한도/spent_amount) 적재/증감 반영
+ *       (예산 집행률, 예산 초과 인원/리스트는 이 원장에서 계산)</li>
  * </ul>
  * 
  * @author Team1
@@ -24,48 +26,80 @@ import java.util.Optional;
 public interface UserBudgetMonthlyRepository extends JpaRepository<UserBudgetMonthly, Long> {
 
     /**
-     * 예산 초과 인원 조회 (예산의 80% 이상 사용한 인원)
+     * 사용자 ID와 년월로 예산 조회
      * 
+     * @param userId 사용자 ID
+     * @param yearMonth 년월 (YYYY-MM 형식)
+     * @return 예산 정보
+     */
+    @Query("SELECT ubm FROM UserBudgetMonthly ubm WHERE ubm.user.id = :userId AND ubm.yearMonth = :yearMonth")
+    Optional<UserBudgetMonthly> findByUserIdAndYearMonth(@Param("userId") Long userId, @Param("yearMonth") String yearMonth);
+
+    /**
+     * 예산 원장 적재용 조회 (특정 년월 전체)
+     *
      * <p>반환되는 Object[] 배열 구조:
      * <ul>
-     *   <li>row[0] - user_id (Long)</li>
-     *   <li>row[1] - name (String)</li>
-     *   <li>row[2] - department_name (String)</li>
-     *   <li>row[3] - monthly_limit (Long)</li>
-     *   <li>row[4] - total_expense (Long)</li>
-     *   <li>row[5] - remaining (Long) - 남은 예산</li>
+     *   <li>row[0] - user_id</li>
+     *   <li>row[1] - name</li>
+     *   <li>row[2] - department_name</li>
+     *   <li>row[3] - monthly_limit</li>
+     *   <li>row[4] - spent_amount</li>
      * </ul>
-     * 
+     *
      * @param yearMonth 년월 (YYYY-MM 형식)
-     * @return 예산 초과 인원 목록
+     * @return 예산 원장 행 목록
      */
-    @Query(value = 
-        "SELECT ubm.user_id, " +
-        "       u.name, " +
-        "       u.department_name, " +
-        "       ubm.monthly_limit, " +
-        "       COALESCE(SUM(e.amount), 0) as total_expense, " +
-        "       (ubm.monthly_limit - COALESCE(SUM(e.amount), 0)) as remaining " +
+    @Query(value =
+        "SELECT ubm.user_id, u.name, u.department_name, ubm.monthly_limit, ubm.spent_amount " +
         "FROM user_budget_monthly ubm " +
         "JOIN users u ON ubm.user_id = u.id " +
-        "LEFT JOIN expense e ON e.user_id = u.id " +
-        "  AND e.approval_status = 'APPROVED' " +
-        "  AND DATE_FORMAT(e.receipt_date, '%Y-%m') = ubm.year_month " +
-        "WHERE ubm.year_month = :yearMonth " +
-        "GROUP BY ubm.user_id, u.name, u.department_name, ubm.monthly_limit " +
-        "HAVING (COALESCE(SUM(e.amount), 0) / ubm.monthly_limit * 100) >= 80 " +
-        "ORDER BY (COALESCE(SUM(e.amount), 0) / ubm.monthly_limit * 100) DESC",
+        "WHERE ubm.`year_month` = :yearMonth",
         nativeQuery = true)
-    List<Object[]> findOverBudgetUsers(@Param("yearMonth") String yearMonth);
+    List<Object[]> findLedgerRows(@Param("yearMonth") String yearMonth);
 
     /**
-     * 사용자 ID와 년월로 예산 조회
-     * 
+     * 승인 지출 누계 증감 반영 (예산 행이 없으면 0건)
+     *
      * @param userId 사용자 ID
      * @param yearMonth 년월 (YYYY-MM 형식)
-     * @return 예산 정보
+     * @param delta 증감 금액
+     * @return 반영된 행 수
      */
-    @Query("SELECT ubm FROM UserBudgetMonthly ubm WHERE ubm.user.id = :userId AND ubm.yearMonth = :yearMonth")
-    Optional<UserBudgetMonthly> findByUserIdAndYearMonth(@Param("userId") Long userId, @Param("yearMonth") String yearMonth);
-}
+    @Modifying
+    @Query(value =
+        "UPDATE user_budget_monthly " +
+        "SET spent_amount = spent_amount + :delta " +
+        "WHERE user_id = :userId AND `year_month` = :yearMonth",
+        nativeQuery = true)
+    int addSpentAmount(@Param("userId") Long userId,
+                       @Param("yearMonth") String yearMonth,
+                       @Param("delta") long delta);
 
+    /**
+     * 승인 지출 누계를 원장(expense) 기준으로 다시 계산
+     *
+     * <p>receipt_date 범위 비교라 인덱스를 사용할 수 있습니다.
+     *
+     * @param yearMonth 년월 (YYYY-MM 형식)
+     * @param start 해당 월 1일
+     * @param nextStart 다음 달 1일
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value =
+        "UPDATE user_budget_monthly ubm " +
+        "SET ubm.spent_amount = ( " +
+        "    SELECT COALESCE(SUM(e.amount), 0) " +
+        "    FROM expense e " +
+        "    WHERE e.user_id = ubm.user_id " +
+        "      AND e.approval_status = 'APPROVED' " +
+        "      AND e.receipt_date >= :start " +
+        "      AND e.receipt_date < :nextStart " +
+        ") " +
+        "WHERE ubm.`year_month` = :yearMonth",
+        nativeQuery = true)
+    int rebuildSpentAmount(@Param("yearMonth") String yearMonth,
+                           @Param("start") LocalDate start,
+                           @Param("nextStart") LocalDate nextStart);
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.Team1_Back.domain.User;
@@ -23,6 +24,12 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
                         "ORDER BY department_name", nativeQuery = true)
         List<String> findDistinctDepartmentNames();
 
+        // 공백이 붙은 채 저장된 기존 부서명을 정리합니다. (엔티티는 저장 시 TRIM)
+        @Modifying
+        @Query(value = "UPDATE users SET department_name = TRIM(department_name) " +
+                        "WHERE department_name <> TRIM(department_name)", nativeQuery = true)
+        int trimDepartmentNames();
+
         @Query(value = """
                         SELECT
                             u.id AS userId,
@@ -2,15 +2,16 @@ package com.Team1_Back.repository;
 
 import com.Team1_Back.dto.PageRequestDTO;
 import com.Team1_Back.dto.UserListDTO;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface UserRepositoryCustom {
 
-    // 사원 목록 조회 (검색 + 필터 + 페이징)
-    Page<UserListDTO> searchUsers(PageRequestDTO request, Pageable pageable);
+    // 사원 목록 조회 - 데이터만 (COUNT 전략을 호출 측에서 정할 때 사용)
+    List<UserListDTO> fetchUsers(PageRequestDTO request, long offset, int limit);
+
+    // 사원 목록 조회 - 전체 개수만
+    long countUsers(PageRequestDTO request);
 
     // 부서 목록 조회 (필터용)
     List<String> findAllDepartments();
@@ -7,9 +7,6 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,11 +18,62 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Page<UserListDTO> searchUsers(PageRequestDTO request, Pageable pageable) {
+    public List<UserListDTO> fetchUsers(PageRequestDTO request, long offset, int limit) {
+
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(Projections.bean(UserListDTO.class,
+                        user.id,
+                        user.employeeNo,
+                        user.name,
+                        user.departmentName,
+                        user.email,
+                        user.phone,
+                        user.createdUserAt,
+                        user.lockedAt.isNotNull().as("locked"),
+                        user.isActive.as("active")
+                ))
+                .from(user)
+                .where(conditions(request))
+                .orderBy(user.createdUserAt.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countUsers(PageRequestDTO request) {
+
+        QUser user = QUser.user;
+
+        Long total = queryFactory
+                .select(user.count())
+                .from(user)
+                .where(conditions(request))
+                .fetchOne();
+
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public List<String> findAllDepartments() {
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(user.departmentName)
+                .distinct()
+                .from(user)
+                .where(user.departmentName.isNotNull())
+                .orderBy(user.departmentName.asc())
+                .fetch();
+    }
+
+    // 동적 조건 (검색어 + 부서/잠금/재직 필터)
+    private BooleanBuilder conditions(PageRequestDTO request) {
 
         QUser user = QUser.user;
 
-        // 1. 동적 조건 생성
         BooleanBuilder builder = new BooleanBuilder();
 
         // 검색 조건 (이름 or 사번 or 이메일)
@@ -64,46 +112,6 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
             builder.and(user.isActive.eq(request.getIsActive()));
         }
 
-        // 2. 데이터 조회
-        List<UserListDTO> content = queryFactory
-                .select(Projections.bean(UserListDTO.class,
-                        user.id,
-                        user.employeeNo,
-                        user.name,
-                        user.departmentName,
-                        user.email,
-                        user.phone,
-                        user.createdUserAt,
-                        user.lockedAt.isNotNull().as("locked"),
-                        user.isActive.as("active")
-                ))
-                .from(user)
-                .where(builder)
-                .orderBy(user.createdUserAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 3. 전체 개수 조회
-        Long total = queryFactory
-                .select(user.count())
-                .from(user)
-                .where(builder)
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
-    }
-
-    @Override
-    public List<String> findAllDepartments() {
-        QUser user = QUser.user;
-
-        return queryFactory
-                .select(user.departmentName)
-                .distinct()
-                .from(user)
-                .where(user.departmentName.isNotNull())
-                .orderBy(user.departmentName.asc())
-                .fetch();
+        return builder;
     }
 }
@@ -1,5 +1,6 @@
 package com.Team1_Back.repository.projection;
 
+import com.Team1_Back.datasource.AnalyticalQuery;
 import com.Team1_Back.domain.Expense;
 import com.Team1_Back.repository.ApprovedAgg;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,41 +8,48 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+
+/**
+ * 리포트 집계 조회
+ *
+ * <p>원장(expense) 대신 일별 롤업(expense_daily_rollup)을 합산합니다.
+ * 부서별 집계는 기존과 같이 사용자의 현재 부서 기준입니다. (롤업의 department_name은 승인 시점 값이라
+ * 부서 이동 후에는 달라질 수 있음) 부서원 id를 users의 department_name 인덱스로 구한 뒤
+ * 롤업의 (user_id, rollup_day) 인덱스로 합산합니다. users.department_name은 TRIM된 값으로 저장되므로
+ * 컬럼을 그대로 비교하고, 호출 측에서 TRIM한 부서명을 넘깁니다.
+ */
+@AnalyticalQuery
 public interface ReportQueryRepository extends JpaRepository<Expense, Long> {
 
     @Query(value = """
-        SELECT COALESCE(SUM(e.amount), 0) AS total,
-               COUNT(*) AS cnt
-        FROM expense e
-        WHERE e.approval_status = 'APPROVED'
-          AND e.receipt_date >= :start
-          AND e.receipt_date <= :end
+        SELECT COALESCE(SUM(r.total_amount), 0) AS total,
+               COALESCE(SUM(r.expense_count), 0) AS cnt
+        FROM expense_daily_rollup r
+        WHERE r.rollup_day >= :start
+          AND r.rollup_day <= :end
         """, nativeQuery = true)
     ApprovedAgg approvedSumAll(@Param("start") LocalDate start,
                                @Param("end") LocalDate end);
 
     @Query(value = """
-        SELECT COALESCE(SUM(e.amount), 0) AS total,
-               COUNT(*) AS cnt
-        FROM expense e
-        WHERE e.approval_status = 'APPROVED'
-          AND e.receipt_date >= :start
-          AND e.receipt_date <= :end
-          AND e.user_id = :userId
+        SELECT COALESCE(SUM(r.total_amount), 0) AS total,
+               COALESCE(SUM(r.expense_count), 0) AS cnt
+        FROM expense_daily_rollup r
+        WHERE r.user_id = :userId
+          AND r.rollup_day >= :start
+          AND r.rollup_day <= :end
         """, nativeQuery = true)
     ApprovedAgg approvedSumByUser(@Param("userId") Long userId,
                                   @Param("start") LocalDate start,
                                   @Param("end") LocalDate end);
 
     @Query(value = """
-        SELECT COALESCE(SUM(e.amount), 0) AS total,
-               COUNT(*) AS cnt
-        FROM expense e
-        JOIN users u ON u.id = e.user_id
-        WHERE e.approval_status = 'APPROVED'
-          AND e.receipt_date >= :start
-          AND e.receipt_date <= :end
-          AND TRIM(u.department_name) = TRIM(:dept)
+        SELECT COALESCE(SUM(r.total_amount), 0) AS total,
+               COALESCE(SUM(r.expense_count), 0) AS cnt
+        FROM expense_daily_rollup r
+        WHERE r.user_id IN (SELECT u.id FROM users u WHERE u.department_name = :dept)
+          AND r.rollup_day >= :start
+          AND r.rollup_day <= :end
         """, nativeQuery = true)
     ApprovedAgg approvedSumByDept(@Param("dept") String dept,
                                   @Param("start") LocalDate start,
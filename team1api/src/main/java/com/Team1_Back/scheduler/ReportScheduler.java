@@ -7,6 +7,7 @@ import com.Team1_Back.repository.ReportScheduleRepository;
 import com.Team1_Back.service.ReportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.support.CronExpression;
@@ -15,9 +16,16 @@ import org.springframework.stereotype.Component;
 import java.time.*;
 import java.util.List;
 
+/**
+ * 리포트 예약 실행 (1분마다 실행 시각이 된 예약을 생성)
+ *
+ * <p>스케줄링을 켜기 전에는 동작하지 않던 작업이라 명시적으로 켠 경우에만 등록합니다.
+ * (com.mallapi.report.schedule.enabled=true)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "com.mallapi.report.schedule.enabled", havingValue = "true")
 public class ReportScheduler {
 
     private final ReportScheduleRepository reportScheduleRepository;
@@ -0,0 +1,54 @@
+package com.Team1_Back.scheduler;
+
+import com.Team1_Back.report.storage.ReportStorageManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 리포트 저장소 수명주기 배치 (압축/보관 만료/다운로드 로그 정리)
+ *
+ * <p>스케줄러 스레드(ReportScheduler tick)를 막지 않도록 @Async로 실행하고,
+ * 다중 인스턴스에서는 Redis 락으로 한 곳에서만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportStorageLifecycleJob {
+
+    private static final String LOCK_KEY = "report:storage:lifecycle";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final ReportStorageManager reportStorageManager;
+    private final RedisLock redisLock;
+
+    @Async
+    @Scheduled(cron = "${com.mallapi.report.lifecycle.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        runNow();
+    }
+
+    /**
+     * 즉시 실행 (이미 실행 중이면 null)
+     */
+    public ReportStorageManager.LifecycleResult runNow() {
+        String token = redisLock.tryLock(LOCK_KEY, LOCK_TTL);
+        if (token == null) {
+            log.info("[STORAGE] lifecycle already running - skip");
+            return null;
+        }
+
+        try {
+            return reportStorageManager.runLifecycle();
+        } catch (Exception e) {
+            log.warn("[STORAGE] lifecycle failed: {}", e.getMessage(), e);
+            return null;
+        } finally {
+            redisLock.unlock(LOCK_KEY, token);
+        }
+    }
+}
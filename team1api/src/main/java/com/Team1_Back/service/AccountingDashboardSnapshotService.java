@@ -0,0 +1,230 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.datasource.ReplicaRoutingDataSource;
+import com.Team1_Back.repository.ApprovalDashboardCounts;
+import com.Team1_Back.repository.ApprovalRequestRepository;
+import com.Team1_Back.repository.ExpenseDailyRollupRepository;
+import com.Team1_Back.scheduler.RedisLock;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회계 대시보드 요약 스냅샷
+ *
+ * <p>요약 지표를 미리 계산해 메모리(노드별)와 Redis(노드 간 공유)에 보관하고,
+ * 조회는 계산 없이 스냅샷만 반환합니다. 응답에는 계산 시각(asOf)이 포함됩니다.
+ *
+ * <ul>
+ *   <li>지출/결재 상태 변경 → {@link #markDirty()} → 짧은 주기로 모아서 재계산
+ *       (지표별 증감 대신 전체를 다시 계산, 롤업/원장/집계 쿼리 1회라 가볍고 원천 데이터와 어긋나지 않음)</li>
+ *   <li>정기 전체 재계산 (날짜 경계의 "오늘" 지표 갱신 포함, Redis 락으로 1개 노드만)</li>
+ *   <li>다른 노드는 로컬 TTL이 지나면 Redis의 최신 스냅샷을 가져감</li>
+ * </ul>
+ *
+ * <p>재계산은 주 DB에서 읽습니다. 복제본에서 읽으면 방금 커밋된 승인이 빠진 채 dirty가 지워지고,
+ * 다음 전체 재계산까지 그 값이 남습니다.
+ *
+ * @author Team1
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AccountingDashboardSnapshotService {
+
+    private static final String REDIS_KEY = "accounting:dashboard:summary";
+    private static final String LOCK_KEY = "accounting:dashboard:refresh";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+    private static final Duration REDIS_TTL = Duration.ofHours(1);
+
+    private final ApprovalRequestRepository approvalRequestRepository;
+    private final BudgetLedgerService budgetLedgerService;
+    private final ExpenseDailyRollupRepository expenseDailyRollupRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisLock redisLock;
+
+    @Value("${com.mallapi.accounting.snapshot.local-ttl-ms:5000}")
+    private long localTtlMs;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    private volatile Map<String, Object> local;
+    private volatile long localLoadedAt;
+
+    /**
+     * 스냅샷 조회 (로컬 → Redis → 최초 1회 계산)
+     */
+    public Map<String, Object> getSummary() {
+        Map<String, Object> snapshot = local;
+        if (snapshot != null && System.currentTimeMillis() - localLoadedAt < localTtlMs) {
+            return snapshot;
+        }
+
+        Map<String, Object> shared = readShared();
+        if (shared != null) {
+            setLocal(shared);
+            return shared;
+        }
+
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    /**
+     * 변경 발생 표시 (재계산은 {@link #refreshIfDirty()}에서 모아서 수행)
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${com.mallapi.accounting.snapshot.dirty-check-ms:2000}")
+    public void refreshIfDirty() {
+        if (!dirty.compareAndSet(true, false)) return;
+        try {
+            refresh();
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("[DASHBOARD] dirty refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${com.mallapi.accounting.snapshot.full-refresh-cron:0 */5 * * * *}", zone = "Asia/Seoul")
+    public void scheduledFullRefresh() {
+        String token = tryLock();
+        if (token == null) return;
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("[DASHBOARD] full refresh failed: {}", e.getMessage());
+        } finally {
+            redisLock.unlock(LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 전체 재계산 후 로컬/Redis 스냅샷 교체
+     */
+    public synchronized Map<String, Object> refresh() {
+        Map<String, Object> computed = ReplicaRoutingDataSource.onPrimary(this::compute);
+        writeShared(computed);
+        setLocal(computed);
+        return computed;
+    }
+
+    private Map<String, Object> compute() {
+        LocalDateTime asOf = LocalDateTime.now();
+        LocalDate today = asOf.toLocalDate();
+
+        // 결재 건수: 1회 집계 쿼리
+        ApprovalDashboardCounts counts = approvalRequestRepository.aggregateDashboardCounts(
+                today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+
+        long totalPending = nz(counts == null ? null : counts.getTotalPending());
+        long todaySubmitted = nz(counts == null ? null : counts.getTodaySubmitted());
+        long todayApproved = nz(counts == null ? null : counts.getTodayApproved());
+        long todayRejected = nz(counts == null ? null : counts.getTodayRejected());
+        long todayRequestMoreInfo = nz(counts == null ? null : counts.getTodayRequestMoreInfo());
+
+        // 월간 지출: 일별 롤업
+        YearMonth thisMonth = YearMonth.from(today);
+        YearMonth prevMonth = thisMonth.minusMonths(1);
+        long monthlyTotalExpense = nz(expenseDailyRollupRepository.sumApprovedAmount(
+                thisMonth.atDay(1), thisMonth.atEndOfMonth()));
+        long lastMonthTotalExpense = nz(expenseDailyRollupRepository.sumApprovedAmount(
+                prevMonth.atDay(1), prevMonth.atEndOfMonth()));
+
+        // 예산: 예산 원장(메모리)에서 한도 합계/초과 인원
+        String currentYearMonth = thisMonth.format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        long totalBudget = budgetLedgerService.totalLimit(currentYearMonth);
+        int overBudgetCount = budgetLedgerService.countOverBudget(currentYearMonth, BudgetLedgerService.WARNING_RATE);
+
+        double monthlyExpenseChangeRate = 0.0;
+        if (lastMonthTotalExpense > 0) {
+            monthlyExpenseChangeRate = ((monthlyTotalExpense - lastMonthTotalExpense) / (double) lastMonthTotalExpense) * 100.0;
+        } else if (monthlyTotalExpense > 0) {
+            // 전월 데이터가 없고 이번 달 데이터가 있으면 100% 증가
+            monthlyExpenseChangeRate = 100.0;
+        }
+
+        double totalBudgetExecutionRate = 0.0;
+        if (totalBudget > 0) {
+            // 이번 달 전체 승인 지출 / 예산 합계 (기존 정의 유지)
+            totalBudgetExecutionRate = (monthlyTotalExpense / (double) totalBudget) * 100.0;
+        } else {
+            log.warn("⚠️ 현재 월({})의 예산 데이터가 없습니다.", currentYearMonth);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("totalBudgetExecutionRate", Math.round(totalBudgetExecutionRate * 100.0) / 100.0); // 소수점 2자리
+        summary.put("totalPendingCount", totalPending);
+        summary.put("monthlyTotalExpense", monthlyTotalExpense);
+        summary.put("overBudgetCount", overBudgetCount);
+
+        summary.put("todaySubmittedCount", todaySubmitted);
+        summary.put("todayProcessedCount", todayApproved + todayRejected);
+        summary.put("monthlyExpenseChangeRate", Math.round(monthlyExpenseChangeRate * 100.0) / 100.0);
+
+        summary.put("todayApprovedCount", todayApproved);
+        summary.put("todayRejectedCount", todayRejected);
+        summary.put("todayRequestMoreInfoCount", todayRequestMoreInfo);
+
+        summary.put("asOf", asOf.toString());
+
+        log.info("✅ 대시보드 스냅샷 갱신 - asOf: {}, 집행률: {}%, 총 미결재: {}건, 월간 지출: {}원",
+                asOf, String.format("%.2f", totalBudgetExecutionRate), totalPending, monthlyTotalExpense);
+        return Collections.unmodifiableMap(summary);
+    }
+
+    private void setLocal(Map<String, Object> snapshot) {
+        this.local = snapshot;
+        this.localLoadedAt = System.currentTimeMillis();
+    }
+
+    private Map<String, Object> readShared() {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY);
+            if (json == null) return null;
+            Map<String, Object> map = objectMapper.readValue(json, new TypeReference<LinkedHashMap<String, Object>>() {});
+            return Collections.unmodifiableMap(map);
+        } catch (Exception e) {
+            log.debug("[DASHBOARD] redis read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(Map<String, Object> snapshot) {
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY, objectMapper.writeValueAsString(snapshot), REDIS_TTL);
+        } catch (Exception e) {
+            log.debug("[DASHBOARD] redis write failed: {}", e.getMessage());
+        }
+    }
+
+    private String tryLock() {
+        try {
+            return redisLock.tryLock(LOCK_KEY, LOCK_TTL);
+        } catch (Exception e) {
+            // Redis 장애 시에는 노드별로 계산
+            return "local";
+        }
+    }
+
+    private long nz(Long v) {
+        return v == null ? 0L : v;
+    }
+}
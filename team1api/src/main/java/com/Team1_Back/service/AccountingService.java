@@ -59,4 +59,17 @@ public interface AccountingService {
     // 한해찬 추가
     // 월별 지출 조회
     List<Map<String, Object>> getMonthlyExpenseTrend(String status);
+
+    /**
+     * 승인 지출 분석 큐브를 조회합니다. (부서 × 카테고리 × 월 slice/dice/roll-up)
+     *
+     * @param groupBy 남길 차원 (department, category, month / 비어 있으면 전체 합계)
+     * @param departments 포함할 부서 (없으면 전체)
+     * @param categories 포함할 카테고리 (없으면 전체)
+     * @param from 시작 월 (yyyy-MM, 선택)
+     * @param to 종료 월 (yyyy-MM, 선택)
+     * @return 그룹별 건수/합계 목록
+     */
+    List<Map<String, Object>> getCube(List<String> groupBy, List<String> departments, List<String> categories,
+                                      String from, String to);
 }
@@ -1,33 +1,45 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.accounting.cube.CubeQuery;
+import com.Team1_Back.accounting.cube.ExpenseCube;
+import com.Team1_Back.datasource.AnalyticalQuery;
 import com.Team1_Back.domain.ApprovalStatus;
+import com.Team1_Back.dto.BudgetStatusDTO;
 import com.Team1_Back.dto.DepartmentStatisticsDTO;
-import com.Team1_Back.repository.ApprovalRequestRepository;
+import com.Team1_Back.repository.ExpenseDailyRollupRepository;
 import com.Team1_Back.repository.ExpenseRepository;
-import com.Team1_Back.repository.UserBudgetMonthlyRepository;
 import com.Team1_Back.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@AnalyticalQuery
 public class AccountingServiceImpl implements AccountingService {
 
     private final ExpenseRepository expenseRepository;
-    private final ApprovalRequestRepository approvalRequestRepository;
     private final UserRepository userRepository;
-    private final UserBudgetMonthlyRepository userBudgetMonthlyRepository;
+    private final BudgetLedgerService budgetLedgerService;
+    private final ExpenseDailyRollupRepository expenseDailyRollupRepository;
+    private final AccountingDashboardSnapshotService accountingDashboardSnapshotService;
+    private final ExpenseCubeService expenseCubeService;
 
     @Override
     public List<DepartmentStatisticsDTO> getDepartmentStatistics(String status) {
@@ -38,6 +50,21 @@ public class AccountingServiceImpl implements AccountingService {
 
         log.info("🔍 부서별 통계 조회 - status: {}", statusValue);
 
+        // 승인 건은 분석 큐브에서 (적재 전이면 원장 집계)
+        if (isApprovedCubeQuery(statusValue)) {
+            return expenseCubeService.query(CubeQuery.builder()
+                            .groupBy(EnumSet.of(ExpenseCube.Dimension.DEPARTMENT))
+                            .build())
+                    .stream()
+                    .filter(cell -> !cell.department().isEmpty())
+                    .map(cell -> DepartmentStatisticsDTO.builder()
+                            .departmentName(cell.department())
+                            .expenseCount(cell.count())
+                            .totalAmount(cell.amount())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
         List<Object[]> results = expenseRepository.findDepartmentStatistics(statusValue);
 
         List<DepartmentStatisticsDTO> dtoList = results.stream()
@@ -72,6 +99,22 @@ public class AccountingServiceImpl implements AccountingService {
 
         log.info("🔍 카테고리별 통계 조회 - status: {}", statusValue);
 
+        // 승인 건은 분석 큐브에서 (적재 전이면 원장 집계)
+        if (isApprovedCubeQuery(statusValue)) {
+            return expenseCubeService.query(CubeQuery.builder()
+                            .groupBy(EnumSet.of(ExpenseCube.Dimension.CATEGORY))
+                            .build())
+                    .stream()
+                    .filter(cell -> !cell.category().isEmpty())
+                    .map(cell -> {
+                        Map<String, Object> map = new HashMap<>();
+                        map.put("name", cell.category());
+                        map.put("amount", cell.amount());
+                        return map;
+                    })
+                    .collect(Collectors.toList());
+        }
+
         List<Object[]> results = expenseRepository.findCategoryStatistics(statusValue);
 
         List<Map<String, Object>> dtoList = results.stream()
@@ -91,100 +134,9 @@ public class AccountingServiceImpl implements AccountingService {
     }
 
     @Override
-    // 전체 통계 요약 조회
+    // 전체 통계 요약 조회 (이벤트로 무효화되는 스냅샷에서 반환, asOf = 계산 시각)
     public Map<String, Object> getSummary() {
-        log.info("🔍 전체 통계 요약 조회");
-
-        // ApprovalRequest 테이블에서 총 미결재 건수 조회 (실제 플랫폼 관례)
-        Long totalPendingCount = approvalRequestRepository.countTotalPending();
-        Long monthlyTotalExpense = expenseRepository.sumMonthlyTotalExpense(ApprovalStatus.APPROVED.name());
-
-        // Phase 1: 오늘의 신규 결재 건수 (당일 상신된 모든 건수)
-        Long todaySubmittedCount = approvalRequestRepository.countTodaySubmitted();
-
-        // Phase 1: 오늘의 처리 건수 (당일 승인/반려된 건수)
-        Long todayProcessedCount = approvalRequestRepository.countTodayProcessed();
-
-        // Phase 1: 오늘의 결재 현황 (당일 처리된 건수만)
-        Long todayApprovedCount = approvalRequestRepository.countTodayApproved();
-        Long todayRejectedCount = approvalRequestRepository.countTodayRejected();
-        Long todayRequestMoreInfoCount = approvalRequestRepository.countTodayRequestMoreInfo();
-
-        // 현재 월의 yearMonth 형식 (YYYY-MM)
-        String currentYearMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-        List<Object[]> overBudgetUsers = userBudgetMonthlyRepository.findOverBudgetUsers(currentYearMonth);
-
-        // Phase 1: 전월 대비 증감률 계산
-        LocalDate now = LocalDate.now();
-        LocalDate lastMonth = now.minusMonths(1);
-        String lastMonthYearMonth = lastMonth.format(DateTimeFormatter.ofPattern("yyyy-MM"));
-
-        // 전월 총 지출액 조회
-        Long lastMonthTotalExpense = expenseRepository.sumMonthlyTotalExpenseByYearMonth(
-                lastMonthYearMonth, ApprovalStatus.APPROVED.name());
-        lastMonthTotalExpense = lastMonthTotalExpense != null ? lastMonthTotalExpense : 0L;
-
-        // 전월 대비 증감률 계산
-        double monthlyExpenseChangeRate = 0.0;
-        if (lastMonthTotalExpense > 0) {
-            long expenseDiff = (monthlyTotalExpense != null ? monthlyTotalExpense : 0L) - lastMonthTotalExpense;
-            monthlyExpenseChangeRate = (expenseDiff / (double) lastMonthTotalExpense) * 100.0;
-        } else if (monthlyTotalExpense != null && monthlyTotalExpense > 0) {
-            // 전월 데이터가 없고 이번 달 데이터가 있으면 100% 증가
-            monthlyExpenseChangeRate = 100.0;
-        }
-
-        // 예산 집행률 계산: 전체 사용자의 월간 예산 대비 실제 지출 비율
-        double totalBudgetExecutionRate = 0.0;
-        try {
-            // 현재 월의 전체 예산 합계 (더 효율적인 방법)
-            Long totalBudget = userBudgetMonthlyRepository.findAll().stream()
-                    .filter(ubm -> currentYearMonth.equals(ubm.getYearMonth()))
-                    .mapToLong(ubm -> ubm.getMonthlyLimit())
-                    .sum();
-
-            // 현재 월의 전체 지출 합계 (APPROVED 상태만)
-            Long totalExpense = monthlyTotalExpense != null ? monthlyTotalExpense : 0L;
-
-            if (totalBudget > 0 && totalBudget > 0) {
-                totalBudgetExecutionRate = (totalExpense.doubleValue() / totalBudget.doubleValue()) * 100.0;
-            } else if (totalBudget == 0) {
-                log.warn("⚠️ 현재 월({})의 예산 데이터가 없습니다.", currentYearMonth);
-            }
-
-            log.info("📊 예산 집행률 계산 - 총 예산: {}, 총 지출: {}, 집행률: {}%",
-                    totalBudget, totalExpense, String.format("%.2f", totalBudgetExecutionRate));
-        } catch (Exception e) {
-            log.warn("⚠️ 예산 집행률 계산 실패: {}", e.getMessage(), e);
-            totalBudgetExecutionRate = 0.0;
-        }
-
-        Map<String, Object> summary = new HashMap<>();
-        summary.put("totalBudgetExecutionRate", Math.round(totalBudgetExecutionRate * 100.0) / 100.0); // 소수점 2자리
-        summary.put("totalPendingCount", totalPendingCount != null ? totalPendingCount : 0L);
-        summary.put("monthlyTotalExpense", monthlyTotalExpense != null ? monthlyTotalExpense : 0L);
-        summary.put("overBudgetCount", overBudgetUsers.size());
-
-        // Phase 1: 추가 지표
-        summary.put("todaySubmittedCount", todaySubmittedCount != null ? todaySubmittedCount : 0L);
-        summary.put("todayProcessedCount", todayProcessedCount != null ? todayProcessedCount : 0L);
-        summary.put("monthlyExpenseChangeRate", Math.round(monthlyExpenseChangeRate * 100.0) / 100.0);
-
-        // Phase 1: 오늘의 결재 현황 (당일 처리된 건수만)
-        summary.put("todayApprovedCount", todayApprovedCount != null ? todayApprovedCount : 0L);
-        summary.put("todayRejectedCount", todayRejectedCount != null ? todayRejectedCount : 0L);
-        summary.put("todayRequestMoreInfoCount", todayRequestMoreInfoCount != null ? todayRequestMoreInfoCount : 0L);
-
-        log.info("✅ 전체 통계 요약 조회 결과 - 집행률: {}%, 총 미결재: {}건, 월간 지출: {}원, 예산 초과: {}명, " +
-                "오늘 상신: {}건, 오늘 처리: {}건, 전월 대비: {}%",
-                String.format("%.2f", totalBudgetExecutionRate),
-                summary.get("totalPendingCount"),
-                summary.get("monthlyTotalExpense"),
-                summary.get("overBudgetCount"),
-                summary.get("todaySubmittedCount"),
-                summary.get("todayProcessedCount"),
-                String.format("%.2f", monthlyExpenseChangeRate));
-        return summary;
+        return accountingDashboardSnapshotService.getSummary();
     }
 
     @Override
@@ -192,25 +144,17 @@ public class AccountingServiceImpl implements AccountingService {
     public List<Map<String, Object>> getOverBudgetList() {
         log.info("🔍 예산 초과 인원 리스트 조회");
 
+        // 예산 원장(메모리)에서 바로 계산
         String currentYearMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-        List<Object[]> results = userBudgetMonthlyRepository.findOverBudgetUsers(currentYearMonth);
+        List<BudgetStatusDTO> results = budgetLedgerService.getOverBudget(currentYearMonth, BudgetLedgerService.WARNING_RATE);
 
         List<Map<String, Object>> dtoList = results.stream()
-                .map(row -> {
+                .map(status -> {
                     Map<String, Object> map = new HashMap<>();
-                    map.put("name", row[1] != null ? (String) row[1] : "");
-                    map.put("department", row[2] != null ? (String) row[2] : "");
-
-                    Long monthlyLimit = ((Number) row[3]).longValue();
-                    Long totalExpense = ((Number) row[4]).longValue();
-                    Long remaining = ((Number) row[5]).longValue();
-
-                    double executionRate = monthlyLimit > 0
-                            ? (totalExpense.doubleValue() / monthlyLimit.doubleValue() * 100)
-                            : 0.0;
-
-                    map.put("executionRate", Math.round(executionRate));
-                    map.put("remaining", remaining);
+                    map.put("name", status.name());
+                    map.put("department", status.department());
+                    map.put("executionRate", Math.round(status.executionRate()));
+                    map.put("remaining", status.remaining());
                     return map;
                 })
                 .collect(Collectors.toList());
@@ -246,7 +190,28 @@ public class AccountingServiceImpl implements AccountingService {
 
         log.info("월별 지출 추이 조회 - status: {}", statusValue);
 
-        List<Object[]> results = expenseRepository.findMonthlyExpenseTrend(statusValue);
+        // 승인 건은 분석 큐브에서 최근 12개월(이번 달 포함)
+        if (isApprovedCubeQuery(statusValue)) {
+            YearMonth now = YearMonth.now();
+            return expenseCubeService.query(CubeQuery.builder()
+                            .groupBy(EnumSet.of(ExpenseCube.Dimension.MONTH))
+                            .from(now.minusMonths(11))
+                            .to(now)
+                            .build())
+                    .stream()
+                    .map(cell -> {
+                        Map<String, Object> map = new HashMap<>();
+                        map.put("yearMonth", cell.month().toString());
+                        map.put("amount", cell.amount());
+                        return map;
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        // 큐브 적재 전 승인 건은 일별 롤업에서, 그 외 상태는 원장에서 조회
+        List<Object[]> results = ApprovalStatus.APPROVED.name().equals(statusValue)
+                ? expenseDailyRollupRepository.findMonthlyTotalsSince(LocalDate.now().minusMonths(12))
+                : expenseRepository.findMonthlyExpenseTrend(statusValue);
 
         List<Map<String, Object>> trendList = results.stream()
                 .map(row -> {
@@ -260,4 +225,65 @@ public class AccountingServiceImpl implements AccountingService {
         log.info("월별 지출 추이 조회 결과 - 총 {}개 월", trendList.size());
         return trendList;
     }
+
+    @Override
+    public List<Map<String, Object>> getCube(List<String> groupBy, List<String> departments, List<String> categories,
+                                             String from, String to) {
+        if (!expenseCubeService.isReady()) {
+            throw new IllegalStateException("분석 큐브가 아직 적재되지 않았습니다.");
+        }
+
+        EnumSet<ExpenseCube.Dimension> dimensions = EnumSet.noneOf(ExpenseCube.Dimension.class);
+        if (groupBy != null) {
+            for (String name : groupBy) {
+                try {
+                    dimensions.add(ExpenseCube.Dimension.valueOf(name.trim().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 차원입니다: " + name);
+                }
+            }
+        }
+
+        CubeQuery query = CubeQuery.builder()
+                .groupBy(dimensions)
+                .departments(departments != null ? Set.copyOf(departments) : null)
+                .categories(categories != null ? Set.copyOf(categories) : null)
+                .from(parseYearMonth("from", from))
+                .to(parseYearMonth("to", to))
+                .build();
+
+        return expenseCubeService.query(query).stream()
+                .map(cell -> {
+                    Map<String, Object> map = new HashMap<>();
+                    if (dimensions.contains(ExpenseCube.Dimension.DEPARTMENT)) {
+                        map.put("department", cell.department());
+                    }
+                    if (dimensions.contains(ExpenseCube.Dimension.CATEGORY)) {
+                        map.put("category", cell.category());
+                    }
+                    if (dimensions.contains(ExpenseCube.Dimension.MONTH)) {
+                        map.put("yearMonth", cell.month() != null ? cell.month().toString() : "");
+                    }
+                    map.put("expenseCount", cell.count());
+                    map.put("totalAmount", cell.amount());
+                    return map;
+                })
+                .collect(Collectors.toList());
+    }
+
+    // YYYY-MM (비어 있으면 null, 형식이 틀리면 400)
+    private YearMonth parseYearMonth(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + "는 YYYY-MM 형식이어야 합니다: " + value);
+        }
+    }
+
+    private boolean isApprovedCubeQuery(String statusValue) {
+        return ApprovalStatus.APPROVED.name().equals(statusValue) && expenseCubeService.isReady();
+    }
 }
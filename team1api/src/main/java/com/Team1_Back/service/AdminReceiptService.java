@@ -1,10 +1,13 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.dto.BulkVerificationResultDTO;
 import com.Team1_Back.dto.PageRequestDTO;
 import com.Team1_Back.dto.PageResponseDTO;
 import com.Team1_Back.dto.ReceiptDTO;
 import com.Team1_Back.dto.ReceiptVerificationDTO;
-import org.springframework.core.io.Resource;
+import com.Team1_Back.util.ReceiptImageVariants;
+
+import java.util.List;
 
 /**
  * 관리자용 영수증 비즈니스 로직을 처리하는 서비스 인터페이스
@@ -32,12 +35,17 @@ public interface AdminReceiptService {
     ReceiptDTO get(Long id);
 
     /**
-     * 영수증 이미지를 조회합니다 (관리자 전용).
+     * 영수증 이미지를 요청한 크기로 조회합니다 (관리자 전용).
+     * 
+     * <p>목록 썸네일(thumb), 검토 화면(review), 원본(original) 중 하나이며,
+     * 크기별 사본은 처음 요청될 때 만들어 원본 옆에 저장합니다.
      * 
      * @param id 영수증 ID
-     * @return 영수증 이미지 리소스
+     * @param size thumb, review, original (없으면 original)
+     * @param ifNoneMatch 브라우저가 보낸 If-None-Match (없으면 null)
+     * @return 이미지와 ETag (If-None-Match가 맞으면 파일 없이 ETag만)
      */
-    Resource getImage(Long id);
+    ReceiptImageVariants.Image getImage(Long id, String size, String ifNoneMatch);
 
     /**
      * 영수증에서 추출된 정보를 조회합니다 (관리자 전용).
@@ -55,5 +63,15 @@ public interface AdminReceiptService {
      * @param adminId 검증하는 관리자 ID
      */
     void verify(Long id, ReceiptVerificationDTO verificationDTO, Long adminId);
-}
 
+    /**
+     * 지출 내역 여러 건을 한 번에 검증합니다 (관리자 전용).
+     *
+     * <p>건별로 성공/실패를 판정하며, 실패 건이 있어도 나머지는 처리됩니다.
+     *
+     * @param decisions 건별 검증 정보 (expenseId 필수)
+     * @param adminId 검증하는 관리자 ID
+     * @return 요청 순서대로의 건별 결과
+     */
+    BulkVerificationResultDTO verifyBulk(List<ReceiptVerificationDTO> decisions, Long adminId);
+}
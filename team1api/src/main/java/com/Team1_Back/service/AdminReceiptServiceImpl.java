@@ -1,25 +1,36 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.accounting.listener.AccountingDataChangedEvent;
 import com.Team1_Back.domain.*;
+import com.Team1_Back.dto.BulkVerificationResultDTO;
 import com.Team1_Back.dto.PageRequestDTO;
 import com.Team1_Back.dto.PageResponseDTO;
 import com.Team1_Back.dto.ReceiptDTO;
 import com.Team1_Back.dto.ReceiptVerificationDTO;
+import com.Team1_Back.paging.CountCache;
+import com.Team1_Back.paging.CountMode;
+import com.Team1_Back.paging.PagedQueryExecutor;
 import com.Team1_Back.repository.*;
-import com.Team1_Back.util.CustomFileUtil;
+import com.Team1_Back.util.ReceiptImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +39,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class AdminReceiptServiceImpl implements AdminReceiptService {
 
+    private static final Set<String> VERIFY_ACTIONS = Set.of("APPROVE", "REJECT", "REQUEST_MORE_INFO");
+
     private final ReceiptUploadRepository receiptUploadRepository;
     private final ReceiptAiExtractionRepository receiptAiExtractionRepository;
     private final ExpenseRepository expenseRepository;
@@ -35,8 +48,17 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
     private final ApprovalRequestRepository approvalRequestRepository;
     private final ApprovalActionLogRepository approvalActionLogRepository;
     private final UserRepository userRepository;
-    private final CustomFileUtil customFileUtil;
+    private final ReceiptImageVariants receiptImageVariants;
+    private final ExpenseRollupService expenseRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final CountCache countCache;
+    private final ReceiptVerificationBatchRepository receiptVerificationBatchRepository;
     private final ModelMapper modelMapper;
+    private final ReceiptBatchLoader receiptBatchLoader;
+
+    @Value("${com.mallapi.receipt.bulk-verify.max-items:500}")
+    private int bulkVerifyMaxItems;
 
     @Override
     @Transactional(readOnly = true)
@@ -45,40 +67,42 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
             pageRequestDTO = PageRequestDTO.builder().page(1).size(15).build();
         }
 
-        // 상신일 기준 정렬 (최근 상신일 먼저), 같은 날짜면 최근 업데이트 먼저
-        Pageable pageable = pageRequestDTO.getPageable("createdAt", "updatedAt");
-
         log.info("getList..............");
 
         // Expense 테이블에서 제출된 지출 내역 조회 (영수증 유무와 관계없이)
-        // DRAFT 상태는 제외 (아직 제출 안 된 것)
-        Page<Expense> expensePage;
+        // 상태 필터가 없거나 잘못된 값이면 DRAFT를 제외한 전체 (아직 제출 안 된 것 제외)
+        ApprovalStatus statusEnum = null;
         if (status != null && !status.isEmpty()) {
             try {
-                com.Team1_Back.domain.ApprovalStatus statusEnum = com.Team1_Back.domain.ApprovalStatus.valueOf(status);
-                expensePage = expenseRepository.findByStatus(statusEnum, pageable);
+                statusEnum = ApprovalStatus.valueOf(status);
             } catch (IllegalArgumentException e) {
-                // 잘못된 상태값이면 DRAFT 제외한 전체 조회
-                expensePage = expenseRepository.findAllSubmitted(pageable);
+                statusEnum = null;
             }
-        } else {
-            // 상태 필터가 없으면 DRAFT를 제외한 모든 제출된 지출 내역 조회
-            expensePage = expenseRepository.findAllSubmitted(pageable);
         }
+        ApprovalStatus filter = statusEnum;
 
-        List<Expense> expenses = expensePage.getContent();
+        // 상신일 기준 정렬 (최근 상신일 먼저), 같은 날짜면 최근 업데이트 먼저
+        // 전체 건수는 기본적으로 필터별 캐시 사용 (countMode=EXACT/HAS_NEXT로 변경 가능)
+        CountMode mode = CountMode.from(pageRequestDTO.getCountMode(), CountMode.CACHED);
+        PageResponseDTO<Expense> expensePage = pagedQueryExecutor.execute(pageRequestDTO, mode,
+                new PagedQueryExecutor.Query<>(
+                        CountCache.EXPENSE,
+                        "admin-receipts|" + filter,
+                        null,
+                        (offset, limit) -> expenseRepository.fetchSubmitted(filter, offset, limit),
+                        () -> expenseRepository.countSubmitted(filter)));
+
+        // 페이지의 영수증/추출/검증 결과를 IN 쿼리로 한 번에 가져온 뒤 메모리에서 조립 (행별 조회 없음)
+        ReceiptBatchLoader.Batch batch = receiptBatchLoader.load(
+                expensePage.getContent().stream().map(Expense::getId).toList());
 
         // 각 지출 내역을 ReceiptDTO로 변환 (영수증이 있으면 영수증 정보 포함, 없으면 null)
-        List<ReceiptDTO> dtoList = expenses.stream()
-                .map(this::expenseToDTO)
+        List<ReceiptDTO> dtoList = expensePage.getContent().stream()
+                .map(expense -> expenseToDTO(expense, batch))
                 .filter(dto -> dto != null)
                 .collect(Collectors.toList());
 
-        return PageResponseDTO.of(
-                dtoList,
-                pageRequestDTO,
-                expensePage.getTotalElements()
-        );
+        return expensePage.withContent(dtoList);
     }
 
     @Override
@@ -91,17 +115,31 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Resource getImage(Long id) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReceiptImageVariants.Image getImage(Long id, String size, String ifNoneMatch) {
+        ReceiptImageVariants.Variant variant;
+        try {
+            variant = ReceiptImageVariants.Variant.from(size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        // 조회만 저장소 트랜잭션으로 하고, 리사이즈/인코딩은 트랜잭션(커넥션) 밖에서 수행
         com.Team1_Back.domain.ReceiptUpload receiptUpload = receiptUploadRepository.findById(id)
                 .orElseThrow(() -> new java.util.NoSuchElementException("영수증을 찾을 수 없습니다."));
 
-        // file_url이 상대 경로인 경우 절대 경로로 변환
-        String fileUrl = receiptUpload.getFileUrl();
-        Path filePath = Paths.get(fileUrl);
+        // 브라우저 캐시가 최신이면 파일을 열지 않음 (ETag는 파일 해시로 정해짐)
+        String etag = receiptImageVariants.etagFor(receiptUpload.getFileHash(), variant);
+        if (ReceiptImageVariants.matches(ifNoneMatch, etag)) {
+            return ReceiptImageVariants.Image.notModified(etag);
+        }
 
-        // CustomFileUtil.getFileAsResource()가 NoSuchElementException을 던지면 그대로 전파 (ControllerAdvice가 404로 처리)
-        return customFileUtil.getFileAsResource(filePath);
+        // 파일이 없으면 NoSuchElementException (ControllerAdvice가 404로 처리)
+        ReceiptImageVariants.Image image = receiptImageVariants.get(receiptUpload.getFileUrl(), receiptUpload.getFileHash(),
+                receiptUpload.getMimeType(), variant);
+        // 해시가 없는 예전 영수증은 파일 정보로 정한 ETag로 비교
+        return etag == null && ReceiptImageVariants.matches(ifNoneMatch, image.etag())
+                ? ReceiptImageVariants.Image.notModified(image.etag())
+                : image;
     }
 
     @Override
@@ -156,6 +194,7 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
         }
 
         String action = verificationDTO.getAction();
+        ExpenseRollupService.Snapshot before = expenseRollupService.snapshot(expense);
 
         // Expense 상태 업데이트
         if ("APPROVE".equals(action)) {
@@ -176,6 +215,9 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
         }
 
         expenseRepository.save(expense);
+        expenseRollupService.applyTransition(before, expense);
+        eventPublisher.publishEvent(new AccountingDataChangedEvent("RECEIPT_VERIFY_" + action));
+        countCache.invalidate(CountCache.EXPENSE, CountCache.APPROVAL);
 
         // ApprovalRequest 상태 동기화
         ApprovalRequest approvalRequest = approvalRequestRepository
@@ -213,6 +255,140 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
         receiptVerificationRepository.save(verification);
     }
 
+    @Override
+    public BulkVerificationResultDTO verifyBulk(List<ReceiptVerificationDTO> decisions, Long adminId) {
+        if (decisions == null || decisions.isEmpty()) {
+            throw new IllegalArgumentException("검증할 항목이 없습니다.");
+        }
+        if (decisions.size() > bulkVerifyMaxItems) {
+            throw new IllegalArgumentException("한 번에 최대 " + bulkVerifyMaxItems + "건까지 검증할 수 있습니다.");
+        }
+
+        long started = System.currentTimeMillis();
+
+        User admin = userRepository.findById(adminId)
+                .orElseThrow();
+
+        if (!admin.isAdmin()) {
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+
+        // 1. 대상 지출 + 작성자 부서 + 결재 요청을 IN 조회 한 번으로
+        Map<Long, ReceiptVerificationBatchRepository.Target> targets = receiptVerificationBatchRepository.findTargets(
+                decisions.stream()
+                        .map(ReceiptVerificationDTO::getExpenseId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
+
+        // 2. 메모리에서 상태 전이 계산 (실패 건은 결과에만 남기고 건너뜀)
+        List<BulkVerificationResultDTO.Item> results = new ArrayList<>(decisions.size());
+        List<ReceiptVerificationBatchRepository.Write> writes = new ArrayList<>();
+        List<ExpenseRollupService.Transition> transitions = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (ReceiptVerificationDTO decision : decisions) {
+            Long expenseId = decision.getExpenseId();
+            String action = decision.getAction();
+            ReceiptVerificationBatchRepository.Target target = expenseId != null ? targets.get(expenseId) : null;
+
+            String error = null;
+            if (expenseId == null) {
+                error = "expenseId가 필요합니다.";
+            } else if (!seen.add(expenseId)) {
+                error = "같은 요청에 중복된 지출 내역입니다.";
+            } else if (action == null || action.isBlank()) {
+                error = "action이 필요합니다.";
+            } else if (!VERIFY_ACTIONS.contains(action)) {
+                error = "지원하지 않는 action입니다: " + action;
+            } else if (target == null) {
+                error = "지출 내역을 찾을 수 없습니다.";
+            } else if (target.status() == ApprovalStatus.DRAFT) {
+                error = "제출되지 않은 지출 내역입니다.";
+            }
+
+            if (error != null) {
+                results.add(BulkVerificationResultDTO.Item.builder()
+                        .expenseId(expenseId)
+                        .action(action)
+                        .success(false)
+                        .message(error)
+                        .build());
+                continue;
+            }
+
+            // 단건 검증(verify)과 같은 규칙: 승인 시에만 검증 값으로 덮어씀
+            ApprovalStatus status;
+            String merchant = target.merchant();
+            Integer amount = target.amount();
+            String category = target.category();
+
+            if ("APPROVE".equals(action)) {
+                status = ApprovalStatus.APPROVED;
+                if (decision.getVerifiedMerchant() != null) {
+                    merchant = decision.getVerifiedMerchant();
+                }
+                if (decision.getVerifiedAmount() != null) {
+                    amount = decision.getVerifiedAmount();
+                }
+                if (decision.getVerifiedCategory() != null) {
+                    category = decision.getVerifiedCategory();
+                }
+            } else if ("REJECT".equals(action)) {
+                status = ApprovalStatus.REJECTED;
+            } else {
+                status = ApprovalStatus.REQUEST_MORE_INFO;
+            }
+
+            writes.add(new ReceiptVerificationBatchRepository.Write(
+                    expenseId,
+                    target.approvalRequestId(),
+                    status,
+                    merchant,
+                    amount,
+                    category,
+                    action,
+                    decision.getReason(),
+                    decision.getVerifiedMerchant(),
+                    decision.getVerifiedAmount(),
+                    decision.getVerifiedCategory()));
+
+            transitions.add(new ExpenseRollupService.Transition(
+                    expenseRollupService.snapshot(target.status(), target.receiptDate(), target.writerId(),
+                            target.departmentName(), target.category(), target.amount()),
+                    expenseRollupService.snapshot(status, target.receiptDate(), target.writerId(),
+                            target.departmentName(), category, amount)));
+
+            results.add(BulkVerificationResultDTO.Item.builder()
+                    .expenseId(expenseId)
+                    .action(action)
+                    .success(true)
+                    .status(status.name())
+                    .build());
+        }
+
+        // 3. JDBC 배치 쓰기 + 롤업/예산 증감 배치 (같은 트랜잭션, 메모리 원장/큐브는 커밋 후 한 번)
+        receiptVerificationBatchRepository.writeAll(writes, adminId, LocalDateTime.now());
+        expenseRollupService.applyTransitions(transitions);
+
+        if (!writes.isEmpty()) {
+            eventPublisher.publishEvent(new AccountingDataChangedEvent("RECEIPT_VERIFY_BULK"));
+            countCache.invalidate(CountCache.EXPENSE, CountCache.APPROVAL);
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("[BULK-VERIFY] requested={}, succeeded={}, {}ms ({} items/s)",
+                decisions.size(), writes.size(), elapsed,
+                elapsed > 0 ? decisions.size() * 1000L / elapsed : decisions.size());
+
+        return BulkVerificationResultDTO.builder()
+                .requested(decisions.size())
+                .succeeded(writes.size())
+                .failed(decisions.size() - writes.size())
+                .elapsedMs(elapsed)
+                .results(results)
+                .build();
+    }
+
     /**
      * ReceiptUpload 엔티티를 ReceiptDTO로 변환합니다 (하이브리드 방식).
      *
@@ -236,6 +412,8 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
         dto.setExpenseId(expense.getId());
         dto.setUploadedBy(uploadedBy.getId());
         dto.setUploadedByName(uploadedBy.getName());
+        dto.setOcrStatus(entity.getOcrStatus() != null ? entity.getOcrStatus().name() : null);
+        dto.setOcrError(entity.getOcrLastError());
 
         // Expense의 상태도 추가
         if (expense.getStatus() != null) {
@@ -282,21 +460,21 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
     /**
      * Expense 엔티티를 ReceiptDTO로 변환합니다 (하이브리드 방식, 영수증이 없어도 처리 가능).
      *
-     * <p>ModelMapper로 기본 필드를 매핑하고, 연관 엔티티, Enum 변환, Repository 조회가 필요한 부분은 수동으로 처리합니다.
+     * <p>영수증/추출/검증 결과는 {@link ReceiptBatchLoader}로 페이지 단위로 미리 가져온 값을 사용합니다.
      * 영수증이 없는 경우에도 Expense 정보만으로 ReceiptDTO를 생성할 수 있습니다.
      *
      * @param expense 변환할 Expense 엔티티
+     * @param batch 페이지의 영수증/추출/검증 결과
      * @return ReceiptDTO (필수 필드가 null이면 null 반환)
      */
-    private ReceiptDTO expenseToDTO(Expense expense) {
+    private ReceiptDTO expenseToDTO(Expense expense, ReceiptBatchLoader.Batch batch) {
         User writer = expense.getWriter();
 
         if (writer == null || expense.getStatus() == null) {
             return null;
         }
 
-        // 1. ModelMapper로 기본 필드 매핑 (Expense → ReceiptDTO는 직접 매핑 불가하므로 수동 생성)
-        // Expense와 ReceiptDTO는 구조가 다르므로 기본 DTO 생성
+        // 1. Expense와 ReceiptDTO는 구조가 다르므로 기본 DTO 생성
         ReceiptDTO dto = ReceiptDTO.builder()
                 .expenseId(expense.getId())
                 .createdAt(expense.getCreatedAt())
@@ -310,25 +488,22 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
         // 3. Enum → String 변환 (수동 처리)
         dto.setStatus(expense.getStatus().name());
 
-        // 4. Repository 조회가 필요한 데이터 (수동 처리)
-        // 영수증이 있는지 확인
-        Optional<com.Team1_Back.domain.ReceiptUpload> receiptOpt = receiptUploadRepository.findByExpenseId(expense.getId());
-
-        // 영수증이 있으면 영수증 정보 포함
-        if (receiptOpt.isPresent()) {
-            com.Team1_Back.domain.ReceiptUpload receipt = receiptOpt.get();
-            // ModelMapper로 ReceiptUpload → ReceiptDTO 기본 매핑
-            ReceiptDTO receiptDto = modelMapper.map(receipt, ReceiptDTO.class);
-            // 기본 정보는 이미 설정했으므로 영수증 정보만 추가
-            dto.setId(receiptDto.getId());
-            dto.setFileUrl(receiptDto.getFileUrl());
-            dto.setFileHash(receiptDto.getFileHash());
-            dto.setMimeType(receiptDto.getMimeType());
+        // 4. 페이지 단위로 미리 가져온 영수증/추출/검증 결과 (행마다 조회하지 않음)
+        com.Team1_Back.domain.ReceiptUpload receipt = batch.receipt(expense.getId());
+
+        // 영수증이 있으면 영수증 정보 포함 (없으면 id, fileUrl 등은 null)
+        if (receipt != null) {
+            // ModelMapper는 연관 엔티티(uploadedBy 등)까지 따라가 지연 로딩을 일으키므로 필요한 필드만 직접 매핑
+            dto.setId(receipt.getId());
+            dto.setFileUrl(receipt.getFileUrl());
+            dto.setFileHash(receipt.getFileHash());
+            dto.setMimeType(receipt.getMimeType());
+            dto.setOcrStatus(receipt.getOcrStatus() != null ? receipt.getOcrStatus().name() : null);
+            dto.setOcrError(receipt.getOcrLastError());
 
             // AI 추출 결과 추가
-            Optional<ReceiptAiExtraction> extractionOpt = receiptAiExtractionRepository.findByReceiptId(receipt.getId());
-            if (extractionOpt.isPresent()) {
-                ReceiptAiExtraction extraction = extractionOpt.get();
+            ReceiptAiExtraction extraction = batch.extraction(receipt.getId());
+            if (extraction != null) {
                 dto.setExtractionId(extraction.getId());
                 dto.setModelName(extraction.getModelName());
                 dto.setExtractedJson(extraction.getExtractedJson());
@@ -339,28 +514,21 @@ public class AdminReceiptServiceImpl implements AdminReceiptService {
                 dto.setConfidence(extraction.getConfidence());
                 dto.setExtractionCreatedAt(extraction.getCreatedAt());
             }
-        } else {
-            // 영수증이 없으면 id는 null, fileUrl 등도 null
-            dto.setId(null);
-            dto.setFileUrl(null);
-            dto.setFileHash(null);
-            dto.setMimeType(null);
         }
 
         // 검증 결과 추가 (영수증 유무와 관계없이)
-        receiptVerificationRepository.findByExpenseId(expense.getId()).ifPresent(verification -> {
+        ReceiptVerification verification = batch.verification(expense.getId());
+        if (verification != null && verification.getVerifiedBy() != null) {
             User verifiedBy = verification.getVerifiedBy();
-            if (verifiedBy != null) {
-                dto.setVerificationId(verification.getId());
-                dto.setVerifiedBy(verifiedBy.getId());
-                dto.setVerifiedByName(verifiedBy.getName());
-                dto.setVerifiedMerchant(verification.getVerifiedMerchant());
-                dto.setVerifiedAmount(verification.getVerifiedAmount());
-                dto.setVerifiedCategory(verification.getVerifiedCategory());
-                dto.setReason(verification.getReason());
-                dto.setVerificationCreatedAt(verification.getCreatedAt());
-            }
-        });
+            dto.setVerificationId(verification.getId());
+            dto.setVerifiedBy(verifiedBy.getId());
+            dto.setVerifiedByName(verifiedBy.getName());
+            dto.setVerifiedMerchant(verification.getVerifiedMerchant());
+            dto.setVerifiedAmount(verification.getVerifiedAmount());
+            dto.setVerifiedCategory(verification.getVerifiedCategory());
+            dto.setReason(verification.getReason());
+            dto.setVerificationCreatedAt(verification.getCreatedAt());
+        }
 
         return dto;
     }
@@ -3,20 +3,17 @@ package com.Team1_Back.service;
 import com.Team1_Back.domain.Role;
 import com.Team1_Back.domain.User;
 import com.Team1_Back.dto.*;
+import com.Team1_Back.paging.CountCache;
+import com.Team1_Back.paging.CountMode;
+import com.Team1_Back.paging.PagedQueryExecutor;
 import com.Team1_Back.repository.UserProfileImageRepository;
 import com.Team1_Back.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -26,49 +23,33 @@ public class AdminUserServiceImpl implements AdminUserService {
     private final UserRepository userRepository;
     private final UserProfileImageRepository profileImageRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final CountCache countCache;
 
     @Override
     public PageResponseDTO<UserListDTO> getUsers(PageRequestDTO request) {
 
-        Pageable pageable = PageRequest.of(
-                request.getPage() - 1,
-                request.getSize(),
-                Sort.by("createdUserAt").descending()
-        );
-
-        Page<UserListDTO> result = userRepository.searchUsers(request, pageable);
-        List<String> departments = userRepository.findAllDepartments();
-
-//        return PageResponseDTO.<UserListDTO>builder()
-//                .content(result.getContent())
-//                .page(request.getPage())
-//                .size(request.getSize())
-//                .totalElements(result.getTotalElements())
-//                .totalPage(result.getTotalPages())
-//                .next(result.hasNext())
-//                .prev(result.hasPrevious())
-//                .departments(departments)
-//                .build();
-        PageResponseDTO<UserListDTO> response =
-                PageResponseDTO.from(
-                        result.map(user -> UserListDTO.builder()
-                                .id(user.getId())
-                                .employeeNo(user.getEmployeeNo())
-                                .name(user.getName())
-                                .departmentName(user.getDepartmentName())
-                                .email(user.getEmail())
-                                .phone(user.getPhone())
-                                .createdUserAt(user.getCreatedUserAt())
-                                .locked(user.isLocked())
-                                .active(user.isActive())
-                                .thumbnailUrl(user.getThumbnailUrl())
-                                .build())
-                );
-
-        response.setDepartments(departments);
+        // 관리자 그리드: 필터가 없으면 테이블 통계 기반 추정치, 있으면 필터별 캐시
+        // (countMode=EXACT로 정확한 건수 요청 가능)
+        boolean unfiltered = (request.getKeyword() == null || request.getKeyword().isEmpty())
+                && (request.getDepartment() == null || request.getDepartment().isEmpty())
+                && request.getIsLocked() == null
+                && request.getIsActive() == null;
+
+        CountMode mode = CountMode.from(request.getCountMode(), CountMode.ESTIMATED);
+        String signature = request.getSearchType() + "|" + request.getKeyword() + "|" + request.getDepartment()
+                + "|" + request.getIsLocked() + "|" + request.getIsActive();
+
+        PageResponseDTO<UserListDTO> response = pagedQueryExecutor.execute(request, mode,
+                new PagedQueryExecutor.Query<>(
+                        CountCache.USER,
+                        signature,
+                        unfiltered ? "users" : null,
+                        (offset, limit) -> userRepository.fetchUsers(request, offset, limit),
+                        () -> userRepository.countUsers(request)));
+
+        response.setDepartments(userRepository.findAllDepartments());
         return response;
-
-
     }
 
     @Override
@@ -141,6 +122,7 @@ public class AdminUserServiceImpl implements AdminUserService {
                 .build();
 
         User saved = userRepository.save(user);
+        countCache.invalidate(CountCache.USER);
         return saved.getId();
     }
 
@@ -167,6 +149,8 @@ public class AdminUserServiceImpl implements AdminUserService {
         if (dto.getNewPassword() != null && !dto.getNewPassword().isEmpty()) {
             user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         }
+
+        countCache.invalidate(CountCache.USER);
     }
 
     @Override
@@ -178,6 +162,7 @@ public class AdminUserServiceImpl implements AdminUserService {
 
         user.setIsActive(false);
         user.lock();
+        countCache.invalidate(CountCache.USER);
     }
 
     @Override
@@ -188,5 +173,6 @@ public class AdminUserServiceImpl implements AdminUserService {
                 .orElseThrow(() -> new RuntimeException("사원을 찾을 수 없습니다: " + id));
 
         user.unlock();
+        countCache.invalidate(CountCache.USER);
     }
 }
@@ -26,6 +26,22 @@ public interface ApprovalService {
      */
     PageResponseDTO<ApprovalRequestDTO> getList(Long userId, boolean isAdmin, PageRequestDTO pageRequestDTO, String requestType, String status, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 관리자 결재함을 커서(seek) 방식으로 조회합니다.
+     * 
+     * <p>전체 건수를 세지 않으며, 깊이와 관계없이 첫 페이지와 같은 비용으로 조회합니다.
+     * 
+     * @param cursor 이전 응답의 nextCursor (처음이면 null)
+     * @param size 조회 건수 (최대 100)
+     * @param requestType 요청 유형 (선택)
+     * @param status 승인 상태 (선택)
+     * @param startDate 조회 시작 날짜 (선택)
+     * @param endDate 조회 종료 날짜 (선택)
+     * @return 승인 요청 목록과 다음 커서
+     * @throws IllegalArgumentException cursor 형식이 잘못된 경우
+     */
+    SliceResponseDTO<ApprovalRequestDTO> getInbox(String cursor, int size, String requestType, String status, LocalDate startDate, LocalDate endDate);
+
     /**
      * 특정 승인 요청을 조회합니다.
      * 
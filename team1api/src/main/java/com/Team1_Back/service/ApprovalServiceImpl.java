@@ -1,17 +1,20 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.accounting.listener.AccountingDataChangedEvent;
 import com.Team1_Back.domain.*;
 import com.Team1_Back.dto.*;
 import com.Team1_Back.repository.ApprovalActionLogRepository;
 import com.Team1_Back.repository.ApprovalRequestRepository;
 import com.Team1_Back.repository.ExpenseRepository;
+import com.Team1_Back.repository.KeysetCursor;
 import com.Team1_Back.repository.UserRepository;
+import com.Team1_Back.paging.CountCache;
+import com.Team1_Back.paging.CountMode;
+import com.Team1_Back.paging.PagedQueryExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,108 +34,103 @@ public class ApprovalServiceImpl implements ApprovalService {
     private final UserRepository userRepository;
     private final ExpenseService expenseService;
     private final ModelMapper modelMapper;
+    private final ExpenseRollupService expenseRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final CountCache countCache;
 
     @Override
     public PageResponseDTO<ApprovalRequestDTO> getList(Long userId, boolean isAdmin, PageRequestDTO pageRequestDTO, String requestType, String status, LocalDate startDate, LocalDate endDate) {
-        Pageable pageable = PageRequest.of(pageRequestDTO.getPage() - 1, pageRequestDTO.getSize());
-
-        String statusString = null;
-        if (status != null && !status.isEmpty()) {
-            try {
-                ApprovalStatus.valueOf(status);
-                statusString = status;
-            } catch (IllegalArgumentException e) {
-                // Invalid status value ignored
-            }
-        }
+        // 일반 사용자는 본인 요청으로 고정, 관리자는 전체
+        ApprovalSearchCondition condition = ApprovalSearchCondition.builder()
+                .requesterId(isAdmin ? null : userId)
+                .requestType(requestType)
+                .status(parseStatus(status))
+                .createdFrom(startDate)
+                .createdTo(endDate)
+                .build();
 
-        Page<ApprovalRequest> result;
-        if (isAdmin) {
-            boolean hasStartDate = startDate != null;
-            boolean hasEndDate = endDate != null;
-            boolean hasDateFilter = hasStartDate || hasEndDate;
-
-            if (hasDateFilter) {
-                if (requestType != null && !requestType.isEmpty() && statusString != null) {
-                    if (hasStartDate && hasEndDate) {
-                        result = approvalRequestRepository.findByRequestTypeAndStatusSnapshotAndDateRange(requestType, statusString, startDate, endDate, pageable);
-                    } else if (hasStartDate) {
-                        result = approvalRequestRepository.findByRequestTypeAndStatusSnapshotAndStartDate(requestType, statusString, startDate, pageable);
-                    } else {
-                        result = approvalRequestRepository.findByRequestTypeAndStatusSnapshotAndEndDate(requestType, statusString, endDate, pageable);
-                    }
-                } else if (requestType != null && !requestType.isEmpty()) {
-                    if (hasStartDate && hasEndDate) {
-                        result = approvalRequestRepository.findByRequestTypeAndDateRange(requestType, startDate, endDate, pageable);
-                    } else if (hasStartDate) {
-                        result = approvalRequestRepository.findByRequestTypeAndStartDate(requestType, startDate, pageable);
-                    } else {
-                        result = approvalRequestRepository.findByRequestTypeAndEndDate(requestType, endDate, pageable);
-                    }
-                } else if (statusString != null) {
-                    if (hasStartDate && hasEndDate) {
-                        result = approvalRequestRepository.findByStatusSnapshotAndDateRange(statusString, startDate, endDate, pageable);
-                    } else if (hasStartDate) {
-                        result = approvalRequestRepository.findByStatusSnapshotAndStartDate(statusString, startDate, pageable);
-                    } else {
-                        result = approvalRequestRepository.findByStatusSnapshotAndEndDate(statusString, endDate, pageable);
-                    }
-                } else {
-                    if (hasStartDate && hasEndDate) {
-                        result = approvalRequestRepository.findAllByDateRange(startDate, endDate, pageable);
-                    } else if (hasStartDate) {
-                        result = approvalRequestRepository.findAllByStartDate(startDate, pageable);
-                    } else {
-                        result = approvalRequestRepository.findAllByEndDate(endDate, pageable);
-                    }
-                }
-            } else {
-                if (requestType != null && !requestType.isEmpty() && statusString != null) {
-                    result = approvalRequestRepository.findByRequestTypeAndStatusSnapshotOrderByReceiptDate(requestType, statusString, pageable);
-                } else if (requestType != null && !requestType.isEmpty()) {
-                    result = approvalRequestRepository.findByRequestTypeOrderByReceiptDate(requestType, pageable);
-                } else if (statusString != null) {
-                    result = approvalRequestRepository.findByStatusSnapshotOrderByReceiptDate(statusString, pageable);
-                } else {
-                    result = approvalRequestRepository.findAllOrderByReceiptDate(pageable);
-                }
-            }
-        } else {
-            if (statusString != null) {
-                result = approvalRequestRepository.findByRequesterIdAndStatusSnapshotOrderByReceiptDate(userId, statusString, pageable);
-            } else {
-                result = approvalRequestRepository.findByRequesterIdOrderByReceiptDate(userId, pageable);
-            }
+        // 전체 건수는 기본적으로 필터별 캐시 사용 (countMode=EXACT/HAS_NEXT로 변경 가능)
+        CountMode mode = CountMode.from(pageRequestDTO.getCountMode(), CountMode.CACHED);
+        PageResponseDTO<ApprovalRequestDTO> result = pagedQueryExecutor.execute(pageRequestDTO, mode,
+                new PagedQueryExecutor.Query<>(
+                        CountCache.APPROVAL,
+                        condition.toString(),
+                        null,
+                        (offset, limit) -> approvalRequestRepository.fetch(condition, offset, limit),
+                        () -> approvalRequestRepository.count(condition)));
+
+        attachExpenses(result.getContent(), requestType);
+
+        return result;
+    }
+
+    @Override
+    public SliceResponseDTO<ApprovalRequestDTO> getInbox(String cursor, int size, String requestType, String status, LocalDate startDate, LocalDate endDate) {
+        int limit = Math.max(1, Math.min(size, 100));
+
+        ApprovalSearchCondition condition = ApprovalSearchCondition.builder()
+                .requestType(requestType)
+                .status(parseStatus(status))
+                .createdFrom(startDate)
+                .createdTo(endDate)
+                .build();
+
+        // limit + 1건을 읽어 다음 페이지 존재 여부 판단 (COUNT 없음)
+        List<ApprovalRequestDTO> rows = approvalRequestRepository.searchAfter(
+                condition, KeysetCursor.decode(cursor), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<ApprovalRequestDTO> content = hasNext ? rows.subList(0, limit) : rows;
+        ApprovalRequestDTO last = hasNext ? content.get(content.size() - 1) : null;
+
+        attachExpenses(content, requestType);
+
+        return SliceResponseDTO.<ApprovalRequestDTO>builder()
+                .content(content)
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(last != null ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    /**
+     * EXPENSE 유형 요청에 지출 내역을 한 번에 조회해 붙입니다.
+     */
+    private void attachExpenses(List<ApprovalRequestDTO> dtoList, String requestType) {
+        if (!("EXPENSE".equals(requestType) || requestType == null)) {
+            return;
         }
 
-        List<ApprovalRequestDTO> dtoList = result.getContent().stream()
-                .map(this::entityToDTO)
+        List<Long> refIds = dtoList.stream()
+                .filter(dto -> "EXPENSE".equals(dto.getRequestType()) && dto.getRefId() != null)
+                .map(ApprovalRequestDTO::getRefId)
+                .distinct()
                 .collect(Collectors.toList());
 
-        long totalCount = result.getTotalElements();
-
-        if ("EXPENSE".equals(requestType) || requestType == null) {
-            List<Long> refIds = dtoList.stream()
-                    .filter(dto -> "EXPENSE".equals(dto.getRequestType()) && dto.getRefId() != null)
-                    .map(ApprovalRequestDTO::getRefId)
-                    .distinct()
-                    .collect(Collectors.toList());
+        if (refIds.isEmpty()) {
+            return;
+        }
 
-            if (!refIds.isEmpty()) {
-                java.util.Map<Long, ExpenseDTO> expenseMap = expenseService.getByIds(refIds);
+        java.util.Map<Long, ExpenseDTO> expenseMap = expenseService.getByIds(refIds);
 
-                dtoList.forEach(dto -> {
-                    if ("EXPENSE".equals(dto.getRequestType()) && dto.getRefId() != null) {
-                        dto.setExpense(expenseMap.get(dto.getRefId()));
-                    }
-                });
+        dtoList.forEach(dto -> {
+            if ("EXPENSE".equals(dto.getRequestType()) && dto.getRefId() != null) {
+                dto.setExpense(expenseMap.get(dto.getRefId()));
             }
+        });
+    }
+
+    private ApprovalStatus parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return ApprovalStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            // Invalid status value ignored
+            return null;
         }
-        return PageResponseDTO.of(
-                dtoList,
-                pageRequestDTO,
-                totalCount
-        );
     }
 
     @Override
@@ -221,6 +219,7 @@ public class ApprovalServiceImpl implements ApprovalService {
             if ("EXPENSE".equals(approvalRequest.getRequestType())) {
                 Expense expense = expenseRepository.findByIdWithWriter(approvalRequest.getRefId())
                         .orElseThrow();
+                ExpenseRollupService.Snapshot before = expenseRollupService.snapshot(expense);
 
                 if ("APPROVE".equals(action)) {
                     expense.approve();
@@ -234,6 +233,7 @@ public class ApprovalServiceImpl implements ApprovalService {
                 }
 
                 expenseRepository.save(expense);
+                expenseRollupService.applyTransition(before, expense);
 
                 approvalRequest.syncStatusSnapshot(expense.getStatus());
                 approvalRequestRepository.save(approvalRequest);
@@ -246,6 +246,8 @@ public class ApprovalServiceImpl implements ApprovalService {
                         .build();
 
                 approvalActionLogRepository.save(actionLog);
+                eventPublisher.publishEvent(new AccountingDataChangedEvent("APPROVAL_" + action));
+                countCache.invalidate(CountCache.EXPENSE, CountCache.APPROVAL);
 
             } else {
                 log.error("지원하지 않는 요청 타입입니다. requestType: {}", approvalRequest.getRequestType());
@@ -1,5 +1,6 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.datasource.AnalyticalQuery;
 import com.Team1_Back.domain.Attendance;
 import com.Team1_Back.domain.AttendanceStatus;
 import com.Team1_Back.repository.AttendanceRepository;
@@ -176,6 +177,7 @@ public class AttendanceAdminServiceImpl implements AttendanceAdminService {
     }
 
     @Override
+    @AnalyticalQuery
     public byte[] generateAttendanceExcel(int year, int month, String department) {
         DepartmentAttendanceDTO data = getAttendanceDetail(year, month, department);
 
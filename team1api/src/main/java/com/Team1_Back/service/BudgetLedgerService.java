@@ -0,0 +1,344 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.datasource.ReplicaRoutingDataSource;
+import com.Team1_Back.dto.BudgetCheckDTO;
+import com.Team1_Back.dto.BudgetStatusDTO;
+import com.Team1_Back.repository.ReceiptVerificationBatchRepository;
+import com.Team1_Back.repository.UserBudgetMonthlyRepository;
+import com.Team1_Back.util.LongLongHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 월간 예산 원장
+ *
+ * <p>user_budget_monthly.spent_amount에 승인 지출 누계를 증감분으로 유지하고,
+ * 같은 값을 월 단위 원시 long 맵(사용자 ID → 한도/누계)으로 메모리에 들고 있어
+ * 예산 초과 목록, 집행률, 상신 전 잔여 예산 확인을 조회 없이 계산합니다.
+ *
+ * <ul>
+ *   <li>승인/승인 금액 수정: {@link #applyTransition} (호출 측 트랜잭션에서 DB 반영, 커밋 후 메모리 반영)</li>
+ *   <li>다른 노드의 변경/예산 한도 변경: 주기적으로 DB에서 다시 적재</li>
+ *   <li>누계 보정: 매일 1회 원장(expense) 기준 재계산 (기동 시에는 하지 않고, 월별 원장은 처음 조회될 때 DB 누계로 적재)</li>
+ * </ul>
+ *
+ * @author Team1
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BudgetLedgerService {
+
+    /** 예산 초과 주의 기준 (집행률 %) */
+    public static final int WARNING_RATE = 80;
+
+    private final UserBudgetMonthlyRepository userBudgetMonthlyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReceiptVerificationBatchRepository batchRepository;
+
+    // 기동 시 원장 기준 재계산 여부 (누계는 트랜잭션 안에서 유지되므로 기본은 끔, 노드마다 같은 UPDATE를 돌리지 않도록)
+    @Value("${com.mallapi.budget.ledger.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    private final Map<String, MonthLedger> months = new ConcurrentHashMap<>();
+
+    // ========== 증감 반영 ==========
+
+    /**
+     * 지출 승인 상태/금액 변경을 예산 원장에 반영합니다. (ExpenseRollupService에서 호출)
+     */
+    public void applyTransition(ExpenseRollupService.Snapshot before, ExpenseRollupService.Snapshot after) {
+        // 같은 (사용자, 월)의 승인 금액 수정은 차액만 UPDATE 1회
+        if (before.approved() && after.approved() && sameMonth(before, after)) {
+            apply(after.userId(), after.day(), after.amount() - before.amount());
+            return;
+        }
+        if (before.approved()) {
+            apply(before.userId(), before.day(), -before.amount());
+        }
+        if (after.approved()) {
+            apply(after.userId(), after.day(), after.amount());
+        }
+    }
+
+    /**
+     * 여러 건의 변경을 (사용자, 월)별 합계로 모아 배치 반영합니다. (일괄 검증용, 메모리 반영은 커밋 후 한 번)
+     */
+    public void applyTransitions(List<ExpenseRollupService.Transition> transitions) {
+        Map<BudgetKey, Long> merged = new LinkedHashMap<>();
+        for (ExpenseRollupService.Transition t : transitions) {
+            if (t.before().approved()) {
+                accumulate(merged, t.before().userId(), t.before().day(), -t.before().amount());
+            }
+            if (t.after().approved()) {
+                accumulate(merged, t.after().userId(), t.after().day(), t.after().amount());
+            }
+        }
+        merged.values().removeIf(delta -> delta == 0);
+        if (merged.isEmpty()) {
+            return;
+        }
+
+        batchRepository.addSpentAmounts(merged.entrySet().stream()
+                .map(e -> new ReceiptVerificationBatchRepository.SpentDelta(
+                        e.getKey().userId(), e.getKey().yearMonth(), e.getValue()))
+                .toList());
+
+        afterCommit(() -> merged.forEach((key, delta) -> {
+            MonthLedger ledger = months.get(key.yearMonth());
+            if (ledger != null) {
+                ledger.addSpent(key.userId(), delta);
+            }
+        }));
+    }
+
+    private boolean sameMonth(ExpenseRollupService.Snapshot before, ExpenseRollupService.Snapshot after) {
+        return Objects.equals(before.userId(), after.userId())
+                && before.day() != null && after.day() != null
+                && YearMonth.from(before.day()).equals(YearMonth.from(after.day()));
+    }
+
+    private void accumulate(Map<BudgetKey, Long> merged, Long userId, LocalDate day, long delta) {
+        if (userId == null || day == null || delta == 0) {
+            return;
+        }
+        merged.merge(new BudgetKey(userId, YearMonth.from(day).toString()), delta, Long::sum);
+    }
+
+    private void apply(Long userId, LocalDate day, long delta) {
+        if (userId == null || day == null || delta == 0) {
+            return;
+        }
+        String yearMonth = YearMonth.from(day).toString();
+        userBudgetMonthlyRepository.addSpentAmount(userId, yearMonth, delta);
+
+        afterCommit(() -> {
+            MonthLedger ledger = months.get(yearMonth);
+            if (ledger != null) {
+                ledger.addSpent(userId, delta);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable inMemory) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    inMemory.run();
+                }
+            });
+        } else {
+            inMemory.run();
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 상신 전 잔여 예산 확인
+     *
+     * @param userId 작성자 ID
+     * @param receiptDate 지출일 (해당 월 예산 기준)
+     * @param amount 상신 금액
+     */
+    public BudgetCheckDTO check(Long userId, LocalDate receiptDate, long amount) {
+        String yearMonth = YearMonth.from(receiptDate != null ? receiptDate : LocalDate.now()).toString();
+        MonthLedger ledger = month(yearMonth);
+
+        synchronized (ledger) {
+            long spent = ledger.spent.get(userId, 0L);
+            if (!ledger.limits.containsKey(userId)) {
+                return new BudgetCheckDTO(yearMonth, null, spent, null, amount, false);
+            }
+            long limit = ledger.limits.get(userId, 0L);
+            long remaining = limit - spent;
+            return new BudgetCheckDTO(yearMonth, limit, spent, remaining, amount, amount > remaining);
+        }
+    }
+
+    /**
+     * 집행률이 기준(%) 이상인 사용자 목록 (집행률 내림차순)
+     */
+    public List<BudgetStatusDTO> getOverBudget(String yearMonth, int thresholdRate) {
+        MonthLedger ledger = month(yearMonth);
+        List<BudgetStatusDTO> result = new ArrayList<>();
+
+        synchronized (ledger) {
+            ledger.limits.forEach((userId, limit) -> {
+                long spent = ledger.spent.get(userId, 0L);
+                if (limit > 0 && spent * 100 >= limit * thresholdRate) {
+                    Owner owner = ledger.owners.get(userId);
+                    result.add(new BudgetStatusDTO(
+                            userId,
+                            owner != null ? owner.name() : "",
+                            owner != null ? owner.department() : "",
+                            yearMonth,
+                            limit,
+                            spent,
+                            limit - spent,
+                            spent * 100.0 / limit));
+                }
+            });
+        }
+
+        result.sort(Comparator.comparingDouble(BudgetStatusDTO::executionRate).reversed());
+        return result;
+    }
+
+    /**
+     * 집행률이 기준(%) 이상인 인원 수
+     */
+    public int countOverBudget(String yearMonth, int thresholdRate) {
+        MonthLedger ledger = month(yearMonth);
+        int[] count = {0};
+        synchronized (ledger) {
+            ledger.limits.forEach((userId, limit) -> {
+                if (limit > 0 && ledger.spent.get(userId, 0L) * 100 >= limit * thresholdRate) {
+                    count[0]++;
+                }
+            });
+        }
+        return count[0];
+    }
+
+    /**
+     * 해당 월 예산 한도 합계
+     */
+    public long totalLimit(String yearMonth) {
+        MonthLedger ledger = month(yearMonth);
+        synchronized (ledger) {
+            return ledger.totalLimit;
+        }
+    }
+
+    // ========== 적재 / 보정 ==========
+
+    /**
+     * 해당 월 누계를 원장(expense) 기준으로 다시 계산하고 메모리 원장을 교체합니다.
+     *
+     * @return 갱신된 예산 행 수
+     */
+    public int rebuild(String yearMonth) {
+        YearMonth ym = YearMonth.parse(yearMonth);
+        Integer updated = transactionTemplate.execute(status ->
+                userBudgetMonthlyRepository.rebuildSpentAmount(yearMonth, ym.atDay(1), ym.plusMonths(1).atDay(1)));
+        months.put(yearMonth, load(yearMonth));
+        log.info("[BUDGET] rebuild {} (rows={})", yearMonth, updated);
+        return updated != null ? updated : 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * 이번 달/지난 달 누계 보정 (증감 누락, 외부에서 직접 넣은 예산 행 대응)
+     */
+    @Scheduled(cron = "${com.mallapi.budget.ledger.reconcile-cron:0 40 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        YearMonth now = YearMonth.now();
+        for (YearMonth ym : List.of(now, now.minusMonths(1))) {
+            try {
+                rebuild(ym.toString());
+            } catch (Exception e) {
+                log.warn("[BUDGET] reconcile {} failed: {}", ym, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 적재된 월을 DB 값으로 다시 읽습니다. (다른 노드의 반영분, 예산 한도 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${com.mallapi.budget.ledger.reload-ms:60000}")
+    public void reloadLoadedMonths() {
+        YearMonth now = YearMonth.now();
+        // 지난 달 이전 월은 내려두고 조회 시 다시 적재
+        months.keySet().removeIf(ym -> YearMonth.parse(ym).isBefore(now.minusMonths(1)));
+
+        for (String yearMonth : months.keySet()) {
+            try {
+                months.put(yearMonth, load(yearMonth));
+            } catch (Exception e) {
+                log.warn("[BUDGET] reload {} failed: {}", yearMonth, e.getMessage());
+            }
+        }
+    }
+
+    private MonthLedger month(String yearMonth) {
+        return months.computeIfAbsent(yearMonth, this::load);
+    }
+
+    private MonthLedger load(String yearMonth) {
+        // 적재 후에는 커밋된 증감만 더하므로 복제본의 지난 값으로 시작하지 않도록 주 DB에서 읽음
+        List<Object[]> rows = ReplicaRoutingDataSource.onPrimary(() -> userBudgetMonthlyRepository.findLedgerRows(yearMonth));
+        MonthLedger ledger = new MonthLedger(rows.size());
+
+        for (Object[] row : rows) {
+            long userId = ((Number) row[0]).longValue();
+            long limit = row[3] != null ? ((Number) row[3]).longValue() : 0L;
+            long spent = row[4] != null ? ((Number) row[4]).longValue() : 0L;
+
+            ledger.limits.put(userId, limit);
+            ledger.spent.put(userId, spent);
+            ledger.totalLimit += limit;
+            ledger.owners.put(userId, new Owner(
+                    row[1] != null ? (String) row[1] : "",
+                    row[2] != null ? (String) row[2] : ""));
+        }
+        return ledger;
+    }
+
+    private record Owner(String name, String department) {
+    }
+
+    private record BudgetKey(Long userId, String yearMonth) {
+    }
+
+    /**
+     * 월 단위 메모리 원장 (this로 잠금)
+     */
+    private static final class MonthLedger {
+        private final LongLongHashMap limits;
+        private final LongLongHashMap spent;
+        private final Map<Long, Owner> owners;
+        private long totalLimit;
+
+        private MonthLedger(int expectedUsers) {
+            this.limits = new LongLongHashMap(expectedUsers);
+            this.spent = new LongLongHashMap(expectedUsers);
+            this.owners = new HashMap<>(Math.max(16, expectedUsers * 2));
+        }
+
+        private synchronized void addSpent(long userId, long delta) {
+            // 예산 행이 있는 사용자만 DB에 반영되므로 메모리도 동일하게 유지
+            if (!limits.containsKey(userId)) {
+                return;
+            }
+            spent.addTo(userId, delta);
+        }
+    }
+}
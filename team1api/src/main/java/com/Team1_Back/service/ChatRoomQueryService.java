@@ -5,6 +5,7 @@ import com.Team1_Back.repository.ChatRoomRepository;
 import com.Team1_Back.repository.projection.ChatRoomListRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
 import java.util.List;
@@ -15,6 +16,8 @@ public class ChatRoomQueryService {
 
     private final ChatRoomRepository chatRoomRepository;
 
+    // 읽기 전용 → 복제본 (본인이 방금 보낸 메시지는 쓰기 직후 주 DB 고정으로 반영)
+    @Transactional(readOnly = true)
     public List<ChatRoomListItemResponse> myRooms(Long meId) {
         List<ChatRoomListRow> rows = chatRoomRepository.findMyRoomList(meId);
 
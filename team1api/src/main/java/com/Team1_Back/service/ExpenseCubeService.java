@@ -0,0 +1,221 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.accounting.cube.CubeQuery;
+import com.Team1_Back.accounting.cube.ExpenseCube;
+import com.Team1_Back.datasource.AnalyticalQuery;
+import com.Team1_Back.datasource.ReplicaRoutingDataSource;
+import com.Team1_Back.repository.ExpenseDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 승인 지출 분석 큐브({@link ExpenseCube}) 유지 서비스
+ *
+ * <ul>
+ *   <li>적재: 일별 롤업(expense_daily_rollup)을 작성자의 현재 부서로 묶어 새 큐브를 만들고 교체 (원장은 스캔하지 않음)</li>
+ *   <li>증감: 승인/승인 취소/승인 건 수정 시 {@link #applyTransition} (커밋 후 반영)</li>
+ *   <li>보정: 주기적으로 다시 적재 (다른 노드의 승인 반영, 부서 변경 반영)</li>
+ * </ul>
+ *
+ * <p>적재 전에는 {@link #isReady()}가 false이며, 호출 측은 SQL 집계로 대체합니다.
+ *
+ * <p>증감을 반영하는 트랜잭션은 커밋부터 커밋 후 반영까지 읽기 잠금을 잡고, 적재는 읽기 시점을 고정하는 동안만 쓰기 잠금을 잡습니다.
+ * 그래서 읽기 시점 이전에 커밋된 증감은 기존 큐브에만(조회 결과에 포함), 이후에 커밋된 증감은 모아 두었다가 새 큐브에 한 번만 반영됩니다.
+ *
+ * @author Team1
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExpenseCubeService {
+
+    private final ExpenseDailyRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${com.mallapi.cube.build-on-startup:true}")
+    private boolean buildOnStartup;
+
+    private volatile ExpenseCube cube;
+
+    // 적재 중 들어온 증감 (적재가 끝나면 새 큐브에 다시 반영, 적재 중이 아니면 null)
+    private final Object deltaLock = new Object();
+    private List<Consumer<ExpenseCube>> pendingDeltas;
+
+    // 읽기: 증감 트랜잭션의 커밋 ~ 커밋 후 반영 구간, 쓰기: 적재의 읽기 시점 고정 + 수집 시작
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    public boolean isReady() {
+        return cube != null;
+    }
+
+    public List<ExpenseCube.Cell> query(CubeQuery query) {
+        ExpenseCube current = cube;
+        if (current == null) {
+            throw new IllegalStateException("분석 큐브가 아직 적재되지 않았습니다.");
+        }
+        return current.query(query);
+    }
+
+    /**
+     * 지출 승인 상태/금액 변경을 큐브에 반영합니다. (ExpenseRollupService에서 호출)
+     */
+    public void applyTransition(ExpenseRollupService.Snapshot before, ExpenseRollupService.Snapshot after) {
+        if (!before.approved() && !after.approved()) {
+            return;
+        }
+
+        apply(target -> addTransition(target, before, after));
+    }
+
+    /**
+     * 여러 건의 변경을 커밋 후 한 번에 반영합니다. (일괄 검증용)
+     */
+    public void applyTransitions(List<ExpenseRollupService.Transition> transitions) {
+        List<ExpenseRollupService.Transition> approved = transitions.stream()
+                .filter(t -> t.before().approved() || t.after().approved())
+                .toList();
+        if (approved.isEmpty()) {
+            return;
+        }
+        apply(target -> approved.forEach(t -> addTransition(target, t.before(), t.after())));
+    }
+
+    private void addTransition(ExpenseCube target, ExpenseRollupService.Snapshot before,
+                               ExpenseRollupService.Snapshot after) {
+        if (before.approved()) {
+            target.add(before.department(), before.category(), before.day(), -1, -before.amount());
+        }
+        if (after.approved()) {
+            target.add(after.department(), after.category(), after.day(), 1, after.amount());
+        }
+    }
+
+    private void apply(Consumer<ExpenseCube> delta) {
+        Runnable apply = () -> {
+            synchronized (deltaLock) {
+                if (pendingDeltas != null) {
+                    pendingDeltas.add(delta);
+                }
+                ExpenseCube current = cube;
+                if (current != null) {
+                    delta.accept(current);
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean locked;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    commitLock.readLock().lock();
+                    locked = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (locked) {
+                        locked = false;
+                        commitLock.readLock().unlock();
+                    }
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 기동 시 적재 (ExpenseRollupService가 롤업을 채운 뒤 호출)
+     */
+    @AnalyticalQuery
+    public void buildOnStartup() {
+        if (!buildOnStartup) {
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * 롤업을 읽어 새 큐브를 만들고 교체합니다.
+     *
+     * <p>읽기 시점을 고정한 뒤 커밋된 증감만 모아 두었다가 교체 직전에 새 큐브에 다시 반영합니다.
+     * (조회 결과에 이미 들어 있는 증감은 모으지 않으므로 두 번 반영되지 않음)
+     */
+    @Scheduled(fixedDelayString = "${com.mallapi.cube.rebuild-ms:600000}",
+               initialDelayString = "${com.mallapi.cube.rebuild-ms:600000}")
+    @AnalyticalQuery
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            ExpenseCube next = new ExpenseCube(cube != null ? cube.cellCount() : 1024);
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+            // 복제본 지연만큼 빠진 승인이 새 큐브에 남지 않도록 주 DB에서 읽음
+            List<Object[]> rows = ReplicaRoutingDataSource.onPrimary(() -> readOnly.execute(status -> {
+                // 커밋 중인 증감이 없는 순간에 읽기 시점을 잡고 수집 시작 (잠금은 짧은 조회 1회 동안만)
+                commitLock.writeLock().lock();
+                try {
+                    rollupRepository.openReadView();
+                    synchronized (deltaLock) {
+                        pendingDeltas = new ArrayList<>();
+                    }
+                } finally {
+                    commitLock.writeLock().unlock();
+                }
+                return rollupRepository.findCubeCells();
+            }));
+            long expenses = 0;
+            for (Object[] row : rows) {
+                long count = row[3] != null ? ((Number) row[3]).longValue() : 0L;
+                next.add(
+                        normalize((String) row[1]),
+                        normalize((String) row[2]),
+                        (LocalDate) row[0],
+                        count,
+                        row[4] != null ? ((Number) row[4]).longValue() : 0L);
+                expenses += count;
+            }
+
+            next.compact();
+            int replayed;
+            synchronized (deltaLock) {
+                replayed = pendingDeltas.size();
+                pendingDeltas.forEach(delta -> delta.accept(next));
+                cube = next;
+            }
+            log.info("[CUBE] rebuilt (rollupRows={}, expenses={}, cells={}, replayed={}, {}ms)",
+                    rows.size(), expenses, next.cellCount(), replayed, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("[CUBE] rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            synchronized (deltaLock) {
+                pendingDeltas = null;
+            }
+        }
+    }
+
+    // 롤업과 같은 규칙 (null → "", TRIM)
+    private String normalize(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
@@ -0,0 +1,250 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.datasource.AnalyticalQuery;
+import com.Team1_Back.domain.ApprovalStatus;
+import com.Team1_Back.domain.Expense;
+import com.Team1_Back.domain.User;
+import com.Team1_Back.repository.ExpenseDailyRollupRepository;
+import com.Team1_Back.repository.ReceiptVerificationBatchRepository;
+import com.Team1_Back.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 일별 승인 지출 롤업(expense_daily_rollup) 유지 서비스
+ *
+ * <p>지출 상태/금액이 바뀌는 지점(승인, 반려, 추가정보 요청, 수정)에서
+ * 변경 전 {@link Snapshot}과 변경 후 엔티티를 넘기면 증감분만 반영합니다.
+ * 호출 측 트랜잭션에 참여하므로 원장과 롤업이 함께 커밋/롤백됩니다.
+ * 같은 증감분을 사용자별 예산 원장({@link BudgetLedgerService})과
+ * 분석 큐브({@link ExpenseCubeService})에도 반영합니다.
+ *
+ * @author Team1
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExpenseRollupService {
+
+    private final ExpenseDailyRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BudgetLedgerService budgetLedgerService;
+    private final ExpenseCubeService expenseCubeService;
+    private final ReceiptVerificationBatchRepository batchRepository;
+    private final UserRepository userRepository;
+
+    @Value("${com.mallapi.rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    /**
+     * 롤업 키 + 금액 스냅샷 (승인 상태가 아니면 approved=false)
+     */
+    public record Snapshot(boolean approved,
+                           LocalDate day,
+                           Long userId,
+                           String department,
+                           String category,
+                           long amount) {
+    }
+
+    /**
+     * 변경 전/후 스냅샷 한 쌍 (일괄 처리용)
+     */
+    public record Transition(Snapshot before, Snapshot after) {
+    }
+
+    private record RollupKey(LocalDate day, Long userId, String department, String category) {
+    }
+
+    /**
+     * 변경 전 상태를 캡처합니다. (엔티티 수정 전에 호출)
+     */
+    public Snapshot snapshot(Expense expense) {
+        User writer = expense.getWriter();
+        return snapshot(
+                expense.getStatus(),
+                expense.getReceiptDate(),
+                writer != null ? writer.getId() : null,
+                writer != null ? writer.getDepartmentName() : null,
+                expense.getCategory(),
+                expense.getAmount());
+    }
+
+    /**
+     * 엔티티 없이 컬럼 값으로 스냅샷을 만듭니다. (JDBC 일괄 처리용)
+     */
+    public Snapshot snapshot(ApprovalStatus status, LocalDate day, Long userId,
+                             String department, String category, Integer amount) {
+        return new Snapshot(
+                status == ApprovalStatus.APPROVED,
+                day,
+                userId,
+                normalize(department),
+                normalize(category),
+                amount != null ? amount : 0L
+        );
+    }
+
+    /**
+     * 변경 전 스냅샷과 변경 후 엔티티를 비교해 롤업에 증감분을 반영합니다.
+     */
+    @Transactional
+    public void applyTransition(Snapshot before, Expense after) {
+        applyTransition(before, snapshot(after));
+    }
+
+    /**
+     * 변경 전/후 스냅샷으로 증감분을 반영합니다. (JDBC 일괄 처리용)
+     */
+    @Transactional
+    public void applyTransition(Snapshot before, Snapshot current) {
+        budgetLedgerService.applyTransition(before, current);
+        expenseCubeService.applyTransition(before, current);
+
+        if (before.approved() && current.approved() && sameBucket(before, current)) {
+            long diff = current.amount() - before.amount();
+            if (diff != 0) {
+                rollupRepository.upsertDelta(current.day(), current.userId(),
+                        current.department(), current.category(), 0, diff);
+            }
+            return;
+        }
+
+        if (before.approved()) {
+            apply(before, -1);
+        }
+        if (current.approved()) {
+            apply(current, 1);
+        }
+    }
+
+    /**
+     * 여러 건의 증감분을 롤업 행별로 합쳐 JDBC 배치로 반영합니다. (일괄 검증용)
+     *
+     * <p>예산 원장은 (사용자, 월)별 합계로 배치 반영하고, 메모리 원장/큐브는 커밋 후 한 번에 반영합니다.
+     */
+    @Transactional
+    public void applyTransitions(List<Transition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        budgetLedgerService.applyTransitions(transitions);
+        expenseCubeService.applyTransitions(transitions);
+
+        // 같은 행의 -/+는 합쳐짐 (같은 버킷의 승인 금액 수정은 건수 0, 금액 차이만 남음)
+        Map<RollupKey, long[]> merged = new LinkedHashMap<>();
+        for (Transition t : transitions) {
+            if (t.before().approved()) {
+                accumulate(merged, t.before(), -1);
+            }
+            if (t.after().approved()) {
+                accumulate(merged, t.after(), 1);
+            }
+        }
+
+        batchRepository.applyRollupDeltas(merged.entrySet().stream()
+                .filter(e -> e.getValue()[0] != 0 || e.getValue()[1] != 0)
+                .map(e -> new ReceiptVerificationBatchRepository.RollupDelta(
+                        e.getKey().day(), e.getKey().userId(), e.getKey().department(), e.getKey().category(),
+                        e.getValue()[0], e.getValue()[1]))
+                .toList());
+    }
+
+    /**
+     * 기간 내 롤업을 원장 기준으로 다시 만듭니다.
+     *
+     * @return 생성된 롤업 행 수
+     */
+    @Transactional
+    @AnalyticalQuery
+    public int backfill(LocalDate start, LocalDate end) {
+        int deleted = rollupRepository.deleteRange(start, end);
+        int inserted = rollupRepository.insertFromLedger(start, end);
+        log.info("[ROLLUP] backfill {} ~ {} (deleted={}, inserted={})", start, end, deleted, inserted);
+        return inserted;
+    }
+
+    /**
+     * 승인된 원장 전체 기간으로 롤업을 다시 만듭니다.
+     */
+    @Transactional
+    @AnalyticalQuery
+    public int backfillAll() {
+        LocalDate min = rollupRepository.findMinApprovedReceiptDate();
+        LocalDate max = rollupRepository.findMaxApprovedReceiptDate();
+        if (min == null || max == null) {
+            return 0;
+        }
+        return backfill(min, max);
+    }
+
+    /**
+     * 기동 시 롤업 테이블이 비어 있으면 한 번 채운 뒤, 롤업으로 분석 큐브를 적재합니다.
+     * (신규 배포/초기화 대응, 원장 스캔은 비어 있을 때의 채우기 한 번뿐)
+     * 이때 부서별 집계가 컬럼을 그대로 비교할 수 있도록 기존 부서명 공백도 함께 정리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @AnalyticalQuery
+    public void backfillIfEmpty() {
+        if (backfillOnStartup) {
+            try {
+                if (!rollupRepository.existsByIdIsNotNull()) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        int trimmed = userRepository.trimDepartmentNames();
+                        if (trimmed > 0) {
+                            log.info("[ROLLUP] trimmed department names (users={})", trimmed);
+                        }
+                        backfillAll();
+                    });
+                }
+            } catch (Exception e) {
+                log.warn("[ROLLUP] startup backfill failed: {}", e.getMessage(), e);
+            }
+        }
+        expenseCubeService.buildOnStartup();
+    }
+
+    private void apply(Snapshot s, int sign) {
+        if (s.day() == null || s.userId() == null) {
+            return;
+        }
+        rollupRepository.upsertDelta(s.day(), s.userId(), s.department(), s.category(),
+                sign, sign * s.amount());
+        if (sign < 0) {
+            rollupRepository.deleteIfEmpty(s.day(), s.userId(), s.department(), s.category());
+        }
+    }
+
+    private void accumulate(Map<RollupKey, long[]> merged, Snapshot s, int sign) {
+        if (s.day() == null || s.userId() == null) {
+            return;
+        }
+        long[] delta = merged.computeIfAbsent(
+                new RollupKey(s.day(), s.userId(), s.department(), s.category()), key -> new long[2]);
+        delta[0] += sign;
+        delta[1] += sign * s.amount();
+    }
+
+    private boolean sameBucket(Snapshot a, Snapshot b) {
+        return Objects.equals(a.day(), b.day())
+                && Objects.equals(a.userId(), b.userId())
+                && Objects.equals(a.department(), b.department())
+                && Objects.equals(a.category(), b.category());
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
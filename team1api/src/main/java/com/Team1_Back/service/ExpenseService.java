@@ -1,9 +1,11 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.dto.BudgetCheckDTO;
 import com.Team1_Back.dto.ExpenseDTO;
 import com.Team1_Back.dto.ExpenseSubmitDTO;
 import com.Team1_Back.dto.PageRequestDTO;
 import com.Team1_Back.dto.PageResponseDTO;
+import com.Team1_Back.dto.SliceResponseDTO;
 
 import java.time.LocalDate;
 
@@ -26,6 +28,22 @@ public interface ExpenseService {
      */
     PageResponseDTO<ExpenseDTO> getList(Long userId, PageRequestDTO pageRequestDTO, String status, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 사용자별 지출 내역을 커서(keyset) 방식으로 조회합니다. ("더 보기"용)
+     * 
+     * <p>전체 건수를 세지 않고, 페이지가 깊어져도 첫 페이지와 같은 비용으로 조회합니다.
+     * 
+     * @param userId 조회할 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (처음이면 null)
+     * @param size 조회 건수 (최대 100)
+     * @param status 필터링할 승인 상태 (null이면 전체)
+     * @param startDate 조회 시작 날짜 (null이면 제한 없음)
+     * @param endDate 조회 종료 날짜 (null이면 제한 없음)
+     * @return 지출 내역 목록과 다음 커서
+     * @throws IllegalArgumentException cursor 형식이 잘못된 경우
+     */
+    SliceResponseDTO<ExpenseDTO> getListByCursor(Long userId, String cursor, int size, String status, LocalDate startDate, LocalDate endDate);
+
     /**
      * 특정 지출 내역을 조회합니다.
      * 
@@ -74,6 +92,15 @@ public interface ExpenseService {
      */
     void submit(Long id, Long userId, ExpenseSubmitDTO submitDTO);
 
+    /**
+     * 제출 전 해당 월 잔여 예산을 확인합니다. (예산 원장 기준, 상태 변경 없음)
+     * 
+     * @param id 제출할 지출 내역 ID
+     * @param userId 요청한 사용자 ID
+     * @return 잔여 예산 확인 결과
+     */
+    BudgetCheckDTO checkBudget(Long id, Long userId);
+
     /**
      * 여러 지출 내역 ID로 한번에 조회합니다 (관리자용).
      * 
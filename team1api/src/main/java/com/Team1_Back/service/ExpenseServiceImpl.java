@@ -1,16 +1,22 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.accounting.listener.AccountingDataChangedEvent;
 import com.Team1_Back.domain.*;
+import com.Team1_Back.dto.BudgetCheckDTO;
 import com.Team1_Back.dto.ExpenseDTO;
+import com.Team1_Back.dto.ExpenseSearchCondition;
 import com.Team1_Back.dto.ExpenseSubmitDTO;
 import com.Team1_Back.dto.PageRequestDTO;
 import com.Team1_Back.dto.PageResponseDTO;
+import com.Team1_Back.dto.SliceResponseDTO;
+import com.Team1_Back.paging.CountCache;
+import com.Team1_Back.paging.CountMode;
+import com.Team1_Back.paging.PagedQueryExecutor;
 import com.Team1_Back.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +39,12 @@ public class ExpenseServiceImpl implements ExpenseService {
     private final ApprovalRequestRepository approvalRequestRepository;
     private final ApprovalActionLogRepository approvalActionLogRepository;
     private final ModelMapper modelMapper;
+    private final ExpenseRollupService expenseRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BudgetLedgerService budgetLedgerService;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final CountCache countCache;
+    private final ReceiptBatchLoader receiptBatchLoader;
 
     @Override
     @Transactional(readOnly = true)
@@ -41,49 +53,66 @@ public class ExpenseServiceImpl implements ExpenseService {
             pageRequestDTO = PageRequestDTO.builder().page(1).size(15).build();
         }
 
-        Pageable pageable = pageRequestDTO.getPageable("createdAt", "updatedAt");
+        ApprovalStatus statusEnum = parseStatus(status);
 
-        ApprovalStatus statusEnum = null;
-        if (status != null && !status.isEmpty()) {
-            try {
-                statusEnum = ApprovalStatus.valueOf(status);
-            } catch (IllegalArgumentException e) {
-                log.warn("잘못된 status 값: " + status);
-            }
-        }
+        ExpenseSearchCondition condition = ExpenseSearchCondition.builder()
+                .writerId(userId)
+                .status(statusEnum)
+                .createdFrom(startDate)
+                .createdTo(endDate)
+                .build();
 
-        Page<Expense> result;
-        boolean hasStartDate = startDate != null;
-        boolean hasEndDate = endDate != null;
-
-        if (statusEnum != null && hasStartDate && hasEndDate) {
-            result = expenseRepository.findByUserIdAndStatusAndDateRange(userId, statusEnum, startDate, endDate, pageable);
-        } else if (statusEnum != null && hasStartDate) {
-            result = expenseRepository.findByUserIdAndStatusAndStartDate(userId, statusEnum, startDate, pageable);
-        } else if (statusEnum != null && hasEndDate) {
-            result = expenseRepository.findByUserIdAndStatusAndEndDate(userId, statusEnum, endDate, pageable);
-        } else if (statusEnum != null) {
-            result = expenseRepository.findByWriterIdAndStatus(userId, statusEnum, pageable);
-        } else if (hasStartDate && hasEndDate) {
-            result = expenseRepository.findByUserIdAndDateRange(userId, startDate, endDate, pageable);
-        } else if (hasStartDate) {
-            result = expenseRepository.findByUserIdAndStartDate(userId, startDate, pageable);
-        } else if (hasEndDate) {
-            result = expenseRepository.findByUserIdAndEndDate(userId, endDate, pageable);
-        } else {
-            result = expenseRepository.findByWriterId(userId, pageable);
-        }
+        // 정렬은 검색 쿼리에서 상신일 desc, id desc로 고정
+        // 전체 건수는 기본적으로 필터별 캐시 사용 (countMode=EXACT/HAS_NEXT로 변경 가능)
+        CountMode mode = CountMode.from(pageRequestDTO.getCountMode(), CountMode.CACHED);
+        return pagedQueryExecutor.execute(pageRequestDTO, mode,
+                new PagedQueryExecutor.Query<>(
+                        CountCache.EXPENSE,
+                        condition.toString(),
+                        null,
+                        (offset, limit) -> expenseRepository.fetch(condition, offset, limit),
+                        () -> expenseRepository.count(condition)));
+    }
 
-        List<ExpenseDTO> dtoList = result.getContent().stream()
-                .map(this::entityToDTO)
-                .filter(dto -> dto != null)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDTO<ExpenseDTO> getListByCursor(Long userId, String cursor, int size, String status, LocalDate startDate, LocalDate endDate) {
+        int limit = Math.max(1, Math.min(size, 100));
+
+        ExpenseSearchCondition condition = ExpenseSearchCondition.builder()
+                .writerId(userId)
+                .status(parseStatus(status))
+                .createdFrom(startDate)
+                .createdTo(endDate)
+                .build();
+
+        // limit + 1건을 읽어 다음 페이지 존재 여부 판단 (COUNT 없음)
+        List<ExpenseDTO> rows = expenseRepository.searchAfter(
+                condition, KeysetCursor.decode(cursor), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<ExpenseDTO> content = hasNext ? rows.subList(0, limit) : rows;
+        ExpenseDTO last = hasNext ? content.get(content.size() - 1) : null;
+        String nextCursor = last != null ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null;
 
-        return PageResponseDTO.of(
-                dtoList,
-                pageRequestDTO,
-                result.getTotalElements()
-        );
+        return SliceResponseDTO.<ExpenseDTO>builder()
+                .content(content)
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private ApprovalStatus parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return ApprovalStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 status 값: " + status);
+            return null;
+        }
     }
 
     @Override
@@ -111,6 +140,7 @@ public class ExpenseServiceImpl implements ExpenseService {
         expense.setStatus(ApprovalStatus.DRAFT);
 
         Expense saved = expenseRepository.save(expense);
+        countCache.invalidate(CountCache.EXPENSE);
         return saved.getId();
     }
 
@@ -122,6 +152,7 @@ public class ExpenseServiceImpl implements ExpenseService {
         if (!expense.canModify()) {
             throw new IllegalStateException("수정할 수 없는 상태입니다.");
         }
+        ExpenseRollupService.Snapshot before = expenseRollupService.snapshot(expense);
 
         expense.setReceiptDate(expenseDTO.getReceiptDate());
         expense.setMerchant(expenseDTO.getMerchant());
@@ -130,6 +161,9 @@ public class ExpenseServiceImpl implements ExpenseService {
         expense.setDescription(expenseDTO.getDescription());
 
         expenseRepository.save(expense);
+        expenseRollupService.applyTransition(before, expense);
+        eventPublisher.publishEvent(new AccountingDataChangedEvent("EXPENSE_MODIFY"));
+        countCache.invalidate(CountCache.EXPENSE);
     }
 
     @Override
@@ -180,6 +214,8 @@ public class ExpenseServiceImpl implements ExpenseService {
 
         // 4. Expense 삭제
         expenseRepository.delete(expense);
+        eventPublisher.publishEvent(new AccountingDataChangedEvent("EXPENSE_REMOVE"));
+        countCache.invalidate(CountCache.EXPENSE, CountCache.APPROVAL);
     }
 
     @Override
@@ -217,6 +253,16 @@ public class ExpenseServiceImpl implements ExpenseService {
                 .build();
 
         approvalActionLogRepository.save(actionLog);
+        eventPublisher.publishEvent(new AccountingDataChangedEvent("EXPENSE_SUBMIT"));
+        countCache.invalidate(CountCache.EXPENSE, CountCache.APPROVAL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BudgetCheckDTO checkBudget(Long id, Long userId) {
+        Expense expense = expenseRepository.findByIdAndWriterId(id, userId).orElseThrow();
+        return budgetLedgerService.check(userId, expense.getReceiptDate(),
+                expense.getAmount() != null ? expense.getAmount() : 0L);
     }
 
     private Expense dtoToEntity(ExpenseDTO dto) {
@@ -236,7 +282,11 @@ public class ExpenseServiceImpl implements ExpenseService {
 
     private ExpenseDTO entityToDTO(Expense entity) {
         if (entity == null) return null;
+        return entityToDTO(entity, receiptUploadRepository.findByExpenseId(entity.getId()).orElse(null));
+    }
 
+    // 영수증을 미리 가져온 경우 (목록 변환 시 행마다 조회하지 않음)
+    private ExpenseDTO entityToDTO(Expense entity, ReceiptUpload receipt) {
         User writer = entity.getWriter();
 
         // 1. Builder를 사용하여 수동으로 매핑 (ModelMapper 제거)
@@ -255,10 +305,8 @@ public class ExpenseServiceImpl implements ExpenseService {
                 .updatedAt(entity.getUpdatedAt())
                 .build();
 
-        // 2. Repository 조회가 필요한 추가 데이터 처리
-        Optional<ReceiptUpload> receiptOpt = receiptUploadRepository.findByExpenseId(entity.getId());
-        if (receiptOpt.isPresent()) {
-            ReceiptUpload receipt = receiptOpt.get();
+        // 2. 영수증 정보
+        if (receipt != null) {
             dto.setReceiptId(receipt.getId());
             dto.setReceiptFileUrl(receipt.getFileUrl());
             dto.setHasReceipt(true);
@@ -276,9 +324,11 @@ public class ExpenseServiceImpl implements ExpenseService {
             return new java.util.HashMap<>();
         }
 
-        List<Expense> expenses = expenseRepository.findAllById(ids);
+        // 작성자는 함께, 영수증은 IN 쿼리 한 번으로 가져옴 (지출 수와 관계없이 쿼리 2번)
+        List<Expense> expenses = expenseRepository.findAllWithWriterByIdIn(ids);
+        java.util.Map<Long, ReceiptUpload> receipts = receiptBatchLoader.receipts(ids);
         return expenses.stream()
-                .map(this::entityToDTO)
+                .map(expense -> entityToDTO(expense, receipts.get(expense.getId())))
                 .filter(dto -> dto != null)
                 .collect(Collectors.toMap(ExpenseDTO::getId, java.util.function.Function.identity()));
     }
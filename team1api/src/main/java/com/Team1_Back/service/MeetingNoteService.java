@@ -1,10 +1,12 @@
 package com.Team1_Back.service;
 
 import com.Team1_Back.dto.MeetingNoteDTO;
+import com.Team1_Back.dto.TodoDTO;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 // 회의록 비즈니스 로직을 처리하는 서비스 인터페이스
 public interface MeetingNoteService {
@@ -29,4 +31,9 @@ public interface MeetingNoteService {
 
     // 회의록을 분석하여 Todo를 자동 생성
     int analyzeAndCreateTodos(Long id, Long userId);
+
+    // 회의록 스트리밍 분석: 토큰과 추출 중인 Todo(onDraft, 미저장)를 도착하는 대로 전달하고,
+    // 끝나면 Todo를 저장해 커밋된 것만 onTodo로 전달한 뒤 개수 반환
+    int analyzeAndCreateTodosStream(Long id, Long userId, Consumer<String> onToken,
+                                    Consumer<TodoDTO> onDraft, Consumer<TodoDTO> onTodo);
 }
@@ -17,14 +17,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,6 +44,7 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
     private final CustomFileUtil customFileUtil;
     private final ModelMapper modelMapper;
     private final AiService aiService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public MeetingNoteDTO upload(Long userId, MultipartFile file) {
@@ -163,7 +169,7 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
             throw new RuntimeException("권한이 없습니다.");
         }
 
-        // 이미 분석된 경우
+        // 이미 분석된 경우 (AI 호출 생략용, 중복 방지는 아래 markAnalyzed)
         if (meetingNote.isAnalyzed()) {
             log.info("이미 분석된 회의록입니다: ID={}", id);
             return 0;
@@ -187,35 +193,14 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
             // AI 분석
             List<TodoDTO> todos = aiService.analyzeMeetingNote(fileContent);
 
-            // Todo 생성
-            User user = meetingNote.getUser();
-            int createdCount = 0;
-            for (TodoDTO todoDTO : todos) {
-                // AI가 날짜를 제공하지 않은 경우 회의록 날짜를 기본값으로 사용
-                java.time.LocalDate dueDate = todoDTO.getDueDate() != null
-                        ? todoDTO.getDueDate()
-                        : defaultDueDate;
-
-                log.info("[회의록 분석] Todo 생성: 제목={}, 마감일={}", todoDTO.getTitle(), dueDate);
-
-                Todo todo = Todo.builder()
-                        .user(user)
-                        .title(todoDTO.getTitle())
-                        .content(todoDTO.getContent())
-                        .dueDate(dueDate)
-                        .status(TodoStatus.valueOf(todoDTO.getStatus() != null ? todoDTO.getStatus() : "TODO"))
-                        .priority(
-                                TodoPriority.valueOf(todoDTO.getPriority() != null ? todoDTO.getPriority() : "MEDIUM"))
-                        .meetingNote(meetingNote)
-                        .build();
-
-                todoRepository.save(todo);
-                createdCount++;
+            // 분석 완료 표시 (스트리밍과 같은 조건부 갱신, 그 사이 다른 요청이 먼저 분석했으면 Todo를 만들지 않음)
+            if (meetingNoteRepository.markAnalyzed(id) == 0) {
+                log.info("다른 요청이 먼저 분석한 회의록입니다: ID={}", id);
+                return 0;
             }
 
-            // 분석 완료 표시
-            meetingNote.setAnalyzed(true);
-            meetingNoteRepository.save(meetingNote);
+            // Todo 생성
+            int createdCount = createTodos(meetingNote, todos, defaultDueDate).size();
 
             log.info("회의록 분석 완료: ID={}, 생성된 Todo 개수={}", id, createdCount);
             return createdCount;
@@ -226,6 +211,117 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
         }
     }
 
+    /**
+     * 스트리밍 분석은 수십 초 걸리므로 생성 중에는 트랜잭션(DB 커넥션)을 잡지 않습니다.
+     * 회의록 조회와 Todo 저장만 각각 짧은 트랜잭션으로 실행합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int analyzeAndCreateTodosStream(Long id, Long userId, Consumer<String> onToken,
+                                           Consumer<TodoDTO> onDraft, Consumer<TodoDTO> onTodo) {
+        // 회의록 확인 + 내용/기본 마감일 준비
+        Prepared prepared = transactionTemplate.execute(status -> {
+            MeetingNote meetingNote = meetingNoteRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("회의록을 찾을 수 없습니다."));
+
+            // 권한 확인
+            if (!meetingNote.getUser().getId().equals(userId)) {
+                throw new RuntimeException("권한이 없습니다.");
+            }
+
+            // 이미 분석된 경우 (AI 호출 생략용, 중복 방지는 저장 시 markAnalyzed)
+            if (meetingNote.isAnalyzed()) {
+                return null;
+            }
+
+            String fileContent = readFileContent(meetingNote);
+            if (fileContent == null || fileContent.isBlank()) {
+                throw new RuntimeException("파일 내용을 읽을 수 없습니다.");
+            }
+            java.time.LocalDate defaultDueDate = extractMeetingDateFromContent(fileContent);
+            if (defaultDueDate == null) {
+                defaultDueDate = meetingNote.getUploadDate().toLocalDate();
+            }
+            return new Prepared(fileContent, defaultDueDate);
+        });
+
+        if (prepared == null) {
+            log.info("이미 분석된 회의록입니다: ID={}", id);
+            return 0;
+        }
+        java.time.LocalDate defaultDueDate = prepared.defaultDueDate();
+
+        // AI 분석 (트랜잭션 밖)
+        List<TodoDTO> todos;
+        try {
+            todos = aiService.analyzeMeetingNoteStream(prepared.fileContent(), onToken, onDraft);
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 끊음: 저장하지 않고 미분석 상태로 둠
+            throw e;
+        } catch (Exception e) {
+            log.error("회의록 스트리밍 분석 실패: ID={}, 오류={}", id, e.getMessage(), e);
+            throw new RuntimeException("회의록 분석에 실패했습니다: " + e.getMessage(), e);
+        }
+
+        // 분석 완료 표시 + Todo 저장
+        // 조건부 갱신이 행을 잠그므로 동시에 분석한 요청은 커밋까지 기다렸다가 0건으로 끝남 (Todo 중복 생성 방지)
+        List<TodoDTO> saved = transactionTemplate.execute(status -> {
+            if (meetingNoteRepository.markAnalyzed(id) == 0) {
+                return List.of();
+            }
+            MeetingNote meetingNote = meetingNoteRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("회의록을 찾을 수 없습니다."));
+            return createTodos(meetingNote, todos, defaultDueDate).stream()
+                    .map(this::todoToDTO)
+                    .collect(Collectors.toList());
+        });
+
+        if (saved.isEmpty() && !todos.isEmpty()) {
+            log.info("다른 요청이 먼저 분석한 회의록입니다: ID={}", id);
+        }
+        // 커밋된 Todo만 전달 (ID 포함)
+        saved.forEach(onTodo);
+
+        log.info("회의록 스트리밍 분석 완료: ID={}, 생성된 Todo 개수={}", id, saved.size());
+        return saved.size();
+    }
+
+    // 스트리밍 분석 전에 읽어 둔 회의록 내용과 기본 마감일
+    private record Prepared(String fileContent, java.time.LocalDate defaultDueDate) {
+    }
+
+    // 분석 결과로 Todo를 만들고 회의록을 분석 완료로 표시
+    private List<Todo> createTodos(MeetingNote meetingNote, List<TodoDTO> todos, java.time.LocalDate defaultDueDate) {
+        User user = meetingNote.getUser();
+        List<Todo> created = new ArrayList<>();
+        for (TodoDTO todoDTO : todos) {
+            // AI가 날짜를 제공하지 않은 경우 회의록 날짜를 기본값으로 사용
+            java.time.LocalDate dueDate = todoDTO.getDueDate() != null
+                    ? todoDTO.getDueDate()
+                    : defaultDueDate;
+
+            log.info("[회의록 분석] Todo 생성: 제목={}, 마감일={}", todoDTO.getTitle(), dueDate);
+
+            Todo todo = Todo.builder()
+                    .user(user)
+                    .title(todoDTO.getTitle())
+                    .content(todoDTO.getContent())
+                    .dueDate(dueDate)
+                    .status(TodoStatus.valueOf(todoDTO.getStatus() != null ? todoDTO.getStatus() : "TODO"))
+                    .priority(
+                            TodoPriority.valueOf(todoDTO.getPriority() != null ? todoDTO.getPriority() : "MEDIUM"))
+                    .meetingNote(meetingNote)
+                    .build();
+
+            created.add(todoRepository.save(todo));
+        }
+
+        // 분석 완료 표시
+        meetingNote.setAnalyzed(true);
+        meetingNoteRepository.save(meetingNote);
+        return created;
+    }
+
     // 회의록 내용에서 날짜 추출
     private java.time.LocalDate extractMeetingDateFromContent(String fileContent) {
         if (fileContent == null || fileContent.isBlank()) {
@@ -290,6 +386,17 @@ public class MeetingNoteServiceImpl implements MeetingNoteService {
         }
     }
 
+    // 저장된 Todo를 TodoDTO로 변환 (TodoServiceImpl과 같은 방식)
+    private TodoDTO todoToDTO(Todo entity) {
+        TodoDTO dto = modelMapper.map(entity, TodoDTO.class);
+        dto.setUserId(entity.getUser().getId());
+        dto.setUserName(entity.getUser().getName());
+        dto.setStatus(entity.getStatus().name());
+        dto.setPriority(entity.getPriority().name());
+        dto.setMeetingNoteId(entity.getMeetingNote().getId());
+        return dto;
+    }
+
     // MeetingNote 엔티티를 MeetingNoteDTO로 변환
     private MeetingNoteDTO entityToDTO(MeetingNote entity) {
         MeetingNoteDTO dto = modelMapper.map(entity, MeetingNoteDTO.class);
@@ -0,0 +1,108 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.domain.ReceiptAiExtraction;
+import com.Team1_Back.domain.ReceiptUpload;
+import com.Team1_Back.domain.ReceiptVerification;
+import com.Team1_Back.repository.ReceiptAiExtractionRepository;
+import com.Team1_Back.repository.ReceiptUploadRepository;
+import com.Team1_Back.repository.ReceiptVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 목록 화면용 영수증 관련 데이터 일괄 로딩
+ *
+ * <p>한 페이지의 지출 ID를 모아 영수증 / AI 추출 결과 / 검증 결과를 각각 IN 쿼리 한 번으로 가져옵니다.
+ * 행마다 findByExpenseId 등을 호출하면 페이지 크기 × 3번 쿼리가 나가지만, 이 방식은 페이지 크기와 관계없이 최대 3번입니다.
+ * 호출 측 트랜잭션 안에서 사용해야 합니다.
+ *
+ * @author Team1
+ */
+@Component
+@RequiredArgsConstructor
+public class ReceiptBatchLoader {
+
+    private final ReceiptUploadRepository receiptUploadRepository;
+    private final ReceiptAiExtractionRepository receiptAiExtractionRepository;
+    private final ReceiptVerificationRepository receiptVerificationRepository;
+
+    /**
+     * 지출 ID별 영수증/추출 결과/검증 결과
+     *
+     * @param receipts      지출 ID → 영수증
+     * @param extractions   영수증 ID → AI 추출 결과
+     * @param verifications 지출 ID → 검증 결과 (검증자 로드됨)
+     */
+    public record Batch(Map<Long, ReceiptUpload> receipts,
+                        Map<Long, ReceiptAiExtraction> extractions,
+                        Map<Long, ReceiptVerification> verifications) {
+
+        public ReceiptUpload receipt(Long expenseId) {
+            return receipts.get(expenseId);
+        }
+
+        public ReceiptAiExtraction extraction(Long receiptId) {
+            return receiptId != null ? extractions.get(receiptId) : null;
+        }
+
+        public ReceiptVerification verification(Long expenseId) {
+            return verifications.get(expenseId);
+        }
+    }
+
+    /**
+     * 영수증, AI 추출 결과, 검증 결과를 모두 가져옵니다. (쿼리 최대 3번)
+     */
+    public Batch load(Collection<Long> expenseIds) {
+        List<Long> ids = distinct(expenseIds);
+        if (ids.isEmpty()) {
+            return new Batch(Map.of(), Map.of(), Map.of());
+        }
+
+        Map<Long, ReceiptUpload> receipts = receipts(ids);
+
+        Map<Long, ReceiptAiExtraction> extractions = new HashMap<>();
+        if (!receipts.isEmpty()) {
+            List<Long> receiptIds = receipts.values().stream().map(ReceiptUpload::getId).toList();
+            for (ReceiptAiExtraction extraction : receiptAiExtractionRepository.findAllByReceiptIdIn(receiptIds)) {
+                extractions.put(extraction.getReceipt().getId(), extraction);
+            }
+        }
+
+        Map<Long, ReceiptVerification> verifications = new HashMap<>();
+        for (ReceiptVerification verification : receiptVerificationRepository.findAllByExpenseIdIn(ids)) {
+            verifications.put(verification.getExpense().getId(), verification);
+        }
+
+        return new Batch(receipts, extractions, verifications);
+    }
+
+    /**
+     * 지출 ID → 영수증만 가져옵니다. (쿼리 1번)
+     */
+    public Map<Long, ReceiptUpload> receipts(Collection<Long> expenseIds) {
+        List<Long> ids = distinct(expenseIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ReceiptUpload> receipts = new HashMap<>();
+        for (ReceiptUpload receipt : receiptUploadRepository.findAllByExpenseIdIn(ids)) {
+            // 지연 로딩 프록시의 ID 조회는 추가 쿼리를 만들지 않음
+            receipts.put(receipt.getExpense().getId(), receipt);
+        }
+        return receipts;
+    }
+
+    private static List<Long> distinct(Collection<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().filter(Objects::nonNull).distinct().toList();
+    }
+}
@@ -0,0 +1,389 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.datasource.AnalyticalQuery;
+import com.Team1_Back.datasource.ReplicaRoutingDataSource;
+import com.Team1_Back.dto.DuplicateDetectionStatsDTO;
+import com.Team1_Back.repository.ReceiptAiExtractionRepository;
+import com.Team1_Back.repository.ReceiptUploadRepository;
+import com.Team1_Back.util.BloomFilter;
+import com.Team1_Back.util.LongLongHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 영수증 중복 업로드 검사
+ *
+ * <ul>
+ *   <li>같은 파일: receipt_upload.file_hash 전체를 블룸 필터로 들고 있어 필터가 "없음"이라고 하면 DB를 조회하지 않고,
+ *       "있을 수 있음"일 때만 DB로 확인합니다.</li>
+ *   <li>같은 내용(다시 찍은 사진 등): AI 추출 결과의 (가맹점, 금액, 일자) 키 → 최근 영수증 ID 색인으로 중복 의심을 표시합니다.</li>
+ * </ul>
+ *
+ * <p>기동 후 백그라운드에서 전체 적재, 주기적으로 다른 노드가 넣은 행을 증분 적재(ID 기준), 매일 1회 다시 적재합니다.
+ * ID는 커밋 순서가 아니라 INSERT 순서로 매겨지므로(먼저 ID를 받은 트랜잭션이 늦게 커밋될 수 있음),
+ * 증분 적재는 마지막 ID에서 refresh-overlap만큼 앞에서부터 다시 읽습니다. (다시 읽은 행은 중복 반영되지 않음)
+ * 적재는 id 순으로 load-chunk행씩 나눠 각각 짧은 읽기 트랜잭션으로 읽으므로 긴 스캔 트랜잭션을 잡지 않습니다.
+ * 복제본 지연으로 최근 행을 건너뛰지 않도록 적재는 주 DB에서 읽습니다.
+ * 블룸 필터는 삭제가 안 되므로 지워진 영수증은 다시 적재할 때까지 오탐으로만 남습니다. (DB 확인에서 걸러짐)
+ * 적재 전에는 모든 검사를 DB(file_hash 인덱스)로 처리합니다.
+ *
+ * @author Team1
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReceiptDuplicateService {
+
+    public static final String SAME_FILE = "SAME_FILE";
+    public static final String SAME_CONTENT = "SAME_CONTENT";
+
+    private final ReceiptUploadRepository receiptUploadRepository;
+    private final ReceiptAiExtractionRepository receiptAiExtractionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${com.mallapi.receipt.duplicate.expected-receipts:1000000}")
+    private long expectedReceipts;
+
+    @Value("${com.mallapi.receipt.duplicate.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 적재 시 한 번에 읽는 행 수
+    @Value("${com.mallapi.receipt.duplicate.load-chunk:5000}")
+    private int loadChunk;
+
+    // 증분 적재 시 마지막 ID 앞에서부터 다시 읽는 ID 수 (늦게 커밋된 행 보정)
+    @Value("${com.mallapi.receipt.duplicate.refresh-overlap:1000}")
+    private long refreshOverlap;
+
+    private volatile BloomFilter fileHashes;
+    private volatile LongLongHashMap contentKeys = new LongLongHashMap();
+    private final Object contentLock = new Object();
+
+    // 증분 적재 위치 (refresh/rebuild에서만 사용, loadLock 안)
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private long lastReceiptId;
+    private long lastExtractionId;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder filterNegatives = new LongAdder();
+    private final LongAdder filterPositives = new LongAdder();
+    private final LongAdder confirmedDuplicates = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder contentFlags = new LongAdder();
+
+    // ========== 같은 파일 ==========
+
+    /**
+     * 같은 파일이 다른 지출에 이미 올라가 있는지 확인합니다.
+     *
+     * <p>같은 지출에 같은 파일을 다시 올리는 경우(교체)는 중복이 아니며, 지표에서는 오탐으로 집계됩니다.
+     *
+     * @param fileHash  SHA-256 hex
+     * @param expenseId 업로드 대상 지출 ID
+     * @return 같은 파일의 기존 영수증 ID (없으면 null)
+     */
+    public Long findSameFile(String fileHash, Long expenseId) {
+        if (fileHash == null) {
+            return null;
+        }
+        checks.increment();
+
+        BloomFilter filter = fileHashes;
+        if (filter != null && !filter.mightContain(fileHash)) {
+            filterNegatives.increment();
+            return null;
+        }
+
+        Long existing = receiptUploadRepository.findIdByFileHashOnOtherExpense(fileHash, expenseId);
+        if (filter != null) {
+            filterPositives.increment();
+            if (existing != null) {
+                confirmedDuplicates.increment();
+            } else {
+                falsePositives.increment();
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * 새로 저장한 파일 해시를 필터에 넣습니다.
+     *
+     * <p>커밋 전에 바로 넣습니다. 롤백되면 오탐 하나가 남을 뿐이고(DB 확인에서 걸러짐),
+     * 커밋 직후 동시에 들어온 같은 파일을 놓치지 않습니다.
+     */
+    public void registerFile(String fileHash) {
+        BloomFilter filter = fileHashes;
+        if (fileHash != null && filter != null) {
+            filter.put(fileHash);
+        }
+    }
+
+    // ========== 같은 내용 ==========
+
+    /**
+     * (가맹점, 금액, 일자)가 같은 다른 영수증 ID (없으면 null)
+     */
+    public Long findSameContent(Long receiptId, String merchant, Integer amount, LocalDate date) {
+        long key = contentKey(merchant, amount, date);
+        if (key == 0) {
+            return null;
+        }
+
+        long candidate;
+        synchronized (contentLock) {
+            candidate = contentKeys.get(key, 0L);
+        }
+        if (candidate == 0 || candidate == receiptId) {
+            return null;
+        }
+        // 지워진 영수증(교체 업로드 등)은 색인에 남아 있을 수 있으므로 확인
+        if (!receiptUploadRepository.existsById(candidate)) {
+            return null;
+        }
+        contentFlags.increment();
+        return candidate;
+    }
+
+    /**
+     * AI 추출 결과를 색인에 넣습니다. (커밋 후 반영)
+     */
+    public void registerContent(Long receiptId, String merchant, Integer amount, LocalDate date) {
+        long key = contentKey(merchant, amount, date);
+        if (key == 0 || receiptId == null) {
+            return;
+        }
+
+        Runnable inMemory = () -> {
+            synchronized (contentLock) {
+                contentKeys.put(key, receiptId);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    inMemory.run();
+                }
+            });
+        } else {
+            inMemory.run();
+        }
+    }
+
+    // ========== 적재 ==========
+
+    /**
+     * 기동을 막지 않도록 applicationTaskExecutor에서 적재합니다. (그동안은 DB로 검사)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @AnalyticalQuery
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 필터와 색인을 새로 만들어 교체합니다. (지워진 영수증 정리, 필터 크기 재산정)
+     */
+    @Scheduled(cron = "${com.mallapi.receipt.duplicate.rebuild-cron:0 50 4 * * *}", zone = "Asia/Seoul")
+    @AnalyticalQuery
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        loadLock.lock();
+        try {
+            BloomFilter current = fileHashes;
+            long capacity = Math.max(expectedReceipts, current != null ? current.insertions() * 2 : 0L);
+            BloomFilter nextFilter = new BloomFilter(capacity, falsePositiveRate);
+            LongLongHashMap nextContent = new LongLongHashMap(1024);
+
+            long lastReceipt = loadFileHashes(nextFilter, 0L, 0L);
+            long lastExtraction = loadContentKeys(nextContent, 0L);
+
+            synchronized (contentLock) {
+                contentKeys = nextContent;
+            }
+            fileHashes = nextFilter;
+            lastReceiptId = lastReceipt;
+            lastExtractionId = lastExtraction;
+
+            log.info("[DUPLICATE] rebuilt (files={}, contents={}, bits={}, k={}, expectedFpp={}, {}ms)",
+                    nextFilter.insertions(), nextContent.size(), nextFilter.bitSize(), nextFilter.hashCount(),
+                    String.format("%.5f", nextFilter.expectedFalsePositiveRate()),
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("[DUPLICATE] rebuild failed: {}", e.getMessage(), e);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 적재 이후 추가된 행을 반영합니다. (다른 노드의 업로드)
+     */
+    @Scheduled(fixedDelayString = "${com.mallapi.receipt.duplicate.refresh-ms:30000}")
+    public void refresh() {
+        // 적재 중이면 이번 주기는 건너뜀 (적재가 끝나면 그 시점까지의 행이 모두 들어 있음, 스케줄러 스레드를 막지 않음)
+        if (!loadLock.tryLock()) {
+            return;
+        }
+        try {
+            refreshLocked();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void refreshLocked() {
+        BloomFilter filter = fileHashes;
+        if (filter == null) {
+            return;
+        }
+        if (filter.insertions() > filter.expectedInsertions()) {
+            // 예상 크기를 넘기면 오탐률이 빠르게 올라가므로 크게 다시 만듦
+            rebuild();
+            return;
+        }
+        try {
+            // 조회는 잠금 없이 별도 맵으로 받고, 색인 잠금은 병합할 때만 잡음 (조회 중에도 중복 검사는 계속 처리)
+            // 마지막 ID 앞 구간도 다시 읽음 (그 사이 늦게 커밋된 행)
+            LongLongHashMap delta = new LongLongHashMap();
+            long lastReceipt = Math.max(lastReceiptId,
+                    loadFileHashes(filter, Math.max(0L, lastReceiptId - refreshOverlap), lastReceiptId));
+            long lastExtraction = Math.max(lastExtractionId,
+                    loadContentKeys(delta, Math.max(0L, lastExtractionId - refreshOverlap)));
+
+            if (delta.size() > 0) {
+                synchronized (contentLock) {
+                    LongLongHashMap target = contentKeys;
+                    // 그 사이 registerContent로 들어온 더 최근 영수증은 유지
+                    delta.forEach((key, receiptId) -> {
+                        if (receiptId > target.get(key, 0L)) {
+                            target.put(key, receiptId);
+                        }
+                    });
+                }
+            }
+            lastReceiptId = lastReceipt;
+            lastExtractionId = lastExtraction;
+        } catch (Exception e) {
+            log.warn("[DUPLICATE] refresh failed: {}", e.getMessage());
+        }
+    }
+
+    public DuplicateDetectionStatsDTO getStats() {
+        BloomFilter filter = fileHashes;
+        long negatives = filterNegatives.sum();
+        long fp = falsePositives.sum();
+        int contents;
+        synchronized (contentLock) {
+            contents = contentKeys.size();
+        }
+
+        return new DuplicateDetectionStatsDTO(
+                filter != null,
+                filter != null ? filter.insertions() : 0L,
+                filter != null ? filter.bitSize() : 0L,
+                filter != null ? filter.hashCount() : 0,
+                filter != null ? filter.expectedFalsePositiveRate() : 0.0,
+                checks.sum(),
+                negatives,
+                filterPositives.sum(),
+                confirmedDuplicates.sum(),
+                fp,
+                negatives + fp > 0 ? (double) fp / (negatives + fp) : 0.0,
+                contents,
+                contentFlags.sum());
+    }
+
+    // afterId 이후 파일 해시를 load-chunk행씩 읽어 필터에 넣고 마지막 id 반환
+    // (loadedUpTo 이하는 이미 읽은 구간이라 필터에 없는 것만 넣음, 삽입 수가 부풀어 재적재가 앞당겨지지 않도록)
+    private long loadFileHashes(BloomFilter filter, long afterId, long loadedUpTo) {
+        long last = afterId;
+        while (true) {
+            long from = last;
+            List<Object[]> rows = ReplicaRoutingDataSource.onPrimary(() -> readOnly().execute(status ->
+                    receiptUploadRepository.findFileHashesAfter(from, PageRequest.of(0, loadChunk))));
+            for (Object[] row : rows) {
+                long id = ((Number) row[0]).longValue();
+                String hash = (String) row[1];
+                if (id > loadedUpTo || !filter.mightContain(hash)) {
+                    filter.put(hash);
+                }
+                last = id;
+            }
+            if (rows.size() < loadChunk) {
+                return last;
+            }
+        }
+    }
+
+    // afterId 이후 추출 결과를 load-chunk행씩 읽어 색인에 넣고 마지막 id 반환
+    private long loadContentKeys(LongLongHashMap target, long afterId) {
+        long last = afterId;
+        while (true) {
+            long from = last;
+            List<Object[]> rows = ReplicaRoutingDataSource.onPrimary(() -> readOnly().execute(status ->
+                    receiptAiExtractionRepository.findDuplicateKeysAfter(from, PageRequest.of(0, loadChunk))));
+            for (Object[] row : rows) {
+                long key = contentKey((String) row[2], (Integer) row[3], (LocalDate) row[4]);
+                if (key != 0) {
+                    target.put(key, ((Number) row[1]).longValue());
+                }
+                last = ((Number) row[0]).longValue();
+            }
+            if (rows.size() < loadChunk) {
+                return last;
+            }
+        }
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * (가맹점, 금액, 일자) 64비트 키 (값이 하나라도 없으면 0)
+     *
+     * <p>가맹점은 법인 표기("(주)", "주식회사")와 공백/기호를 빼고 소문자로 맞춥니다.
+     */
+    static long contentKey(String merchant, Integer amount, LocalDate date) {
+        if (merchant == null || amount == null || date == null) {
+            return 0L;
+        }
+        String normalized = merchant.replace("(주)", "").replace("주식회사", "")
+                .replaceAll("[^\\p{L}\\p{N}]", "")
+                .toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return 0L;
+        }
+
+        // FNV-1a 64
+        long h = 0xCBF29CE484222325L;
+        String value = normalized + '|' + amount + '|' + date;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        // 0은 LongLongHashMap 빈 슬롯 표시라 사용 불가
+        return h != 0 ? h : 1L;
+    }
+}
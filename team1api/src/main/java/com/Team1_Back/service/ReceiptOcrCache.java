@@ -0,0 +1,177 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.ai.ReceiptAiProperties;
+import com.Team1_Back.dto.OcrCacheStatsDTO;
+import com.Team1_Back.dto.ReceiptExtractionDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 영수증 OCR 결과 캐시 (이미지 SHA-256 + 모델 기준)
+ *
+ * <p>반려 후 재제출, 삭제 후 재업로드처럼 같은 이미지가 다시 올라오면 AI를 호출하지 않고 이전 추출 결과를 복제합니다.
+ *
+ * <ul>
+ *   <li>1단계: 노드 메모리 LRU</li>
+ *   <li>2단계: Redis (노드 간 공유, 키: ocr:extract:{모델}:{파일 해시}, TTL)</li>
+ * </ul>
+ *
+ * <p>모델 식별자(receipt.ai.model)가 키에 들어가므로 모델을 바꾸면 이전 결과는 재사용되지 않고 TTL로 정리됩니다.
+ * Redis 장애 시에는 메모리 캐시만 사용합니다.
+ *
+ * @author Team1
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReceiptOcrCache {
+
+    /** 캐시에서 가져온 결과의 modelName 접미사 */
+    public static final String CACHED_SUFFIX = " (cached)";
+
+    private static final int MODEL_NAME_LENGTH = 50; // receipt_ai_extraction.model_name
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ReceiptAiProperties props;
+
+    @Value("${com.mallapi.receipt.ocr.cache.local-entries:2000}")
+    private int localEntries;
+
+    @Value("${com.mallapi.receipt.ocr.cache.ttl-days:30}")
+    private long ttlDays;
+
+    // 접근 순서 LinkedHashMap (가장 오래 안 쓴 항목부터 제거)
+    private final LinkedHashMap<String, ReceiptExtractionDTO> local = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ReceiptExtractionDTO> eldest) {
+            return size() > localEntries;
+        }
+    };
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    /**
+     * 같은 이미지의 이전 추출 결과 (modelName에 {@link #CACHED_SUFFIX}, cached=true 표시된 복사본)
+     *
+     * @param fileHash 이미지 SHA-256 hex
+     */
+    public Optional<ReceiptExtractionDTO> get(String fileHash) {
+        if (fileHash == null) {
+            return Optional.empty();
+        }
+        String key = key(fileHash);
+
+        ReceiptExtractionDTO hit;
+        synchronized (local) {
+            hit = local.get(key);
+        }
+        if (hit != null) {
+            localHits.increment();
+            return Optional.of(asCached(hit));
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json != null) {
+                hit = objectMapper.readValue(json, ReceiptExtractionDTO.class);
+                synchronized (local) {
+                    local.put(key, hit);
+                }
+                redisHits.increment();
+                return Optional.of(asCached(hit));
+            }
+        } catch (Exception e) {
+            log.debug("[OCR-CACHE] redis read failed: {}", e.getMessage());
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * AI 추출 결과 저장 (메모리 + Redis)
+     */
+    public void put(String fileHash, ReceiptExtractionDTO extraction) {
+        if (fileHash == null || extraction == null) {
+            return;
+        }
+        String key = key(fileHash);
+
+        // 영수증별 값은 빼고 추출 값만 보관
+        ReceiptExtractionDTO value = ReceiptExtractionDTO.builder()
+                .modelName(extraction.getModelName())
+                .extractedDate(extraction.getExtractedDate())
+                .extractedAmount(extraction.getExtractedAmount())
+                .extractedMerchant(extraction.getExtractedMerchant())
+                .extractedCategory(extraction.getExtractedCategory())
+                .extractedDescription(extraction.getExtractedDescription())
+                .confidence(extraction.getConfidence())
+                .extractedJson(extraction.getExtractedJson())
+                .build();
+
+        synchronized (local) {
+            local.put(key, value);
+        }
+        puts.increment();
+
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), Duration.ofDays(ttlDays));
+        } catch (Exception e) {
+            log.debug("[OCR-CACHE] redis write failed: {}", e.getMessage());
+        }
+    }
+
+    public OcrCacheStatsDTO getStats() {
+        int size;
+        synchronized (local) {
+            size = local.size();
+        }
+        long hits = localHits.sum() + redisHits.sum();
+        long total = hits + misses.sum();
+        return new OcrCacheStatsDTO(
+                props.getModel(),
+                size,
+                localEntries,
+                localHits.sum(),
+                redisHits.sum(),
+                misses.sum(),
+                puts.sum(),
+                total > 0 ? (double) hits / total : 0.0);
+    }
+
+    private String key(String fileHash) {
+        return "ocr:extract:" + props.getModel() + ":" + fileHash;
+    }
+
+    private static ReceiptExtractionDTO asCached(ReceiptExtractionDTO value) {
+        String model = value.getModelName() != null ? value.getModelName() : "unknown";
+        if (model.length() + CACHED_SUFFIX.length() > MODEL_NAME_LENGTH) {
+            model = model.substring(0, MODEL_NAME_LENGTH - CACHED_SUFFIX.length());
+        }
+        return ReceiptExtractionDTO.builder()
+                .modelName(model + CACHED_SUFFIX)
+                .extractedDate(value.getExtractedDate())
+                .extractedAmount(value.getExtractedAmount())
+                .extractedMerchant(value.getExtractedMerchant())
+                .extractedCategory(value.getExtractedCategory())
+                .extractedDescription(value.getExtractedDescription())
+                .confidence(value.getConfidence())
+                .extractedJson(value.getExtractedJson())
+                .cached(true)
+                .build();
+    }
+}
@@ -0,0 +1,563 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.ai.service.ReceiptAiService;
+import com.Team1_Back.ai.service.ReceiptAiService.BatchItem;
+import com.Team1_Back.domain.OcrStatus;
+import com.Team1_Back.domain.ReceiptAiExtraction;
+import com.Team1_Back.domain.ReceiptUpload;
+import com.Team1_Back.dto.ReceiptExtractionDTO;
+import com.Team1_Back.dto.ReceiptOcrEventDTO;
+import com.Team1_Back.dto.ReceiptOcrStatsDTO;
+import com.Team1_Back.repository.ReceiptAiExtractionRepository;
+import com.Team1_Back.repository.ReceiptUploadRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 영수증 OCR 비동기 처리
+ *
+ * <p>업로드는 영수증을 PENDING 상태로 저장하고 바로 응답하며, AI 추출은 이 서비스의 워커가 처리합니다.
+ * 작업 큐는 receipt_upload.ocr_* 컬럼이라 서버가 재시작되어도 남은 작업을 이어서 처리합니다.
+ *
+ * <ul>
+ *   <li>업로드 커밋 직후 해당 노드의 워커 큐에 넣고, 큐가 가득 차거나 다른 노드가 죽은 경우는 주기적 조회로 가져갑니다.</li>
+ *   <li>처리 전 조건부 UPDATE로 작업을 점유(PROCESSING + 점유 만료 시각)하므로 여러 노드가 같은 작업을 동시에 처리하지 않습니다.
+ *       점유한 워커가 죽으면 만료 후 다시 처리됩니다.</li>
+ *   <li>실패하면 지수 백오프(+지터)로 다시 시도하고, 최대 횟수를 넘기면 FAILED로 두어 관리자가 재등록합니다.</li>
+ *   <li>같은 이미지(파일 해시)의 이전 추출 결과가 {@link ReceiptOcrCache}에 있으면 AI를 호출하지 않습니다.</li>
+ *   <li>일괄 업로드와 주기적 조회로 가져온 작업은 batch-size장씩 묶어 한 번의 배치 요청으로 보내고, 결과는 영수증별로 완료/실패 처리합니다.</li>
+ *   <li>완료/최종 실패 시 업로더에게 /user/queue/receipts로 알립니다. (같은 내용 중복 의심도 이 알림으로 전달)</li>
+ * </ul>
+ *
+ * <p>AI 호출은 트랜잭션 밖에서 하므로 처리 중에 DB 커넥션을 잡고 있지 않습니다.
+ * 저장된 파일 경로(receipt_upload.file_url)를 읽으므로 모든 노드가 같은 업로드 경로를 공유해야 합니다.
+ *
+ * @author Team1
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReceiptOcrService {
+
+    private final ReceiptUploadRepository receiptUploadRepository;
+    private final ReceiptAiExtractionRepository receiptAiExtractionRepository;
+    private final ReceiptAiService receiptAiService;
+    private final ReceiptDuplicateService receiptDuplicateService;
+    private final ReceiptOcrCache receiptOcrCache;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${com.mallapi.receipt.ocr.workers:4}")
+    private int workers;
+
+    @Value("${com.mallapi.receipt.ocr.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${com.mallapi.receipt.ocr.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${com.mallapi.receipt.ocr.backoff-ms:2000}")
+    private long backoffMs;
+
+    @Value("${com.mallapi.receipt.ocr.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    // 점유 만료 시간 (AI 호출 제한 시간보다 충분히 길어야 함)
+    @Value("${com.mallapi.receipt.ocr.lease-ms:300000}")
+    private long leaseMs;
+
+    // 배치 요청 한 번에 보낼 최대 이미지 수 (1이면 배치 요청 없이 한 장씩, Python 쪽 최대치 이하)
+    @Value("${com.mallapi.receipt.ocr.batch-size:8}")
+    private int batchSize;
+
+    // Python 배치 API가 한 번에 받는 최대 파일 수 (python_ai RECEIPT_BATCH_MAX_FILES와 같게)
+    @Value("${com.mallapi.receipt.ocr.batch-max-files:20}")
+    private int batchMaxFiles;
+
+    private ThreadPoolExecutor executor;
+
+    // 워커 큐에 들어가 있거나 처리 중인 영수증 ID (같은 노드에서 중복 제출 방지)
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder aiCalls = new LongAdder();
+    private final LongAdder aiNanos = new LongAdder();
+    private final LongAdder aiBytes = new LongAdder();
+    private final LongAdder done = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchImages = new LongAdder();
+    private final LongAdder batchNanos = new LongAdder();
+
+    @PostConstruct
+    void start() {
+        validateBatchSize(batchSize, batchMaxFiles);
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "receipt-ocr-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * batch-size가 Python 배치 API 한도를 넘으면 모든 배치 요청이 거절되므로 기동 시 막습니다.
+     */
+    static void validateBatchSize(int batchSize, int batchMaxFiles) {
+        if (batchSize < 1 || batchSize > batchMaxFiles) {
+            throw new IllegalStateException("com.mallapi.receipt.ocr.batch-size는 1~" + batchMaxFiles
+                    + " 사이여야 합니다: " + batchSize);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        // 처리 중인 작업은 점유가 만료되면 다른 노드/재기동 후 다시 처리됨
+        executor.shutdownNow();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 워커 큐에 넣습니다. (트랜잭션 밖이면 바로)
+     */
+    public void enqueueAfterCommit(Long receiptId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(receiptId);
+                }
+            });
+        } else {
+            submit(receiptId);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 batch-size장씩 묶어 워커 큐에 넣습니다. (일괄 업로드용)
+     */
+    public void enqueueBatchAfterCommit(List<Long> receiptIds) {
+        if (receiptIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(receiptIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submitInBatches(ids);
+                }
+            });
+        } else {
+            submitInBatches(ids);
+        }
+    }
+
+    /**
+     * 처리 시각이 된 작업(재시도 대기, 점유 만료, 큐 초과로 밀린 작업)을 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${com.mallapi.receipt.ocr.poll-ms:5000}")
+    public void pollDue() {
+        int free = executor.getQueue().remainingCapacity();
+        if (free <= 0) {
+            return;
+        }
+        try {
+            // 워커 하나가 batch-size장을 처리하므로 빈 칸 수만큼 묶음을 가져옴
+            int limit = (int) Math.min(Integer.MAX_VALUE, (long) free * Math.max(1, batchSize));
+            List<Long> due = receiptUploadRepository.findOcrDueIds(LocalDateTime.now(), PageRequest.of(0, limit));
+            submitInBatches(due);
+        } catch (Exception e) {
+            log.warn("[OCR] poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비동기 OCR 도입 이전 영수증(ocr_status NULL)을 큐에 편입합니다.
+     *
+     * <p>추출 결과가 있으면 DONE, 없으면 PENDING으로 바꿔 다음 조회 때 처리되게 합니다.
+     * idx_ocr_status_next로 NULL 행만 읽으므로 한 번 편입된 뒤의 재기동에서는 바로 끝납니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void adoptLegacyReceipts() {
+        try {
+            int[] counts = transactionTemplate.execute(status -> new int[]{
+                    receiptUploadRepository.markLegacyOcrDone(),
+                    receiptUploadRepository.queueLegacyOcr(LocalDateTime.now())
+            });
+            if (counts != null && counts[0] + counts[1] > 0) {
+                log.info("[OCR] legacy receipts adopted: done={}, queued={}", counts[0], counts[1]);
+            }
+        } catch (Exception e) {
+            log.warn("[OCR] legacy receipt adoption failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * FAILED 작업을 다시 대기 상태로 돌리고 바로 처리합니다.
+     *
+     * @param receiptIds 재등록할 영수증 ID (비어 있으면 FAILED 전체)
+     * @return 재등록한 건수
+     */
+    public int requeueFailed(Collection<Long> receiptIds) {
+        Integer count = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            return receiptIds == null || receiptIds.isEmpty()
+                    ? receiptUploadRepository.requeueFailedOcr(now)
+                    : receiptUploadRepository.requeueFailedOcrByIds(receiptIds, now);
+        });
+        log.info("[OCR] requeued failed extractions: {}", count);
+        pollDue();
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 워커/AI 호출 지표 (이 노드 기준, AI 호출 평균 시간과 전송 바이트, 배치 요청 지연/처리량 포함)
+     */
+    public ReceiptOcrStatsDTO getStats() {
+        long calls = aiCalls.sum();
+        long batchCount = batches.sum();
+        long images = batchImages.sum();
+        long nanos = batchNanos.sum();
+        return new ReceiptOcrStatsDTO(
+                workers,
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                calls,
+                calls > 0 ? aiNanos.sum() / 1_000_000.0 / calls : 0.0,
+                calls > 0 ? (double) aiBytes.sum() / calls : 0.0,
+                done.sum(),
+                retried.sum(),
+                failed.sum(),
+                batchSize,
+                batchCount,
+                images,
+                batchCount > 0 ? (double) images / batchCount : 0.0,
+                batchCount > 0 ? nanos / 1_000_000.0 / batchCount : 0.0,
+                nanos > 0 ? images / (nanos / 1_000_000_000.0) : 0.0);
+    }
+
+    private void submitInBatches(List<Long> receiptIds) {
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < receiptIds.size(); from += size) {
+            List<Long> chunk = receiptIds.subList(from, Math.min(receiptIds.size(), from + size));
+            if (chunk.size() == 1) {
+                submit(chunk.get(0));
+            } else {
+                submitBatch(chunk);
+            }
+        }
+    }
+
+    private void submitBatch(List<Long> receiptIds) {
+        List<Long> ids = new ArrayList<>(receiptIds.size());
+        for (Long id : receiptIds) {
+            if (queued.add(id)) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    processBatch(ids);
+                } finally {
+                    ids.forEach(queued::remove);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참: PENDING 상태로 남아 있으므로 다음 조회 때 처리
+            ids.forEach(queued::remove);
+            log.debug("[OCR] worker queue full, deferred batch: receiptIds={}", ids);
+        }
+    }
+
+    private void submit(Long receiptId) {
+        if (!queued.add(receiptId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(receiptId);
+                } finally {
+                    queued.remove(receiptId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참: PENDING 상태로 남아 있으므로 다음 조회 때 처리
+            queued.remove(receiptId);
+            log.debug("[OCR] worker queue full, deferred: receiptId={}", receiptId);
+        }
+    }
+
+    void process(Long receiptId) {
+        ReceiptUpload receipt = claim(receiptId);
+        if (receipt == null) {
+            return;
+        }
+
+        int attempt = attemptOf(receipt);
+        Path file = Paths.get(receipt.getFileUrl());
+        long started = System.currentTimeMillis();
+
+        // 같은 이미지를 이미 추출했으면 AI 호출 없이 결과 복제
+        ReceiptExtractionDTO extraction = receiptOcrCache.get(receipt.getFileHash()).orElse(null);
+        if (extraction == null) {
+            long aiStarted = System.nanoTime();
+            try {
+                extraction = receiptAiService.extractReceipt(file, file.getFileName().toString());
+                aiCalls.increment();
+                aiNanos.add(System.nanoTime() - aiStarted);
+                aiBytes.add(sizeOf(file));
+            } catch (Exception e) {
+                fail(receipt, attempt, e);
+                return;
+            }
+            receiptOcrCache.put(receipt.getFileHash(), extraction);
+        }
+        finish(receipt, attempt, extraction, started);
+    }
+
+    /**
+     * 여러 영수증을 점유한 뒤, 캐시에 없는 이미지만 한 번의 배치 요청으로 추출합니다.
+     *
+     * <p>요청 전체가 실패하면 모두 재시도 대상이 되고, 항목별 실패는 해당 영수증만 재시도합니다.
+     * 점유/결과 저장/실패 기록은 항목마다 별도 트랜잭션이라 한 항목의 DB 오류가 다른 항목에 번지지 않습니다.
+     */
+    void processBatch(List<Long> receiptIds) {
+        long started = System.currentTimeMillis();
+        List<ReceiptUpload> pending = new ArrayList<>(receiptIds.size());
+        for (Long receiptId : receiptIds) {
+            ReceiptUpload receipt;
+            try {
+                receipt = claim(receiptId);
+            } catch (Exception e) {
+                // 이 항목만 건너뜀 (점유됐다면 만료 후 다시 처리)
+                log.warn("[OCR] claim failed: receiptId={}, error={}", receiptId, e.getMessage());
+                continue;
+            }
+            if (receipt == null) {
+                continue;
+            }
+            ReceiptExtractionDTO cached = receiptOcrCache.get(receipt.getFileHash()).orElse(null);
+            if (cached != null) {
+                finish(receipt, attemptOf(receipt), cached, started);
+            } else {
+                pending.add(receipt);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Path> files = pending.stream().map(r -> Paths.get(r.getFileUrl())).toList();
+        List<BatchItem> items;
+        long aiStarted = System.nanoTime();
+        try {
+            items = receiptAiService.extractReceipts(files);
+        } catch (Exception e) {
+            pending.forEach(r -> fail(r, attemptOf(r), e));
+            return;
+        }
+        long elapsed = System.nanoTime() - aiStarted;
+        batches.increment();
+        batchImages.add(pending.size());
+        batchNanos.add(elapsed);
+        log.info("[OCR] batch extracted: images={}, {}ms", pending.size(), elapsed / 1_000_000);
+
+        for (int i = 0; i < pending.size(); i++) {
+            ReceiptUpload receipt = pending.get(i);
+            BatchItem item = i < items.size() ? items.get(i) : null;
+            if (item == null || item.extraction() == null) {
+                String error = item != null && item.error() != null ? item.error() : "AI 서비스 응답에 결과가 없습니다.";
+                fail(receipt, attemptOf(receipt), new RuntimeException(error));
+                continue;
+            }
+            receiptOcrCache.put(receipt.getFileHash(), item.extraction());
+            finish(receipt, attemptOf(receipt), item.extraction(), started);
+        }
+    }
+
+    // 작업 점유 후 영수증 로딩 (점유 실패 시 null)
+    private ReceiptUpload claim(Long receiptId) {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(status -> {
+            if (receiptUploadRepository.claimOcr(receiptId, now, now.plusNanos(leaseMs * 1_000_000L)) == 0) {
+                return null; // 다른 워커가 점유했거나, 이미 끝났거나, 삭제됨
+            }
+            ReceiptUpload r = receiptUploadRepository.findById(receiptId).orElse(null);
+            if (r == null) {
+                // 점유만 남기지 않도록 되돌림
+                status.setRollbackOnly();
+                return null;
+            }
+            // 트랜잭션 밖에서 쓰는 연관 값 미리 로딩
+            r.getExpense().getId();
+            r.getUploadedBy().getId();
+            return r;
+        });
+    }
+
+    private void finish(ReceiptUpload receipt, int attempt, ReceiptExtractionDTO result, long started) {
+        try {
+            ReceiptOcrEventDTO event = transactionTemplate.execute(status -> complete(receipt, attempt, result));
+            log.info("[OCR] done: receiptId={}, attempt={}, cached={}, {}ms", receipt.getId(), attempt,
+                    Boolean.TRUE.equals(result.getCached()), System.currentTimeMillis() - started);
+            done.increment();
+            notifyUploader(receipt, event);
+        } catch (Exception e) {
+            fail(receipt, attempt, e);
+        }
+    }
+
+    private static int attemptOf(ReceiptUpload receipt) {
+        return receipt.getOcrAttempts() != null ? receipt.getOcrAttempts() : 1;
+    }
+
+    // 추출 결과 저장 + DONE 처리 (트랜잭션 안)
+    private ReceiptOcrEventDTO complete(ReceiptUpload receipt, int attempt, ReceiptExtractionDTO dto) {
+        Long receiptId = receipt.getId();
+        ReceiptUpload managed = receiptUploadRepository.findById(receiptId).orElse(null);
+        if (managed == null) {
+            return null; // 처리 중에 영수증이 교체/삭제됨
+        }
+
+        ReceiptAiExtraction saved = receiptAiExtractionRepository.findByReceiptId(receiptId).orElse(null);
+        if (saved == null) {
+            saved = receiptAiExtractionRepository.save(ReceiptAiExtraction.builder()
+                    .receipt(managed)
+                    .modelName(dto.getModelName())
+                    .extractedJson(dto.getExtractedJson())
+                    .extractedDate(dto.getExtractedDate())
+                    .extractedAmount(dto.getExtractedAmount())
+                    .extractedMerchant(dto.getExtractedMerchant())
+                    .extractedCategory(dto.getExtractedCategory())
+                    .extractedDescription(dto.getExtractedDescription())
+                    .confidence(dto.getConfidence())
+                    .build());
+        }
+        receiptUploadRepository.updateOcrStatus(receiptId, OcrStatus.DONE, null, null);
+
+        // 가맹점/금액/일자가 같은 다른 영수증이 있으면 중복 의심으로 알림
+        Long duplicateOf = receiptDuplicateService.findSameContent(receiptId,
+                saved.getExtractedMerchant(), saved.getExtractedAmount(), saved.getExtractedDate());
+        if (duplicateOf != null) {
+            log.warn("[OCR] 중복 의심 영수증: receiptId={}, sameContentAs={}", receiptId, duplicateOf);
+        }
+        receiptDuplicateService.registerContent(receiptId,
+                saved.getExtractedMerchant(), saved.getExtractedAmount(), saved.getExtractedDate());
+
+        return new ReceiptOcrEventDTO("RECEIPT_OCR", receiptId, receipt.getExpense().getId(),
+                OcrStatus.DONE.name(), attempt, Boolean.TRUE.equals(dto.getCached()),
+                saved.getExtractedMerchant(), saved.getExtractedAmount(), saved.getExtractedDate(),
+                saved.getExtractedCategory(),
+                duplicateOf, duplicateOf != null ? ReceiptDuplicateService.SAME_CONTENT : null,
+                null);
+    }
+
+    private void fail(ReceiptUpload receipt, int attempt, Exception e) {
+        Long receiptId = receipt.getId();
+        String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        boolean last = attempt >= maxAttempts;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (last) {
+                    receiptUploadRepository.updateOcrStatus(receiptId, OcrStatus.FAILED, null, error);
+                } else {
+                    long delay = backoffDelayMs(attempt, backoffMs, maxBackoffMs);
+                    receiptUploadRepository.updateOcrStatus(receiptId, OcrStatus.PENDING,
+                            LocalDateTime.now().plusNanos(delay * 1_000_000L), error);
+                }
+            });
+        } catch (Exception ex) {
+            // 상태 저장 실패: 점유가 만료되면 다시 처리됨
+            log.error("[OCR] failed to record failure: receiptId={}, error={}", receiptId, ex.getMessage());
+            return;
+        }
+
+        if (last) {
+            failed.increment();
+            log.error("[OCR] giving up: receiptId={}, attempts={}, error={}", receiptId, attempt, error);
+            notifyUploader(receipt, new ReceiptOcrEventDTO("RECEIPT_OCR", receiptId, receipt.getExpense().getId(),
+                    OcrStatus.FAILED.name(), attempt, false, null, null, null, null, null, null, error));
+        } else {
+            retried.increment();
+            log.warn("[OCR] attempt {} failed, will retry: receiptId={}, error={}", attempt, receiptId, error);
+        }
+    }
+
+    private void notifyUploader(ReceiptUpload receipt, ReceiptOcrEventDTO event) {
+        if (event == null || receipt.getUploadedBy() == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(
+                    String.valueOf(receipt.getUploadedBy().getId()),
+                    "/queue/receipts",
+                    event
+            );
+        } catch (Exception e) {
+            log.warn("[OCR] notify failed: receiptId={}, error={}", receipt.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * attempt번째 실패 후 다음 시도까지 대기 시간 (base·2^(attempt-1), 최대 max, ±20% 지터)
+     */
+    static long backoffDelayMs(int attempt, long base, long max) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        long delay = Math.min(max, base << shift);
+        long jitter = delay / 5;
+        if (jitter > 0) {
+            delay += ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+        }
+        return Math.max(0L, Math.min(max, delay));
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (Exception e) {
+            return 0L;
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -1,10 +1,13 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.dto.ReceiptBatchUploadResultDTO;
 import com.Team1_Back.dto.ReceiptDTO;
 import com.Team1_Back.dto.ReceiptExtractionDTO;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 /**
  * 영수증 비즈니스 로직을 처리하는 서비스 인터페이스
  * 
@@ -22,6 +25,19 @@ public interface ReceiptService {
      */
     ReceiptDTO upload(Long expenseId, Long userId, MultipartFile file);
 
+    /**
+     * 영수증 이미지 여러 장을 한 번에 업로드합니다. (월말 일괄 업로드)
+     *
+     * <p>expenseIds와 files는 같은 순서로 짝지어지며, 한 장이 실패해도 나머지는 저장됩니다.
+     * AI 추출은 커밋 후 묶음 단위 배치 요청으로 처리됩니다.
+     *
+     * @param expenseIds 영수증을 첨부할 지출 내역 ID 목록
+     * @param userId 업로드하는 사용자 ID
+     * @param files 업로드할 영수증 이미지 파일 목록
+     * @return 항목별 업로드 결과
+     */
+    ReceiptBatchUploadResultDTO uploadBatch(List<Long> expenseIds, Long userId, List<MultipartFile> files);
+
     /**
      * 특정 영수증을 조회합니다.
      * 
@@ -1,24 +1,37 @@
 package com.Team1_Back.service;
 
-// ✅ 추가: 영수증 OCR 통합 - ReceiptAiService import
-import com.Team1_Back.ai.service.ReceiptAiService;
 import com.Team1_Back.domain.*;
+import com.Team1_Back.dto.ReceiptBatchUploadResultDTO;
 import com.Team1_Back.dto.ReceiptDTO;
 import com.Team1_Back.dto.ReceiptExtractionDTO;
 import com.Team1_Back.repository.*;
 import com.Team1_Back.util.CustomFileUtil;
+import com.Team1_Back.util.ReceiptImageNormalizer;
+import com.Team1_Back.util.ReceiptImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 // ✅ 제거: ModelMapper import (수동 매핑으로 변경)
 // import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -34,21 +47,95 @@ public class ReceiptServiceImpl implements ReceiptService {
     private final CustomFileUtil customFileUtil;
     // ✅ 제거: ModelMapper 필드 (수동 매핑으로 변경)
     // private final ModelMapper modelMapper;
-    // ✅ 추가: 영수증 OCR 통합 - ReceiptAiService 필드 주입
-    private final ReceiptAiService receiptAiService;
+    private final ReceiptOcrService receiptOcrService;
+    private final ReceiptDuplicateService receiptDuplicateService;
+    private final ReceiptImageNormalizer receiptImageNormalizer;
+    private final ReceiptImageVariants receiptImageVariants;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${com.mallapi.receipt.duplicate.block-same-file:true}")
+    private boolean blockSameFile;
+
+    // 정규화 전 원본 이미지 보관 여부 (receipts-original, 저렴한 저장소로 마운트 가능)
+    @Value("${com.mallapi.receipt.image.keep-original:true}")
+    private boolean keepOriginal;
+
+    // 일괄 업로드 한 번에 받을 최대 파일 수
+    @Value("${com.mallapi.receipt.batch.max-files:50}")
+    private int batchMaxFiles;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReceiptDTO upload(Long expenseId, Long userId, MultipartFile file) {
-        Expense expense = expenseRepository.findByIdAndWriterId(expenseId, userId)
+        User user = userRepository.findById(userId)
                 .orElseThrow();
 
-        if (!expense.isDraft()) {
-            throw new IllegalStateException("DRAFT 상태의 지출 내역에만 영수증을 업로드할 수 있습니다.");
+        ReceiptDTO dto = store(expenseId, user, file);
+
+        // AI 추출은 OCR 워커가 처리 (store에서 이미 커밋됨, 완료/실패는 /user/queue/receipts로 알림, 같은 내용 중복 의심도 그때 전달)
+        receiptOcrService.enqueueAfterCommit(dto.getId());
+        return dto;
+    }
+
+    /**
+     * 항목마다 별도 트랜잭션으로 저장합니다. 한 항목의 DB 오류가 다른 항목을 롤백시키지 않고,
+     * 롤백된 항목이 기록한 파일은 지웁니다. (store 참고)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReceiptBatchUploadResultDTO uploadBatch(List<Long> expenseIds, Long userId, List<MultipartFile> files) {
+        if (expenseIds == null || files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        if (expenseIds.size() != files.size()) {
+            throw new IllegalArgumentException("expenseIds와 files의 개수가 같아야 합니다.");
+        }
+        if (files.size() > batchMaxFiles) {
+            throw new IllegalArgumentException("한 번에 최대 " + batchMaxFiles + "장까지 업로드할 수 있습니다.");
         }
 
         User user = userRepository.findById(userId)
                 .orElseThrow();
 
+        List<ReceiptBatchUploadResultDTO.Item> items = new ArrayList<>(files.size());
+        List<Long> receiptIds = new ArrayList<>(files.size());
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < files.size(); i++) {
+            Long expenseId = expenseIds.get(i);
+            try {
+                // 같은 지출에 두 장을 올리면 앞의 영수증이 교체되므로 거절
+                if (!seen.add(expenseId)) {
+                    throw new IllegalArgumentException("같은 지출 내역에 영수증을 두 번 올릴 수 없습니다.");
+                }
+                ReceiptDTO dto = store(expenseId, user, files.get(i));
+                receiptIds.add(dto.getId());
+                items.add(new ReceiptBatchUploadResultDTO.Item(i, expenseId, dto.getId(),
+                        dto.getDuplicateOfReceiptId(), dto.getDuplicateReason(), null));
+            } catch (RuntimeException e) {
+                log.warn("[ReceiptService] 일괄 업로드 항목 실패: index={}, expenseId={}, error={}", i, expenseId, e.getMessage());
+                String error = e instanceof NoSuchElementException
+                        ? "지출 내역을 찾을 수 없습니다."
+                        : e.getMessage();
+                items.add(new ReceiptBatchUploadResultDTO.Item(i, expenseId, null, null, null, error));
+            }
+        }
+
+        // 항목별로 이미 커밋됨 → batch-size장씩 묶어 배치 OCR 요청으로 처리
+        receiptOcrService.enqueueBatchAfterCommit(receiptIds);
+        log.info("[ReceiptService] 일괄 업로드: userId={}, requested={}, accepted={}", userId, files.size(), receiptIds.size());
+        return new ReceiptBatchUploadResultDTO(files.size(), receiptIds.size(), items);
+    }
+
+    /**
+     * 검증 + 파일 저장/정규화 + ReceiptUpload 저장 (OCR 등록은 호출 측에서)
+     *
+     * <p>파일 기록/정규화는 트랜잭션 밖에서 하고, 메타데이터만 짧은 트랜잭션으로 저장합니다.
+     * 저장이 롤백되면 새로 기록한 파일을, 커밋되면 교체된 이전 영수증 파일을 지웁니다.
+     */
+    private ReceiptDTO store(Long expenseId, User user, MultipartFile file) {
+        // 파일을 쓰기 전에 대상 지출 확인 (저장 트랜잭션에서 다시 확인)
+        findDraftExpense(expenseId, user.getId());
+
         // 파일 유효성 검증
         if (file == null || file.isEmpty()) {
             throw new RuntimeException("파일이 비어 있습니다.");
@@ -60,69 +147,84 @@ public class ReceiptServiceImpl implements ReceiptService {
             throw new RuntimeException("파일 크기가 너무 큽니다. 10MB 이하만 업로드 가능합니다.");
         }
 
-        // 파일 저장
-        String fileUrl = customFileUtil.saveFile(file, "receipts");
-
-        // 파일 해시 생성 (중복 확인용)
-        String fileHash = customFileUtil.generateFileHash(file);
+        // 파일 저장 + 해시 생성 (한 번 읽으며 디스크 기록과 SHA-256 계산을 같이 처리, 해시는 원본 기준)
+        CustomFileUtil.StoredFile stored = customFileUtil.saveFileWithHash(file, "receipts");
+        String fileHash = stored.sha256();
 
-        // ✅ 테스트 중: 중복 업로드 방지 로직 임시 비활성화
-        // 중복 업로드 방지: 동일 해시가 이미 존재하면 예외
-        // if (fileHash != null && receiptUploadRepository.findByFileHash(fileHash).isPresent()) {
-        //     throw new RuntimeException("이미 업로드된 영수증입니다. 같은 영수증을 중복 업로드할 수 없습니다.");
-        // }
-
-        // 기존 영수증이 있으면 삭제
-        receiptUploadRepository.findByExpenseId(expenseId).ifPresent(receiptUploadRepository::delete);
-
-        // ReceiptUpload 저장
-        ReceiptUpload receiptUpload = ReceiptUpload.builder()
-                .expense(expense)
-                .uploadedBy(user)
-                .fileUrl(fileUrl)
-                .fileHash(fileHash)
-                .mimeType(file.getContentType())
-                .build();
+        // 중복 업로드 방지: 다른 지출에 같은 파일이 있으면 저장한 파일을 지우고 예외 (블룸 필터 음성이면 DB 조회 없음)
+        Long sameFileReceiptId = receiptDuplicateService.findSameFile(fileHash, expenseId);
+        if (sameFileReceiptId != null && blockSameFile) {
+            customFileUtil.deleteFile(Paths.get(stored.path()));
+            throw new RuntimeException("이미 업로드된 영수증입니다. 같은 영수증을 중복 업로드할 수 없습니다.");
+        }
 
-        ReceiptUpload saved = receiptUploadRepository.save(receiptUpload);
+        // 이미지 정규화 (EXIF 회전, 축소, 재압축) - 정규화한 이미지를 저장/OCR에 사용하고 원본은 보관 또는 삭제
+        String fileUrl = stored.path();
+        String originalUrl = null;
+        String mimeType = file.getContentType();
+        ReceiptImageNormalizer.Result normalized = normalizeImage(Paths.get(stored.path()));
+        if (normalized.normalized()) {
+            fileUrl = normalized.path().toString();
+            mimeType = normalized.mimeType();
+            if (keepOriginal) {
+                originalUrl = customFileUtil.moveFile(Paths.get(stored.path()), "receipts-original");
+            } else {
+                customFileUtil.deleteFile(Paths.get(stored.path()));
+            }
+        }
 
-        // ✅ 수정: 영수증 OCR 통합 - TODO 주석을 OCR 호출 로직으로 교체
-        // AI 추출 작업 실행 (Python AI 서비스 호출)
+        String newFileUrl = fileUrl;
+        String newOriginalUrl = originalUrl;
+        String newMimeType = mimeType;
         try {
-            log.info("[ReceiptService] 영수증 AI 추출 시작: receiptId={}, filename={}",
-                    saved.getId(), file.getOriginalFilename());
-            ReceiptExtractionDTO extractionDTO = receiptAiService.extractReceipt(file);
-
-            log.info("[ReceiptService] AI 추출 결과 받음: merchant={}, amount={}, date={}, category={}",
-                    extractionDTO.getExtractedMerchant(),
-                    extractionDTO.getExtractedAmount(),
-                    extractionDTO.getExtractedDate(),
-                    extractionDTO.getExtractedCategory());
-
-            // ReceiptAiExtraction 엔티티 생성 및 저장
-            ReceiptAiExtraction aiExtraction = ReceiptAiExtraction.builder()
-                    .receipt(saved)
-                    .modelName(extractionDTO.getModelName())
-                    .extractedJson(extractionDTO.getExtractedJson())
-                    .extractedDate(extractionDTO.getExtractedDate())
-                    .extractedAmount(extractionDTO.getExtractedAmount())
-                    .extractedMerchant(extractionDTO.getExtractedMerchant())
-                    .extractedCategory(extractionDTO.getExtractedCategory())
-                    .extractedDescription(extractionDTO.getExtractedDescription())
-                    .confidence(extractionDTO.getConfidence())
-                    .build();
-
-            receiptAiExtractionRepository.save(aiExtraction);
-            log.info("[ReceiptService] 영수증 AI 추출 완료 및 DB 저장: receiptId={}, extractionId={}",
-                    saved.getId(), aiExtraction.getId());
-
-        } catch (Exception e) {
-            log.error("[ReceiptService] 영수증 AI 추출 실패: receiptId={}, error={}, stackTrace={}",
-                    saved.getId(), e.getMessage(), e);
-            // AI 추출 실패해도 영수증 업로드는 성공으로 처리 (사용자가 나중에 수동으로 재시도 가능)
+            return transactionTemplate.execute(status -> {
+                Expense expense = findDraftExpense(expenseId, user.getId());
+
+                // 기존 영수증이 있으면 삭제 (파일은 커밋 후 삭제)
+                receiptUploadRepository.findByExpenseId(expenseId).ifPresent(previous -> {
+                    deleteAfterCommit(previous.getFileUrl(), previous.getOriginalUrl());
+                    receiptUploadRepository.delete(previous);
+                });
+
+                // ReceiptUpload 저장
+                ReceiptUpload receiptUpload = ReceiptUpload.builder()
+                        .expense(expense)
+                        .uploadedBy(user)
+                        .fileUrl(newFileUrl)
+                        .originalUrl(newOriginalUrl)
+                        .fileHash(fileHash)
+                        .mimeType(newMimeType)
+                        .ocrStatus(OcrStatus.PENDING)
+                        .ocrAttempts(0)
+                        .ocrNextAttemptAt(LocalDateTime.now())
+                        .build();
+
+                ReceiptUpload saved = receiptUploadRepository.save(receiptUpload);
+                receiptDuplicateService.registerFile(fileHash);
+
+                ReceiptDTO dto = entityToDTO(saved);
+                if (sameFileReceiptId != null) {
+                    dto.setDuplicateOfReceiptId(sameFileReceiptId);
+                    dto.setDuplicateReason(ReceiptDuplicateService.SAME_FILE);
+                }
+                return dto;
+            });
+        } catch (RuntimeException e) {
+            // 롤백됨 → 방금 기록한 파일 정리
+            deleteQuietly(newFileUrl);
+            deleteQuietly(newOriginalUrl);
+            throw e;
         }
+    }
 
-        return entityToDTO(saved);
+    // 본인의 DRAFT 지출 (없으면 NoSuchElementException)
+    private Expense findDraftExpense(Long expenseId, Long userId) {
+        Expense expense = expenseRepository.findByIdAndWriterId(expenseId, userId)
+                .orElseThrow();
+        if (!expense.isDraft()) {
+            throw new IllegalStateException("DRAFT 상태의 지출 내역에만 영수증을 업로드할 수 있습니다.");
+        }
+        return expense;
     }
 
     @Override
@@ -179,6 +281,7 @@ public class ReceiptServiceImpl implements ReceiptService {
                 .confidence(extraction.getConfidence())
                 .extractedJson(extraction.getExtractedJson())
                 .createdAt(extraction.getCreatedAt())
+                .cached(extraction.getModelName() != null && extraction.getModelName().endsWith(ReceiptOcrCache.CACHED_SUFFIX))
                 .build();
     }
 
@@ -197,14 +300,51 @@ public class ReceiptServiceImpl implements ReceiptService {
             throw new IllegalStateException("DRAFT 상태의 지출 내역에만 영수증을 삭제할 수 있습니다.");
         }
 
-        // 파일 삭제
+        // 파일 삭제 (보관한 원본, 관리자 검토용 사본 포함)
         Path filePath = Paths.get(receiptUpload.getFileUrl());
         customFileUtil.deleteFile(filePath);
+        receiptImageVariants.deleteVariants(receiptUpload.getFileUrl());
+        if (receiptUpload.getOriginalUrl() != null) {
+            customFileUtil.deleteFile(Paths.get(receiptUpload.getOriginalUrl()));
+        }
 
         // ReceiptUpload 삭제 (CASCADE로 ReceiptAiExtraction도 함께 삭제됨)
         receiptUploadRepository.delete(receiptUpload);
     }
 
+    // 현재 트랜잭션이 커밋되면 교체된 영수증 파일(관리자 검토용 사본 포함) 삭제
+    private void deleteAfterCommit(String fileUrl, String originalUrl) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteQuietly(fileUrl);
+                deleteQuietly(originalUrl);
+                receiptImageVariants.deleteVariants(fileUrl);
+            }
+        });
+    }
+
+    private void deleteQuietly(String path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            customFileUtil.deleteFile(Paths.get(path));
+        } catch (RuntimeException e) {
+            log.warn("[ReceiptService] 영수증 파일 삭제 실패: {}", path);
+        }
+    }
+
+    // 저장된 원본을 정규화해 receipts/ 아래 새 JPEG로 기록
+    private ReceiptImageNormalizer.Result normalizeImage(Path original) {
+        try {
+            return receiptImageNormalizer.normalize(original, customFileUtil.newFilePath("receipts", ".jpg"));
+        } catch (IOException e) {
+            log.warn("[ReceiptService] 이미지 정규화 경로 생성 실패, 원본 사용: {}", e.getMessage());
+            return ReceiptImageNormalizer.Result.unchanged();
+        }
+    }
+
     /**
      * ReceiptUpload 엔티티를 ReceiptDTO로 변환합니다 (수동 매핑 방식).
      *
@@ -220,6 +360,8 @@ public class ReceiptServiceImpl implements ReceiptService {
                 .fileUrl(entity.getFileUrl())
                 .fileHash(entity.getFileHash())
                 .mimeType(entity.getMimeType())
+                .ocrStatus(entity.getOcrStatus() != null ? entity.getOcrStatus().name() : null)
+                .ocrError(entity.getOcrLastError())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
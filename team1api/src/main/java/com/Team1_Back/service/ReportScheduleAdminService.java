@@ -1,6 +1,7 @@
 package com.Team1_Back.service;
 
 import com.Team1_Back.constants.ReportTypes;
+import com.Team1_Back.datasource.AnalyticalQuery;
 import com.Team1_Back.dto.ReportGenerateRequestDTO;
 import com.Team1_Back.dto.ReportScheduleCreateRequestDTO;
 import com.Team1_Back.dto.ReportScheduleResponseDTO;
@@ -129,6 +130,7 @@ public class ReportScheduleAdminService {
 
     // ✅ RUN NOW (즉시 1회 실행 + nextRunAt은 cron 기준으로 재설정)
     @Transactional
+    @AnalyticalQuery
     public ReportScheduleResponseDTO runNow(Long id) {
 
         ReportSchedule s = repo.findById(id)
@@ -1,11 +1,14 @@
 package com.Team1_Back.service;
 
+import com.Team1_Back.datasource.AnalyticalQuery;
 import com.Team1_Back.domain.Expense;
 import com.Team1_Back.dto.*;
 import com.Team1_Back.constants.ReportTypes;
 import com.Team1_Back.domain.ReportDownloadLog;
 import com.Team1_Back.domain.ReportFile;
 import com.Team1_Back.report.entity.ReportJob;
+import com.Team1_Back.report.listener.ReportDownloadEvent;
+import com.Team1_Back.report.storage.ReportStorageManager;
 import com.Team1_Back.domain.enums.DataScope;
 import com.Team1_Back.domain.enums.OutputFormat;
 import com.Team1_Back.domain.enums.ReportStatus;
@@ -17,12 +20,12 @@ import com.Team1_Back.security.ReportPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.InputStream;
@@ -31,9 +34,20 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -51,13 +65,17 @@ public class ReportService {
     private final ReportDownloadLogRepository reportDownloadLogRepository;
     private final ReportScheduleRepository reportScheduleRepository;
 
-    private void insertDownloadLog(ReportFile rf, Long userId) {
-        ReportDownloadLog log = new ReportDownloadLog();
-        log.setReportFile(rf);
-        log.setReportJob(rf.getReportJob());
-        log.setDownloadedBy(userId);
-        log.setDownloadedAt(LocalDateTime.now());
-        reportDownloadLogRepository.saveAndFlush(log);
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReportStorageManager reportStorageManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 다운로드 로그 기록 (비동기)
+     * - 실제 INSERT는 ReportDownloadLogListener가 별도 스레드에서 처리 → 파일 전송을 막지 않음
+     */
+    public void recordDownload(DownloadResult r, Long userId) {
+        if (r == null || userId == null) return;
+        eventPublisher.publishEvent(new ReportDownloadEvent(r.fileId(), r.reportJobId(), userId));
     }
 
 
@@ -68,9 +86,16 @@ public class ReportService {
     @Value("${com.mallapi.report.storage-path:report-storage}")
     private String storagePath;
 
+    /**
+     * 부서별 일괄 생성 시 동시 렌더링 스레드 수
+     */
+    @Value("${com.mallapi.report.batch.parallelism:4}")
+    private int batchParallelism;
+
     // =========================
     // Public APIs
     // =========================
+    @AnalyticalQuery
     public ReportGenerateResult generate(ReportPrincipal principal, ReportGenerateRequestDTO req) {
 
         if (principal == null) {
@@ -85,6 +110,7 @@ public class ReportService {
         );
     }
 
+    @AnalyticalQuery
     public ReportGenerateResult generateInternal(ReportGenerateRequestDTO req) {
         // SYSTEM 실행 가정
         Long systemUserId = 0L;
@@ -206,12 +232,7 @@ public class ReportService {
         // -------------------------
         // 7) 파일 경로
         // -------------------------
-        Path dir = Paths.get(
-                storagePath,
-                String.valueOf(LocalDate.now().getYear()),
-                String.valueOf(LocalDate.now().getMonthValue()),
-                String.valueOf(reportId)
-        );
+        Path dir = jobDirectory(reportId);
 
         try {
             Files.createDirectories(dir);
@@ -245,11 +266,11 @@ public class ReportService {
                 case ALL -> reportQueryRepository.approvedSumAll(startDate, endDate);
                 case MY  -> reportQueryRepository.approvedSumByUser(saved.getRequestedBy(), startDate, endDate);
                 case DEPT -> {
-                    String dept = saved.getDepartmentSnapshot();
-                    if (dept == null || dept.isBlank()) {
+                    String dept = departmentKey(saved.getDepartmentSnapshot());
+                    if (dept.isEmpty()) {
                         throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Department is required for DEPT scope");
                     }
-                    yield reportQueryRepository.approvedSumByDept(dept.trim(), startDate, endDate);
+                    yield reportQueryRepository.approvedSumByDept(dept, startDate, endDate);
                 }
             };
 
@@ -279,7 +300,10 @@ public class ReportService {
         // -------------------------
         try {
             if (expectedFormat == OutputFormat.PDF) {
-                pdfGen.generate(outputFile, freshJob);
+                // 상세 원장이 있는 PDF는 커서 스트림으로 행을 흘려보냄 (메모리 상한 유지)
+                try (Stream<ExpenseLedgerRowDTO> rows = openLedgerStream(freshJob)) {
+                    pdfGen.generate(outputFile, freshJob, rows);
+                }
             } else {
                 excelGen.generate(outputFile, freshJob);
             }
@@ -311,7 +335,7 @@ public class ReportService {
 
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     public DownloadResult download(ReportPrincipal principal, Long reportId) {
         if (principal == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
@@ -333,14 +357,7 @@ public class ReportService {
             ReportFile rf = reportFileRepository.findTopByReportJob_IdOrderByIdDesc(reportId)
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Report file not found"));
 
-            Path file = Paths.get(rf.getFileUrl());
-            Resource resource = new UrlResource(file.toUri());
-            if (!resource.exists()) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File missing");
-
-
-            insertDownloadLog(rf, principal.userId());
-            reportDownloadLogRepository.flush();
-            return new DownloadResult(resource, rf.getFileName(), job.getOutputFormat());
+            return toDownloadResult(rf, job);
 
         } catch (ResponseStatusException e) {
             throw e;
@@ -387,6 +404,20 @@ public class ReportService {
         }
     }
 
+    private DownloadResult toDownloadResult(ReportFile rf, ReportJob job) {
+        // 디스크 확인만 (GZIP 티어는 컨트롤러가 트랜잭션 밖에서 풀면서 전송)
+        ReportStorageManager.ReadableFile file = reportStorageManager.resolveReadable(rf);
+
+        return new DownloadResult(
+                file,
+                rf.getFileName(),
+                job.getOutputFormat(),
+                rf.getChecksum(),
+                rf.getId(),
+                job.getId()
+        );
+    }
+
     private ReportFile saveOrReuseReportFile(
             ReportJob job,
             String fileName,
@@ -403,13 +434,54 @@ public class ReportService {
         rf.setFileSize(size);
         rf.setChecksum(checksum);
 
-        try {
-            return reportFileRepository.save(rf);
-        } catch (DataIntegrityViolationException e) {
-            // checksum UNIQUE 충돌 → 기존 파일 재사용
-            return reportFileRepository.findByChecksum(checksum)
-                    .orElseThrow(() -> new IllegalStateException("checksum duplicate but existing ReportFile not found"));
-        }
+        // 같은 작업에 같은 내용의 파일이 이미 있으면 INSERT 없이 재사용 (재생성)
+        // 다른 작업의 파일은 재사용하지 않음 → 내용이 같은 부서끼리 행을 공유하면 일괄 ZIP에서 항목이 빠짐
+        Optional<ReportFile> existing = reportFileRepository.findByReportJob_IdAndChecksum(job.getId(), checksum);
+        if (existing.isPresent()) return existing.get();
+
+        return reportFileRepository.save(rf);
+    }
+
+    /**
+     * 상세 원장 표가 들어가는 PDF 타입이면 기간/스코프에 맞는 행 스트림을 엽니다. (아니면 null)
+     */
+    private Stream<ExpenseLedgerRowDTO> openLedgerStream(ReportJob job) {
+        LocalDate start = job.getPeriodStart();
+        LocalDate end = job.getPeriodEnd();
+        if (!hasLedger(job.getReportTypeId()) || start == null || end == null || job.getDataScope() == null) return null;
+
+        return switch (job.getDataScope()) {
+            case ALL -> expenseRepository.streamLedgerByDateRange(start, end);
+            case MY -> expenseRepository.streamLedgerByUserId(job.getRequestedBy(), start, end);
+            case DEPT -> {
+                String dept = departmentKey(job.getDepartmentSnapshot());
+                yield dept.isEmpty() ? null : expenseRepository.streamLedgerByDepartment(dept, start, end);
+            }
+        };
+    }
+
+    /**
+     * 부서 조건 비교값 (users.department_name은 저장 시 trim되므로, 요약 집계와 상세 원장 모두 이 값으로 그대로 비교)
+     */
+    private static String departmentKey(String departmentName) {
+        return departmentName == null ? "" : departmentName.trim();
+    }
+
+    private boolean hasLedger(String reportTypeId) {
+        return ReportTypes.DEPT_SUMMARY_PDF.equals(reportTypeId)
+                || ReportTypes.PERSONAL_SUMMARY_PDF.equals(reportTypeId);
+    }
+
+    /**
+     * 작업별 저장 디렉터리 (storagePath/yyyy/M/{reportId})
+     */
+    private Path jobDirectory(Long reportId) {
+        return Paths.get(
+                storagePath,
+                String.valueOf(LocalDate.now().getYear()),
+                String.valueOf(LocalDate.now().getMonthValue()),
+                String.valueOf(reportId)
+        );
     }
 
     private String buildFileName(String period, String reportTypeId, String ext) {
@@ -483,7 +555,7 @@ public class ReportService {
         return null;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public DownloadResult downloadFileById(ReportPrincipal principal, Long fileId) {
         if (principal == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
 
@@ -501,14 +573,7 @@ public class ReportService {
         }
 
         try {
-            Path file = Paths.get(rf.getFileUrl()); // 지금은 로컬 경로
-            Resource resource = new UrlResource(file.toUri());
-            if (!resource.exists()) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File missing");
-
-
-            insertDownloadLog(rf, principal.userId()); // saveAndFlush로 되어 있어야 함
-
-            return new DownloadResult(resource, rf.getFileName(), job.getOutputFormat());
+            return toDownloadResult(rf, job);
         } catch (ResponseStatusException e) {
             throw e;
         } catch (Exception e) {
@@ -594,10 +659,239 @@ public class ReportService {
 
 
 
+    // =========================
+    // Batch (부서별 일괄 생성)
+    // =========================
+
+    /**
+     * 모든(또는 지정) 부서에 대해 같은 기간/타입의 리포트를 한 번에 생성합니다.
+     *
+     * <p>기간 내 승인 지출을 한 번만 스캔해 부서별로 묶고, 부서별 파일은 병렬로 렌더링합니다.
+     * 각 부서는 별도 ReportJob/ReportFile로 등록되며 같은 batchId를 가집니다.
+     * (파일 생성은 워커 스레드에서, 결과 반영은 부서마다 별도 트랜잭션에서 처리하므로
+     * 한 부서의 DB 오류가 배치 전체를 롤백시키지 않습니다.)
+     */
+    @AnalyticalQuery
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReportBatchResponseDTO generateBatch(ReportPrincipal principal, ReportBatchRequestDTO req) {
+        assertAdmin(principal);
+        if (req == null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid request");
+
+        ReportTypes.TypeDef type = ReportTypes.find(req.getReportTypeId());
+        if (type == null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid reportTypeId");
+
+        OutputFormat format = parseFormat(type.format());
+
+        String period = req.getPeriod() == null ? null : req.getPeriod().trim();
+        LocalDate[] range = toMonthRangeOrNull(period);
+        if (range == null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch requires period (YYYY-MM)");
+
+        // 1) 기간 승인 지출 1회 스캔 → 부서별 그룹
+        Map<String, List<ExpenseLedgerRowDTO>> rowsByDept = new HashMap<>();
+        Set<String> departments = new TreeSet<>();
+        readOnly().executeWithoutResult(status -> {
+            try (Stream<ExpenseLedgerRowDTO> rows = expenseRepository.streamLedgerByDateRange(range[0], range[1])) {
+                rows.forEach(r -> {
+                    String dept = departmentKey(r.departmentName());
+                    if (!dept.isEmpty()) rowsByDept.computeIfAbsent(dept, k -> new ArrayList<>()).add(r);
+                });
+            }
+
+            // 2) 대상 부서 (지정 없으면 전체 부서 + 지출이 있는 부서)
+            if (req.getDepartments() == null || req.getDepartments().isEmpty()) {
+                reportJobRepository.findDistinctDepartmentNames().forEach(d -> departments.add(d.trim()));
+                departments.addAll(rowsByDept.keySet());
+            } else {
+                req.getDepartments().stream()
+                        .filter(d -> d != null && !d.isBlank())
+                        .forEach(d -> departments.add(d.trim()));
+            }
+        });
+        if (departments.isEmpty()) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No departments");
+
+        // 3) 부서별 job 등록 (집계는 스캔 결과로 계산 → 부서별 집계 쿼리 없음)
+        String batchId = UUID.randomUUID().toString();
+        List<ReportJob> jobs = new ArrayList<>();
+        for (String dept : departments) {
+            List<ExpenseLedgerRowDTO> rows = rowsByDept.getOrDefault(dept, List.of());
+
+            ReportJob job = new ReportJob();
+            job.setRequestedBy(principal.userId());
+            job.setRoleSnapshot(principal.role());
+            job.setReportTypeId(type.id());
+            job.setPeriod(period);
+            job.setPeriodStart(range[0]);
+            job.setPeriodEnd(range[1]);
+            job.setDataScope(DataScope.DEPT);
+            job.setDepartmentSnapshot(dept);
+            job.setCategoryJson("[]");
+            job.setOutputFormat(format);
+            job.setStatus(ReportStatus.GENERATING);
+            job.setBatchId(batchId);
+            job.setApprovedCount(rows.size());
+            job.setApprovedTotal(rows.stream().mapToLong(r -> r.amount() == null ? 0L : r.amount()).sum());
+            jobs.add(job);
+        }
+        transactionTemplate.executeWithoutResult(status -> reportJobRepository.saveAllAndFlush(jobs));
+
+        // 4) 병렬 렌더링
+        Map<Long, Future<RenderedFile>> futures = new HashMap<>();
+        int threads = Math.max(1, Math.min(batchParallelism, jobs.size()));
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (ReportJob job : jobs) {
+                List<ExpenseLedgerRowDTO> rows = rowsByDept.getOrDefault(job.getDepartmentSnapshot(), List.of());
+                futures.put(job.getId(), pool.submit(() -> renderBatchFile(job, format, rows)));
+            }
+        } // close()는 모든 작업 완료까지 대기
+
+        // 5) 결과 반영 (부서별 트랜잭션)
+        List<ReportBatchItemDTO> items = new ArrayList<>();
+        for (ReportJob job : jobs) {
+            try {
+                RenderedFile f = futures.get(job.getId()).get();
+                completeBatchJob(job, f, format);
+            } catch (Exception e) {
+                Throwable cause = (e instanceof ExecutionException && e.getCause() != null) ? e.getCause() : e;
+                log.warn("[BATCH] department failed - batchId={}, dept={}, error={}",
+                        batchId, job.getDepartmentSnapshot(), cause.getMessage());
+                if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+                failBatchJob(job, cause.getMessage());
+            }
+            items.add(toBatchItem(job));
+        }
+
+        log.info("[BATCH] batchId={}, type={}, period={}, departments={}, scannedRows={}",
+                batchId, type.id(), period, jobs.size(),
+                rowsByDept.values().stream().mapToInt(List::size).sum());
+
+        return new ReportBatchResponseDTO(batchId, type.id(), period, items);
+    }
+
+    /**
+     * 부서 하나의 파일 등록 + READY 전환 (별도 트랜잭션)
+     *
+     * <p>파일 행은 부서(작업)마다 따로 만듭니다. 다른 부서와 내용이 같아도 공유하지 않습니다.
+     */
+    private void completeBatchJob(ReportJob job, RenderedFile f, OutputFormat format) {
+        ReportFile rf = transactionTemplate.execute(status -> {
+            ReportJob managed = reportJobRepository.findById(job.getId())
+                    .orElseThrow(() -> new IllegalStateException("ReportJob not found: " + job.getId()));
+            ReportFile saved = saveOrReuseReportFile(managed, f.fileName(), f.path(), format, f.size(), f.checksum());
+
+            managed.setStatus(ReportStatus.READY);
+            managed.setFileName(saved.getFileName());
+            managed.setFilePath(f.path().toString());
+            managed.setErrorMessage(null);
+            return saved;
+        });
+
+        job.setStatus(ReportStatus.READY);
+        job.setFileName(rf.getFileName());
+        job.setFilePath(f.path().toString());
+        job.setErrorMessage(null);
+    }
+
+    private void failBatchJob(ReportJob job, String message) {
+        job.setStatus(ReportStatus.FAILED);
+        job.setErrorMessage(message);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    reportJobRepository.findById(job.getId()).ifPresent(managed -> {
+                        managed.setStatus(ReportStatus.FAILED);
+                        managed.setErrorMessage(message);
+                    }));
+        } catch (Exception e) {
+            // 상태 기록까지 실패하면 GENERATING으로 남음 (다른 부서 결과에는 영향 없음)
+            log.error("[BATCH] failed to mark job FAILED - jobId={}, error={}", job.getId(), e.getMessage());
+        }
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setReadOnly(true);
+        return template;
+    }
+
+    @Transactional(readOnly = true)
+    public ReportBatchResponseDTO getBatch(ReportPrincipal principal, String batchId) {
+        assertAdmin(principal);
+
+        List<ReportJob> jobs = reportJobRepository.findByBatchIdOrderByDepartmentSnapshotAsc(batchId);
+        if (jobs.isEmpty()) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Batch not found");
+
+        ReportJob first = jobs.get(0);
+        return new ReportBatchResponseDTO(batchId, first.getReportTypeId(), first.getPeriod(),
+                jobs.stream().map(this::toBatchItem).toList());
+    }
+
+    /**
+     * 배치에 속한 READY 파일 목록 (ZIP 번들 다운로드용)
+     */
+    @Transactional(readOnly = true)
+    public List<DownloadResult> batchFiles(ReportPrincipal principal, String batchId) {
+        assertAdmin(principal);
+
+        List<ReportJob> jobs = reportJobRepository.findByBatchIdOrderByDepartmentSnapshotAsc(batchId);
+        if (jobs.isEmpty()) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Batch not found");
+
+        List<DownloadResult> results = new ArrayList<>();
+        for (ReportJob job : jobs) {
+            if (job.getStatus() != ReportStatus.READY) continue;
+            reportFileRepository.findTopByReportJob_IdOrderByIdDesc(job.getId())
+                    .ifPresent(rf -> results.add(toDownloadResult(rf, job)));
+        }
+        if (results.isEmpty()) throw new ResponseStatusException(HttpStatus.CONFLICT, "No ready files in batch");
+        return results;
+    }
+
+    private RenderedFile renderBatchFile(ReportJob job, OutputFormat format, List<ExpenseLedgerRowDTO> rows) throws Exception {
+        Path dir = jobDirectory(job.getId());
+        Files.createDirectories(dir);
+
+        String ext = (format == OutputFormat.PDF) ? "pdf" : "xlsx";
+        String fileName = buildFileName(job.getPeriod(),
+                job.getReportTypeId() + "_" + safeFileToken(job.getDepartmentSnapshot()), ext);
+        Path outputFile = dir.resolve(fileName);
+
+        if (format == OutputFormat.PDF) {
+            pdfGen.generate(outputFile, job, hasLedger(job.getReportTypeId()) ? rows.stream() : null);
+        } else {
+            excelGen.generate(outputFile, job);
+        }
+
+        return new RenderedFile(outputFile, fileName, Files.size(outputFile), sha256Hex(outputFile));
+    }
+
+    private ReportBatchItemDTO toBatchItem(ReportJob job) {
+        return new ReportBatchItemDTO(
+                job.getId(),
+                job.getDepartmentSnapshot(),
+                job.getStatus() == null ? null : job.getStatus().name(),
+                job.getFileName(),
+                job.getApprovedCount(),
+                job.getApprovedTotal()
+        );
+    }
+
+    // 파일명에 쓸 수 없는 문자 치환 (부서명 → 파일명 토큰)
+    private String safeFileToken(String s) {
+        if (s == null || s.isBlank()) return "NA";
+        return s.trim().replaceAll("[\\\\/:*?\"<>|\\s]+", "_");
+    }
+
+    private record RenderedFile(Path path, String fileName, long size, String checksum) {}
+
     // =========================
     // Results
     // =========================
 
     public record ReportGenerateResult(Long reportId, String status, String fileName) {}
-    public record DownloadResult(Resource resource, String fileName, OutputFormat format) {}
+    public record DownloadResult(
+            ReportStorageManager.ReadableFile file,
+            String fileName,
+            OutputFormat format,
+            String checksum,   // SHA-256 → 강한 ETag
+            Long fileId,
+            Long reportJobId
+    ) {}
 }
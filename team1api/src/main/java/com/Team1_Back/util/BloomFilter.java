@@ -0,0 +1,121 @@
+package com.Team1_Back.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열용 블룸 필터 (삭제 불가, 스레드 안전)
+ *
+ * <p>{@link #mightContain}이 false면 넣은 적이 없는 값이 확실하고,
+ * true면 오탐일 수 있으므로 호출 측에서 원본(DB)으로 확인해야 합니다.
+ * 비트 배열은 {@link AtomicLongArray}라 잠금 없이 동시에 넣고 조회할 수 있습니다.
+ *
+ * @author Team1
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final LongAdder insertions = new LongAdder();
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  예상 원소 수만큼 넣었을 때의 목표 오탐률 (0~1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        // m = -n·ln(p) / (ln2)², k = m/n·ln2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) >>> 6));
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public void put(String value) {
+        long[] h = hash(value);
+        long h1 = h[0];
+        long h2 = h[1];
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(String value) {
+        long[] h = hash(value);
+        long h1 = h[0];
+        long h2 = h[1];
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitSize);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 계산한 이론상 오탐률 ((채워진 비트 / 전체)^k)
+     */
+    public double expectedFalsePositiveRate() {
+        long set = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            set += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) set / bitSize, hashCount);
+    }
+
+    /** put 호출 횟수 (중복 포함) */
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // 한 번 훑어 서로 다른 두 64비트 해시를 만들어 이중 해싱(h1 + i·h2)에 사용 (h2는 홀수)
+    private static long[] hash(String value) {
+        long a = 0x9E3779B97F4A7C15L ^ value.length();
+        long b = 0xC2B2AE3D27D4EB4FL;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            a = (a ^ c) * 0x100000001B3L;
+            b = Long.rotateLeft(b ^ c, 31) * 0x9E3779B97F4A7C15L;
+        }
+        return new long[]{mix(a), mix(b ^ a) | 1L};
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
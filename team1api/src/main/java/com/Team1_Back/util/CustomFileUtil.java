@@ -14,12 +14,19 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +34,9 @@ import java.util.UUID;
 @Slf4j
 public class CustomFileUtil {
 
+    // 해시 + 저장 시 복사 버퍼 크기 (파일 크기와 무관하게 이만큼만 힙 사용)
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     //    @Value("${file.upload.dir:./uploads}")
     @Value("${com.team1.upload.path}") // application.properties 확인 필요
     private String uploadDir;
@@ -57,20 +67,8 @@ public class CustomFileUtil {
         }
 
         try {
-            // 업로드 디렉토리 생성
-            Path uploadPath = Paths.get(uploadDir, subPath);
-            Files.createDirectories(uploadPath);
-
-            // 파일명 생성 (UUID + 원본 파일명)
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String savedFilename = UUID.randomUUID().toString() + extension;
-
             // 파일 저장
-            Path filePath = uploadPath.resolve(savedFilename);
+            Path filePath = newFilePath(file, subPath);
             Files.copy(file.getInputStream(), filePath);
 
             // 절대 경로 반환 (Paths.get()으로 사용할 수 있도록)
@@ -82,6 +80,107 @@ public class CustomFileUtil {
         }
     }
 
+    /**
+     * 파일을 저장하면서 SHA-256 해시를 함께 계산합니다.
+     *
+     * <p>업로드 스트림을 고정 크기 버퍼로 한 번만 읽어 해시에 넣고 그대로 디스크에 씁니다.
+     * 파일 전체를 힙에 올리지 않으므로 파일 크기와 무관하게 버퍼 크기만큼만 메모리를 씁니다.
+     *
+     * @param file    저장할 파일
+     * @param subPath 하위 디렉토리 (예: "receipts")
+     * @return 저장된 파일의 절대 경로, SHA-256 해시(64자리 hex), 크기
+     */
+    public StoredFile saveFileWithHash(MultipartFile file, String subPath) {
+        if (file.isEmpty()) {
+            throw new RuntimeException("파일이 비어있습니다.");
+        }
+
+        Path filePath = null;
+        try {
+            filePath = newFilePath(file, subPath);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+
+            try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+                 FileChannel out = FileChannel.open(filePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    size += buffer.remaining();
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+
+            return new StoredFile(filePath.toAbsolutePath().toString(), HexFormat.of().formatHex(digest.digest()), size);
+
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("파일 저장 실패: {}", e.getMessage());
+            if (filePath != null) {
+                try {
+                    Files.deleteIfExists(filePath);
+                } catch (IOException ignored) {
+                    // 원래 예외를 전달
+                }
+            }
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * {@link #saveFileWithHash} 결과
+     *
+     * @param path   저장된 파일의 절대 경로
+     * @param sha256 SHA-256 해시 (64자리 hex)
+     * @param size   저장된 바이트 수
+     */
+    public record StoredFile(String path, String sha256, long size) {
+    }
+
+    // 업로드 디렉토리/하위 디렉토리를 만들고 새 파일 경로 생성 (UUID + 원본 확장자)
+    private Path newFilePath(MultipartFile file, String subPath) throws IOException {
+        String originalFilename = file.getOriginalFilename();
+        String extension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        return newFilePath(subPath, extension);
+    }
+
+    /**
+     * 하위 디렉토리에 새 파일 경로를 만듭니다. (UUID + 확장자, 디렉토리 없으면 생성)
+     *
+     * @param subPath   하위 디렉토리 (예: "receipts")
+     * @param extension 확장자 (예: ".jpg")
+     * @return 아직 존재하지 않는 파일의 절대 경로
+     */
+    public Path newFilePath(String subPath, String extension) throws IOException {
+        Path uploadPath = Paths.get(uploadDir, subPath);
+        Files.createDirectories(uploadPath);
+        return uploadPath.resolve(UUID.randomUUID().toString() + extension).toAbsolutePath();
+    }
+
+    /**
+     * 파일을 다른 하위 디렉토리로 옮깁니다. (원본 보관 등)
+     *
+     * @param filePath 옮길 파일
+     * @param subPath  대상 하위 디렉토리
+     * @return 옮긴 파일의 절대 경로
+     */
+    public String moveFile(Path filePath, String subPath) {
+        try {
+            Path uploadPath = Paths.get(uploadDir, subPath);
+            Files.createDirectories(uploadPath);
+            return Files.move(filePath, uploadPath.resolve(filePath.getFileName())).toAbsolutePath().toString();
+        } catch (IOException e) {
+            log.error("파일 이동 실패: {}", e.getMessage());
+            throw new RuntimeException("파일 이동에 실패했습니다.", e);
+        }
+    }
+
     // 다중 파일 업로드 및 이미지 썸네일 생성
     public List<String> saveFiles(List<MultipartFile> files) throws RuntimeException {
         if (files == null || files.size() == 0) {
@@ -189,26 +288,23 @@ public class CustomFileUtil {
     /**
      * 파일의 SHA-256 해시값을 생성합니다.
      *
+     * <p>파일 전체를 힙에 올리지 않고 스트림으로 읽습니다. 저장도 해야 하면 {@link #saveFileWithHash}를 사용하세요.
+     *
      * @param file 해시를 생성할 파일
      * @return SHA-256 해시값 (64자리 hex 문자열), 실패 시 null
      */
     public String generateFileHash(MultipartFile file) {
-        try {
+        try (InputStream in = file.getInputStream()) {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(file.getBytes());
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
             }
-            return hexString.toString();
+            return HexFormat.of().formatHex(digest.digest());
         } catch (NoSuchAlgorithmException | IOException e) {
             log.error("파일 해시 생성 실패: {}", e.getMessage());
             return null;
         }
     }
 }
-
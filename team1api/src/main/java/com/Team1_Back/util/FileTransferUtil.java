@@ -0,0 +1,188 @@
+package com.Team1_Back.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 로컬 파일을 HTTP 응답으로 전송하는 유틸리티
+ *
+ * <p>강한 ETag(If-None-Match → 304), 단일 바이트 범위(Range → 206, If-Range 지원)를 처리하고
+ * 본문은 {@link FileChannel#transferTo}로 전송합니다. (gzip 보관본은 {@link GZIPInputStream}으로 풀면서 전송)
+ * 다중 범위 요청은 전체 파일(200)로 응답합니다.
+ *
+ * @author Team1
+ */
+@Component
+@Slf4j
+public class FileTransferUtil {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 전송 결과 (실제로 본문을 보냈는지, 파일의 처음부터 보냈는지)
+     */
+    public record TransferResult(int status, long start, long length) {
+
+        /** 본문이 파일의 첫 바이트부터 전송되었는지 (다운로드 로그 기준) */
+        public boolean startedFromBeginning() {
+            return (status == HttpServletResponse.SC_OK || status == HttpServletResponse.SC_PARTIAL_CONTENT)
+                    && start == 0;
+        }
+    }
+
+    /**
+     * 파일을 조건부/범위 요청 규칙에 맞춰 응답에 씁니다.
+     *
+     * @param request            요청 (If-None-Match, Range, If-Range 헤더 확인용)
+     * @param response           응답
+     * @param file               전송할 파일
+     * @param checksum           파일 체크섬 (ETag 값으로 사용, null이면 ETag 미사용)
+     * @param contentType        Content-Type
+     * @param contentDisposition Content-Disposition 헤더 값
+     * @return 전송 결과
+     */
+    public TransferResult transfer(HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   Path file,
+                                   String checksum,
+                                   String contentType,
+                                   String contentDisposition) throws IOException {
+        return transfer(request, response, file, false, Files.size(file), checksum, contentType, contentDisposition);
+    }
+
+    /**
+     * 파일을 조건부/범위 요청 규칙에 맞춰 응답에 씁니다. (gzip 보관본은 풀면서 전송)
+     *
+     * <p>gzip 보관본의 범위 요청은 앞부분을 풀어서 건너뛴 뒤 전송합니다. (디스크에 복원하지 않음)
+     *
+     * @param gzipped file이 gzip 보관본인지
+     * @param size    원본(풀었을 때) 크기
+     */
+    public TransferResult transfer(HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   Path file,
+                                   boolean gzipped,
+                                   long size,
+                                   String checksum,
+                                   String contentType,
+                                   String contentDisposition) throws IOException {
+
+        String etag = (checksum == null || checksum.isBlank()) ? null : "\"" + checksum + "\"";
+
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 개인 리포트이므로 공유 캐시 금지, 브라우저는 매번 ETag로 재검증
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        // 1) If-None-Match → 304
+        if (etag != null && matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return new TransferResult(HttpServletResponse.SC_NOT_MODIFIED, 0, 0);
+        }
+
+        long start = 0;
+        long length = size;
+        int status = HttpServletResponse.SC_OK;
+
+        // 2) Range (If-Range가 현재 ETag와 다르면 무시하고 전체 전송)
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        boolean rangeAllowed = ifRange == null || (etag != null && etag.equals(ifRange.trim()));
+
+        if (rangeHeader != null && rangeAllowed) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                long rangeStart = range.getRangeStart(size);
+                long rangeEnd = range.getRangeEnd(size);
+
+                if (size == 0 || rangeStart >= size || rangeStart > rangeEnd) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return new TransferResult(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE, 0, 0);
+                }
+
+                start = rangeStart;
+                length = rangeEnd - rangeStart + 1;
+                status = HttpServletResponse.SC_PARTIAL_CONTENT;
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + rangeStart + "-" + rangeEnd + "/" + size);
+            } else if (!ranges.isEmpty()) {
+                log.debug("다중 범위 요청은 전체 파일로 응답합니다: {}", rangeHeader);
+            }
+        }
+
+        response.setStatus(status);
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        response.setContentLengthLong(length);
+
+        if (!"HEAD".equalsIgnoreCase(request.getMethod()) && gzipped) {
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file), GZIP_BUFFER_SIZE)) {
+                in.skipNBytes(start);
+                OutputStream out = response.getOutputStream();
+                byte[] buffer = new byte[GZIP_BUFFER_SIZE];
+                long remaining = length;
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) break;
+                    out.write(buffer, 0, read);
+                    remaining -= read;
+                }
+            }
+            response.flushBuffer();
+        } else if (!"HEAD".equalsIgnoreCase(request.getMethod())) {
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long sent = in.transferTo(position, remaining, out);
+                    if (sent <= 0) break;
+                    position += sent;
+                    remaining -= sent;
+                }
+            }
+            response.flushBuffer();
+        }
+
+        return new TransferResult(status, start, length);
+    }
+
+    private boolean matchesIfNoneMatch(String header, String etag) {
+        if (header == null || header.isBlank()) return false;
+
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag)) return true;
+            // 약한 비교 (W/ 접두사 무시)
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (etag.equals(tag)) return true;
+        }
+        return false;
+    }
+}
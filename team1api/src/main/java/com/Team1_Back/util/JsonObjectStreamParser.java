@@ -0,0 +1,100 @@
+package com.Team1_Back.util;
+
+import java.util.function.Consumer;
+
+/**
+ * 조각나서 도착하는 JSON 텍스트에서 배열 안의 객체를 완성되는 대로 꺼내는 파서 (LLM 스트리밍 응답용)
+ *
+ * <p>{"todos": [{...}, {...}]} 또는 [{...}, {...}] 형태에서 배열의 원소 객체가 닫히는 순간
+ * 그 객체의 JSON 문자열을 콜백으로 넘깁니다. 원소 안에 중첩된 객체/배열은 원소의 일부로 함께 넘어갑니다.
+ * 문자열 안의 괄호와 이스케이프를 구분하며, 마크다운 코드 블록(```json) 같은 JSON 밖의 텍스트는 무시합니다.
+ *
+ * <p>스레드 안전하지 않습니다. (스트림 하나당 인스턴스 하나)
+ *
+ * @author Team1
+ */
+public class JsonObjectStreamParser {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final Consumer<String> onObject;
+
+    // 열린 괄호 스택 ('{' 또는 '[')
+    private final char[] stack = new char[MAX_DEPTH];
+    private int depth;
+
+    private boolean inString;
+    private boolean escaped;
+
+    // 꺼낼 원소 객체를 읽는 중이면 그 객체가 시작된 깊이 (아니면 -1)
+    private int elementDepth = -1;
+    private final StringBuilder element = new StringBuilder();
+
+    private int emitted;
+
+    public JsonObjectStreamParser(Consumer<String> onObject) {
+        this.onObject = onObject;
+    }
+
+    /**
+     * 도착한 텍스트 조각을 넣습니다. 완성된 원소 객체가 있으면 이 호출 안에서 콜백됩니다.
+     */
+    public void feed(CharSequence chunk) {
+        for (int i = 0; i < chunk.length(); i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    /** 지금까지 꺼낸 객체 수 */
+    public int emitted() {
+        return emitted;
+    }
+
+    private void accept(char c) {
+        if (elementDepth >= 0) {
+            element.append(c);
+        }
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> inString = depth > 0;
+            case '{', '[' -> {
+                if (depth >= MAX_DEPTH) {
+                    return; // 비정상적으로 깊은 입력은 무시
+                }
+                // 배열 바로 안에서 시작하는 객체 (이미 원소를 읽는 중이면 그 원소의 일부)
+                if (c == '{' && elementDepth < 0 && depth > 0 && stack[depth - 1] == '[') {
+                    elementDepth = depth;
+                    element.setLength(0);
+                    element.append(c);
+                }
+                stack[depth++] = c;
+            }
+            case '}', ']' -> {
+                if (depth == 0) {
+                    return;
+                }
+                depth--;
+                if (c == '}' && depth == elementDepth) {
+                    elementDepth = -1;
+                    emitted++;
+                    onObject.accept(element.toString());
+                    element.setLength(0);
+                }
+            }
+            default -> {
+                // 값/구분자/JSON 밖 텍스트
+            }
+        }
+    }
+}
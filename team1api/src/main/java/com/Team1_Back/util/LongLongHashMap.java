@@ -0,0 +1,137 @@
+package com.Team1_Back.util;
+
+import java.util.Arrays;
+
+/**
+ * long → long 오픈 어드레싱 해시맵 (박싱 없음)
+ *
+ * <p>키 0은 빈 슬롯 표시로 사용하므로 저장할 수 없습니다. (엔티티 ID 전용)
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출 측에서 잠가야 합니다.
+ *
+ * @author Team1
+ */
+public class LongLongHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public LongLongHashMap() {
+        this(16);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR) + 1) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean containsKey(long key) {
+        return keys[indexOf(checkKey(key))] != 0;
+    }
+
+    /**
+     * 값 조회 (없으면 defaultValue)
+     */
+    public long get(long key, long defaultValue) {
+        int idx = indexOf(checkKey(key));
+        return keys[idx] != 0 ? values[idx] : defaultValue;
+    }
+
+    public void put(long key, long value) {
+        int idx = indexOf(checkKey(key));
+        if (keys[idx] == 0) {
+            keys[idx] = key;
+            values[idx] = value;
+            if (++size >= resizeAt) {
+                rehash(keys.length << 1);
+            }
+        } else {
+            values[idx] = value;
+        }
+    }
+
+    /**
+     * 값에 delta를 더합니다. (없으면 0에서 시작)
+     *
+     * @return 더한 뒤의 값
+     */
+    public long addTo(long key, long delta) {
+        int idx = indexOf(checkKey(key));
+        if (keys[idx] == 0) {
+            put(key, delta);
+            return delta;
+        }
+        values[idx] += delta;
+        return values[idx];
+    }
+
+    /**
+     * 모든 항목 순회 (순서 보장 없음)
+     */
+    public void forEach(Entry consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, 0L);
+        size = 0;
+    }
+
+    @FunctionalInterface
+    public interface Entry {
+        void accept(long key, long value);
+    }
+
+    private int indexOf(long key) {
+        int idx = mix(key) & mask;
+        while (keys[idx] != 0 && keys[idx] != key) {
+            idx = (idx + 1) & mask;
+        }
+        return idx;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int idx = indexOf(oldKeys[i]);
+                keys[idx] = oldKeys[i];
+                values[idx] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static long checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+        return key;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
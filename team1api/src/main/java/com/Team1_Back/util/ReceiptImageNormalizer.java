@@ -0,0 +1,212 @@
+package com.Team1_Back.util;
+
+import com.Team1_Back.dto.ImageNormalizationStatsDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 영수증 이미지 정규화 (저장/OCR 전)
+ *
+ * <p>휴대폰 사진(4000×3000, 수 MB)을 그대로 저장하고 OCR로 보내지 않도록
+ * EXIF 방향을 적용하고, 긴 변을 OCR에 충분한 크기로 줄이고, (선택) 흑백으로 바꿔 JPEG로 다시 압축합니다.
+ *
+ * <p>이미 충분히 작은 이미지는 다시 압축하지 않고(화질 손실 방지, EXIF 회전이 있으면 예외), 읽을 수 없는 형식은 원본을 그대로 사용합니다.
+ * 디코딩 중에는 원본 크기만큼 힙을 쓰므로 동시 처리 수를 제한합니다.
+ *
+ * @author Team1
+ */
+@Component
+@Slf4j
+public class ReceiptImageNormalizer {
+
+    @Value("${com.mallapi.receipt.image.normalize:true}")
+    private boolean enabled;
+
+    // OCR 인식률이 떨어지지 않는 긴 변 길이
+    @Value("${com.mallapi.receipt.image.max-long-edge:2000}")
+    private int maxLongEdge;
+
+    @Value("${com.mallapi.receipt.image.grayscale:false}")
+    private boolean grayscale;
+
+    @Value("${com.mallapi.receipt.image.quality:0.85}")
+    private float quality;
+
+    // 긴 변이 기준 이하이고 이 크기 이하면 다시 압축하지 않음
+    @Value("${com.mallapi.receipt.image.skip-below-bytes:524288}")
+    private long skipBelowBytes;
+
+    @Value("${com.mallapi.receipt.image.max-concurrent:2}")
+    private int maxConcurrent;
+
+    private Semaphore permits;
+
+    private final LongAdder normalized = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder originalBytes = new LongAdder();
+    private final LongAdder normalizedBytes = new LongAdder();
+    private final LongAdder normalizeNanos = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 정규화 결과
+     *
+     * @param path       정규화한 파일 (normalized=false면 null)
+     * @param bytes      정규화한 파일 크기
+     * @param mimeType   정규화한 파일 MIME 타입
+     * @param normalized 정규화했는지 (false면 원본을 그대로 사용)
+     */
+    public record Result(Path path, long bytes, String mimeType, boolean normalized) {
+
+        public static Result unchanged() {
+            return new Result(null, 0L, null, false);
+        }
+    }
+
+    /**
+     * 원본 이미지를 정규화해 target에 씁니다.
+     *
+     * @param source 저장된 원본 파일
+     * @param target 정규화한 JPEG를 쓸 경로 (.jpg)
+     * @return 정규화 결과 (원본을 그대로 써야 하면 normalized=false)
+     */
+    public Result normalize(Path source, Path target) {
+        if (!enabled) {
+            return Result.unchanged();
+        }
+
+        try {
+            long sourceBytes = Files.size(source);
+            Header header = readHeader(source);
+            if (header == null) {
+                // ImageIO가 읽을 수 없는 형식 (HEIC 등)
+                skipped.increment();
+                return Result.unchanged();
+            }
+            int longEdge = header.longEdge();
+            // EXIF로 회전된 사진은 작아도 회전을 적용해야 함 (OCR/뷰어가 방향 태그를 무시할 수 있음)
+            if (longEdge <= maxLongEdge && !grayscale && !header.rotated() && sourceBytes <= skipBelowBytes) {
+                skipped.increment();
+                return Result.unchanged();
+            }
+
+            long started = System.nanoTime();
+            permits.acquire();
+            try {
+                Thumbnails.Builder<?> builder = Thumbnails.of(source.toFile())
+                        .useExifOrientation(true)
+                        .imageType(grayscale ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB)
+                        .outputFormat("jpg")
+                        .outputQuality(quality);
+                if (longEdge > maxLongEdge) {
+                    builder.size(maxLongEdge, maxLongEdge); // 비율 유지
+                } else {
+                    builder.scale(1.0);
+                }
+                builder.toFile(target.toFile());
+            } finally {
+                permits.release();
+            }
+
+            long targetBytes = Files.size(target);
+            normalized.increment();
+            originalBytes.add(sourceBytes);
+            normalizedBytes.add(targetBytes);
+            normalizeNanos.add(System.nanoTime() - started);
+            log.debug("[IMAGE] normalized {}x{} {}B -> {}B", header.width(), header.height(), sourceBytes, targetBytes);
+            return new Result(target, targetBytes, "image/jpeg", true);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("이미지 처리가 중단되었습니다.", e);
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("[IMAGE] normalize failed, keeping original: {}", e.getMessage());
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException ignored) {
+                // 원본을 그대로 사용
+            }
+            return Result.unchanged();
+        }
+    }
+
+    public ImageNormalizationStatsDTO getStats() {
+        long count = normalized.sum();
+        long before = originalBytes.sum();
+        long after = normalizedBytes.sum();
+        return new ImageNormalizationStatsDTO(
+                enabled,
+                maxLongEdge,
+                grayscale,
+                quality,
+                count,
+                skipped.sum(),
+                failed.sum(),
+                before,
+                after,
+                before > 0 ? 1.0 - (double) after / before : 0.0,
+                count > 0 ? normalizeNanos.sum() / 1_000_000.0 / count : 0.0);
+    }
+
+    /**
+     * 이미지 헤더 정보
+     *
+     * @param width   가로
+     * @param height  세로
+     * @param rotated EXIF 방향 태그가 정방향이 아닌지
+     */
+    record Header(int width, int height, boolean rotated) {
+
+        int longEdge() {
+            return Math.max(width, height);
+        }
+    }
+
+    /**
+     * 디코딩 없이 헤더(크기 + EXIF 방향)만 읽습니다. (읽을 수 없는 형식이면 null)
+     *
+     * <p>방향은 ImageReader 메타데이터에서 Thumbnailator가 회전에 쓰는 것과 같은 방식으로 읽습니다.
+     */
+    static Header readHeader(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, false);
+                Orientation orientation = ExifUtils.getExifOrientation(reader, 0);
+                return new Header(reader.getWidth(0), reader.getHeight(0),
+                        orientation != null && orientation != Orientation.TOP_LEFT);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.Team1_Back.util;
+
+import com.Team1_Back.dto.ImageVariantStatsDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 영수증 검토용 이미지 크기별 사본 (목록 썸네일 / 검토 화면 / 원본)
+ *
+ * <p>처음 요청될 때 원본 옆에 {원본 이름}_thumb-{긴 변}.jpg, {원본 이름}_review-{긴 변}.jpg로 한 번만 만들고 이후에는 파일을 그대로 내려줍니다.
+ * 영수증 파일은 업로드 후 바뀌지 않으므로(교체 업로드는 새 영수증) ETag는 파일 해시 + 크기 이름 + 긴 변 길이로 정하고,
+ * 긴 변 설정을 바꾸면 ETag와 파일 이름이 함께 바뀌어 새로 만들어집니다.
+ *
+ * <p>목록 화면에서 반복해서 요청되는 썸네일은 바이트 상한이 있는 LRU 메모리 캐시에 둡니다.
+ * 만드는 중에는 원본 크기만큼 힙을 쓰므로 동시 생성 수를 제한합니다.
+ *
+ * @author Team1
+ */
+@Component
+@Slf4j
+public class ReceiptImageVariants {
+
+    public enum Variant {
+        THUMB, REVIEW, ORIGINAL;
+
+        /** 요청 파라미터(thumb/review/original, 대소문자 무시)를 변환 (없으면 ORIGINAL) */
+        public static Variant from(String value) {
+            if (value == null || value.isBlank()) {
+                return ORIGINAL;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("size는 thumb, review, original 중 하나여야 합니다.");
+            }
+        }
+    }
+
+    /**
+     * 내려줄 이미지
+     *
+     * @param resource 이미지 (메모리 캐시 적중 시 바이트 배열, 브라우저 캐시가 최신이면 null)
+     * @param etag     따옴표를 포함한 강한 ETag
+     * @param mimeType MIME 타입 (브라우저 캐시가 최신이면 null)
+     */
+    public record Image(Resource resource, String etag, String mimeType) {
+
+        public static Image notModified(String etag) {
+            return new Image(null, etag, null);
+        }
+
+        public boolean isNotModified() {
+            return resource == null;
+        }
+    }
+
+    @Value("${com.mallapi.receipt.image.variant.thumb-long-edge:320}")
+    private int thumbLongEdge;
+
+    @Value("${com.mallapi.receipt.image.variant.review-long-edge:1280}")
+    private int reviewLongEdge;
+
+    @Value("${com.mallapi.receipt.image.variant.quality:0.8}")
+    private float quality;
+
+    // 썸네일 메모리 캐시 상한 (바이트)
+    @Value("${com.mallapi.receipt.image.variant.cache-bytes:33554432}")
+    private long cacheBytes;
+
+    @Value("${com.mallapi.receipt.image.variant.max-concurrent:2}")
+    private int maxConcurrent;
+
+    private Semaphore permits;
+
+    // 접근 순서 LinkedHashMap (바이트 합계가 상한을 넘으면 가장 오래 안 쓴 항목부터 제거)
+    private final LinkedHashMap<String, byte[]> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedBytes;
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder generateNanos = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 파일을 열지 않고 정할 수 있는 ETag (파일 해시 + 크기 이름 + 긴 변, 해시가 없으면 null)
+     *
+     * <p>If-None-Match 비교를 파일 확인/사본 생성 전에 하기 위해 사용합니다.
+     */
+    public String etagFor(String fileHash, Variant variant) {
+        return fileHash != null ? etag(fileHash, suffix(variant)) : null;
+    }
+
+    /**
+     * If-None-Match 값(ETag 목록 또는 *)이 etag와 맞는지 (약한 비교, W/ 무시)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청한 크기의 이미지를 돌려줍니다. (없으면 만들어 원본 옆에 저장)
+     *
+     * @param fileUrl  저장된 영수증 파일 경로 (receipt_upload.file_url)
+     * @param fileHash 업로드 원본 SHA-256 (ETag용, 없으면 파일 크기/수정 시각 사용)
+     * @param mimeType 저장된 파일 MIME 타입 (ORIGINAL 응답용)
+     * @param variant  요청 크기
+     * @throws NoSuchElementException 원본 파일이 없는 경우
+     */
+    public Image get(String fileUrl, String fileHash, String mimeType, Variant variant) {
+        Path source = Path.of(fileUrl);
+        if (!Files.isRegularFile(source)) {
+            throw new NoSuchElementException("영수증 이미지 파일을 찾을 수 없습니다.");
+        }
+        String version = fileHash != null ? fileHash : fallbackVersion(source);
+
+        if (variant == Variant.ORIGINAL) {
+            return new Image(new FileSystemResource(source), etag(version, suffix(Variant.ORIGINAL)),
+                    mimeType != null ? mimeType : "image/jpeg");
+        }
+
+        int longEdge = variant == Variant.THUMB ? thumbLongEdge : reviewLongEdge;
+        String suffix = suffix(variant);
+        String etag = etag(version, suffix);
+
+        if (variant == Variant.THUMB) {
+            byte[] bytes = cached(etag);
+            if (bytes != null) {
+                cacheHits.increment();
+                return new Image(new ByteArrayResource(bytes), etag, "image/jpeg");
+            }
+        }
+
+        Path target = variantPath(source, suffix);
+        try {
+            if (Files.isRegularFile(target)) {
+                diskHits.increment();
+            } else {
+                generate(source, target, longEdge);
+            }
+            if (variant == Variant.THUMB) {
+                byte[] bytes = Files.readAllBytes(target);
+                cache(etag, bytes);
+                return new Image(new ByteArrayResource(bytes), etag, "image/jpeg");
+            }
+            return new Image(new FileSystemResource(target), etag, "image/jpeg");
+
+        } catch (IOException e) {
+            // 사본을 만들 수 없는 형식(HEIC 등)이면 원본을 그대로 내려줌
+            failed.increment();
+            log.warn("[IMAGE] variant {} failed, serving original: file={}, error={}", suffix, fileUrl, e.getMessage());
+            return new Image(new FileSystemResource(source), etag(version, "original"),
+                    mimeType != null ? mimeType : "image/jpeg");
+        }
+    }
+
+    /**
+     * 영수증 파일 삭제 시 만들어 둔 사본도 지웁니다.
+     */
+    public void deleteVariants(String fileUrl) {
+        if (fileUrl == null) {
+            return;
+        }
+        Path source = Path.of(fileUrl);
+        Path dir = source.toAbsolutePath().getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return;
+        }
+        String prefix = baseName(source) + "_";
+        try (var files = Files.list(dir)) {
+            files.filter(p -> p.getFileName().toString().startsWith(prefix) && p.toString().endsWith(".jpg"))
+                    .forEach(p -> {
+                        try {
+                            Files.deleteIfExists(p);
+                        } catch (IOException e) {
+                            log.warn("[IMAGE] variant delete failed: {}", p);
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("[IMAGE] variant listing failed: dir={}, error={}", dir, e.getMessage());
+        }
+    }
+
+    public ImageVariantStatsDTO getStats() {
+        int entries;
+        long bytes;
+        synchronized (cache) {
+            entries = cache.size();
+            bytes = cachedBytes;
+        }
+        long count = generated.sum();
+        long hits = cacheHits.sum();
+        long disk = diskHits.sum();
+        return new ImageVariantStatsDTO(
+                thumbLongEdge,
+                reviewLongEdge,
+                entries,
+                bytes,
+                cacheBytes,
+                hits,
+                disk,
+                count,
+                failed.sum(),
+                count > 0 ? generateNanos.sum() / 1_000_000.0 / count : 0.0,
+                hits + disk + count > 0 ? (double) hits / (hits + disk + count) : 0.0);
+    }
+
+    // 임시 파일에 쓰고 옮겨서 동시에 같은 사본을 요청해도 반쯤 쓴 파일을 내려주지 않음
+    private void generate(Path source, Path target, int longEdge) throws IOException {
+        long started = System.nanoTime();
+        Path tmp = target.resolveSibling(target.getFileName() + "." + Thread.currentThread().threadId() + ".tmp");
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 처리가 중단되었습니다.", e);
+        }
+        try {
+            if (Files.isRegularFile(target)) {
+                diskHits.increment(); // 기다리는 동안 다른 요청이 만듦
+                return;
+            }
+            ReceiptImageNormalizer.Header header = ReceiptImageNormalizer.readHeader(source);
+            if (header == null) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            Thumbnails.Builder<?> builder = Thumbnails.of(source.toFile())
+                    .imageType(BufferedImage.TYPE_INT_RGB)
+                    .outputFormat("jpg")
+                    .outputQuality(quality);
+            if (header.longEdge() > longEdge) {
+                builder.size(longEdge, longEdge); // 비율 유지
+            } else {
+                builder.scale(1.0); // 원본보다 크게 늘리지 않음
+            }
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                builder.toOutputStream(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            generated.increment();
+            generateNanos.add(System.nanoTime() - started);
+        } finally {
+            permits.release();
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private byte[] cached(String key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    private void cache(String key, byte[] bytes) {
+        if (bytes.length > cacheBytes) {
+            return;
+        }
+        synchronized (cache) {
+            byte[] previous = cache.put(key, bytes);
+            if (previous != null) {
+                cachedBytes -= previous.length;
+            }
+            cachedBytes += bytes.length;
+            var it = cache.entrySet().iterator();
+            while (cachedBytes > cacheBytes && it.hasNext()) {
+                Map.Entry<String, byte[]> eldest = it.next();
+                cachedBytes -= eldest.getValue().length;
+                it.remove();
+            }
+        }
+    }
+
+    static Path variantPath(Path source, String suffix) {
+        return source.resolveSibling(baseName(source) + "_" + suffix + ".jpg");
+    }
+
+    private static String baseName(Path source) {
+        String name = source.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private String suffix(Variant variant) {
+        return switch (variant) {
+            case THUMB -> "thumb-" + thumbLongEdge;
+            case REVIEW -> "review-" + reviewLongEdge;
+            case ORIGINAL -> "original";
+        };
+    }
+
+    private static String etag(String version, String suffix) {
+        return "\"" + version + "-" + suffix + "\"";
+    }
+
+    private static String fallbackVersion(Path source) {
+        try {
+            return Long.toHexString(Files.size(source)) + Long.toHexString(Files.getLastModifiedTime(source).toMillis());
+        } catch (IOException e) {
+            return "0";
+        }
+    }
+}
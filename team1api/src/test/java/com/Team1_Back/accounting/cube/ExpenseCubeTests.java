@@ -0,0 +1,96 @@
+package com.Team1_Back.accounting.cube;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 승인 지출 분석 큐브 테스트 (DB 불필요)
+ */
+public class ExpenseCubeTests {
+
+    private ExpenseCube sample() {
+        ExpenseCube cube = new ExpenseCube(2);
+        cube.add("개발팀", "식비", LocalDate.of(2025, 1, 5), 1, 10_000);
+        cube.add("개발팀", "식비", LocalDate.of(2025, 1, 20), 1, 20_000);
+        cube.add("개발팀", "교통비", LocalDate.of(2025, 2, 1), 1, 5_000);
+        cube.add("영업팀", "식비", LocalDate.of(2025, 2, 3), 1, 40_000);
+        cube.add("영업팀", "숙박비", LocalDate.of(2025, 3, 9), 1, 100_000);
+        cube.add("영업팀", "식비", null, 1, 7_000);
+        return cube;
+    }
+
+    @Test
+    public void rollUpByDepartment() {
+        List<ExpenseCube.Cell> cells = sample().query(CubeQuery.builder()
+                .groupBy(EnumSet.of(ExpenseCube.Dimension.DEPARTMENT))
+                .build());
+
+        assertEquals(2, cells.size());
+        assertEquals("영업팀", cells.get(0).department());
+        assertEquals(147_000L, cells.get(0).amount());
+        assertEquals(3L, cells.get(0).count());
+        assertEquals(35_000L, cells.get(1).amount());
+        assertNull(cells.get(0).category());
+    }
+
+    @Test
+    public void sliceByPeriodAndCategory() {
+        List<ExpenseCube.Cell> cells = sample().query(CubeQuery.builder()
+                .groupBy(EnumSet.of(ExpenseCube.Dimension.MONTH))
+                .categories(Set.of("식비"))
+                .from(YearMonth.of(2025, 1))
+                .to(YearMonth.of(2025, 2))
+                .build());
+
+        assertEquals(2, cells.size());
+        assertEquals(YearMonth.of(2025, 1), cells.get(0).month());
+        assertEquals(30_000L, cells.get(0).amount());
+        assertEquals(YearMonth.of(2025, 2), cells.get(1).month());
+        assertEquals(40_000L, cells.get(1).amount());
+    }
+
+    @Test
+    public void grandTotalAndReversal() {
+        ExpenseCube cube = sample();
+        // 승인 취소 (증감 반영)
+        cube.add("영업팀", "숙박비", LocalDate.of(2025, 3, 9), -1, -100_000);
+
+        List<ExpenseCube.Cell> total = cube.query(new CubeQuery());
+        assertEquals(1, total.size());
+        assertEquals(5L, total.get(0).count());
+        assertEquals(82_000L, total.get(0).amount());
+
+        List<ExpenseCube.Cell> march = cube.query(CubeQuery.builder()
+                .groupBy(EnumSet.of(ExpenseCube.Dimension.DEPARTMENT, ExpenseCube.Dimension.CATEGORY))
+                .from(YearMonth.of(2025, 3))
+                .build());
+        assertTrue(march.isEmpty());
+    }
+
+    @Test
+    public void periodQueryAfterCompact() {
+        ExpenseCube cube = sample();
+        cube.compact();
+        // 정렬 이후 추가된 셀도 기간 조회에 포함
+        cube.add("인사팀", "식비", LocalDate.of(2025, 2, 10), 1, 3_000);
+        cube.add("개발팀", "식비", LocalDate.of(2025, 1, 31), 1, 1_000);
+
+        List<ExpenseCube.Cell> cells = cube.query(CubeQuery.builder()
+                .groupBy(EnumSet.of(ExpenseCube.Dimension.DEPARTMENT))
+                .from(YearMonth.of(2025, 2))
+                .to(YearMonth.of(2025, 2))
+                .build());
+
+        assertEquals(3, cells.size());
+        assertEquals(40_000L, cells.get(0).amount());
+        assertEquals(5_000L, cells.get(1).amount());
+        assertEquals("인사팀", cells.get(2).department());
+    }
+}
@@ -0,0 +1,141 @@
+package com.Team1_Back.ai;
+
+import com.Team1_Back.dto.AiBulkheadStatsDTO;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AI 백엔드 벌크헤드 포화 테스트 (로컬 스텁 서버, 외부 의존 없음)
+ */
+public class AiBulkheadTests {
+
+    private static final int SLOW_MS = 300;
+
+    private HttpServer server;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    public void startStub() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/slow", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(SLOW_MS);
+                byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.createContext("/echo", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    public void saturatedBackendRejectsFast() throws Exception {
+        AiClientProperties props = new AiClientProperties();
+        props.getBulkheads().put("stub", new AiClientProperties.Bulkhead(2, 2, 100));
+        AiHttpClients clients = new AiHttpClients(new OkHttpClient(), props);
+        RestClient restClient = restClient(clients);
+
+        int callers = 10;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                long started = System.nanoTime();
+                try {
+                    restClient.get().uri("/slow").retrieve().body(String.class);
+                    return -1L;
+                } catch (BulkheadFullException e) {
+                    return (System.nanoTime() - started) / 1_000_000;
+                }
+            }));
+        }
+        start.countDown();
+
+        int ok = 0;
+        int rejected = 0;
+        for (Future<Long> result : results) {
+            long rejectedAfterMs = result.get();
+            if (rejectedAfterMs < 0) {
+                ok++;
+            } else {
+                rejected++;
+                // 백엔드 응답(300ms)을 기다리지 않고 대기 한도(100ms) 안팎에서 실패
+                assertTrue(rejectedAfterMs < SLOW_MS, "rejected after " + rejectedAfterMs + "ms");
+            }
+        }
+        pool.shutdown();
+
+        assertTrue(maxInFlight.get() <= 2, "backend saw " + maxInFlight.get() + " concurrent calls");
+        assertTrue(ok >= 2);
+        assertTrue(rejected >= callers - 4);
+
+        AiBulkheadStatsDTO stats = clients.snapshot().get(0);
+        assertEquals("stub", stats.backend());
+        assertEquals(0, stats.inFlight());
+        assertEquals(0, stats.waiting());
+        assertEquals(rejected, stats.rejected());
+        assertEquals(ok, stats.calls());
+    }
+
+    @Test
+    public void streamsRequestBodyThroughOkHttp() {
+        AiHttpClients clients = new AiHttpClients(new OkHttpClient(), new AiClientProperties());
+        RestClient restClient = restClient(clients);
+
+        String echoed = restClient.post().uri("/echo")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("receipt body")
+                .retrieve()
+                .body(String.class);
+
+        assertEquals("receipt body", echoed);
+        assertEquals(0, clients.snapshot().get(0).inFlight());
+    }
+
+    private RestClient restClient(AiHttpClients clients) {
+        return RestClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .requestFactory(clients.requestFactory("stub", Duration.ofSeconds(5)))
+                .build();
+    }
+}
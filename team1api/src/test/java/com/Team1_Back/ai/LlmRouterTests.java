@@ -0,0 +1,248 @@
+package com.Team1_Back.ai;
+
+import com.Team1_Back.dto.LlmRouterStatsDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LLM 라우터 테스트 (로컬 스텁 공급자, 외부 의존 없음)
+ */
+public class LlmRouterTests {
+
+    private LlmRouter router;
+
+    @AfterEach
+    public void shutdown() {
+        if (router != null) {
+            router.shutdown();
+        }
+    }
+
+    @Test
+    public void routesToFastestProviderOnceLatencyIsKnown() {
+        StubLlmClient slow = new StubLlmClient("openai", 80);
+        StubLlmClient fast = new StubLlmClient("gemini", 10);
+        LlmRouterProperties props = props();
+        props.getHedge().setDefaultDelayMs(0); // 표본이 없을 때는 바로 헤지해서 두 공급자 모두 표본을 모음
+        props.getHedge().setMaxRatio(1.0);
+        router = new LlmRouter(List.of(slow, fast), props);
+
+        for (int i = 0; i < 10; i++) {
+            router.ask("q");
+        }
+        int slowCalls = slow.getCalls();
+        props.getHedge().setEnabled(false);
+
+        // 이제 gemini가 1순위
+        for (int i = 0; i < 5; i++) {
+            assertEquals("gemini", router.ask("q").getSummary());
+        }
+        assertEquals(slowCalls, slow.getCalls());
+    }
+
+    @Test
+    public void hedgesToSecondProviderWhenFirstExceedsItsP95() {
+        StubLlmClient primary = new StubLlmClient("openai", 20);
+        StubLlmClient secondary = new StubLlmClient("gemini", 30);
+        LlmRouterProperties props = props();
+        props.getHedge().setEnabled(false);
+        props.getHedge().setMaxRatio(1.0);
+        props.getHedge().setMinDelayMs(10);
+        router = new LlmRouter(List.of(primary, secondary), props);
+
+        // openai p95 ≈ 20ms 학습 (gemini는 표본이 없어 뒤 순위)
+        for (int i = 0; i < 6; i++) {
+            assertEquals("openai", router.ask("q").getSummary());
+        }
+        props.getHedge().setEnabled(true);
+
+        // openai가 갑자기 느려짐 → p95(20ms) 뒤 gemini로 헤지, gemini가 먼저 응답
+        primary.setLatencyMs(2000);
+        long started = System.nanoTime();
+        assertEquals("gemini", router.ask("q").getSummary());
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMs < 1000, "elapsed=" + elapsedMs);
+        LlmRouterStatsDTO stats = router.snapshot();
+        assertEquals(1, stats.hedges());
+        assertEquals(1, stats.hedgeWins());
+    }
+
+    @Test
+    public void fallsBackAndOpensCircuitForFailingProvider() throws Exception {
+        StubLlmClient broken = new StubLlmClient("openai", 1);
+        StubLlmClient healthy = new StubLlmClient("gemini", 1);
+        broken.setFailing(true);
+        LlmRouterProperties props = props();
+        props.getHedge().setEnabled(false);
+        props.getCircuitBreaker().setConsecutiveFailures(3);
+        props.getCircuitBreaker().setOpenMs(200);
+        router = new LlmRouter(List.of(broken, healthy), props);
+
+        // 실패하면 다음 공급자로 대체
+        for (int i = 0; i < 3; i++) {
+            assertEquals("gemini", router.ask("q").getSummary());
+        }
+        assertEquals(3, broken.getCalls());
+        assertEquals("OPEN", provider("openai").state());
+
+        // 차단 중에는 openai를 호출하지 않음
+        for (int i = 0; i < 5; i++) {
+            router.ask("q");
+        }
+        assertEquals(3, broken.getCalls());
+
+        // 차단 시간이 지나면 시험 호출 1건, 성공하면 다시 닫힘 (이번에는 gemini가 실패해 openai로 대체)
+        broken.setFailing(false);
+        healthy.setFailing(true);
+        Thread.sleep(250);
+        assertEquals("openai", router.ask("q").getSummary());
+        assertEquals(4, broken.getCalls());
+        assertEquals("CLOSED", provider("openai").state());
+    }
+
+    @Test
+    public void hangingProviderTimesOutFallsBackAndTripsBreaker() {
+        StubLlmClient hanging = new StubLlmClient("openai", 10_000);
+        StubLlmClient healthy = new StubLlmClient("gemini", 5);
+        LlmRouterProperties props = props();
+        props.getHedge().setEnabled(false);
+        props.setAttemptTimeoutMs(100);
+        props.setTimeoutMs(1000);
+        props.getCircuitBreaker().setConsecutiveFailures(3);
+        router = new LlmRouter(List.of(hanging, healthy), props);
+
+        // 공급자 제한 시간(100ms) 뒤 끊고 gemini로 대체 (전체 제한 1초 안에 응답)
+        for (int i = 0; i < 3; i++) {
+            long started = System.nanoTime();
+            assertEquals("gemini", router.ask("q").getSummary());
+            assertTrue((System.nanoTime() - started) / 1_000_000 < 900);
+        }
+
+        LlmRouterStatsDTO.Provider openai = provider("openai");
+        assertEquals(3, openai.failures());
+        assertEquals(1.0, openai.errorRate());
+        assertEquals("OPEN", openai.state());
+        waitUntil(() -> hanging.getCancelled() == 3);
+
+        // 차단 후에는 바로 gemini
+        router.ask("q");
+        assertEquals(3, hanging.getCalls());
+    }
+
+    @Test
+    public void deadlineCancellationCountsAsFailure() {
+        StubLlmClient hanging = new StubLlmClient("openai", 10_000);
+        LlmRouterProperties props = props();
+        props.setOrder(List.of("openai"));
+        props.setTimeoutMs(100);
+        router = new LlmRouter(List.of(hanging), props);
+
+        assertThrows(RuntimeException.class, () -> router.ask("q"));
+
+        LlmRouterStatsDTO.Provider openai = provider("openai");
+        assertEquals(1, openai.failures());
+        assertEquals(0, openai.cancelled());
+        assertEquals(1, router.snapshot().failed());
+    }
+
+    @Test
+    public void hedgeLoserIsCancelledAndKeptOutOfSuccessPercentiles() {
+        StubLlmClient primary = new StubLlmClient("openai", 20);
+        StubLlmClient secondary = new StubLlmClient("gemini", 10);
+        LlmRouterProperties props = props();
+        props.getHedge().setEnabled(false);
+        props.getHedge().setMaxRatio(1.0);
+        props.getHedge().setMinDelayMs(10);
+        router = new LlmRouter(List.of(primary, secondary), props);
+        for (int i = 0; i < 5; i++) {
+            router.ask("q");
+        }
+        double p95Before = provider("openai").p95Ms();
+
+        props.getHedge().setEnabled(true);
+        primary.setLatencyMs(500);
+        assertEquals("gemini", router.ask("q").getSummary());
+
+        waitUntil(() -> primary.getCancelled() == 1);
+        LlmRouterStatsDTO.Provider openai = provider("openai");
+        assertEquals(1, openai.cancelled());
+        assertEquals(0, openai.failures());
+        assertEquals(p95Before, openai.p95Ms());
+    }
+
+    @Test
+    public void hedgeBurstIsCappedAfterLongHealthyPeriod() {
+        // gemini가 더 느려서 헤지는 매번 지고, openai가 계속 1순위로 남음
+        StubLlmClient primary = new StubLlmClient("openai", 5);
+        StubLlmClient secondary = new StubLlmClient("gemini", 150);
+        LlmRouterProperties props = props();
+        props.getHedge().setMinDelayMs(20);
+        props.getHedge().setMaxRatio(0.5);
+        props.getHedge().setMaxBurst(2);
+        props.setWindowSize(1000); // 느린 표본 10건이 p95(헤지 시점)를 바꾸지 않도록
+        router = new LlmRouter(List.of(primary, secondary), props);
+
+        // 한가한 기간: 토큰은 maxBurst(2)까지만 쌓임
+        for (int i = 0; i < 200; i++) {
+            router.ask("q");
+        }
+        long hedgesBefore = router.snapshot().hedges();
+
+        // 갑자기 느려짐: 요청 10건 중 버스트 2 + 요청당 0.5 → 최대 7건만 헤지
+        primary.setLatencyMs(100);
+        for (int i = 0; i < 10; i++) {
+            router.ask("q");
+        }
+        long hedged = router.snapshot().hedges() - hedgesBefore;
+        // (누적 비율로 제한했다면 한가한 기간 200건 몫까지 써서 10건 모두 헤지)
+        assertTrue(hedged <= 7, "hedged=" + hedged);
+        assertTrue(hedged >= 5, "hedged=" + hedged);
+    }
+
+    @Test
+    public void failsWhenEveryProviderFails() {
+        StubLlmClient a = new StubLlmClient("openai", 1);
+        StubLlmClient b = new StubLlmClient("gemini", 1);
+        a.setFailing(true);
+        b.setFailing(true);
+        router = new LlmRouter(List.of(a, b), props());
+
+        assertThrows(RuntimeException.class, () -> router.ask("q"));
+        assertEquals(1, router.snapshot().failed());
+    }
+
+    // 취소된 작업 스레드가 끝날 때까지 잠시 대기
+    private void waitUntil(BooleanSupplier condition) {
+        long until = System.nanoTime() + 2_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < until, "timed out waiting");
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private LlmRouterStatsDTO.Provider provider(String name) {
+        return router.snapshot().providers().stream()
+                .filter(p -> p.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private LlmRouterProperties props() {
+        LlmRouterProperties props = new LlmRouterProperties();
+        props.setOrder(List.of("openai", "gemini"));
+        props.setMinSamples(3);
+        props.setTimeoutMs(5000);
+        return props;
+    }
+}
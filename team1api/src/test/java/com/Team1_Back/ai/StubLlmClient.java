@@ -0,0 +1,70 @@
+package com.Team1_Back.ai;
+
+import com.Team1_Back.client.LlmCancelHandle;
+import com.Team1_Back.client.LlmClient;
+import com.Team1_Back.dto.LlmResult;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라우터 테스트용 로컬 공급자 (지연/실패를 주입, 외부 호출 없음)
+ */
+public class StubLlmClient implements LlmClient {
+
+    private final String name;
+    private volatile long latencyMs;
+    private volatile boolean failing;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger cancelled = new AtomicInteger();
+
+    public StubLlmClient(String name, long latencyMs) {
+        this.name = name;
+        this.latencyMs = latencyMs;
+    }
+
+    public void setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+
+    // 라우터가 취소 핸들로 끊은 호출 수
+    public int getCancelled() {
+        return cancelled.get();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public LlmResult ask(String prompt) {
+        return ask(prompt, new LlmCancelHandle());
+    }
+
+    // 취소되면 대기 중인 스레드를 깨움 (실제 클라이언트의 Call.cancel 대신)
+    @Override
+    public LlmResult ask(String prompt, LlmCancelHandle handle) {
+        calls.incrementAndGet();
+        Thread worker = Thread.currentThread();
+        handle.onCancel(worker::interrupt);
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            cancelled.incrementAndGet();
+            throw new RuntimeException(name + " cancelled", e);
+        }
+        if (failing) {
+            throw new RuntimeException(name + " down");
+        }
+        return new LlmResult(name, List.of());
+    }
+}
@@ -0,0 +1,143 @@
+package com.Team1_Back.datasource;
+
+import com.Team1_Back.repository.ExpenseDailyRollupRepository;
+import com.Team1_Back.service.ExpenseCubeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 읽기 전용 트랜잭션 복제본 라우팅 테스트
+ *
+ * <p>H2 메모리 DB 두 개를 주 DB/복제본으로 사용합니다. 복제는 되지 않으므로 하트비트 행을 직접 맞춰 넣습니다.
+ * (MariaDB 컨테이너 두 개로 돌릴 때는 com.mallapi.datasource.replica.nodes[0].* 만 지정하면 됨)
+ */
+public class ReplicaRoutingTests {
+
+    // 운영에서는 ReplicaHeartbeat 엔티티로 스키마에 포함됨
+    private static final String HEARTBEAT_TABLE =
+            "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_ms BIGINT NOT NULL)";
+
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+
+    private DriverManagerDataSource primary;
+    private ReplicaRoutingDataSource routing;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readTx;
+    private TransactionTemplate writeTx;
+
+    @BeforeEach
+    public void setUp() {
+        primary = new DriverManagerDataSource("jdbc:h2:mem:rw_primary;DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(primary).execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        new JdbcTemplate(primary).execute(HEARTBEAT_TABLE);
+        new JdbcTemplate(primary).update("DELETE FROM marker");
+        new JdbcTemplate(primary).update("INSERT INTO marker VALUES ('primary')");
+
+        ReplicaProperties properties = new ReplicaProperties();
+        ReplicaProperties.Node node = new ReplicaProperties.Node();
+        node.setName("r1");
+        node.setUrl("jdbc:h2:mem:rw_replica;DB_CLOSE_DELAY=-1");
+        properties.setNodes(List.of(node));
+
+        List<ReplicaRoutingDataSource.Replica> replicas =
+                ReplicaRoutingDataSource.createReplicas(properties, new PoolMetricsRegistry());
+        JdbcTemplate replicaJdbc = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:rw_replica;DB_CLOSE_DELAY=-1"));
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        replicaJdbc.update("DELETE FROM marker");
+        replicaJdbc.update("INSERT INTO marker VALUES ('replica')");
+        replicaJdbc.execute(HEARTBEAT_TABLE);
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(currentUser::get, null, 5_000);
+        routing = new ReplicaRoutingDataSource(primary, replicas, tracker, 3_000, 0);
+        monitor = new ReplicaLagMonitor(primary, routing);
+
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary, tracker));
+        dataSource.setReadOnlyDataSource(routing);
+
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+
+        // 복제된 것처럼 같은 하트비트를 복제본에도 기록
+        long now = System.currentTimeMillis();
+        monitor.beat(now);
+        replicaJdbc.update("DELETE FROM replica_heartbeat");
+        replicaJdbc.update("INSERT INTO replica_heartbeat (id, beat_ms) VALUES (1, ?)", now);
+        monitor.check(now + 100);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        routing.destroy();
+    }
+
+    @Test
+    public void readOnlyTransactionsUseReplica() {
+        assertEquals("replica", readTx.execute(status -> name()));
+        assertEquals("primary", writeTx.execute(status -> name()));
+        // 트랜잭션 밖 조회는 주 DB
+        assertEquals("primary", name());
+        assertEquals(1, routing.stats().replicaReads());
+    }
+
+    @Test
+    public void stickToPrimaryAfterOwnWrite() {
+        currentUser.set(7L);
+        writeTx.executeWithoutResult(status -> jdbc.update("UPDATE marker SET name = 'primary'"));
+
+        assertEquals("primary", readTx.execute(status -> name()));
+
+        // 다른 사용자는 계속 복제본
+        currentUser.set(8L);
+        assertEquals("replica", readTx.execute(status -> name()));
+        assertEquals(1, routing.stats().stickyReads());
+    }
+
+    @Test
+    public void laggingReplicaFallsBackToPrimary() {
+        // 하트비트 이후 10초가 지났는데 복제본 값이 그대로 → 지연 10초
+        monitor.check(System.currentTimeMillis() + 10_000);
+
+        assertEquals("primary", readTx.execute(status -> name()));
+        assertFalse(routing.stats().replicas().get(0).usable());
+        assertEquals(1, routing.stats().fallbackReads());
+    }
+
+    @Test
+    public void cubeRebuildReadsPrimary() {
+        // 복제본이 정상이어도 캐시 적재는 주 DB (복제본 지연만큼 빠진 승인이 큐브에 남지 않도록)
+        ExpenseDailyRollupRepository repository = mock(ExpenseDailyRollupRepository.class);
+        AtomicReference<String> readFrom = new AtomicReference<>();
+        when(repository.findCubeCells()).thenAnswer(inv -> {
+            readFrom.set(name());
+            return new ArrayList<Object[]>();
+        });
+
+        new ExpenseCubeService(repository, writeTx).rebuild();
+
+        assertEquals("primary", readFrom.get());
+        assertEquals(1, routing.stats().pinnedReads());
+        assertEquals(0, routing.stats().replicaReads());
+    }
+
+    private String name() {
+        return jdbc.queryForObject("SELECT name FROM marker", String.class);
+    }
+}
@@ -0,0 +1,63 @@
+package com.Team1_Back.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 대화형/분석용 풀 라우팅과 분석용 쿼리 타임아웃 테스트 (DB 불필요)
+ */
+public class WorkloadRoutingDataSourceTests {
+
+    @Test
+    public void routesByWorkload() throws Exception {
+        DataSource interactive = mock(DataSource.class);
+        DataSource analytical = mock(DataSource.class);
+        Connection interactiveConnection = mock(Connection.class);
+        Connection analyticalConnection = mock(Connection.class);
+        when(interactive.getConnection()).thenReturn(interactiveConnection);
+        when(analytical.getConnection()).thenReturn(analyticalConnection);
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(interactive, analytical);
+
+        assertSame(interactiveConnection, routing.getConnection());
+        assertSame(analyticalConnection, WorkloadRoutingDataSource.run(Workload.ANALYTICAL, () -> {
+            try {
+                return routing.getConnection();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        // 실행 후 이전 값으로 복원
+        assertEquals(Workload.INTERACTIVE, WorkloadRoutingDataSource.current());
+        assertSame(interactiveConnection, routing.getConnection());
+    }
+
+    @Test
+    public void appliesDefaultQueryTimeout() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement plain = mock(PreparedStatement.class);
+        PreparedStatement explicit = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(plain);
+        when(connection.prepareStatement("select 2")).thenReturn(explicit);
+        when(explicit.getQueryTimeout()).thenReturn(5);
+
+        Connection wrapped = new QueryTimeoutDataSource(target, 30).getConnection();
+
+        assertSame(plain, wrapped.prepareStatement("select 1"));
+        verify(plain).setQueryTimeout(30);
+
+        wrapped.prepareStatement("select 2");
+        verify(explicit, never()).setQueryTimeout(anyInt());
+
+        wrapped.close();
+        verify(connection).close();
+    }
+}
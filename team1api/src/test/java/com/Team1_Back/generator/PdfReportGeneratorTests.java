@@ -0,0 +1,107 @@
+package com.Team1_Back.generator;
+
+import com.Team1_Back.domain.enums.DataScope;
+import com.Team1_Back.dto.ExpenseLedgerRowDTO;
+import com.Team1_Back.report.entity.ReportJob;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PDF 상세 원장 스트리밍 출력 테스트 (DB 불필요)
+ *
+ * <p>50k 행 벤치마크는 시간이 걸리므로 -Dbenchmark=true 일 때만 실행합니다.
+ * 예) ./gradlew test --tests '*PdfReportGeneratorTests' -Dbenchmark=true
+ */
+@Slf4j
+public class PdfReportGeneratorTests {
+
+    private final PdfReportGenerator generator = new PdfReportGenerator(new PdfFonts(""));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLedgerSpansMultiplePages() throws Exception {
+        Path out = tempDir.resolve("ledger.pdf");
+
+        int pages = generator.generate(out, sampleJob(), rows(2_000));
+
+        assertTrue(pages > 10, "2,000 rows should span many pages, but was " + pages);
+        assertTrue(Files.size(out) > 0);
+    }
+
+    @Test
+    public void testSummaryOnlyWhenNoRows() throws Exception {
+        Path out = tempDir.resolve("summary.pdf");
+
+        int pages = generator.generate(out, sampleJob(), null);
+
+        assertEquals(1, pages);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    public void benchmarkDepartmentLedger50k() throws Exception {
+        int rowCount = 50_000;
+
+        // 워밍업 (JIT, 폰트 서브셋 경로)
+        generator.generate(tempDir.resolve("warmup.pdf"), sampleJob(), rows(5_000));
+
+        Runtime rt = Runtime.getRuntime();
+        System.gc();
+        long usedBefore = rt.totalMemory() - rt.freeMemory();
+
+        Path out = tempDir.resolve("ledger-50k.pdf");
+        long start = System.nanoTime();
+        int pages = generator.generate(out, sampleJob(), rows(rowCount));
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long usedAfter = rt.totalMemory() - rt.freeMemory();
+
+        log.info("[PDF BENCH] rows={}, pages={}, size={}KB, elapsed={}s, pages/sec={}, rows/sec={}, heapDelta={}MB",
+                rowCount, pages, Files.size(out) / 1024,
+                String.format("%.2f", seconds),
+                String.format("%.1f", pages / seconds),
+                String.format("%.0f", rowCount / seconds),
+                (usedAfter - usedBefore) / (1024 * 1024));
+
+        assertTrue(pages > 100);
+    }
+
+    private ReportJob sampleJob() {
+        ReportJob job = new ReportJob();
+        job.setId(1L);
+        job.setReportTypeId("DEPT_SUMMARY_PDF");
+        job.setDataScope(DataScope.DEPT);
+        job.setDepartmentSnapshot("개발1팀");
+        job.setPeriod("2025-01");
+        job.setRequestedBy(1L);
+        job.setApprovedCount(0);
+        job.setApprovedTotal(0L);
+        return job;
+    }
+
+    private Stream<ExpenseLedgerRowDTO> rows(int count) {
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ExpenseLedgerRowDTO(
+                        (long) i,
+                        base.plusDays(i % 31),
+                        "사용자" + (i % 50),
+                        "개발1팀",
+                        "가맹점-" + i,
+                        i % 2 == 0 ? "식비" : "교통비",
+                        10_000 + (i % 100) * 100
+                ));
+    }
+}
@@ -0,0 +1,93 @@
+package com.Team1_Back.paging;
+
+import com.Team1_Back.dto.PageRequestDTO;
+import com.Team1_Back.dto.PageResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 COUNT 전략 테스트 (DB/Redis 불필요)
+ */
+public class PagedQueryExecutorTests {
+
+    private static final int TOTAL = 95;
+
+    private final AtomicInteger counted = new AtomicInteger();
+    private final AtomicInteger cacheHits = new AtomicInteger();
+
+    // Redis 대신 호출 횟수만 세는 캐시
+    private final CountCache countCache = new CountCache(null, null) {
+        @Override
+        public long get(String scope, String signature, LongSupplier counter) {
+            cacheHits.incrementAndGet();
+            return counter.getAsLong();
+        }
+    };
+
+    private final PagedQueryExecutor executor = new PagedQueryExecutor(countCache);
+
+    private final PagedQueryExecutor.Query<Long> query = new PagedQueryExecutor.Query<>(
+            CountCache.EXPENSE, "test", null,
+            (offset, limit) -> LongStream.range(offset, Math.min(TOTAL, offset + limit)).boxed().toList(),
+            () -> {
+                counted.incrementAndGet();
+                return TOTAL;
+            });
+
+    @Test
+    public void hasNextSkipsCount() {
+        PageResponseDTO<Long> first = executor.execute(page(1), CountMode.HAS_NEXT, query);
+        assertEquals(10, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertEquals(-1, first.getTotalElements());
+
+        PageResponseDTO<Long> last = executor.execute(page(10), CountMode.HAS_NEXT, query);
+        assertEquals(List.of(90L, 91L, 92L, 93L, 94L), last.getContent());
+        assertFalse(last.isHasNext());
+
+        assertEquals(0, counted.get());
+    }
+
+    @Test
+    public void lastPageDerivesTotalWithoutCount() {
+        PageResponseDTO<Long> last = executor.execute(page(10), CountMode.EXACT, query);
+
+        assertEquals(TOTAL, last.getTotalElements());
+        assertEquals(10, last.getTotalPages());
+        assertEquals(0, counted.get());
+    }
+
+    @Test
+    public void cachedModeGoesThroughCache() {
+        PageResponseDTO<Long> response = executor.execute(page(2), CountMode.CACHED, query);
+
+        assertEquals(TOTAL, response.getTotalElements());
+        assertEquals("CACHED", response.getCountMode());
+        assertEquals(1, cacheHits.get());
+        assertEquals(1, counted.get());
+    }
+
+    @Test
+    public void estimatedWithFiltersFallsBackToCache() {
+        executor.execute(page(1), CountMode.ESTIMATED, query);
+
+        assertEquals(1, cacheHits.get());
+    }
+
+    @Test
+    public void countModeParsing() {
+        assertEquals(CountMode.HAS_NEXT, CountMode.from("has_next", CountMode.EXACT));
+        assertEquals(CountMode.CACHED, CountMode.from("nope", CountMode.CACHED));
+        assertEquals(CountMode.ESTIMATED, CountMode.from(null, CountMode.ESTIMATED));
+    }
+
+    private static PageRequestDTO page(int page) {
+        return PageRequestDTO.builder().page(page).size(10).build();
+    }
+}
@@ -261,18 +261,6 @@ public class ExpenseRepositoryTests {
         });
     }
 
-    @Test
-    @Transactional
-    public void testSumMonthlyTotalExpense() {
-        // when
-        Long total = expenseRepository.sumMonthlyTotalExpense("APPROVED");
-
-        // then
-        assertNotNull(total);
-        assertTrue(total >= 0);
-        log.info("이번 달 총 지출액 (APPROVED): {}", total);
-    }
-
     @Test
     @Transactional
     public void testFindForReportByDateRange() {
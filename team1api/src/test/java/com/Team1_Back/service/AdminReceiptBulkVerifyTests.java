@@ -0,0 +1,153 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.domain.ApprovalRequest;
+import com.Team1_Back.domain.ApprovalStatus;
+import com.Team1_Back.domain.Expense;
+import com.Team1_Back.domain.User;
+import com.Team1_Back.dto.BulkVerificationResultDTO;
+import com.Team1_Back.dto.ReceiptVerificationDTO;
+import com.Team1_Back.repository.ApprovalRequestRepository;
+import com.Team1_Back.repository.ExpenseRepository;
+import com.Team1_Back.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 영수증 일괄 검증 vs 단건 검증 반복 (처리량 비교, 테스트 후 롤백)
+ */
+@SpringBootTest
+@Slf4j
+public class AdminReceiptBulkVerifyTests {
+
+    private static final int ITEMS = 50;
+
+    @Autowired
+    private AdminReceiptService adminReceiptService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    public void bulkVerifyMatchesSingleLoop() {
+        User writer = userRepository.findByEmployeeNo("20250001")
+                .orElseThrow(() -> new RuntimeException("테스트 사용자를 찾을 수 없습니다."));
+        User admin = userRepository.findAll().stream()
+                .filter(User::isAdmin)
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("관리자 사용자를 찾을 수 없습니다."));
+
+        List<Long> singleIds = createSubmitted(writer, ITEMS);
+        List<Long> bulkIds = createSubmitted(writer, ITEMS);
+        entityManager.flush();
+        entityManager.clear();
+
+        // 1. 단건 검증 반복
+        long started = System.nanoTime();
+        for (Long id : singleIds) {
+            adminReceiptService.verify(null, decision(id, "APPROVE"), admin.getId());
+        }
+        entityManager.flush();
+        long singleMs = (System.nanoTime() - started) / 1_000_000;
+
+        // 2. 일괄 검증 (존재하지 않는 ID 1건 포함)
+        List<ReceiptVerificationDTO> decisions = new ArrayList<>();
+        bulkIds.forEach(id -> decisions.add(decision(id, "APPROVE")));
+        decisions.add(decision(-1L, "APPROVE"));
+
+        started = System.nanoTime();
+        BulkVerificationResultDTO result = adminReceiptService.verifyBulk(decisions, admin.getId());
+        long bulkMs = (System.nanoTime() - started) / 1_000_000;
+
+        log.info("단건 반복 {}건: {}ms / 일괄 {}건: {}ms", ITEMS, singleMs, ITEMS, bulkMs);
+
+        assertEquals(ITEMS + 1, result.getRequested());
+        assertEquals(ITEMS, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertFalse(result.getResults().get(ITEMS).isSuccess());
+
+        entityManager.clear();
+        for (Long id : bulkIds) {
+            Expense expense = expenseRepository.findById(id).orElseThrow();
+            assertEquals(ApprovalStatus.APPROVED, expense.getStatus());
+            assertEquals(ApprovalStatus.APPROVED, approvalRequestRepository
+                    .findByRequestTypeAndRefId("EXPENSE", id).orElseThrow().getStatusSnapshot());
+        }
+    }
+
+    @Test
+    @Transactional
+    public void missingActionIsReportedPerItem() {
+        User writer = userRepository.findByEmployeeNo("20250001")
+                .orElseThrow(() -> new RuntimeException("테스트 사용자를 찾을 수 없습니다."));
+        User admin = userRepository.findAll().stream()
+                .filter(User::isAdmin)
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("관리자 사용자를 찾을 수 없습니다."));
+
+        List<Long> ids = createSubmitted(writer, 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // action이 없는 건이 있어도 나머지는 처리됨
+        BulkVerificationResultDTO result = adminReceiptService.verifyBulk(
+                List.of(decision(ids.get(0), null), decision(ids.get(1), "APPROVE")), admin.getId());
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertFalse(result.getResults().get(0).isSuccess());
+        assertEquals("action이 필요합니다.", result.getResults().get(0).getMessage());
+        assertTrue(result.getResults().get(1).isSuccess());
+    }
+
+    private List<Long> createSubmitted(User writer, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Expense expense = expenseRepository.save(Expense.builder()
+                    .writer(writer)
+                    .status(ApprovalStatus.SUBMITTED)
+                    .merchant("일괄검증 테스트 " + i)
+                    .amount(10_000 + i)
+                    .category("식비")
+                    .receiptDate(LocalDate.now())
+                    .build());
+
+            approvalRequestRepository.save(ApprovalRequest.builder()
+                    .requestType("EXPENSE")
+                    .refId(expense.getId())
+                    .requester(writer)
+                    .statusSnapshot(ApprovalStatus.SUBMITTED)
+                    .build());
+            ids.add(expense.getId());
+        }
+        return ids;
+    }
+
+    private ReceiptVerificationDTO decision(Long expenseId, String action) {
+        return ReceiptVerificationDTO.builder()
+                .expenseId(expenseId)
+                .action(action)
+                .reason("일괄 검증 테스트")
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.accounting.cube.CubeQuery;
+import com.Team1_Back.accounting.cube.ExpenseCube;
+import com.Team1_Back.repository.ExpenseDailyRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 큐브 재적재 중 들어온 증감이 교체 후에 한 번만 남는지 테스트 (DB는 목)
+ */
+public class ExpenseCubeServiceTests {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 2);
+
+    @Test
+    public void replaysDeltasAppliedDuringRebuild() {
+        ExpenseDailyRollupRepository repository = mock(ExpenseDailyRollupRepository.class);
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ExpenseCubeService service = new ExpenseCubeService(repository, new TransactionTemplate(txManager));
+
+        // 1차 적재: 롤업 1행 (1건)
+        when(repository.findCubeCells())
+                .thenReturn(rows(new Object[]{DAY, "개발팀", "식비", 1L, 10_000L}));
+        service.rebuild();
+        assertEquals(10_000L, total(service));
+
+        // 2차 적재: 조회 도중 다른 요청이 1건 승인 (조회 결과에는 없음)
+        when(repository.findCubeCells()).thenAnswer(inv -> {
+            service.applyTransition(
+                    new ExpenseRollupService.Snapshot(false, DAY, 1L, "개발팀", "식비", 5_000L),
+                    new ExpenseRollupService.Snapshot(true, DAY, 1L, "개발팀", "식비", 5_000L));
+            return rows(new Object[]{DAY, "개발팀", "식비", 1L, 10_000L});
+        });
+        service.rebuild();
+
+        assertEquals(15_000L, total(service));
+
+        // 적재가 끝난 뒤의 증감은 모아 두지 않고 바로 반영
+        service.applyTransition(
+                new ExpenseRollupService.Snapshot(true, DAY, 1L, "개발팀", "식비", 5_000L),
+                new ExpenseRollupService.Snapshot(false, DAY, 1L, "개발팀", "식비", 5_000L));
+        assertEquals(10_000L, total(service));
+    }
+
+    @Test
+    public void doesNotReplayDeltasAlreadyInSnapshot() {
+        ExpenseDailyRollupRepository repository = mock(ExpenseDailyRollupRepository.class);
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ExpenseCubeService service = new ExpenseCubeService(repository, new TransactionTemplate(txManager));
+
+        when(repository.findCubeCells())
+                .thenReturn(rows(new Object[]{DAY, "개발팀", "식비", 1L, 10_000L}));
+        service.rebuild();
+
+        // 읽기 시점을 잡기 전에 커밋된 승인 → 조회 결과에 이미 포함 (다시 반영하면 20,000이 됨)
+        when(repository.openReadView()).thenAnswer(inv -> {
+            service.applyTransition(
+                    new ExpenseRollupService.Snapshot(false, DAY, 1L, "개발팀", "식비", 5_000L),
+                    new ExpenseRollupService.Snapshot(true, DAY, 1L, "개발팀", "식비", 5_000L));
+            return 1;
+        });
+        when(repository.findCubeCells())
+                .thenReturn(rows(new Object[]{DAY, "개발팀", "식비", 2L, 15_000L}));
+        service.rebuild();
+
+        assertEquals(15_000L, total(service));
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    private long total(ExpenseCubeService service) {
+        List<ExpenseCube.Cell> cells = service.query(CubeQuery.builder()
+                .groupBy(EnumSet.noneOf(ExpenseCube.Dimension.class))
+                .build());
+        return cells.stream().mapToLong(ExpenseCube.Cell::amount).sum();
+    }
+}
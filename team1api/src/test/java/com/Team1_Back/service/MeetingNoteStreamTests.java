@@ -0,0 +1,151 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.ai.service.AiService;
+import com.Team1_Back.domain.MeetingNote;
+import com.Team1_Back.domain.User;
+import com.Team1_Back.dto.TodoDTO;
+import com.Team1_Back.repository.MeetingNoteRepository;
+import com.Team1_Back.repository.TodoRepository;
+import com.Team1_Back.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 회의록 스트리밍 분석 서비스 경로 테스트 (AI는 목)
+ * - 추출 중 Todo는 draft로, 저장된 Todo는 커밋 후에만 todo로 전달
+ * - 생성 중 다른 요청이 먼저 분석을 끝내면 Todo를 만들지 않음
+ */
+@SpringBootTest
+public class MeetingNoteStreamTests {
+
+    @Autowired
+    private MeetingNoteService meetingNoteService;
+
+    @Autowired
+    private MeetingNoteRepository meetingNoteRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private AiService aiService;
+
+    private User user;
+    private Path file;
+    private Long noteId;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        user = userRepository.findByEmployeeNo("20250001")
+                .orElseThrow(() -> new RuntimeException("테스트 사용자를 찾을 수 없습니다."));
+        file = Files.createTempFile("meeting-note-", ".txt");
+        Files.writeString(file, "2025년 03월 02일 주간회의\n- 보고서 초안 작성\n- 예산 검토");
+
+        noteId = meetingNoteRepository.save(MeetingNote.builder()
+                .user(user)
+                .originalFileName("주간회의.txt")
+                .fileName(file.getFileName().toString())
+                .filePath(file.toString())
+                .fileType("text/plain")
+                .fileSize(Files.size(file))
+                .analyzed(false)
+                .uploadDate(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        todoRepository.deleteAll(todoRepository.findByMeetingNoteId(noteId));
+        meetingNoteRepository.deleteById(noteId);
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void draftsStreamFirstAndSavedTodosAfterCommit() {
+        when(aiService.analyzeMeetingNoteStream(anyString(), any(), any())).thenAnswer(inv -> {
+            Consumer<String> onToken = inv.getArgument(1);
+            Consumer<TodoDTO> onDraft = inv.getArgument(2);
+            List<TodoDTO> todos = List.of(todo("보고서 초안 작성"), todo("예산 검토"));
+            for (TodoDTO t : todos) {
+                onToken.accept("{\"title\":\"" + t.getTitle() + "\"}");
+                onDraft.accept(t);
+            }
+            return todos;
+        });
+
+        List<String> events = new ArrayList<>();
+        List<TodoDTO> saved = new ArrayList<>();
+        int count = meetingNoteService.analyzeAndCreateTodosStream(noteId, user.getId(),
+                token -> events.add("token"),
+                draft -> {
+                    // 아직 저장 전이라 DB에 없어야 함
+                    assertNull(draft.getId());
+                    assertTrue(todoRepository.findByMeetingNoteId(noteId).isEmpty());
+                    events.add("draft");
+                },
+                todo -> {
+                    events.add("todo");
+                    saved.add(todo);
+                });
+
+        assertEquals(2, count);
+        assertEquals(List.of("token", "draft", "token", "draft", "todo", "todo"), events);
+        assertTrue(saved.stream().allMatch(t -> t.getId() != null && noteId.equals(t.getMeetingNoteId())));
+        assertEquals(2, todoRepository.findByMeetingNoteId(noteId).size());
+        assertTrue(meetingNoteRepository.findById(noteId).orElseThrow().isAnalyzed());
+
+        // 이미 분석된 회의록은 AI를 다시 부르지 않음
+        assertEquals(0, meetingNoteService.analyzeAndCreateTodosStream(noteId, user.getId(),
+                token -> fail(), draft -> fail(), todo -> fail()));
+        verify(aiService, times(1)).analyzeMeetingNoteStream(anyString(), any(), any());
+    }
+
+    @Test
+    public void concurrentAnalysisDoesNotDuplicateTodos() {
+        // 생성 도중 다른 요청이 먼저 분석을 끝낸 상황
+        when(aiService.analyzeMeetingNoteStream(anyString(), any(), any())).thenAnswer(inv -> {
+            transactionTemplate.executeWithoutResult(status -> meetingNoteRepository.markAnalyzed(noteId));
+            return List.of(todo("보고서 초안 작성"));
+        });
+
+        int count = meetingNoteService.analyzeAndCreateTodosStream(noteId, user.getId(),
+                token -> { }, draft -> { }, todo -> fail("저장되지 않은 Todo가 전달됨"));
+
+        assertEquals(0, count);
+        assertTrue(todoRepository.findByMeetingNoteId(noteId).isEmpty());
+    }
+
+    private TodoDTO todo(String title) {
+        return TodoDTO.builder()
+                .title(title)
+                .dueDate(LocalDate.of(2025, 3, 9))
+                .priority("MEDIUM")
+                .status("TODO")
+                .build();
+    }
+}
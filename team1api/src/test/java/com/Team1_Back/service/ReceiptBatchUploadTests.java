@@ -0,0 +1,145 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.domain.ApprovalStatus;
+import com.Team1_Back.domain.Expense;
+import com.Team1_Back.domain.ReceiptUpload;
+import com.Team1_Back.domain.User;
+import com.Team1_Back.dto.ReceiptBatchUploadResultDTO;
+import com.Team1_Back.repository.ExpenseRepository;
+import com.Team1_Back.repository.ReceiptUploadRepository;
+import com.Team1_Back.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 영수증 일괄 업로드 항목별 트랜잭션 테스트 (한 항목 DB 실패 시 나머지는 커밋, 실패 항목 파일은 삭제)
+ */
+@SpringBootTest
+public class ReceiptBatchUploadTests {
+
+    @Autowired
+    private ReceiptService receiptService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private ReceiptUploadRepository receiptUploadRepository;
+
+    @Value("${com.team1.upload.path}")
+    private String uploadDir;
+
+    @Test
+    public void failedItemRollsBackAloneAndLeavesNoFiles() throws IOException {
+        User writer = userRepository.findByEmployeeNo("20250001")
+                .orElseThrow(() -> new RuntimeException("테스트 사용자를 찾을 수 없습니다."));
+
+        List<Long> expenseIds = new ArrayList<>();
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expenseIds.add(expenseRepository.save(Expense.builder()
+                    .writer(writer)
+                    .status(ApprovalStatus.DRAFT)
+                    .merchant("일괄업로드 테스트 " + i)
+                    .amount(10_000 + i)
+                    .category("식비")
+                    .receiptDate(LocalDate.now())
+                    .build()).getId());
+            files.add(image("receipt-" + i + ".png", System.nanoTime() + i));
+        }
+        Long broken = expenseIds.get(1);
+
+        // 실제 저장소처럼 트랜잭션을 rollback-only로 만들고 예외
+        doAnswer(inv -> {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw new DataIntegrityViolationException("broken item");
+        }).when(receiptUploadRepository).save(argThat((ReceiptUpload r) ->
+                r != null && broken.equals(r.getExpense().getId())));
+
+        Set<Path> before = listFiles();
+        ReceiptBatchUploadResultDTO result = receiptService.uploadBatch(expenseIds, writer.getId(), files);
+
+        assertEquals(3, result.requested());
+        assertEquals(2, result.accepted());
+        assertNotNull(result.items().get(1).error());
+        assertNull(result.items().get(0).error());
+        assertNull(result.items().get(2).error());
+
+        // 나머지 항목은 커밋됨
+        Set<Path> kept = new HashSet<>();
+        for (int i : new int[]{0, 2}) {
+            ReceiptUpload saved = receiptUploadRepository.findByExpenseId(expenseIds.get(i)).orElseThrow();
+            kept.add(Paths.get(saved.getFileUrl()).toAbsolutePath());
+            if (saved.getOriginalUrl() != null) kept.add(Paths.get(saved.getOriginalUrl()).toAbsolutePath());
+        }
+        assertTrue(receiptUploadRepository.findByExpenseId(broken).isEmpty());
+
+        // 롤백된 항목이 기록한 파일은 남지 않음
+        Set<Path> added = listFiles();
+        added.removeAll(before);
+        assertEquals(kept, added);
+
+        for (int i : new int[]{0, 2}) {
+            receiptService.remove(result.items().get(i).receiptId(), writer.getId());
+        }
+        expenseRepository.deleteAllById(expenseIds);
+    }
+
+    @Test
+    public void batchSizeMustFitPythonLimit() {
+        ReceiptOcrService.validateBatchSize(8, 20);
+        ReceiptOcrService.validateBatchSize(20, 20);
+        assertThrows(IllegalStateException.class, () -> ReceiptOcrService.validateBatchSize(21, 20));
+        assertThrows(IllegalStateException.class, () -> ReceiptOcrService.validateBatchSize(0, 20));
+    }
+
+    private Set<Path> listFiles() throws IOException {
+        Set<Path> files = new HashSet<>();
+        for (String sub : new String[]{"receipts", "receipts-original"}) {
+            Path dir = Paths.get(uploadDir, sub);
+            if (!Files.isDirectory(dir)) continue;
+            try (Stream<Path> s = Files.list(dir)) {
+                s.forEach(p -> files.add(p.toAbsolutePath()));
+            }
+        }
+        return files;
+    }
+
+    // 내용이 서로 다른 PNG (같은 파일 중복 차단에 걸리지 않도록)
+    private MultipartFile image(String name, long seed) throws IOException {
+        BufferedImage img = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+        img.setRGB(0, 0, (int) seed);
+        img.setRGB(1, 0, (int) (seed >>> 32));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return new MockMultipartFile("files", name, "image/png", out.toByteArray());
+    }
+}
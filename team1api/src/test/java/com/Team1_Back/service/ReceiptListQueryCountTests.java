@@ -0,0 +1,163 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.domain.ApprovalStatus;
+import com.Team1_Back.domain.Expense;
+import com.Team1_Back.domain.OcrStatus;
+import com.Team1_Back.domain.ReceiptAiExtraction;
+import com.Team1_Back.domain.ReceiptUpload;
+import com.Team1_Back.domain.ReceiptVerification;
+import com.Team1_Back.domain.User;
+import com.Team1_Back.dto.PageRequestDTO;
+import com.Team1_Back.dto.PageResponseDTO;
+import com.Team1_Back.dto.ReceiptDTO;
+import com.Team1_Back.repository.ExpenseRepository;
+import com.Team1_Back.repository.ReceiptAiExtractionRepository;
+import com.Team1_Back.repository.ReceiptUploadRepository;
+import com.Team1_Back.repository.ReceiptVerificationRepository;
+import com.Team1_Back.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 영수증 목록 / 지출 일괄 조회의 쿼리 수가 페이지 크기와 관계없이 일정한지 확인 (테스트 후 롤백)
+ */
+@SpringBootTest
+@Slf4j
+public class ReceiptListQueryCountTests {
+
+    private static final int ITEMS = 20;
+
+    @Autowired
+    private AdminReceiptService adminReceiptService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ReceiptUploadRepository receiptUploadRepository;
+
+    @Autowired
+    private ReceiptAiExtractionRepository receiptAiExtractionRepository;
+
+    @Autowired
+    private ReceiptVerificationRepository receiptVerificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    public void adminReceiptListQueryCountIsConstant() {
+        createWithReceipts(ITEMS);
+
+        long small = countQueries(() -> assertEquals(5, adminList(5).getContent().size()));
+        long large = countQueries(() -> assertEquals(ITEMS, adminList(ITEMS).getContent().size()));
+
+        log.info("관리자 영수증 목록 쿼리 수: 5건={}, {}건={}", small, ITEMS, large);
+        assertEquals(small, large);
+        // 목록 1 + 영수증 1 + 추출 결과 1 + 검증 결과 1
+        assertTrue(large <= 4, "queries=" + large);
+    }
+
+    @Test
+    @Transactional
+    public void expenseGetByIdsQueryCountIsConstant() {
+        List<Long> ids = createWithReceipts(ITEMS);
+
+        long small = countQueries(() -> assertEquals(5, expenseService.getByIds(ids.subList(0, 5)).size()));
+        long large = countQueries(() -> assertEquals(ITEMS, expenseService.getByIds(ids).size()));
+
+        log.info("지출 일괄 조회 쿼리 수: 5건={}, {}건={}", small, ITEMS, large);
+        assertEquals(small, large);
+        // 지출(작성자 포함) 1 + 영수증 1
+        assertTrue(large <= 2, "queries=" + large);
+    }
+
+    private PageResponseDTO<ReceiptDTO> adminList(int size) {
+        PageRequestDTO page = PageRequestDTO.builder().page(1).size(size).countMode("HAS_NEXT").build();
+        return adminReceiptService.getList(page, ApprovalStatus.SUBMITTED.name(), null);
+    }
+
+    // 1차 캐시를 비운 뒤 실행한 JDBC 문장 수
+    private long countQueries(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> createWithReceipts(int count) {
+        User writer = userRepository.findByEmployeeNo("20250001")
+                .orElseThrow(() -> new RuntimeException("테스트 사용자를 찾을 수 없습니다."));
+        User admin = userRepository.findAll().stream()
+                .filter(User::isAdmin)
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("관리자 사용자를 찾을 수 없습니다."));
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Expense expense = expenseRepository.save(Expense.builder()
+                    .writer(writer)
+                    .status(ApprovalStatus.SUBMITTED)
+                    .merchant("쿼리 수 테스트 " + i)
+                    .amount(10_000 + i)
+                    .category("식비")
+                    .receiptDate(LocalDate.now())
+                    .build());
+
+            ReceiptUpload receipt = receiptUploadRepository.save(ReceiptUpload.builder()
+                    .expense(expense)
+                    .uploadedBy(writer)
+                    .fileUrl("upload/receipts/query-count-" + i + ".jpg")
+                    .fileHash(UUID.randomUUID().toString().replace("-", ""))
+                    .mimeType("image/jpeg")
+                    .ocrStatus(OcrStatus.DONE)
+                    .ocrAttempts(1)
+                    .build());
+
+            receiptAiExtractionRepository.save(ReceiptAiExtraction.builder()
+                    .receipt(receipt)
+                    .modelName("test")
+                    .extractedJson("{}")
+                    .extractedMerchant(expense.getMerchant())
+                    .extractedAmount(expense.getAmount())
+                    .build());
+
+            receiptVerificationRepository.save(ReceiptVerification.builder()
+                    .expense(expense)
+                    .verifiedBy(admin)
+                    .reason("쿼리 수 테스트")
+                    .build());
+
+            ids.add(expense.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,32 @@
+package com.Team1_Back.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OCR 재시도 백오프 계산 테스트 (DB 불필요)
+ */
+public class ReceiptOcrBackoffTests {
+
+    @Test
+    public void growsExponentiallyWithJitter() {
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            long expected = 2000L << (attempt - 1);
+            for (int i = 0; i < 100; i++) {
+                long delay = ReceiptOcrService.backoffDelayMs(attempt, 2000L, 300_000L);
+                assertTrue(delay >= expected * 0.8 && delay <= expected * 1.2,
+                        "attempt " + attempt + " delay " + delay);
+            }
+        }
+    }
+
+    @Test
+    public void cappedAtMax() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(ReceiptOcrService.backoffDelayMs(40, 2000L, 300_000L) <= 300_000L);
+            assertTrue(ReceiptOcrService.backoffDelayMs(40, 2000L, 300_000L) >= 240_000L);
+        }
+        assertEquals(0L, ReceiptOcrService.backoffDelayMs(1, 0L, 300_000L));
+    }
+}
@@ -0,0 +1,83 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.ai.ReceiptAiProperties;
+import com.Team1_Back.dto.ReceiptExtractionDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OCR 결과 캐시 테스트 (Redis는 Map으로 대체)
+ */
+public class ReceiptOcrCacheTests {
+
+    private final Map<String, String> redis = new HashMap<>();
+    private final ReceiptAiProperties props = new ReceiptAiProperties();
+
+    @Test
+    public void sharesResultsAcrossNodesAndMarksHits() {
+        ReceiptOcrCache node1 = newCache();
+        ReceiptOcrCache node2 = newCache();
+
+        assertTrue(node1.get("hash-a").isEmpty());
+        node1.put("hash-a", ReceiptExtractionDTO.builder()
+                .receiptId(10L)
+                .modelName("qwen2.5vl")
+                .extractedMerchant("스타벅스")
+                .extractedAmount(5600)
+                .extractedDate(LocalDate.of(2026, 3, 2))
+                .build());
+
+        ReceiptExtractionDTO local = node1.get("hash-a").orElseThrow();
+        assertEquals("qwen2.5vl" + ReceiptOcrCache.CACHED_SUFFIX, local.getModelName());
+        assertTrue(local.getCached());
+        assertNull(local.getReceiptId());
+
+        // 다른 노드는 Redis에서 가져옴
+        ReceiptExtractionDTO shared = node2.get("hash-a").orElseThrow();
+        assertEquals(5600, shared.getExtractedAmount());
+        assertEquals(LocalDate.of(2026, 3, 2), shared.getExtractedDate());
+        assertEquals(1L, node2.getStats().redisHits());
+        assertEquals(1L, node1.getStats().localHits());
+
+        // 모델이 바뀌면 재사용하지 않음
+        props.setModel("other-model");
+        assertTrue(node2.get("hash-a").isEmpty());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        ReceiptOcrCache cache = newCache();
+        ReflectionTestUtils.setField(cache, "localEntries", 2);
+        for (String hash : new String[]{"a", "b", "c"}) {
+            cache.put(hash, ReceiptExtractionDTO.builder().modelName("m").build());
+        }
+        assertEquals(2, cache.getStats().localEntries());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ReceiptOcrCache newCache() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(ops);
+        when(ops.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(ops).set(anyString(), anyString(), any(Duration.class));
+
+        ReceiptOcrCache cache = new ReceiptOcrCache(template, new ObjectMapper().registerModule(new JavaTimeModule()), props);
+        ReflectionTestUtils.setField(cache, "localEntries", 100);
+        ReflectionTestUtils.setField(cache, "ttlDays", 30L);
+        return cache;
+    }
+}
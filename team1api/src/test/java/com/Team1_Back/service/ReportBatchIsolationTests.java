@@ -0,0 +1,77 @@
+package com.Team1_Back.service;
+
+import com.Team1_Back.constants.ReportTypes;
+import com.Team1_Back.domain.ReportFile;
+import com.Team1_Back.dto.ReportBatchItemDTO;
+import com.Team1_Back.dto.ReportBatchRequestDTO;
+import com.Team1_Back.dto.ReportBatchResponseDTO;
+import com.Team1_Back.report.entity.ReportJob;
+import com.Team1_Back.repository.ReportFileRepository;
+import com.Team1_Back.repository.ReportJobRepository;
+import com.Team1_Back.security.ReportPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 부서별 일괄 생성 중 한 부서의 DB 오류가 나머지 부서를 롤백시키지 않는지 테스트
+ */
+@SpringBootTest
+public class ReportBatchIsolationTests {
+
+    private static final String BROKEN = "배치격리-실패부서";
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @MockitoSpyBean
+    private ReportFileRepository reportFileRepository;
+
+    @Test
+    public void failingDepartmentDoesNotRollBackOthers() {
+        // 실제 저장소처럼 트랜잭션을 rollback-only로 만들고 UNIQUE 위반을 던짐
+        doAnswer(inv -> {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw new DataIntegrityViolationException("duplicate checksum");
+        }).when(reportFileRepository).save(argThat((ReportFile rf) ->
+                rf != null && BROKEN.equals(rf.getReportJob().getDepartmentSnapshot())));
+
+        ReportBatchRequestDTO req = new ReportBatchRequestDTO();
+        req.setReportTypeId(ReportTypes.DEPT_SUMMARY_PDF);
+        req.setPeriod(YearMonth.now().minusMonths(1).toString());
+        req.setDepartments(List.of("배치격리-A", BROKEN, "배치격리-B"));
+
+        ReportBatchResponseDTO res = reportService.generateBatch(new ReportPrincipal(1L, "ADMIN", null), req);
+
+        Map<String, ReportBatchItemDTO> byDept = res.items().stream()
+                .collect(Collectors.toMap(ReportBatchItemDTO::department, Function.identity()));
+        assertEquals("FAILED", byDept.get(BROKEN).status());
+        assertEquals("READY", byDept.get("배치격리-A").status());
+        assertEquals("READY", byDept.get("배치격리-B").status());
+
+        // 커밋된 상태도 응답과 같아야 함
+        Map<String, ReportJob> stored = reportJobRepository.findByBatchIdOrderByDepartmentSnapshotAsc(res.batchId()).stream()
+                .collect(Collectors.toMap(ReportJob::getDepartmentSnapshot, Function.identity()));
+        assertEquals(3, stored.size());
+        assertEquals("FAILED", stored.get(BROKEN).getStatus().name());
+        assertNotNull(stored.get(BROKEN).getErrorMessage());
+        assertEquals("READY", stored.get("배치격리-A").getStatus().name());
+        assertEquals("READY", stored.get("배치격리-B").getStatus().name());
+    }
+}
@@ -0,0 +1,54 @@
+package com.Team1_Back.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 영수증 중복 검사용 블룸 필터 테스트 (DB 불필요)
+ */
+public class BloomFilterTests {
+
+    @Test
+    public void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        String[] values = new String[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            filter.put(values[i]);
+        }
+
+        for (String value : values) {
+            assertTrue(filter.mightContain(value));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    public void falsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(50_000, 0.01);
+        for (int i = 0; i < 50_000; i++) {
+            filter.put("in-" + i);
+        }
+
+        int positives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("out-" + i)) {
+                positives++;
+            }
+        }
+        double observed = (double) positives / trials;
+
+        assertTrue(observed < 0.02, "observed fpp " + observed);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    public void rejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
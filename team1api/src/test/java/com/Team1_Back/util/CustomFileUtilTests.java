@@ -0,0 +1,78 @@
+package com.Team1_Back.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 영수증 저장 + 해시 한 번에 처리 테스트 (DB 불필요)
+ */
+public class CustomFileUtilTests {
+
+    private static final int SIZE = 10 * 1024 * 1024; // 업로드 최대 크기
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    public void savesAndHashesInOnePass() throws Exception {
+        byte[] content = randomBytes();
+        CustomFileUtil util = newUtil();
+
+        CustomFileUtil.StoredFile stored = util.saveFileWithHash(image(content), "receipts");
+
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertEquals(expected, stored.sha256());
+        assertEquals(SIZE, stored.size());
+        assertTrue(stored.path().endsWith(".jpg"));
+        assertArrayEquals(content, Files.readAllBytes(Path.of(stored.path())));
+        assertEquals(expected, util.generateFileHash(image(content)));
+    }
+
+    @Test
+    public void doesNotCopyFileIntoHeap() {
+        byte[] content = randomBytes();
+        CustomFileUtil util = newUtil();
+        util.saveFileWithHash(image(content), "warmup");
+        util.generateFileHash(image(content));
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        util.saveFileWithHash(image(content), "receipts");
+        long saved = threads.getCurrentThreadAllocatedBytes() - before;
+
+        before = threads.getCurrentThreadAllocatedBytes();
+        util.generateFileHash(image(content));
+        long hashed = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // 64KB 버퍼 + 부수 객체만 할당 (파일 전체 복사 시 10MB 이상)
+        assertTrue(saved < SIZE / 10, "saveFileWithHash allocated " + saved + " bytes");
+        assertTrue(hashed < SIZE / 10, "generateFileHash allocated " + hashed + " bytes");
+    }
+
+    private CustomFileUtil newUtil() {
+        CustomFileUtil util = new CustomFileUtil();
+        ReflectionTestUtils.setField(util, "uploadDir", uploadDir.toString());
+        return util;
+    }
+
+    private static MockMultipartFile image(byte[] content) {
+        return new MockMultipartFile("file", "receipt.jpg", "image/jpeg", content);
+    }
+
+    private static byte[] randomBytes() {
+        byte[] content = new byte[SIZE];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+}
@@ -0,0 +1,56 @@
+package com.Team1_Back.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LLM 스트리밍 응답에서 Todo 객체를 완성되는 대로 꺼내는지 테스트
+ */
+public class JsonObjectStreamParserTests {
+
+    @Test
+    public void emitsArrayElementsAsTheyCloseAcrossChunks() {
+        List<String> objects = new ArrayList<>();
+        JsonObjectStreamParser parser = new JsonObjectStreamParser(objects::add);
+
+        String json = "```json\n{\"todos\": [{\"title\": \"보고서 작성\", \"priority\": \"HIGH\"}, "
+                + "{\"title\": \"회의 {준비}\", \"content\": \"\\\"자료\\\" 정리 ]\"}]}\n```";
+
+        // 토큰처럼 2글자씩 잘라서 넣음
+        for (int i = 0; i < json.length(); i += 2) {
+            parser.feed(json.substring(i, Math.min(json.length(), i + 2)));
+            if (json.substring(0, Math.min(json.length(), i + 2)).contains("\"HIGH\"}")) {
+                assertEquals(1, objects.size(), "첫 객체는 닫히는 즉시 나와야 함");
+            }
+        }
+
+        assertEquals(2, parser.emitted());
+        assertEquals("{\"title\": \"보고서 작성\", \"priority\": \"HIGH\"}", objects.get(0));
+        assertEquals("{\"title\": \"회의 {준비}\", \"content\": \"\\\"자료\\\" 정리 ]\"}", objects.get(1));
+    }
+
+    @Test
+    public void keepsNestedValuesInsideElement() {
+        List<String> objects = new ArrayList<>();
+        JsonObjectStreamParser parser = new JsonObjectStreamParser(objects::add);
+
+        parser.feed("[{\"title\": \"a\", \"tags\": [{\"k\": 1}]}, {\"title\": \"b\"}]");
+
+        assertEquals(List.of("{\"title\": \"a\", \"tags\": [{\"k\": 1}]}", "{\"title\": \"b\"}"), objects);
+    }
+
+    @Test
+    public void ignoresObjectsOutsideArraysAndBracesInProse() {
+        List<String> objects = new ArrayList<>();
+        JsonObjectStreamParser parser = new JsonObjectStreamParser(objects::add);
+
+        parser.feed("할 일이 없습니다 } ] \"따옴표\" {\"todos\": []}");
+
+        assertTrue(objects.isEmpty());
+        assertEquals(0, parser.emitted());
+    }
+}
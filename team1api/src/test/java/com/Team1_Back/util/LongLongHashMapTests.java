@@ -0,0 +1,52 @@
+package com.Team1_Back.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예산 원장용 long → long 맵 테스트 (DB 불필요)
+ */
+public class LongLongHashMapTests {
+
+    @Test
+    public void putGetAddTo() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        map.put(10L, 1000L);
+        assertEquals(1000L, map.get(10L, -1L));
+        assertEquals(-1L, map.get(11L, -1L));
+        assertFalse(map.containsKey(11L));
+
+        assertEquals(1500L, map.addTo(10L, 500L));
+        assertEquals(-200L, map.addTo(11L, -200L));
+        assertEquals(2, map.size());
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1L));
+    }
+
+    @Test
+    public void matchesHashMapAfterResize() {
+        LongLongHashMap map = new LongLongHashMap(2);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            long key = 1 + random.nextInt(5_000);
+            long delta = random.nextInt(10_000) - 5_000;
+            map.addTo(key, delta);
+            expected.merge(key, delta, Long::sum);
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value.longValue(), map.get(key, Long.MIN_VALUE)));
+
+        long[] sum = {0};
+        map.forEach((key, value) -> sum[0] += value);
+        assertEquals(expected.values().stream().mapToLong(Long::longValue).sum(), sum[0]);
+    }
+}
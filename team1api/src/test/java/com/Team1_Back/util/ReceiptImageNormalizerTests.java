@@ -0,0 +1,125 @@
+package com.Team1_Back.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 영수증 이미지 정규화 테스트 (DB 불필요)
+ */
+public class ReceiptImageNormalizerTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void downscalesLargePhoto() throws Exception {
+        Path source = image(4000, 3000, "photo.jpg");
+        ReceiptImageNormalizer normalizer = newNormalizer(false);
+
+        ReceiptImageNormalizer.Result result = normalizer.normalize(source, dir.resolve("normalized.jpg"));
+
+        assertTrue(result.normalized());
+        assertEquals("image/jpeg", result.mimeType());
+        BufferedImage out = ImageIO.read(result.path().toFile());
+        assertEquals(2000, out.getWidth());
+        assertEquals(1500, out.getHeight());
+        assertTrue(result.bytes() < Files.size(source));
+        assertEquals(1L, normalizer.getStats().normalized());
+    }
+
+    @Test
+    public void keepsSmallImageAndUnreadableFile() throws Exception {
+        ReceiptImageNormalizer normalizer = newNormalizer(false);
+
+        assertFalse(normalizer.normalize(image(800, 600, "small.jpg"), dir.resolve("a.jpg")).normalized());
+
+        Path heic = Files.write(dir.resolve("receipt.heic"), new byte[]{0, 1, 2, 3});
+        assertFalse(normalizer.normalize(heic, dir.resolve("b.jpg")).normalized());
+        assertEquals(2L, normalizer.getStats().skipped());
+    }
+
+    @Test
+    public void grayscale() throws Exception {
+        ReceiptImageNormalizer normalizer = newNormalizer(true);
+
+        ReceiptImageNormalizer.Result result = normalizer.normalize(image(800, 600, "small.jpg"), dir.resolve("gray.jpg"));
+
+        assertTrue(result.normalized());
+        assertEquals(1, ImageIO.read(result.path().toFile()).getColorModel().getNumComponents());
+    }
+
+    @Test
+    public void rotatesSmallExifImage() throws Exception {
+        ReceiptImageNormalizer normalizer = newNormalizer(false);
+        Path source = withOrientation(image(800, 600, "rotated.jpg"), 6); // 시계 방향 90도
+
+        assertTrue(ReceiptImageNormalizer.readHeader(source).rotated());
+        ReceiptImageNormalizer.Result result = normalizer.normalize(source, dir.resolve("upright.jpg"));
+
+        assertTrue(result.normalized());
+        BufferedImage out = ImageIO.read(result.path().toFile());
+        assertEquals(600, out.getWidth());
+        assertEquals(800, out.getHeight());
+        assertFalse(ReceiptImageNormalizer.readHeader(image(800, 600, "plain.jpg")).rotated());
+    }
+
+    private ReceiptImageNormalizer newNormalizer(boolean grayscale) {
+        ReceiptImageNormalizer normalizer = new ReceiptImageNormalizer();
+        ReflectionTestUtils.setField(normalizer, "enabled", true);
+        ReflectionTestUtils.setField(normalizer, "maxLongEdge", 2000);
+        ReflectionTestUtils.setField(normalizer, "grayscale", grayscale);
+        ReflectionTestUtils.setField(normalizer, "quality", 0.85f);
+        ReflectionTestUtils.setField(normalizer, "skipBelowBytes", 524288L);
+        ReflectionTestUtils.setField(normalizer, "maxConcurrent", 2);
+        normalizer.init();
+        return normalizer;
+    }
+
+    private Path image(int width, int height, String name) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        for (int y = 40; y < height; y += 40) {
+            g.drawString("ITEM " + y + "  12,000", 20, y);
+        }
+        g.dispose();
+        Path path = dir.resolve(name);
+        ImageIO.write(image, "jpg", path.toFile());
+        return path;
+    }
+
+    // JFIF(APP0) 뒤에 방향 태그 하나만 있는 EXIF(APP1) 세그먼트 삽입
+    private Path withOrientation(Path jpeg, int orientation) throws Exception {
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,                 // TIFF 헤더 (빅 엔디언), IFD0 오프셋 8
+                0, 1,                                         // 항목 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, // Orientation SHORT
+                0, 0, 0, 0                                    // 다음 IFD 없음
+        };
+        byte[] original = Files.readAllBytes(jpeg);
+        int at = 2;
+        if ((original[2] & 0xFF) == 0xFF && (original[3] & 0xFF) == 0xE0) {
+            at += 2 + ((original[4] & 0xFF) << 8 | (original[5] & 0xFF));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(original, 0, at);
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, 0, (byte) (exif.length + 2)});
+        out.write(exif);
+        out.write(original, at, original.length - at);
+        return Files.write(jpeg, out.toByteArray());
+    }
+}
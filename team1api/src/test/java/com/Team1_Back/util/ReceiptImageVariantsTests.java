@@ -0,0 +1,100 @@
+package com.Team1_Back.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 검토용 영수증 이미지 사본 테스트 (DB 불필요)
+ */
+public class ReceiptImageVariantsTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void generatesThumbnailOnceAndCachesBytes() throws Exception {
+        Path source = image(2000, 1500, "receipt.jpg");
+        ReceiptImageVariants variants = newVariants();
+
+        ReceiptImageVariants.Image first = variants.get(source.toString(), "abc", "image/jpeg", ReceiptImageVariants.Variant.THUMB);
+        ReceiptImageVariants.Image second = variants.get(source.toString(), "abc", "image/jpeg", ReceiptImageVariants.Variant.THUMB);
+
+        assertEquals("\"abc-thumb-320\"", first.etag());
+        assertEquals(first.etag(), second.etag());
+        assertTrue(Files.isRegularFile(dir.resolve("receipt_thumb-320.jpg")));
+        assertInstanceOf(ByteArrayResource.class, second.resource());
+        BufferedImage thumb = ImageIO.read(new ByteArrayInputStream(((ByteArrayResource) second.resource()).getByteArray()));
+        assertEquals(320, thumb.getWidth());
+        assertEquals(240, thumb.getHeight());
+
+        assertEquals(1L, variants.getStats().generated());
+        assertEquals(1L, variants.getStats().cacheHits());
+    }
+
+    @Test
+    public void doesNotUpscaleAndDeletesVariants() throws Exception {
+        Path source = image(800, 600, "small.jpg");
+        ReceiptImageVariants variants = newVariants();
+
+        variants.get(source.toString(), "abc", "image/jpeg", ReceiptImageVariants.Variant.REVIEW);
+        Path review = dir.resolve("small_review-1280.jpg");
+        assertEquals(800, ImageIO.read(review.toFile()).getWidth());
+
+        variants.deleteVariants(source.toString());
+        assertFalse(Files.exists(review));
+        assertTrue(Files.exists(source));
+    }
+
+    @Test
+    public void etagIsKnownBeforeFileAndMatchesIfNoneMatchList() {
+        ReceiptImageVariants variants = newVariants();
+        String etag = variants.etagFor("abc", ReceiptImageVariants.Variant.THUMB);
+
+        assertEquals("\"abc-thumb-320\"", etag);
+        assertNull(variants.etagFor(null, ReceiptImageVariants.Variant.THUMB));
+        assertTrue(ReceiptImageVariants.matches("\"x\", W/\"abc-thumb-320\"", etag));
+        assertTrue(ReceiptImageVariants.matches("*", etag));
+        assertFalse(ReceiptImageVariants.matches("\"abc-thumb-3200\"", etag));
+        assertFalse(ReceiptImageVariants.matches(null, etag));
+    }
+
+    @Test
+    public void servesOriginalWhenVariantCannotBeMade() throws Exception {
+        Path heic = Files.write(dir.resolve("receipt.heic"), new byte[]{0, 1, 2, 3});
+        ReceiptImageVariants variants = newVariants();
+
+        ReceiptImageVariants.Image image = variants.get(heic.toString(), "abc", "image/heic", ReceiptImageVariants.Variant.THUMB);
+
+        assertEquals("\"abc-original\"", image.etag());
+        assertEquals("image/heic", image.mimeType());
+        assertEquals(1L, variants.getStats().failed());
+    }
+
+    private ReceiptImageVariants newVariants() {
+        ReceiptImageVariants variants = new ReceiptImageVariants();
+        ReflectionTestUtils.setField(variants, "thumbLongEdge", 320);
+        ReflectionTestUtils.setField(variants, "reviewLongEdge", 1280);
+        ReflectionTestUtils.setField(variants, "quality", 0.8f);
+        ReflectionTestUtils.setField(variants, "cacheBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(variants, "maxConcurrent", 2);
+        variants.init();
+        return variants;
+    }
+
+    private Path image(int width, int height, String name) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Path path = dir.resolve(name);
+        ImageIO.write(image, "jpg", path.toFile());
+        return path;
+    }
+}